@@ -0,0 +1,40 @@
+package dev.boarbot.benchmarks;
+
+import dev.boarbot.bot.BenchmarkBot;
+import dev.boarbot.util.boar.BoarUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Daily rolls across blessing tiers, next to the pre-index roll so the gain shows up in one report.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class BoarRollBenchmark {
+    @Param({"0", "750", "5000", "25000", "150000"})
+    private long blessings;
+
+    @Param({"false", "true"})
+    private boolean isSkyblockGuild;
+
+    @Setup
+    public void setup() {
+        BenchmarkBot.loadConfig();
+    }
+
+    @Benchmark
+    public List<String> roll() {
+        return BoarUtil.getRandBoarIDs(this.blessings, this.isSkyblockGuild);
+    }
+
+    @Benchmark
+    public List<String> legacyRoll() {
+        return LegacyBoarRoll.getRandBoarIDs(this.blessings, this.isSkyblockGuild);
+    }
+}
@@ -0,0 +1,64 @@
+package dev.boarbot.benchmarks;
+
+import dev.boarbot.api.util.Configured;
+import dev.boarbot.bot.BenchmarkBot;
+import dev.boarbot.entities.boaruser.BoarInfo;
+import dev.boarbot.entities.boaruser.BoarUser;
+import dev.boarbot.entities.boaruser.data.BadgeData;
+import dev.boarbot.util.boar.BoarUtil;
+import dev.boarbot.util.generators.megamenu.CollectionImageGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A full collection page: one cell per boar plus the shared avatar, name, date and badge header.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class CollectionImageBenchmark implements Configured {
+    private BoarUser boarUser;
+    private List<BadgeData> badges;
+    private Map<String, BoarInfo> filteredBoars;
+
+    @Setup
+    public void setup() {
+        BenchmarkBot.loadConfig();
+
+        this.boarUser = new BoarUser(StubUser.create("100000000000000001", "benchmark"));
+        this.badges = BADGES.keySet().stream().map(badgeID -> new BadgeData(badgeID, 0, 0, 0)).toList();
+        this.filteredBoars = new LinkedHashMap<>();
+
+        int numBoars = 0;
+
+        for (String boarID : BOARS.keySet()) {
+            if (numBoars++ == CollectionImageGenerator.BOARS_PER_PAGE) {
+                break;
+            }
+
+            BoarInfo boarInfo = new BoarInfo(BoarUtil.findRarityKey(boarID));
+
+            for (int i=0; i<numBoars; i++) {
+                boarInfo.addEdition(i + 1, System.currentTimeMillis());
+            }
+
+            this.filteredBoars.put(boarID, boarInfo);
+        }
+    }
+
+    @Benchmark
+    public byte[] generatePage() throws IOException, URISyntaxException {
+        return new CollectionImageGenerator(0, this.boarUser, this.badges, "January 1, 2024", this.filteredBoars)
+            .generate()
+            .getBytes();
+    }
+}
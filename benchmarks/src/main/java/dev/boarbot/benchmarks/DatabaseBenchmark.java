@@ -0,0 +1,84 @@
+package dev.boarbot.benchmarks;
+
+import dev.boarbot.entities.boaruser.BoarInfo;
+import dev.boarbot.entities.boaruser.BoarUser;
+import dev.boarbot.entities.boaruser.BoarUserFactory;
+import dev.boarbot.util.boar.BoarObtainType;
+import dev.boarbot.util.boar.BoarUtil;
+import dev.boarbot.util.data.DataUtil;
+import dev.boarbot.util.data.market.MarketData;
+import dev.boarbot.util.data.market.MarketDataUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query paths behind dailies, the collection and the market, run against an embedded MariaDB with every migration
+ * applied. Each invocation borrows a pooled connection the way the bot does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class DatabaseBenchmark {
+    private final static int SEEDED_BOARS = 500;
+
+    private BoarUser boarUser;
+
+    @Setup
+    public void setup() throws SQLException {
+        EmbeddedDatabase.start();
+
+        this.boarUser = BoarUserFactory.getBoarUser(StubUser.create("100000000000000001", "benchmark"));
+
+        try (Connection connection = DataUtil.getConnection()) {
+            for (int i=0; i<SEEDED_BOARS; i++) {
+                this.addBoars(connection, BoarUtil.getRandBoarIDs(0, false));
+            }
+        }
+    }
+
+    @Benchmark
+    public List<String> addDailyBoars() throws SQLException {
+        List<String> boarIDs = BoarUtil.getRandBoarIDs(0, false);
+
+        try (Connection connection = DataUtil.getConnection()) {
+            this.addBoars(connection, boarIDs);
+        }
+
+        return boarIDs;
+    }
+
+    @Benchmark
+    public Map<String, BoarInfo> getOwnedBoarInfo() throws SQLException {
+        try (Connection connection = DataUtil.getConnection()) {
+            return this.boarUser.megaQuery().getOwnedBoarInfo(connection);
+        }
+    }
+
+    @Benchmark
+    public Map<String, MarketData> getMarketData() throws SQLException {
+        try (Connection connection = DataUtil.getConnection()) {
+            return MarketDataUtil.getMarketData(connection);
+        }
+    }
+
+    private void addBoars(Connection connection, List<String> boarIDs) throws SQLException {
+        this.boarUser.boarQuery().addBoars(
+            boarIDs,
+            connection,
+            BoarObtainType.DAILY.toString(),
+            new ArrayList<>(),
+            new ArrayList<>(),
+            new HashSet<>()
+        );
+    }
+}
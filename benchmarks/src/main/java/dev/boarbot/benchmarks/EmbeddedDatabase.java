@@ -0,0 +1,65 @@
+package dev.boarbot.benchmarks;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import dev.boarbot.bot.BenchmarkBot;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Throwaway MariaDB server for the data-access benchmarks. MariaDB4j unpacks a real MariaDB binary into a temp
+ * directory, so queries run against the same engine as production without Docker or an installed server.
+ */
+final class EmbeddedDatabase {
+    private final static String DATABASE_NAME = "boarbot";
+
+    private static DB db;
+
+    static synchronized void start() {
+        if (db != null) {
+            return;
+        }
+
+        DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+        config.setPort(0);
+
+        // mariadbd refuses to start as root unless told which user to run as, which is the norm in containers
+        if (System.getProperty("user.name").equals("root")) {
+            config.addArg("--user=root");
+        }
+
+        try {
+            DB newDB = DB.newEmbeddedDB(config.build());
+            newDB.start();
+            db = newDB;
+        } catch (ManagedProcessException exception) {
+            throw new IllegalStateException("Unable to start the embedded database", exception);
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(EmbeddedDatabase::stop));
+
+        // Created over JDBC rather than DB#createDB, which shells out to a client binary with extra native deps
+        String serverUrl = "jdbc:mariadb://localhost:%d/".formatted(db.getConfiguration().getPort());
+
+        try (
+            Connection connection = DriverManager.getConnection(serverUrl, "root", "");
+            Statement statement = connection.createStatement()
+        ) {
+            statement.executeUpdate("CREATE DATABASE IF NOT EXISTS " + DATABASE_NAME + ";");
+        } catch (SQLException exception) {
+            throw new IllegalStateException("Unable to create the embedded database", exception);
+        }
+
+        BenchmarkBot.loadDatabase(serverUrl + DATABASE_NAME + "?allowMultiQueries=true", "root", "");
+    }
+
+    private static void stop() {
+        try {
+            db.stop();
+        } catch (ManagedProcessException ignored) {}
+    }
+}
@@ -0,0 +1,63 @@
+package dev.boarbot.benchmarks;
+
+import dev.boarbot.BoarBotApp;
+import dev.boarbot.api.util.Configured;
+import dev.boarbot.bot.BenchmarkBot;
+import dev.boarbot.util.boar.BoarUtil;
+import dev.boarbot.util.generators.ItemImageGenerator;
+import net.dv8tion.jda.api.entities.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Daily boar item images. The cold case drops the cached item render first so the full draw is measured, while the
+ * warm case only adds the user overlay to the cached render, which is what most dailies hit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ItemImageBenchmark implements Configured {
+    @Param({"normal", "cowboy", "sphere"})
+    private String boarID;
+
+    private User user;
+    private String title;
+    private String cacheKey;
+
+    @Setup
+    public void setup() {
+        BenchmarkBot.loadConfig();
+
+        this.user = StubUser.create("100000000000000001", "benchmark");
+        this.title = STRS.getDailyTitle();
+
+        String prefix = BOARS.get(this.boarID).getFile().endsWith(".gif") ? "animitem" : "item";
+        String cacheTitle = this.title.toLowerCase().replaceAll("[^a-z]+", "");
+
+        this.cacheKey = prefix + cacheTitle + BOARS.get(this.boarID).getName() + BoarUtil.findRarityKey(this.boarID);
+    }
+
+    @State(Scope.Thread)
+    public static class ColdRender {
+        @Setup(Level.Invocation)
+        public void dropCachedRender(ItemImageBenchmark benchmark) {
+            BoarBotApp.getBot().getByteCacheMap().remove(benchmark.cacheKey);
+        }
+    }
+
+    @Benchmark
+    public byte[] generateCold(ColdRender coldRender) throws IOException, URISyntaxException {
+        return new ItemImageGenerator(this.user, this.title, this.boarID, -1, null, 0, false).generate().getBytes();
+    }
+
+    @Benchmark
+    public byte[] generateWarm() throws IOException, URISyntaxException {
+        return new ItemImageGenerator(this.user, this.title, this.boarID, -1, null, 0, false).generate().getBytes();
+    }
+}
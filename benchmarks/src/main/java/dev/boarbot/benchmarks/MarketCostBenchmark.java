@@ -0,0 +1,43 @@
+package dev.boarbot.benchmarks;
+
+import dev.boarbot.bot.BenchmarkBot;
+import dev.boarbot.util.data.market.MarketData;
+import dev.boarbot.util.data.market.MarketDataUtil;
+import dev.boarbot.util.data.market.MarketTransactionData;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buy quotes for a boar and a powerup. Large orders below target stock walk the price curve one item at a time, so
+ * the amount is the interesting axis.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class MarketCostBenchmark {
+    @Param({"normal", "miracle"})
+    private String itemID;
+
+    @Param({"1", "100", "10000"})
+    private int amount;
+
+    private MarketData marketData;
+
+    @Setup
+    public void setup() {
+        BenchmarkBot.loadConfig();
+
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        this.marketData = new MarketData(20000, 50, 100, now, now);
+    }
+
+    @Benchmark
+    public MarketTransactionData calculateBuyCost() {
+        return MarketDataUtil.calculateBuyCost(this.itemID, this.marketData, this.amount);
+    }
+}
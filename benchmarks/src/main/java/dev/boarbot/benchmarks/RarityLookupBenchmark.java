@@ -0,0 +1,42 @@
+package dev.boarbot.benchmarks;
+
+import dev.boarbot.api.util.Configured;
+import dev.boarbot.bot.BenchmarkBot;
+import dev.boarbot.util.boar.BoarUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boar to rarity lookups for every configured boar, as done when loading the database and the market.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class RarityLookupBenchmark {
+    private String[] boarIDs;
+
+    @Setup
+    public void setup() {
+        BenchmarkBot.loadConfig();
+        this.boarIDs = Configured.BOARS.keySet().toArray(new String[0]);
+    }
+
+    @Benchmark
+    public void findRarityKeys(Blackhole blackhole) {
+        for (String boarID : this.boarIDs) {
+            blackhole.consume(BoarUtil.findRarityKey(boarID));
+        }
+    }
+
+    @Benchmark
+    public void legacyFindRarityKeys(Blackhole blackhole) {
+        for (String boarID : this.boarIDs) {
+            blackhole.consume(LegacyBoarRoll.findRarityKey(boarID));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package dev.boarbot.benchmarks;
+
+import dev.boarbot.util.resource.ResourceUtil;
+import net.dv8tion.jda.api.entities.User;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * Offline stand-in for a JDA user. The avatar points at a bundled asset so renders never hit the network.
+ */
+final class StubUser {
+    static User create(String userID, String username) {
+        return (User) Proxy.newProxyInstance(
+            User.class.getClassLoader(),
+            new Class<?>[] {User.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "getId" -> userID;
+                case "getIdLong" -> Long.parseLong(userID);
+                case "getName", "getEffectiveName", "getGlobalName", "toString" -> username;
+                case "getAsMention" -> "<@%s>".formatted(userID);
+                case "getAvatarUrl", "getEffectiveAvatarUrl", "getDefaultAvatarUrl" -> ResourceUtil.powIconPath;
+                case "hashCode" -> userID.hashCode();
+                case "equals" -> proxy == args[0];
+                default -> defaultValue(method.getReturnType());
+            }
+        );
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+
+        if (type == int.class) {
+            return 0;
+        }
+
+        if (type == long.class) {
+            return 0L;
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,63 @@
+package dev.boarbot.benchmarks;
+
+import dev.boarbot.api.util.Configured;
+import dev.boarbot.bot.BenchmarkBot;
+import dev.boarbot.util.graphics.Align;
+import dev.boarbot.util.graphics.TextDrawer;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The three TextDrawer layouts: a plain line, a line shrunk to fit a width, and a wrapped paragraph with color tags.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class TextDrawerBenchmark implements Configured {
+    private final static int[] POS = {960, 200};
+    private final static String LINE = "benchmark's Collection";
+    private final static String TAGGED = "You received <>bucks<>$1,250<>font<> and a <>rare<>Rare Boar<>font<> today!";
+    private final static String PARAGRAPH = ("Every day you can claim a <>common<>boar<>font<> with daily. " +
+        "Blessings raise the odds of a <>legendary<>Legendary<>font<> or better, and a streak of dailies <br> " +
+        "earns <>bucks<>Boar Bucks<>font<> you can spend in the market. ").repeat(3);
+
+    private Graphics2D g2d;
+
+    @Setup
+    public void setup() {
+        BenchmarkBot.loadConfig();
+
+        BufferedImage image = new BufferedImage(1920, 1403, BufferedImage.TYPE_INT_ARGB);
+        this.g2d = image.createGraphics();
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.g2d.dispose();
+    }
+
+    @Benchmark
+    public double drawLine() {
+        return new TextDrawer(this.g2d, LINE, POS, Align.CENTER, COLORS.get("font"), NUMS.getFontMedium()).drawText();
+    }
+
+    @Benchmark
+    public double drawFitted() {
+        return new TextDrawer(
+            this.g2d, TAGGED, POS, Align.CENTER, COLORS.get("font"), NUMS.getFontBig(), 500
+        ).drawText();
+    }
+
+    @Benchmark
+    public double drawWrapped() {
+        return new TextDrawer(
+            this.g2d, PARAGRAPH, POS, Align.CENTER, COLORS.get("font"), NUMS.getFontMedium(), 1200, true
+        ).drawText();
+    }
+}
@@ -0,0 +1,74 @@
+package dev.boarbot.bot;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import dev.boarbot.BoarBotApp;
+import dev.boarbot.util.cache.RenderCache;
+import dev.boarbot.util.data.DataUtil;
+
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Boots the parts of the bot a benchmark needs without logging into Discord. Lives in the bot package so it can run
+ * the same loaders {@link BoarBot#create()} does.
+ */
+public final class BenchmarkBot {
+    private static boolean configLoaded = false;
+    private static boolean databaseLoaded = false;
+
+    public static synchronized void loadConfig() {
+        if (configLoaded) {
+            return;
+        }
+
+        setStatic(BoarBotApp.class, "bot", new BoarBot());
+        ConfigLoader.loadConfig();
+
+        // Renders should be measured, not read back from the on-disk render cache
+        setStatic(RenderCache.class, "generationDir", null);
+        CacheLoader.loadImageCache();
+
+        configLoaded = true;
+    }
+
+    public static synchronized void loadDatabase(String jdbcUrl, String username, String password) {
+        if (databaseLoaded) {
+            return;
+        }
+
+        BenchmarkBot.loadConfig();
+
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setJdbcUrl(jdbcUrl);
+        hikariConfig.setMaximumPoolSize(8);
+        hikariConfig.setUsername(username);
+        hikariConfig.setPassword(password);
+
+        setStatic(DataUtil.class, "ds", new HikariDataSource(hikariConfig));
+
+        try (Connection connection = DataUtil.getConnection()) {
+            DataUtil.createSchemaTableIfNotExist(connection);
+        } catch (SQLException exception) {
+            throw new IllegalStateException("Unable to reach the benchmark database", exception);
+        }
+
+        DatabaseUpdater.updateDatabase();
+        DatabaseLoader.loadIntoDatabase();
+        CacheLoader.loadDataCache();
+
+        databaseLoaded = true;
+    }
+
+    private static void setStatic(Class<?> clazz, String fieldName, Object value) {
+        try {
+            Field field = clazz.getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(null, value);
+        } catch (ReflectiveOperationException exception) {
+            String name = clazz.getSimpleName() + "." + fieldName;
+            throw new IllegalStateException("Unable to set " + name, exception);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+ALTER TABLE collected_boars
+    ALTER COLUMN edition SET DEFAULT 0,
+    ADD KEY `BOAR_ID_EDITION` (`boar_id`, `edition` DESC);
+
+DROP TRIGGER IF EXISTS boar_main_updater;
+
+CREATE TRIGGER boar_main_updater
+    BEFORE INSERT
+    ON collected_boars
+    FOR EACH ROW
+BEGIN
+    IF NEW.edition = 0 THEN
+        SET NEW.edition = (
+            SELECT IFNULL(MAX(edition), 0) + 1
+            FROM collected_boars
+            WHERE boar_id = NEW.boar_id
+        );
+    END IF;
+END;
\ No newline at end of file
@@ -0,0 +1,57 @@
+DROP TRIGGER IF EXISTS user_main_updater;
+
+CREATE TRIGGER user_main_updater
+    BEFORE UPDATE
+    ON users
+    FOR EACH ROW
+BEGIN
+    SET NEW.last_changed_timestamp = current_timestamp(3);
+
+    IF OLD.num_dailies < NEW.num_dailies THEN
+        SET NEW.boar_streak = OLD.boar_streak + 1;
+    END IF;
+
+    IF NEW.boar_streak > OLD.highest_streak THEN
+        SET NEW.highest_streak = NEW.boar_streak;
+    END IF;
+
+    IF NEW.total_boars > OLD.highest_boars THEN
+        SET NEW.highest_boars = NEW.total_boars;
+    END IF;
+
+    IF NEW.total_bucks > OLD.highest_bucks THEN
+        SET NEW.highest_bucks = NEW.total_bucks;
+    END IF;
+
+    IF NEW.miracles_active > OLD.highest_miracles_active THEN
+        SET NEW.highest_miracles_active = NEW.miracles_active;
+    END IF;
+
+    SET NEW.streak_bless = LEAST(NEW.boar_streak, 250);
+
+    IF NEW.unique_boars > OLD.highest_unique_boars THEN
+        SET NEW.highest_unique_boars = NEW.unique_boars;
+    END IF;
+
+    IF NEW.unique_bless > OLD.highest_unique_bless THEN
+        SET NEW.highest_unique_bless = NEW.unique_bless;
+    END IF;
+
+    SET NEW.blessings = NEW.streak_bless + NEW.quest_bless + NEW.unique_bless + NEW.other_bless;
+
+    IF NEW.blessings > OLD.highest_blessings THEN
+        SET NEW.highest_blessings = NEW.blessings;
+    END IF;
+
+    IF NEW.streak_bless > OLD.highest_streak_bless THEN
+        SET NEW.highest_streak_bless = NEW.streak_bless;
+    END IF;
+
+    IF NEW.quest_bless > OLD.highest_quest_bless THEN
+        SET NEW.highest_quest_bless = NEW.quest_bless;
+    END IF;
+
+    IF NEW.other_bless > OLD.highest_other_bless THEN
+        SET NEW.highest_other_bless = NEW.other_bless;
+    END IF;
+END;
\ No newline at end of file
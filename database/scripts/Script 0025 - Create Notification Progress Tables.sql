@@ -0,0 +1,12 @@
+CREATE TABLE `notification_runs` (
+    `run_day` date NOT NULL,
+    `finished` tinyint(1) NOT NULL DEFAULT 0,
+    PRIMARY KEY (`run_day`)
+);
+
+CREATE TABLE `notification_progress` (
+    `user_id` varchar(32) NOT NULL,
+    `run_day` date NOT NULL,
+    PRIMARY KEY (`user_id`),
+    CONSTRAINT `FOREIGN_KEY_NOTIFICATION_USER` FOREIGN KEY (`user_id`) REFERENCES `users` (`user_id`) ON DELETE CASCADE
+);
\ No newline at end of file
@@ -3,11 +3,13 @@ package dev.boarbot;
 import dev.boarbot.api.bot.Bot;
 import dev.boarbot.bot.BoarBot;
 import dev.boarbot.bot.EnvironmentType;
-import dev.boarbot.interactives.Interactive;
-import dev.boarbot.interactives.gift.BoarGiftInteractive;
-import dev.boarbot.jobs.PowerupEventJob;
+import dev.boarbot.jobs.NotificationJob;
+import dev.boarbot.jobs.UserFlushJob;
+import dev.boarbot.util.dispatch.DispatchUtil;
+import dev.boarbot.util.dispatch.RouteFanout;
 import dev.boarbot.util.interaction.InteractionUtil;
 import dev.boarbot.util.logging.Log;
+import dev.boarbot.util.python.PythonUtil;
 import io.github.cdimascio.dotenv.Dotenv;
 import lombok.Getter;
 
@@ -63,14 +65,12 @@ public class BoarBotApp {
     }
 
     private static void cleanup() {
+        DispatchUtil.shutdownExecutor();
+        NotificationJob.shutdown();
+        RouteFanout.shutdownExecutor();
+        UserFlushJob.flushUsers();
         InteractionUtil.shutdownScheduler();
-        PowerupEventJob.shutdownScheduler();
-
-        for (Interactive interactive : BoarBotApp.getBot().getInteractives().values()) {
-            if (interactive instanceof BoarGiftInteractive) {
-                ((BoarGiftInteractive) interactive).shutdownGiftScheduler();
-            }
-        }
+        PythonUtil.shutdownWorkers();
     }
 
     public static void reset() {
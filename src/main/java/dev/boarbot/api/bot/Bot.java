@@ -4,6 +4,7 @@ import dev.boarbot.bot.config.BotConfig;
 import dev.boarbot.interactives.Interactive;
 import dev.boarbot.commands.Subcommand;
 import dev.boarbot.modals.ModalHandler;
+import dev.boarbot.util.cache.WeightedCache;
 import net.dv8tion.jda.api.JDA;
 
 import java.awt.*;
@@ -19,8 +20,8 @@ public interface Bot {
     void setFont(Font font);
     Font getFont();
     void deployCommands();
-    Map<String, byte[]> getByteCacheMap();
-    Map<String, BufferedImage> getImageCacheMap();
+    WeightedCache<byte[]> getByteCacheMap();
+    WeightedCache<BufferedImage> getImageCacheMap();
     Map<String, Constructor<? extends Subcommand>> getSubcommands();
     ConcurrentMap<String, Interactive> getInteractives();
     Map<String, ModalHandler> getModalHandlers();
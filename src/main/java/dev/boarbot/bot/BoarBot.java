@@ -8,6 +8,7 @@ import dev.boarbot.interactives.Interactive;
 import dev.boarbot.commands.Subcommand;
 import dev.boarbot.listeners.*;
 import dev.boarbot.modals.ModalHandler;
+import dev.boarbot.util.cache.WeightedCache;
 import dev.boarbot.util.data.DataUtil;
 import dev.boarbot.util.logging.Log;
 import net.dv8tion.jda.api.JDA;
@@ -29,8 +30,20 @@ public class BoarBot implements Bot, Configured {
     private final BotConfig config = new BotConfig();
     private Font font;
 
-    private final Map<String, byte[]> byteCacheMap = new ConcurrentHashMap<>();
-    private final Map<String, BufferedImage> imageCacheMap = new ConcurrentHashMap<>();
+    private final WeightedCache<byte[]> byteCacheMap = new WeightedCache<>(
+        "Bytearrays",
+        () -> NUMS.getByteCacheMaxMB() * 1024L * 1024L,
+        bytes -> bytes.length,
+        true,
+        "animitem", "item"
+    );
+    private final WeightedCache<BufferedImage> imageCacheMap = new WeightedCache<>(
+        "Images",
+        () -> NUMS.getImageCacheMaxMB() * 1024L * 1024L,
+        image -> (long) image.getWidth() * image.getHeight() * 4,
+        false,
+        "large", "big", "mediumBig", "medium", "borderSmall", "borderMediumBig", "border"
+    );
 
     private final Map<String, Constructor<? extends Subcommand>> subcommands = new ConcurrentHashMap<>();
     private final ConcurrentMap<String, Interactive> interactives = new ConcurrentHashMap<>();
@@ -40,20 +53,25 @@ public class BoarBot implements Bot, Configured {
     public void create() {
         Log.info(this.getClass(), "Starting up bot...");
 
-        ConfigLoader.loadConfig();
-        DataUtil.setupDatabase();
-        DatabaseUpdater.updateDatabase();
-        DatabaseLoader.loadIntoDatabase();
+        StartupTimer.time("config", ConfigLoader::loadConfig);
+        StartupTimer.time("database", DataUtil::setupDatabase);
+        StartupTimer.time("migrations", DatabaseUpdater::updateDatabase);
+        StartupTimer.time("database load", DatabaseLoader::loadIntoDatabase);
         CacheLoader.loadCache();
-        CommandLoader.registerSubcommands();
+        StartupTimer.time("commands", CommandLoader::registerSubcommands);
 
+        StartupTimer.time("login", this::buildJDA);
+    }
+
+    private void buildJDA() {
         this.jda = JDABuilder.createDefault(BoarBotApp.getEnv("TOKEN"))
             .addEventListeners(
                 new MessageListener(),
                 new CommandListener(),
                 new ComponentListener(),
                 new ModalListener(),
-                new ReadyListener()
+                new ReadyListener(),
+                new UserUpdateListener()
             )
             .setActivity(Activity.customStatus(STRS.getActivityStatus()))
             .setEnabledIntents(
@@ -94,12 +112,12 @@ public class BoarBot implements Bot, Configured {
     }
 
     @Override
-    public Map<String, byte[]> getByteCacheMap() {
+    public WeightedCache<byte[]> getByteCacheMap() {
         return this.byteCacheMap;
     }
 
     @Override
-    public Map<String, BufferedImage> getImageCacheMap() {
+    public WeightedCache<BufferedImage> getImageCacheMap() {
         return this.imageCacheMap;
     }
 
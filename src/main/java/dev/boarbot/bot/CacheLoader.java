@@ -5,33 +5,35 @@ import dev.boarbot.api.util.Configured;
 
 import dev.boarbot.bot.config.items.BoarItemConfig;
 import dev.boarbot.bot.config.items.PowerupItemConfig;
-import dev.boarbot.interactives.boar.TopInteractive;
 import dev.boarbot.interactives.boar.market.MarketInteractive;
-import dev.boarbot.listeners.ReadyListener;
+import dev.boarbot.util.cache.RenderCache;
+import dev.boarbot.util.cache.WeightedCache;
+import dev.boarbot.util.data.BoarDataUtil;
 import dev.boarbot.util.data.DataUtil;
-import dev.boarbot.util.data.UserDataUtil;
-import dev.boarbot.util.data.market.MarketData;
 import dev.boarbot.util.data.market.MarketDataUtil;
 import dev.boarbot.util.data.market.MarketUpdateType;
-import dev.boarbot.util.data.top.TopData;
-import dev.boarbot.util.data.top.TopDataUtil;
-import dev.boarbot.util.data.top.TopType;
+import dev.boarbot.util.data.top.TopBoards;
 import dev.boarbot.util.graphics.GraphicsUtil;
 import dev.boarbot.util.logging.Log;
 import dev.boarbot.util.resource.ResourceUtil;
 
 
+import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.*;
-import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 
 public class CacheLoader implements Configured {
-    private final static Map<String, BufferedImage> imageCacheMap = BoarBotApp.getBot().getImageCacheMap();
+    private final static WeightedCache<BufferedImage> imageCacheMap = BoarBotApp.getBot().getImageCacheMap();
 
     private final static int[] ORIGIN = {0, 0};
     private final static int[] LARGE_SIZE = NUMS.getLargeBoarSize();
@@ -40,211 +42,247 @@ public class CacheLoader implements Configured {
     private final static int[] MEDIUM_SIZE = NUMS.getMediumBoarSize();
     private final static int[] SMALL_SIZE = NUMS.getSmallBoarSize();
 
+    private final static Map<String, Supplier<BufferedImage>> eagerAssets = new LinkedHashMap<>();
+
     static void loadCache() {
-        loadBoars();
-        loadPowerups();
-        loadBorders();
-        reloadTopCache();
-        reloadMarketCache();
+        CacheLoader.loadImageCache();
+        CacheLoader.loadDataCache();
     }
 
-    private static void loadBoars() {
-        Log.debug(CacheLoader.class, "Attempting to load boar images into cache...");
+    static void loadImageCache() {
+        StartupTimer.time("boar images", CacheLoader::loadBoars);
+        StartupTimer.time("powerup images", CacheLoader::loadPowerups);
+        StartupTimer.time("borders", CacheLoader::loadBorders);
+        StartupTimer.time("image render", CacheLoader::renderAssets);
+    }
 
-        for (String boarID : BOARS.keySet()) {
-            try {
-                BoarItemConfig boarInfo = BOARS.get(boarID);
+    static void loadDataCache() {
+        StartupTimer.time("editions", CacheLoader::loadEditions);
+        StartupTimer.time("top cache", CacheLoader::reloadTopCache);
+        StartupTimer.time("market cache", CacheLoader::loadMarketCache);
+    }
 
-                if (boarInfo.getFile().isEmpty()) {
-                    throw new IllegalArgumentException("Failed to find file");
-                }
+    private static void loadEditions() {
+        Log.debug(CacheLoader.class, "Attempting to load boar editions...");
+
+        try (Connection connection = DataUtil.getConnection()) {
+            BoarDataUtil.loadEditions(connection);
+        } catch (SQLException exception) {
+            Log.error(CacheLoader.class, "Failed to load boar editions", exception);
+            System.exit(-1);
+        }
 
-                String filePath = boarInfo.getStaticFile() != null
-                    ? ResourceUtil.boarAssetsPath + boarInfo.getStaticFile()
-                    : ResourceUtil.boarAssetsPath + boarInfo.getFile();
+        Log.debug(CacheLoader.class, "Successfully loaded boar editions");
+    }
 
-                if (filePath.endsWith(".gif")) {
-                    throw new IllegalArgumentException("Animated file is missing a static version");
-                }
+    private static void loadBoars() {
+        Log.debug(CacheLoader.class, "Attempting to register boar images...");
 
-                BufferedImage largeBoarImage = new BufferedImage(
-                    LARGE_SIZE[0], LARGE_SIZE[1], BufferedImage.TYPE_INT_ARGB
-                );
-                Graphics2D largeBoarGraphics = largeBoarImage.createGraphics();
+        boolean lazy = CONFIG.getMainConfig().isLazyAssets();
 
-                BufferedImage bigBoarImage = new BufferedImage(
-                    BIG_SIZE[0], BIG_SIZE[1], BufferedImage.TYPE_INT_ARGB
-                );
-                Graphics2D bigBoarGraphics = bigBoarImage.createGraphics();
+        for (String boarID : BOARS.keySet()) {
+            BoarItemConfig boarInfo = BOARS.get(boarID);
 
-                BufferedImage mediumBigBoarImage = new BufferedImage(
-                    MEDIUM_BIG_SIZE[0], MEDIUM_BIG_SIZE[1], BufferedImage.TYPE_INT_ARGB
+            if (boarInfo.getFile().isEmpty()) {
+                Log.error(
+                    CacheLoader.class,
+                    "Failed to find file for %s".formatted(boarID),
+                    new IllegalArgumentException()
                 );
-                Graphics2D mediumBigBoarGraphics = mediumBigBoarImage.createGraphics();
+                System.exit(-1);
+            }
 
-                BufferedImage mediumBoarImage = new BufferedImage(
-                    MEDIUM_SIZE[0], MEDIUM_SIZE[1], BufferedImage.TYPE_INT_ARGB
+            String filePath = boarInfo.getStaticFile() != null
+                ? ResourceUtil.boarAssetsPath + boarInfo.getStaticFile()
+                : ResourceUtil.boarAssetsPath + boarInfo.getFile();
+
+            if (filePath.endsWith(".gif")) {
+                Log.error(
+                    CacheLoader.class,
+                    "Animated file for %s is missing a static version".formatted(boarID),
+                    new IllegalArgumentException()
                 );
-                Graphics2D mediumBoarGraphics = mediumBoarImage.createGraphics();
+                System.exit(-1);
+            }
+
+            putImage("large" + boarID, filePath, LARGE_SIZE, lazy);
+            putImage("big" + boarID, filePath, BIG_SIZE, lazy);
+            putImage("mediumBig" + boarID, filePath, MEDIUM_BIG_SIZE, lazy);
+            putImage("medium" + boarID, filePath, MEDIUM_SIZE, lazy);
+        }
 
-                GraphicsUtil.drawImage(largeBoarGraphics, filePath, ORIGIN, LARGE_SIZE);
-                imageCacheMap.put("large" + boarID, largeBoarImage);
+        Log.debug(CacheLoader.class, "Successfully registered all boar images");
+    }
 
-                GraphicsUtil.drawImage(bigBoarGraphics, filePath, ORIGIN, BIG_SIZE);
-                imageCacheMap.put("big" + boarID, bigBoarImage);
+    private static void loadPowerups() {
+        Log.debug(CacheLoader.class, "Attempting to register powerup images...");
 
-                GraphicsUtil.drawImage(mediumBigBoarGraphics, filePath, ORIGIN, MEDIUM_BIG_SIZE);
-                imageCacheMap.put("mediumBig" + boarID, mediumBigBoarImage);
+        boolean lazy = CONFIG.getMainConfig().isLazyAssets();
 
-                GraphicsUtil.drawImage(mediumBoarGraphics, filePath, ORIGIN, MEDIUM_SIZE);
-                imageCacheMap.put("medium" + boarID, mediumBoarImage);
-            } catch (IOException | URISyntaxException exception) {
-                Log.error(CacheLoader.class, "Failed to read image file for %s".formatted(boarID), exception);
+        for (String powerupID : POWS.keySet()) {
+            PowerupItemConfig powerupInfo = POWS.get(powerupID);
+
+            if (powerupInfo.getFile().isEmpty()) {
+                Log.error(
+                    CacheLoader.class,
+                    "Failed to find file for %s".formatted(powerupID),
+                    new IllegalArgumentException()
+                );
                 System.exit(-1);
             }
+
+            String filePath = ResourceUtil.powerupAssetsPath + powerupInfo.getFile();
+
+            putImage("mediumBig" + powerupID, filePath, MEDIUM_BIG_SIZE, lazy);
+            putImage("medium" + powerupID, filePath, MEDIUM_SIZE, lazy);
         }
 
-        Log.debug(CacheLoader.class, "Successfully loaded all boar images into cache");
+        Log.debug(CacheLoader.class, "Successfully registered all powerup images");
     }
 
-    private static void loadPowerups() {
-        Log.debug(CacheLoader.class, "Attempting to load powerup images into cache...");
+    private static void loadBorders() {
+        Log.debug(CacheLoader.class, "Attempting to register rarity borders...");
 
-        for (String powerupID : POWS.keySet()) {
-            try {
-                PowerupItemConfig powerupInfo = POWS.get(powerupID);
+        for (String colorKey : COLORS.keySet()) {
+            putBorder("borderSmall" + colorKey, colorKey, SMALL_SIZE);
+            putBorder("border" + colorKey, colorKey, MEDIUM_SIZE);
+            putBorder("borderMediumBig" + colorKey, colorKey, MEDIUM_BIG_SIZE);
+        }
 
-                if (powerupInfo.getFile().isEmpty()) {
-                    throw new IllegalArgumentException("Failed to find file");
-                }
+        Log.debug(CacheLoader.class, "Successfully registered all rarity borders");
+    }
 
-                String filePath = ResourceUtil.powerupAssetsPath + powerupInfo.getFile();
+    private static void renderAssets() {
+        Log.debug(CacheLoader.class, "Attempting to render %,d images into cache...".formatted(eagerAssets.size()));
 
-                BufferedImage mediumBigPowImage = new BufferedImage(
-                    MEDIUM_BIG_SIZE[0], MEDIUM_BIG_SIZE[1], BufferedImage.TYPE_INT_ARGB
-                );
-                Graphics2D mediumBigPowGraphics = mediumBigPowImage.createGraphics();
+        ForkJoinPool renderPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
 
-                BufferedImage mediumPowImage = new BufferedImage(
-                    MEDIUM_SIZE[0], MEDIUM_SIZE[1], BufferedImage.TYPE_INT_ARGB
-                );
-                Graphics2D mediumPowGraphics = mediumPowImage.createGraphics();
+        try {
+            renderPool.submit(() -> eagerAssets.entrySet().parallelStream().forEach(
+                asset -> imageCacheMap.put(asset.getKey(), asset.getValue().get())
+            )).get();
+        } catch (ExecutionException exception) {
+            Log.error(CacheLoader.class, "Failed to render images into cache", exception.getCause());
+            System.exit(-1);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            Log.error(CacheLoader.class, "Interrupted while rendering images into cache", exception);
+            System.exit(-1);
+        } finally {
+            renderPool.shutdownNow();
+        }
+
+        eagerAssets.clear();
 
-                GraphicsUtil.drawImage(mediumBigPowGraphics, filePath, ORIGIN, MEDIUM_BIG_SIZE);
-                imageCacheMap.put("mediumBig" + powerupID, mediumBigPowImage);
+        Log.debug(CacheLoader.class, "Successfully rendered all images into cache");
+    }
 
-                GraphicsUtil.drawImage(mediumPowGraphics, filePath, ORIGIN, MEDIUM_SIZE);
-                imageCacheMap.put("medium" + powerupID, mediumPowImage);
+    private static void putImage(String key, String filePath, int[] size, boolean lazy) {
+        Supplier<BufferedImage> loader = () -> {
+            try {
+                return renderImage(filePath, size);
             } catch (IOException | URISyntaxException exception) {
-                Log.error(CacheLoader.class, "Failed to read image file for %s".formatted(powerupID), exception);
-                System.exit(-1);
+                throw new RuntimeException("Failed to read image file %s".formatted(filePath), exception);
             }
+        };
+
+        imageCacheMap.putLoader(key, loader);
+
+        if (!lazy) {
+            eagerAssets.put(key, loader);
         }
+    }
+
+    private static void putBorder(String key, String colorKey, int[] size) {
+        Supplier<BufferedImage> loader = () -> {
+            try {
+                return renderBorder(colorKey, size);
+            } catch (IOException | URISyntaxException exception) {
+                throw new RuntimeException("Failed to read border for %s".formatted(colorKey), exception);
+            }
+        };
 
-        Log.debug(CacheLoader.class, "Successfully loaded all powerup images into cache");
+        imageCacheMap.putLoader(key, loader);
+        eagerAssets.put(key, loader);
     }
 
-    private static void loadBorders() {
-        Log.debug(CacheLoader.class, "Attempting to load rarity borders into cache...");
+    private static BufferedImage renderImage(String filePath, int[] size) throws IOException, URISyntaxException {
+        String diskKey = "image%s%dx%d".formatted(RenderCache.getAssetHash(filePath), size[0], size[1]);
+        BufferedImage image = readRender(diskKey, size);
 
-        for (String colorID : COLORS.keySet()) {
-            putRarityBorder(colorID);
+        if (image != null) {
+            return image;
         }
 
-        Log.debug(CacheLoader.class, "Successfully loaded all rarity borders into cache");
+        image = new BufferedImage(size[0], size[1], BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = image.createGraphics();
+
+        GraphicsUtil.drawImage(g2d, filePath, ORIGIN, size);
+        g2d.dispose();
+
+        writeRender(diskKey, image);
+        return image;
     }
 
-    private static void putRarityBorder(String colorKey) {
-        String color = COLORS.get(colorKey);
+    private static BufferedImage renderBorder(String colorKey, int[] size) throws IOException, URISyntaxException {
+        String diskKey = "border%s%dx%d".formatted(colorKey, size[0], size[1]);
+        BufferedImage borderImage = readRender(diskKey, size);
 
-        BufferedImage rarityMediumBorderImage = new BufferedImage(
-            MEDIUM_SIZE[0], MEDIUM_SIZE[1], BufferedImage.TYPE_INT_ARGB
-        );
-        Graphics2D rarityMediumBorderG2D = rarityMediumBorderImage.createGraphics();
+        if (borderImage != null) {
+            return borderImage;
+        }
 
-        BufferedImage raritySmallBorderImage = new BufferedImage(
-            SMALL_SIZE[0], SMALL_SIZE[1], BufferedImage.TYPE_INT_ARGB
-        );
-        Graphics2D raritySmallBorderG2D = raritySmallBorderImage.createGraphics();
+        borderImage = new BufferedImage(size[0], size[1], BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = borderImage.createGraphics();
 
-        BufferedImage rarityMediumBigBorderImage = new BufferedImage(
-            MEDIUM_BIG_SIZE[0], MEDIUM_BIG_SIZE[1], BufferedImage.TYPE_INT_ARGB
-        );
-        Graphics2D rarityMediumBigBorderG2D = rarityMediumBigBorderImage.createGraphics();
+        GraphicsUtil.drawRect(g2d, ORIGIN, size, COLORS.get(colorKey));
+        g2d.setComposite(AlphaComposite.DstIn);
+        GraphicsUtil.drawImage(g2d, ResourceUtil.rarityBorderPath, ORIGIN, size);
+        g2d.dispose();
 
-        try {
-            GraphicsUtil.drawRect(raritySmallBorderG2D, ORIGIN, SMALL_SIZE, color);
-            raritySmallBorderG2D.setComposite(AlphaComposite.DstIn);
-            GraphicsUtil.drawImage(raritySmallBorderG2D, ResourceUtil.rarityBorderPath, ORIGIN, SMALL_SIZE);
-            raritySmallBorderG2D.setComposite(AlphaComposite.SrcIn);
-            imageCacheMap.put("borderSmall" + colorKey, raritySmallBorderImage);
-
-            GraphicsUtil.drawRect(rarityMediumBorderG2D, ORIGIN, MEDIUM_SIZE, color);
-            rarityMediumBorderG2D.setComposite(AlphaComposite.DstIn);
-            GraphicsUtil.drawImage(rarityMediumBorderG2D, ResourceUtil.rarityBorderPath, ORIGIN, MEDIUM_SIZE);
-            rarityMediumBorderG2D.setComposite(AlphaComposite.SrcIn);
-            imageCacheMap.put("border" + colorKey, rarityMediumBorderImage);
-
-            GraphicsUtil.drawRect(rarityMediumBigBorderG2D, ORIGIN, MEDIUM_BIG_SIZE, color);
-            rarityMediumBigBorderG2D.setComposite(AlphaComposite.DstIn);
-            GraphicsUtil.drawImage(
-                rarityMediumBigBorderG2D, ResourceUtil.rarityBorderPath, ORIGIN, MEDIUM_BIG_SIZE
-            );
-            rarityMediumBigBorderG2D.setComposite(AlphaComposite.SrcIn);
-            imageCacheMap.put("borderMediumBig" + colorKey, rarityMediumBigBorderImage);
-        } catch (IOException | URISyntaxException exception) {
-            Log.error(CacheLoader.class, "Failed to read image file for %s border".formatted(colorKey), exception);
-            System.exit(-1);
-        }
+        writeRender(diskKey, borderImage);
+        return borderImage;
     }
 
-    public synchronized static void reloadTopCache() {
-        try (Connection connection = DataUtil.getConnection()) {
-            Set<String> firstUsernames = new HashSet<>();
-            Set<String> secondUsernames = new HashSet<>();
-            Set<String> thirdUsernames = new HashSet<>();
+    private static BufferedImage readRender(String diskKey, int[] size) throws IOException {
+        byte[] renderBytes = RenderCache.get(diskKey);
 
-            if (ReadyListener.isDone()) {
-                UserDataUtil.fixUsernames(connection);
-            }
+        if (renderBytes == null) {
+            return null;
+        }
 
-            for (TopType topType : TopType.values()) {
-                Map<String, TopData> board = TopDataUtil.getBoard(topType, connection);
-                TopInteractive.cachedBoards.put(topType, board);
+        BufferedImage storedImage = ImageIO.read(new ByteArrayInputStream(renderBytes));
 
-                List<String> usernameList = new ArrayList<>(board.keySet());
-                TopInteractive.indexedBoards.put(topType, usernameList);
+        if (storedImage == null || storedImage.getWidth() != size[0] || storedImage.getHeight() != size[1]) {
+            return null;
+        }
 
-                if (!TopInteractive.indexedBoards.get(topType).isEmpty()) {
-                    firstUsernames.add(TopInteractive.indexedBoards.get(topType).getFirst());
-                }
+        BufferedImage image = new BufferedImage(size[0], size[1], BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = image.createGraphics();
 
-                if (TopInteractive.indexedBoards.get(topType).size() > 1) {
-                    secondUsernames.add(TopInteractive.indexedBoards.get(topType).get(1));
-                }
+        g2d.drawImage(storedImage, 0, 0, null);
+        g2d.dispose();
 
-                if (TopInteractive.indexedBoards.get(topType).size() > 2) {
-                    thirdUsernames.add(TopInteractive.indexedBoards.get(topType).get(2));
-                }
-            }
+        return image;
+    }
 
-            secondUsernames.removeAll(firstUsernames);
-            thirdUsernames.removeAll(firstUsernames);
-            thirdUsernames.removeAll(secondUsernames);
+    private static void writeRender(String diskKey, BufferedImage image) throws IOException {
+        ByteArrayOutputStream byteArrayOS = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", byteArrayOS);
+        RenderCache.put(diskKey, byteArrayOS.toByteArray());
+    }
 
-            TopDataUtil.setAthleteBadges(firstUsernames, secondUsernames, thirdUsernames, connection);
+    public synchronized static void reloadTopCache() {
+        try (Connection connection = DataUtil.getConnection()) {
+            TopBoards.load(connection);
         } catch (SQLException exception) {
             Log.error(CacheLoader.class, "Failed to retrieve leaderboard data", exception);
         }
     }
 
-    public synchronized static void reloadMarketCache() {
+    private static void loadMarketCache() {
         try (Connection connection = DataUtil.getConnection()) {
-            Map<String, MarketData> marketData = MarketDataUtil.getMarketData(connection);
-
-            for (String itemID : marketData.keySet()) {
-                MarketInteractive.cachedMarketData.put(itemID, marketData.get(itemID));
-            }
+            MarketDataUtil.loadMarketData(connection);
 
             for (String powerupID : POWS.keySet()) {
                 if (!MarketInteractive.cachedMarketData.containsKey(powerupID)) {
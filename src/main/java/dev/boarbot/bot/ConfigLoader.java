@@ -13,7 +13,8 @@ import dev.boarbot.bot.config.items.PowerupItemConfig;
 import dev.boarbot.bot.config.modals.ModalConfig;
 import dev.boarbot.bot.config.prompts.PromptConfig;
 import dev.boarbot.bot.config.quests.QuestConfig;
-import dev.boarbot.util.boar.BoarUtil;
+import dev.boarbot.util.boar.RarityIndex;
+import dev.boarbot.util.cache.RenderCache;
 import dev.boarbot.util.logging.Log;
 import dev.boarbot.util.resource.ResourceUtil;
 
@@ -103,10 +104,12 @@ class ConfigLoader {
                 powerupsPath, new TypeToken<Map<String, PowerupItemConfig>>(){}.getType()
             ));
 
+            RarityIndex.build(config.getRarityConfigs(), config.getItemConfig().getBoars());
+
             for (String boarID : config.getItemConfig().getBoars().keySet()) {
                 setNames(config.getItemConfig().getBoars().get(boarID));
 
-                if (BoarUtil.findRarityKey(boarID) == null) {
+                if (RarityIndex.get().getRarityKey(boarID) == null) {
                     Log.error(
                         ConfigLoader.class,
                         "%s is not assigned a rarity".formatted(boarID),
@@ -148,6 +151,8 @@ class ConfigLoader {
 
             fixStrings();
 
+            RenderCache.init(getRenderFlags(), boarsPath, raritiesPath, numsPath, colorsPath);
+
             Log.debug(ConfigLoader.class, "Successfully loaded config");
         } catch (IOException exception) {
             Log.error(ConfigLoader.class, "Unable to read one or more config files", exception);
@@ -233,6 +238,15 @@ class ConfigLoader {
         );
     }
 
+    /**
+     * Flags from config.json that change rendered output. config.json itself isn't hashed since most of it
+     * (channels, devs, maintenance) has nothing to do with rendering.
+     */
+    private static String getRenderFlags() {
+        MainConfig mainConfig = config.getMainConfig();
+        return "pythonGifs=%b".formatted(mainConfig.isPythonGifs());
+    }
+
     private static <T> T getFromJson(String path, Class<T> clazz) throws IOException {
         try (InputStream stream = ResourceUtil.getResourceStream(path)) {
             if (stream == null) {
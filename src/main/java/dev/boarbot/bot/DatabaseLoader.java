@@ -203,6 +203,10 @@ class DatabaseLoader implements Configured {
                 statement3.executeBatch();
                 statement4.executeBatch();
             }
+
+            if (!fixRarityIDs.isEmpty() || !invalidRarityIDs.isEmpty() || !addRarityIDs.isEmpty()) {
+                UserDataUtil.refreshUniques(connection);
+            }
         } catch (SQLException exception) {
             Log.error(DatabaseLoader.class, "Something went wrong when loading rarities into database", exception);
             System.exit(-1);
@@ -0,0 +1,46 @@
+package dev.boarbot.bot;
+
+import dev.boarbot.util.logging.Log;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+public class StartupTimer {
+    private final static Map<String, Long> phaseMillis = new LinkedHashMap<>();
+    private static long lastMarkNanos = System.nanoTime();
+    private static boolean reported = false;
+
+    static void time(String phase, Runnable action) {
+        long startNanos = System.nanoTime();
+        action.run();
+        record(phase, startNanos);
+    }
+
+    private static synchronized void record(String phase, long startNanos) {
+        long endNanos = System.nanoTime();
+        phaseMillis.merge(phase, (endNanos - startNanos) / 1_000_000, Long::sum);
+        lastMarkNanos = endNanos;
+    }
+
+    public static synchronized void markReady() {
+        if (reported) {
+            return;
+        }
+
+        record("ready", lastMarkNanos);
+        reported = true;
+
+        StringJoiner phaseJoiner = new StringJoiner(" | ");
+
+        for (Map.Entry<String, Long> phase : phaseMillis.entrySet()) {
+            phaseJoiner.add("%s: %,dms".formatted(phase.getKey(), phase.getValue()));
+        }
+
+        Log.info(
+            StartupTimer.class,
+            "Startup took %,dms [%s]".formatted(ManagementFactory.getRuntimeMXBean().getUptime(), phaseJoiner)
+        );
+    }
+}
@@ -58,6 +58,21 @@ public class MainConfig {
      */
     private boolean marketOpen = false;
 
+    /**
+     * Animated images are made with the legacy Python scripts instead of in the JVM
+     */
+    private boolean pythonGifs = false;
+
+    /**
+     * Boar and powerup image sizes are rendered on first use instead of at startup
+     */
+    private boolean lazyAssets = false;
+
+    /**
+     * How many daily notification DMs can be in flight at once
+     */
+    private int notificationConcurrency = 8;
+
     /**
      * The ID of the boar that is given when a user gets the first of a boar
      */
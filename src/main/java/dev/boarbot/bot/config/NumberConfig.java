@@ -4,6 +4,9 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * {@link NumberConfig NumberConfig.java}
  *
@@ -63,6 +66,26 @@ public class NumberConfig {
     private int[] bigBoarSize = {0, 0};
     private int[] largeBoarSize = {0, 0};
 
+    // Cache limits (0 is unbounded)
+
+    private int imageCacheMaxMB = 0;
+    private int byteCacheMaxMB = 0;
+    private int avatarImageCacheMaxMB = 0;
+
+    // Command rate limits as {burst, refill millis} (0 burst disables)
+
+    private int[] commandRateLimit = {0, 0};
+    private Map<String, int[]> commandRateLimits = new HashMap<>();
+    private int[] guildRateLimit = {0, 0};
+
+    // Database values (0 disables)
+
+    private int slowQueryMillis = 0;
+
+    // Python worker values
+
+    private int pythonTimeoutMillis = 0;
+
     // Powerup values
 
     private int emojiRows = 0;
@@ -1,12 +1,12 @@
 package dev.boarbot.commands.boar;
 
-import dev.boarbot.BoarBotApp;
 import dev.boarbot.commands.Subcommand;
 import dev.boarbot.entities.boaruser.BoarUser;
 import dev.boarbot.entities.boaruser.BoarUserFactory;
 import dev.boarbot.entities.boaruser.Synchronizable;
 import dev.boarbot.interactives.Interactive;
 import dev.boarbot.interactives.InteractiveFactory;
+import dev.boarbot.interactives.InteractiveRegistry;
 import dev.boarbot.interactives.ItemInteractive;
 import dev.boarbot.interactives.boar.daily.DailyNotifyInteractive;
 import dev.boarbot.interactives.boar.daily.DailyPowerupInteractive;
@@ -55,9 +55,11 @@ public class DailySubcommand extends Subcommand implements Synchronizable {
             return;
         }
 
-        String dailyPowKey = this.findDailyPowKey();
-        if (dailyPowKey != null) {
-            BoarBotApp.getBot().getInteractives().get(dailyPowKey).stop(StopType.EXPIRED);
+        Interactive dailyPowInteractive = InteractiveRegistry.getUserInteractive(
+            this.user.getId(), DailyPowerupInteractive.class
+        );
+        if (dailyPowInteractive != null) {
+            dailyPowInteractive.stop(StopType.EXPIRED);
         }
 
         try {
@@ -233,18 +235,4 @@ public class DailySubcommand extends Subcommand implements Synchronizable {
         Log.debug(this.user, this.getClass(), "Sent DailyPowerupInteractive");
     }
 
-    private String findDailyPowKey() {
-        for (String key : BoarBotApp.getBot().getInteractives().keySet()) {
-            boolean isSameUser = key.endsWith(this.user.getId());
-            boolean isSameType = DailyPowerupInteractive.class.equals(
-                BoarBotApp.getBot().getInteractives().get(key).getClass()
-            );
-
-            if (isSameUser && isSameType) {
-                return key;
-            }
-        }
-
-        return null;
-    }
 }
@@ -0,0 +1,69 @@
+package dev.boarbot.commands.boardev;
+
+import dev.boarbot.commands.Subcommand;
+import dev.boarbot.util.data.DataUtil;
+import dev.boarbot.util.data.QueryStats;
+import dev.boarbot.util.generators.EmbedImageGenerator;
+import dev.boarbot.util.interaction.SpecialReply;
+import dev.boarbot.util.logging.ExceptionHandler;
+import dev.boarbot.util.logging.Log;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
+import net.dv8tion.jda.api.utils.FileUpload;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+public class QueriesSubcommand extends Subcommand {
+    private final static int NUM_STATEMENTS = 10;
+
+    public QueriesSubcommand(SlashCommandInteractionEvent event) {
+        super(event);
+    }
+
+    @Override
+    public void execute() {
+        if (!Arrays.asList(CONFIG.getMainConfig().getDevs()).contains(this.user.getId())) {
+            try {
+                FileUpload fileUpload = new EmbedImageGenerator(STRS.getNoPermission(), COLORS.get("error")).generate()
+                    .getFileUpload();
+                this.interaction.replyFiles(fileUpload).setEphemeral(true)
+                    .queue(null, e -> ExceptionHandler.replyHandle(this.interaction, this, e));
+            } catch (IOException exception) {
+                SpecialReply.sendErrorMessage(this.interaction, this);
+                Log.error(this.user, this.getClass(), "Failed to generate no permission message", exception);
+            }
+
+            return;
+        }
+
+        OptionMapping resetOption = this.event.getOption("reset");
+        boolean reset = resetOption != null && resetOption.getAsBoolean();
+
+        StringBuilder sb = new StringBuilder("```\n")
+            .append("Queries: ").append(QueryStats.getMetricsString()).append("\n")
+            .append("Pool: ").append(DataUtil.getPoolMetricsString()).append("\n");
+
+        // Leave room for the closing fence within Discord's message limit
+        int maxLength = Message.MAX_CONTENT_LENGTH - 4;
+
+        for (String statementStr : QueryStats.getTopStatements(NUM_STATEMENTS)) {
+            if (sb.length() + statementStr.length() + 2 > maxLength) {
+                break;
+            }
+
+            sb.append("\n").append(statementStr).append("\n");
+        }
+
+        sb.append("```");
+
+        if (reset) {
+            QueryStats.reset();
+            Log.debug(this.user, this.getClass(), "Reset query stats");
+        }
+
+        this.interaction.reply(sb.toString()).setEphemeral(true)
+            .queue(null, e -> ExceptionHandler.replyHandle(this.interaction, this, e));
+    }
+}
@@ -2,12 +2,18 @@ package dev.boarbot.entities.boaruser;
 
 import dev.boarbot.BoarBotApp;
 import dev.boarbot.entities.boaruser.queries.*;
+import dev.boarbot.util.data.DataUtil;
+import dev.boarbot.util.time.TimeUtil;
 import lombok.Getter;
 import lombok.Setter;
 import net.dv8tion.jda.api.entities.User;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.locks.ReentrantLock;
+
 public class BoarUser {
-    private User user;
+    private volatile User user;
     @Getter private final String userID;
 
     @Getter @Setter private boolean isFirstDaily = false;
@@ -20,7 +26,8 @@ public class BoarUser {
     private final PowerupQueries powQuery;
     private final QuestQueries questQuery;
 
-    @Getter boolean isSynchronized = false;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile long lastRefreshMilli = 0;
 
     public BoarUser(User user) {
         this(user.getId());
@@ -54,6 +61,45 @@ public class BoarUser {
         return this.user;
     }
 
+    void attachUser(User user) {
+        if (this.user != null) {
+            return;
+        }
+
+        this.user = user;
+
+        // The last refresh had no name to compare against, so sync it now
+        this.lastRefreshMilli = 0;
+    }
+
+    /**
+     * Applies streak decay and syncs the username at most once per daily reset. Lookups for the same user wait for a
+     * refresh in progress, while other users are never blocked.
+     */
+    void refreshIfStale() throws SQLException {
+        long lastResetMilli = TimeUtil.getLastDailyResetMilli();
+
+        if (this.lastRefreshMilli >= lastResetMilli) {
+            return;
+        }
+
+        this.refreshLock.lock();
+
+        try {
+            if (this.lastRefreshMilli >= lastResetMilli) {
+                return;
+            }
+
+            try (Connection connection = DataUtil.getConnection()) {
+                this.baseQuery.updateUser(connection, true);
+            }
+
+            this.lastRefreshMilli = lastResetMilli;
+        } finally {
+            this.refreshLock.unlock();
+        }
+    }
+
     public BaseQueries baseQuery() {
         return this.baseQuery;
     }
@@ -82,14 +128,16 @@ public class BoarUser {
         return this.questQuery;
     }
 
-    public synchronized void passSynchronizedAction(Synchronizable callingObject) {
-        this.isSynchronized = true;
-        callingObject.doSynchronizedAction(this);
-        this.isSynchronized = false;
+    public void passSynchronizedAction(Synchronizable callingObject) {
+        UserLockManager.passSynchronizedAction(callingObject, this);
+    }
+
+    public boolean isSynchronized() {
+        return UserLockManager.isHeldByCurrentThread(this.userID);
     }
 
     public void forceSynchronized() {
-        if (!this.isSynchronized) {
+        if (!this.isSynchronized()) {
             throw new IllegalStateException("Boar user must be synchronized to do this!");
         }
     }
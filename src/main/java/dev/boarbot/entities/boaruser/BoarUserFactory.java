@@ -1,20 +1,27 @@
 package dev.boarbot.entities.boaruser;
 
 import dev.boarbot.api.util.Configured;
-import dev.boarbot.util.data.DataUtil;
 import net.dv8tion.jda.api.entities.User;
 
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
-import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class BoarUserFactory implements Configured {
-    private final static Map<String, WeakReference<BoarUser>> boarUserPool = new ConcurrentHashMap<>();
+    private final static Map<String, BoarUserRef> boarUserPool = new ConcurrentHashMap<>();
     private final static ReferenceQueue<BoarUser> refQueue = new ReferenceQueue<>();
 
+    private final static class BoarUserRef extends WeakReference<BoarUser> {
+        private final String userID;
+
+        private BoarUserRef(BoarUser boarUser) {
+            super(boarUser, refQueue);
+            this.userID = boarUser.getUserID();
+        }
+    }
+
     public static int getNumBoarUsers() {
         return boarUserPool.size();
     }
@@ -27,35 +34,41 @@ public class BoarUserFactory implements Configured {
         return BoarUserFactory.getBoarUser(null, userID);
     }
 
-    private static synchronized BoarUser getBoarUser(User user, String userID) throws SQLException {
-        cleanUp();
-
-        WeakReference<BoarUser> boarUserRef = boarUserPool.get(userID);
+    private static BoarUser getBoarUser(User user, String userID) throws SQLException {
+        BoarUserRef boarUserRef = boarUserPool.get(userID);
         BoarUser boarUser = boarUserRef == null ? null : boarUserRef.get();
-        boolean isNewBoarUser = boarUser == null;
 
-        if (isNewBoarUser && user != null) {
-            boarUser = new BoarUser(user);
-        } else if (isNewBoarUser) {
-            boarUser = new BoarUser(userID);
-        }
+        while (boarUser == null) {
+            BoarUser newBoarUser = user != null ? new BoarUser(user) : new BoarUser(userID);
+            BoarUserRef newBoarUserRef = new BoarUserRef(newBoarUser);
+
+            boolean added = boarUserRef == null
+                ? boarUserPool.putIfAbsent(userID, newBoarUserRef) == null
+                : boarUserPool.replace(userID, boarUserRef, newBoarUserRef);
 
-        try (Connection connection = DataUtil.getConnection()) {
-            boarUser.baseQuery().updateUser(connection, true);
+            if (added) {
+                boarUser = newBoarUser;
+                break;
+            }
+
+            boarUserRef = boarUserPool.get(userID);
+            boarUser = boarUserRef == null ? null : boarUserRef.get();
         }
 
-        if (isNewBoarUser) {
-            boarUserPool.put(userID, new WeakReference<>(boarUser, refQueue));
+        if (user != null) {
+            boarUser.attachUser(user);
         }
 
+        boarUser.refreshIfStale();
         return boarUser;
     }
 
-    private static void cleanUp() {
-        WeakReference<? extends BoarUser> boarUserRef = (WeakReference<? extends BoarUser>) refQueue.poll();
+    public static void removeClearedUsers() {
+        BoarUserRef boarUserRef = (BoarUserRef) refQueue.poll();
+
         while (boarUserRef != null) {
-            boarUserPool.values().remove(boarUserRef);
-            boarUserRef = (WeakReference<? extends BoarUser>) refQueue.poll();
+            boarUserPool.remove(boarUserRef.userID, boarUserRef);
+            boarUserRef = (BoarUserRef) refQueue.poll();
         }
     }
 }
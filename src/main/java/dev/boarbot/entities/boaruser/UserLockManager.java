@@ -0,0 +1,146 @@
+package dev.boarbot.entities.boaruser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fair, reentrant locks keyed by user ID for user-scoped mutations. Waits time out instead of blocking forever, and
+ * actions over several users take their locks in user ID order so two of them can never deadlock each other. A lock
+ * only exists while some thread holds or waits for it.
+ */
+public class UserLockManager {
+    private final static long LOCK_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final static Map<String, LockEntry> locks = new ConcurrentHashMap<>();
+
+    private final static LongAdder acquired = new LongAdder();
+    private final static LongAdder contended = new LongAdder();
+    private final static LongAdder timedOut = new LongAdder();
+    private final static LongAdder waitNanos = new LongAdder();
+    private final static LongAccumulator maxWaitNanos = new LongAccumulator(Long::max, 0);
+
+    private final static class LockEntry {
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private int numUsing = 0;
+    }
+
+    public static void passSynchronizedAction(Synchronizable callingObject, BoarUser... boarUsers) {
+        List<String> userIDs = Arrays.stream(boarUsers).map(BoarUser::getUserID).distinct().sorted().toList();
+
+        UserLockManager.lockAll(userIDs);
+
+        try {
+            for (BoarUser boarUser : boarUsers) {
+                boarUser.baseQuery().expireUserRow();
+            }
+
+            for (BoarUser boarUser : boarUsers) {
+                callingObject.doSynchronizedAction(boarUser);
+            }
+        } finally {
+            for (BoarUser boarUser : boarUsers) {
+                boarUser.baseQuery().invalidateUserRow();
+            }
+
+            UserLockManager.unlockAll(userIDs);
+        }
+    }
+
+    public static boolean isHeldByCurrentThread(String userID) {
+        LockEntry entry = locks.get(userID);
+        return entry != null && entry.lock.isHeldByCurrentThread();
+    }
+
+    public static boolean isLocked(String userID) {
+        LockEntry entry = locks.get(userID);
+        return entry != null && entry.lock.isLocked();
+    }
+
+    public static String getMetricsString() {
+        long avgWaitMillis = contended.sum() == 0 ? 0 : waitNanos.sum() / contended.sum() / 1_000_000;
+
+        String metricsStr = "%,d active | %,d acquired | %,d contended | %,d timed out | " +
+            "avg wait: %,dms | max wait: %,dms";
+
+        return metricsStr.formatted(
+            locks.size(),
+            acquired.sum(),
+            contended.sum(),
+            timedOut.sum(),
+            avgWaitMillis,
+            maxWaitNanos.get() / 1_000_000
+        );
+    }
+
+    private static void lockAll(List<String> userIDs) {
+        List<String> lockedIDs = new ArrayList<>();
+        long deadline = System.nanoTime() + LOCK_TIMEOUT_NANOS;
+
+        try {
+            for (String userID : userIDs) {
+                UserLockManager.lock(userID, deadline);
+                lockedIDs.add(userID);
+            }
+        } catch (RuntimeException exception) {
+            UserLockManager.unlockAll(lockedIDs);
+            throw exception;
+        }
+    }
+
+    private static void lock(String userID, long deadline) {
+        LockEntry entry = locks.compute(userID, (k, curEntry) -> {
+            LockEntry newEntry = curEntry == null ? new LockEntry() : curEntry;
+            newEntry.numUsing++;
+            return newEntry;
+        });
+
+        boolean locked = false;
+
+        try {
+            locked = entry.lock.tryLock(0, TimeUnit.NANOSECONDS);
+
+            if (!locked) {
+                contended.increment();
+
+                long waitStart = System.nanoTime();
+                locked = entry.lock.tryLock(deadline - waitStart, TimeUnit.NANOSECONDS);
+                long waited = System.nanoTime() - waitStart;
+
+                waitNanos.add(waited);
+                maxWaitNanos.accumulate(waited);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for user lock: " + userID, exception);
+        } finally {
+            if (!locked) {
+                UserLockManager.release(userID);
+            }
+        }
+
+        if (!locked) {
+            timedOut.increment();
+            throw new IllegalStateException("Timed out waiting for user lock: " + userID);
+        }
+
+        acquired.increment();
+    }
+
+    private static void unlockAll(List<String> userIDs) {
+        for (String userID : userIDs.reversed()) {
+            locks.get(userID).lock.unlock();
+            UserLockManager.release(userID);
+        }
+    }
+
+    private static void release(String userID) {
+        locks.computeIfPresent(userID, (k, entry) -> --entry.numUsing == 0 ? null : entry);
+    }
+}
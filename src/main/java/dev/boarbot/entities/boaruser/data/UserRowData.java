@@ -0,0 +1,65 @@
+package dev.boarbot.entities.boaruser.data;
+
+public record UserRowData(
+    String username,
+    long lastDailyTimestamp,
+    long lastStreakFix,
+    long firstJoinedTimestamp,
+    int boarStreak,
+    boolean streakFrozen,
+    int curDailiesMissed,
+    long totalBucks,
+    long blessings,
+    int miraclesActive,
+    boolean notificationsOn,
+    String notificationChannel,
+    String favoriteBoarID,
+    int filterBits,
+    int sortValue,
+    long unbanTimestamp,
+    long lastChangedTimestamp
+) {
+    public UserRowData withFilterBits(int filterBits) {
+        return new UserRowData(
+            this.username,
+            this.lastDailyTimestamp,
+            this.lastStreakFix,
+            this.firstJoinedTimestamp,
+            this.boarStreak,
+            this.streakFrozen,
+            this.curDailiesMissed,
+            this.totalBucks,
+            this.blessings,
+            this.miraclesActive,
+            this.notificationsOn,
+            this.notificationChannel,
+            this.favoriteBoarID,
+            filterBits,
+            this.sortValue,
+            this.unbanTimestamp,
+            this.lastChangedTimestamp
+        );
+    }
+
+    public UserRowData withSortValue(int sortValue) {
+        return new UserRowData(
+            this.username,
+            this.lastDailyTimestamp,
+            this.lastStreakFix,
+            this.firstJoinedTimestamp,
+            this.boarStreak,
+            this.streakFrozen,
+            this.curDailiesMissed,
+            this.totalBucks,
+            this.blessings,
+            this.miraclesActive,
+            this.notificationsOn,
+            this.notificationChannel,
+            this.favoriteBoarID,
+            this.filterBits,
+            sortValue,
+            this.unbanTimestamp,
+            this.lastChangedTimestamp
+        );
+    }
+}
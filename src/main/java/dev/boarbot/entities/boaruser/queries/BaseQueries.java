@@ -2,57 +2,111 @@ package dev.boarbot.entities.boaruser.queries;
 
 import dev.boarbot.api.util.Configured;
 import dev.boarbot.entities.boaruser.BoarUser;
+import dev.boarbot.entities.boaruser.UserLockManager;
+import dev.boarbot.entities.boaruser.data.UserRowData;
+import dev.boarbot.util.data.top.TopBoards;
+import dev.boarbot.util.data.top.UsernameCache;
 import dev.boarbot.util.logging.Log;
 import dev.boarbot.util.time.TimeUtil;
 
 import java.sql.*;
-
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serves reads of the user's {@code users} row from a cached snapshot. Every write to the row, whether made here,
+ * by another query class or through a trigger, invalidates the snapshot, and writes that touch every user bump a
+ * shared epoch through {@link #invalidateAllUserRows()}. A snapshot loaded while an invalidation or queued-write
+ * flush was in progress is never trusted, since its SELECT may predate the write.
+ */
 public class BaseQueries implements Configured {
+    private final static long ROW_TRUST_MILLIS = 30000;
+    private final static int MAX_LOAD_ATTEMPTS = 3;
+    private final static int NOT_QUEUED = -1;
+    private final static Set<BaseQueries> queuedWriters = ConcurrentHashMap.newKeySet();
+    private final static AtomicLong rowEpoch = new AtomicLong();
+
     private final BoarUser boarUser;
 
+    private final Object rowLock = new Object();
+    private volatile UserRowData userRow = null;
+    private volatile long rowValidatedTimestamp = 0;
+    private volatile boolean rowStale = false;
+    private volatile long loadedEpoch = 0;
+    private volatile long rowVersion = 0;
+
+    private final AtomicInteger queuedFilterBits = new AtomicInteger(NOT_QUEUED);
+    private final AtomicInteger queuedSortValue = new AtomicInteger(NOT_QUEUED);
+
     public BaseQueries(BoarUser boarUser) {
         this.boarUser = boarUser;
     }
 
-    void addUser(Connection connection) throws SQLException {
-        if (this.userExists(connection)) {
-            return;
-        }
+    public UserRowData getUserRow(Connection connection) throws SQLException {
+        UserRowData curRow = this.userRow;
 
-        String query = """
-            INSERT INTO users (user_id, username) VALUES (?, ?)
-        """;
+        if (curRow != null && !this.rowStale && this.loadedEpoch == rowEpoch.get()) {
+            long curMilli = TimeUtil.getCurMilli();
+            boolean trusted = !UserLockManager.isLocked(this.boarUser.getUserID()) &&
+                this.rowValidatedTimestamp > curMilli - ROW_TRUST_MILLIS;
 
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setString(1, this.boarUser.getUserID());
-            statement.setString(2, this.boarUser.getUser().getName());
-            statement.execute();
+            if (trusted) {
+                return curRow;
+            }
+
+            if (this.getLastChanged(connection) == curRow.lastChangedTimestamp()) {
+                return curRow;
+            }
         }
 
-        Log.info(this.boarUser.getUser(), this.getClass(), "New user!");
+        return this.loadUserRow(connection);
     }
 
-    public boolean userExists(Connection connection) throws SQLException {
-        String query = """
-            SELECT user_id
-            FROM users
-            WHERE user_id = ?;
-        """;
+    private UserRowData loadUserRow(Connection connection) throws SQLException {
+        for (int i=0; ; i++) {
+            long version = this.rowVersion;
+            long epoch = rowEpoch.get();
+            UserRowData loadedRow = this.selectUserRow(connection);
 
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setString(1, this.boarUser.getUserID());
+            if (loadedRow == null) {
+                return null;
+            }
 
-            try (ResultSet results = statement.executeQuery()) {
-                return results.next();
+            synchronized (this.rowLock) {
+                boolean raced = version != this.rowVersion || epoch != rowEpoch.get();
+
+                if (raced && i < MAX_LOAD_ATTEMPTS - 1) {
+                    continue;
+                }
+
+                int filterBits = this.queuedFilterBits.get();
+                int sortValue = this.queuedSortValue.get();
+
+                if (filterBits != NOT_QUEUED) {
+                    loadedRow = loadedRow.withFilterBits(filterBits);
+                }
+
+                if (sortValue != NOT_QUEUED) {
+                    loadedRow = loadedRow.withSortValue(sortValue);
+                }
+
+                this.userRow = loadedRow;
+                this.loadedEpoch = epoch;
+                this.rowValidatedTimestamp = TimeUtil.getCurMilli();
+
+                // Still serve the row, but reload on the next read since a write may have landed after the SELECT
+                this.rowStale = raced;
+
+                return loadedRow;
             }
         }
     }
 
-    public void updateUser(Connection connection, boolean syncBypass) throws SQLException {
-        if (!syncBypass) {
-            this.boarUser.forceSynchronized();
-        }
-
+    private UserRowData selectUserRow(Connection connection) throws SQLException {
         String query = """
             SELECT
                 username,
@@ -61,52 +115,223 @@ public class BaseQueries implements Configured {
                 first_joined_timestamp,
                 boar_streak,
                 streak_frozen,
-                cur_dailies_missed
+                cur_dailies_missed,
+                total_bucks,
+                blessings,
+                miracles_active,
+                notifications_on,
+                notification_channel,
+                favorite_boar_id,
+                filter_bits,
+                sort_value,
+                unban_timestamp,
+                last_changed_timestamp
             FROM users
             WHERE user_id = ?;
         """;
 
-        boolean usernameChanged;
-        boolean streakFrozen;
-        long lastDailyLong = 0;
-        long lastStreakLong = 0;
-        long firstJoinedLong = 0;
-        int curDailiesMissed;
-        int boarStreak;
-
         try (PreparedStatement statement = connection.prepareStatement(query)) {
             statement.setString(1, this.boarUser.getUserID());
 
             try (ResultSet results = statement.executeQuery()) {
                 if (!results.next()) {
-                    return;
+                    return null;
                 }
 
-                streakFrozen = results.getBoolean("streak_frozen");
-                usernameChanged = this.boarUser.getUser(true) != null &&
-                    !results.getString("username").equals(this.boarUser.getUser().getName());
+                return new UserRowData(
+                    results.getString("username"),
+                    this.getTimestampMilli(results, "last_daily_timestamp"),
+                    this.getTimestampMilli(results, "last_streak_fix"),
+                    this.getTimestampMilli(results, "first_joined_timestamp"),
+                    results.getInt("boar_streak"),
+                    results.getBoolean("streak_frozen"),
+                    results.getInt("cur_dailies_missed"),
+                    results.getLong("total_bucks"),
+                    results.getLong("blessings"),
+                    results.getInt("miracles_active"),
+                    results.getBoolean("notifications_on"),
+                    results.getString("notification_channel"),
+                    results.getString("favorite_boar_id"),
+                    results.getInt("filter_bits"),
+                    results.getInt("sort_value"),
+                    this.getTimestampMilli(results, "unban_timestamp"),
+                    this.getTimestampMilli(results, "last_changed_timestamp")
+                );
+            }
+        }
+    }
 
-                Timestamp lastDailyTimestamp = results.getTimestamp("last_daily_timestamp");
-                Timestamp lastStreakFixTimestamp = results.getTimestamp("last_streak_fix");
-                Timestamp firstJoinedTimestamp = results.getTimestamp("first_joined_timestamp");
+    private long getTimestampMilli(ResultSet results, String column) throws SQLException {
+        Timestamp timestamp = results.getTimestamp(column);
+        return timestamp == null ? 0 : timestamp.getTime();
+    }
 
-                if (lastDailyTimestamp != null) {
-                    lastDailyLong = lastDailyTimestamp.getTime();
-                }
+    public void expireUserRow() {
+        this.rowValidatedTimestamp = 0;
+    }
+
+    public void invalidateUserRow() {
+        synchronized (this.rowLock) {
+            this.rowVersion++;
+            this.rowStale = true;
+        }
+
+        TopBoards.markDirty(this.boarUser.getUserID());
+    }
+
+    /**
+     * For writes that touch every user's row at once, like resets and bulk recounts.
+     */
+    public static void invalidateAllUserRows() {
+        rowEpoch.incrementAndGet();
+    }
+
+    void queueFilterBits(int filterBits) {
+        synchronized (this.rowLock) {
+            this.queuedFilterBits.set(filterBits);
+
+            UserRowData curRow = this.userRow;
+            if (curRow != null) {
+                this.userRow = curRow.withFilterBits(filterBits);
+            }
+        }
+
+        queuedWriters.add(this);
+    }
+
+    void queueSortValue(int sortValue) {
+        synchronized (this.rowLock) {
+            this.queuedSortValue.set(sortValue);
+
+            UserRowData curRow = this.userRow;
+            if (curRow != null) {
+                this.userRow = curRow.withSortValue(sortValue);
+            }
+        }
+
+        queuedWriters.add(this);
+    }
+
+    public static int getNumQueuedWriters() {
+        return queuedWriters.size();
+    }
+
+    public static void flushQueuedWrites(Connection connection) throws SQLException {
+        if (queuedWriters.isEmpty()) {
+            return;
+        }
 
-                if (lastStreakFixTimestamp != null) {
-                    lastStreakLong = lastStreakFixTimestamp.getTime();
+        String updateQuery = """
+            UPDATE users
+            SET filter_bits = IFNULL(?, filter_bits), sort_value = IFNULL(?, sort_value)
+            WHERE user_id = ?;
+        """;
+
+        List<BaseQueries> flushedWriters = new ArrayList<>();
+        List<int[]> flushedValues = new ArrayList<>();
+
+        // Queued values stay in place until they're written so rows loaded meanwhile still overlay them
+        for (BaseQueries writer : queuedWriters) {
+            queuedWriters.remove(writer);
+            flushedWriters.add(writer);
+            flushedValues.add(new int[] {writer.queuedFilterBits.get(), writer.queuedSortValue.get()});
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(updateQuery)) {
+            for (int i=0; i<flushedWriters.size(); i++) {
+                int[] values = flushedValues.get(i);
+
+                if (values[0] == NOT_QUEUED) {
+                    statement.setNull(1, Types.INTEGER);
+                } else {
+                    statement.setInt(1, values[0]);
                 }
 
-                if (firstJoinedTimestamp != null) {
-                    firstJoinedLong = firstJoinedTimestamp.getTime() - TimeUtil.getOneDayMilli();
+                if (values[1] == NOT_QUEUED) {
+                    statement.setNull(2, Types.INTEGER);
+                } else {
+                    statement.setInt(2, values[1]);
                 }
 
-                boarStreak = results.getInt("boar_streak");
-                curDailiesMissed = results.getInt("cur_dailies_missed");
+                statement.setString(3, flushedWriters.get(i).boarUser.getUserID());
+                statement.addBatch();
             }
+
+            statement.executeBatch();
+        } catch (SQLException exception) {
+            queuedWriters.addAll(flushedWriters);
+            throw exception;
         }
 
+        for (int i=0; i<flushedWriters.size(); i++) {
+            BaseQueries writer = flushedWriters.get(i);
+            int[] values = flushedValues.get(i);
+
+            synchronized (writer.rowLock) {
+                // A value queued again during the write stays queued for the next flush
+                writer.queuedFilterBits.compareAndSet(values[0], NOT_QUEUED);
+                writer.queuedSortValue.compareAndSet(values[1], NOT_QUEUED);
+                writer.rowVersion++;
+            }
+        }
+    }
+
+    void addUser(Connection connection) throws SQLException {
+        if (this.getUserRow(connection) != null) {
+            return;
+        }
+
+        String query = """
+            INSERT INTO users (user_id, username) VALUES (?, ?)
+        """;
+
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setString(1, this.boarUser.getUserID());
+            statement.setString(2, this.boarUser.getUser().getName());
+            statement.execute();
+        }
+
+        Log.info(this.boarUser.getUser(), this.getClass(), "New user!");
+    }
+
+    public boolean userExists(Connection connection) throws SQLException {
+        String query = """
+            SELECT user_id
+            FROM users
+            WHERE user_id = ?;
+        """;
+
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setString(1, this.boarUser.getUserID());
+
+            try (ResultSet results = statement.executeQuery()) {
+                return results.next();
+            }
+        }
+    }
+
+    public void updateUser(Connection connection, boolean syncBypass) throws SQLException {
+        if (!syncBypass) {
+            this.boarUser.forceSynchronized();
+        }
+
+        UserRowData curRow = this.getUserRow(connection);
+
+        if (curRow == null) {
+            return;
+        }
+
+        boolean usernameChanged = this.boarUser.getUser(true) != null &&
+            !curRow.username().equals(this.boarUser.getUser().getName());
+        boolean streakFrozen = curRow.streakFrozen();
+        long lastDailyLong = curRow.lastDailyTimestamp();
+        long lastStreakLong = curRow.lastStreakFix();
+        long firstJoinedLong = curRow.firstJoinedTimestamp() > 0
+            ? curRow.firstJoinedTimestamp() - TimeUtil.getOneDayMilli()
+            : 0;
+        int curDailiesMissed = curRow.curDailiesMissed();
+        int boarStreak = curRow.boarStreak();
+
         if (usernameChanged) {
             String updateUsernameQuery = """
                 UPDATE users
@@ -119,6 +344,9 @@ public class BaseQueries implements Configured {
                 statement.setString(2, this.boarUser.getUserID());
                 statement.executeUpdate();
             }
+
+            UsernameCache.put(this.boarUser.getUserID(), this.boarUser.getUser().getName());
+            this.invalidateUserRow();
         }
 
         if (streakFrozen || firstJoinedLong == 0) {
@@ -163,6 +391,8 @@ public class BaseQueries implements Configured {
             statement.executeUpdate();
         }
 
+        this.invalidateUserRow();
+
         Log.debug(
             this.boarUser.getUser(), this.getClass(), "Decreased streak %,d -> %,d".formatted(boarStreak, newBoarStreak)
         );
@@ -186,28 +416,17 @@ public class BaseQueries implements Configured {
             }
         }
 
+        UserRowData curRow = this.userRow;
+        if (curRow != null && curRow.lastChangedTimestamp() == lastChangedTimestamp) {
+            this.rowValidatedTimestamp = TimeUtil.getCurMilli();
+        }
+
         return lastChangedTimestamp;
     }
 
     public long getBucks(Connection connection) throws SQLException {
-        long bucks = 0;
-
-        String query = """
-            SELECT total_bucks
-            FROM users
-            WHERE user_id = ?;
-        """;
-
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setString(1, this.boarUser.getUserID());
-            try (ResultSet results = statement.executeQuery()) {
-                if (results.next()) {
-                    bucks = results.getLong("total_bucks");
-                }
-            }
-        }
-
-        return bucks;
+        UserRowData curRow = this.getUserRow(connection);
+        return curRow == null ? 0 : curRow.totalBucks();
     }
 
     public void giveBucks(Connection connection, long amount) throws SQLException {
@@ -226,6 +445,8 @@ public class BaseQueries implements Configured {
             statement.executeUpdate();
         }
 
+        this.invalidateUserRow();
+
         if (amount > 100) {
             Log.info(this.boarUser.getUser(), this.getClass(), "Obtained +$%,d".formatted(amount));
         } else {
@@ -247,6 +468,8 @@ public class BaseQueries implements Configured {
             statement.setString(2, this.boarUser.getUserID());
             statement.executeUpdate();
         }
+
+        this.invalidateUserRow();
     }
 
     public void setNotifications(Connection connection, String channelID) throws SQLException {
@@ -265,67 +488,24 @@ public class BaseQueries implements Configured {
             statement.executeUpdate();
         }
 
+        this.invalidateUserRow();
+
         Log.debug(this.boarUser.getUser(), this.getClass(), "Notifications enabled in channel " + channelID);
     }
 
     public boolean getNotificationStatus(Connection connection) throws SQLException {
-        String query = """
-            SELECT notifications_on
-            FROM users
-            WHERE user_id = ?;
-        """;
-
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setString(1, this.boarUser.getUserID());
-
-            try (ResultSet results = statement.executeQuery()) {
-                if (results.next()) {
-                    return results.getBoolean("notifications_on");
-                }
-            }
-        }
-
-        return false;
+        UserRowData curRow = this.getUserRow(connection);
+        return curRow != null && curRow.notificationsOn();
     }
 
     public String getNotificationChannel(Connection connection) throws SQLException {
-        String query = """
-            SELECT notification_channel
-            FROM users
-            WHERE user_id = ? AND notifications_on = true;
-        """;
-
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setString(1, this.boarUser.getUserID());
-
-            try (ResultSet results = statement.executeQuery()) {
-                if (results.next()) {
-                    return results.getString("notification_channel");
-                }
-            }
-        }
-
-        return null;
+        UserRowData curRow = this.getUserRow(connection);
+        return curRow != null && curRow.notificationsOn() ? curRow.notificationChannel() : null;
     }
 
     public int getStreak(Connection connection) throws SQLException {
-        String query = """
-            SELECT boar_streak
-            FROM users
-            WHERE user_id = ?;
-        """;
-
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setString(1, this.boarUser.getUserID());
-
-            try (ResultSet results = statement.executeQuery()) {
-                if (results.next()) {
-                    return results.getInt("boar_streak");
-                }
-            }
-        }
-
-        return 0;
+        UserRowData curRow = this.getUserRow(connection);
+        return curRow == null ? 0 : curRow.boarStreak();
     }
 
     public long getBlessings(Connection connection) throws SQLException {
@@ -333,39 +513,29 @@ public class BaseQueries implements Configured {
     }
 
     public long getBlessings(Connection connection, int extraActive) throws SQLException {
-        long blessings = 0;
-
-        String blessingsQuery = """
-            SELECT blessings, miracles_active
-            FROM users
-            WHERE user_id = ?;
-        """;
+        UserRowData curRow = this.getUserRow(connection);
 
-        try (PreparedStatement blessingsStatement = connection.prepareStatement(blessingsQuery)) {
-            blessingsStatement.setString(1, this.boarUser.getUserID());
-
-            try (ResultSet results = blessingsStatement.executeQuery()) {
-                if (results.next()) {
-                    int miraclesActive = results.getInt("miracles_active");
-                    blessings = results.getLong("blessings");
-                    int miracleIncreaseMax = NUMS.getMiracleIncreaseMax();
-
-                    int activesLeft = miraclesActive+extraActive;
-                    for (; activesLeft>0; activesLeft--) {
-                        long amountToAdd = (long) Math.min(Math.max(Math.ceil(blessings * 0.1), 1), miracleIncreaseMax);
+        if (curRow == null) {
+            return 0;
+        }
 
-                        if (amountToAdd == NUMS.getMiracleIncreaseMax()) {
-                            break;
-                        }
+        int miraclesActive = curRow.miraclesActive();
+        long blessings = curRow.blessings();
+        int miracleIncreaseMax = NUMS.getMiracleIncreaseMax();
 
-                        blessings += amountToAdd;
-                    }
+        int activesLeft = miraclesActive+extraActive;
+        for (; activesLeft>0; activesLeft--) {
+            long amountToAdd = (long) Math.min(Math.max(Math.ceil(blessings * 0.1), 1), miracleIncreaseMax);
 
-                    blessings += (long) activesLeft * miracleIncreaseMax;
-                }
+            if (amountToAdd == NUMS.getMiracleIncreaseMax()) {
+                break;
             }
+
+            blessings += amountToAdd;
         }
 
+        blessings += (long) activesLeft * miracleIncreaseMax;
+
         return blessings;
     }
 
@@ -381,6 +551,8 @@ public class BaseQueries implements Configured {
             statement.setString(2, this.boarUser.getUserID());
             statement.executeUpdate();
         }
+
+        this.invalidateUserRow();
     }
 
     public void updateHighestBlessings(Connection connection) throws SQLException {
@@ -398,9 +570,17 @@ public class BaseQueries implements Configured {
     }
 
     public void giveBadge(Connection connection, String badgeID, int tier) throws SQLException {
+        this.giveBadge(connection, badgeID, tier, true);
+    }
+
+    /**
+     * @param updateUser whether the badge triggers should touch the user's row, which callers that just wrote the
+     *                   row themselves skip
+     */
+    public void giveBadge(Connection connection, String badgeID, int tier, boolean updateUser) throws SQLException {
         String insertQuery = """
-            INSERT INTO collected_badges (user_id, badge_id, first_obtained_timestamp)
-            SELECT ?, ?, current_timestamp(3)
+            INSERT INTO collected_badges (user_id, badge_id, first_obtained_timestamp, update_user)
+            SELECT ?, ?, current_timestamp(3), ?
             WHERE NOT EXISTS (
                 SELECT 1
                 FROM collected_badges
@@ -410,7 +590,7 @@ public class BaseQueries implements Configured {
 
         String updateQuery = """
             UPDATE collected_badges
-            SET badge_tier = ?, obtained_timestamp = current_timestamp(3)
+            SET badge_tier = ?, obtained_timestamp = current_timestamp(3), update_user = ?
             WHERE badge_id = ? AND user_id = ? AND badge_tier != ?;
         """;
 
@@ -420,18 +600,35 @@ public class BaseQueries implements Configured {
         ) {
             statement1.setString(1, this.boarUser.getUserID());
             statement1.setString(2, badgeID);
-            statement1.setString(3, badgeID);
-            statement1.setString(4, this.boarUser.getUserID());
+            statement1.setBoolean(3, updateUser);
+            statement1.setString(4, badgeID);
+            statement1.setString(5, this.boarUser.getUserID());
             statement1.executeUpdate();
 
             statement2.setInt(1, tier);
-            statement2.setString(2, badgeID);
-            statement2.setString(3, this.boarUser.getUserID());
-            statement2.setInt(4, tier);
+            statement2.setBoolean(2, updateUser);
+            statement2.setString(3, badgeID);
+            statement2.setString(4, this.boarUser.getUserID());
+            statement2.setInt(5, tier);
             statement2.executeUpdate();
         }
     }
 
+    public void removeBadge(Connection connection, String badgeID, boolean updateUser) throws SQLException {
+        String updateQuery = """
+            UPDATE collected_badges
+            SET badge_tier = -1, update_user = ?
+            WHERE badge_id = ? AND user_id = ? AND badge_tier != -1;
+        """;
+
+        try (PreparedStatement statement = connection.prepareStatement(updateQuery)) {
+            statement.setBoolean(1, updateUser);
+            statement.setString(2, badgeID);
+            statement.setString(3, this.boarUser.getUserID());
+            statement.executeUpdate();
+        }
+    }
+
     public void wipeUser(Connection connection) throws SQLException {
         String deleteQuery = """
             UPDATE users
@@ -458,30 +655,12 @@ public class BaseQueries implements Configured {
             statement.setString(2, this.boarUser.getUserID());
             statement.executeUpdate();
         }
+
+        this.invalidateUserRow();
     }
 
     public long getBannedTime(Connection connection) throws SQLException {
-        long bannedTime = 0;
-
-        String query = """
-            SELECT unban_timestamp
-            FROM users
-            WHERE user_id = ?;
-        """;
-
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setString(1, this.boarUser.getUserID());
-
-            try (ResultSet results = statement.executeQuery()) {
-                if (results.next()) {
-                    Timestamp unbanTimestamp = results.getTimestamp("unban_timestamp");
-                    bannedTime = unbanTimestamp != null
-                        ? unbanTimestamp.getTime()
-                        : 0;
-                }
-            }
-        }
-
-        return bannedTime;
+        UserRowData curRow = this.getUserRow(connection);
+        return curRow == null ? 0 : curRow.unbanTimestamp();
     }
 }
@@ -5,6 +5,7 @@ import dev.boarbot.entities.boaruser.BoarUser;
 import dev.boarbot.interactives.boar.market.MarketInteractive;
 import dev.boarbot.util.boar.BoarObtainType;
 import dev.boarbot.util.boar.BoarUtil;
+import dev.boarbot.util.data.BoarDataUtil;
 import dev.boarbot.util.data.market.MarketDataUtil;
 import dev.boarbot.util.data.market.MarketUpdateType;
 import dev.boarbot.util.logging.Log;
@@ -40,80 +41,123 @@ public class BoarQueries implements Configured {
         }
         this.boarUser.setFirstDaily(false);
 
-        int boarIndex = -1;
+        if (boarIDs.isEmpty()) {
+            return;
+        }
+
+        StringJoiner valuesJoiner = new StringJoiner(", ");
+        StringJoiner boarIDJoiner = new StringJoiner(", ");
+        Map<String, Integer> batchCounts = new HashMap<>();
+
         for (String boarID : boarIDs) {
-            boarIndex++;
+            valuesJoiner.add("(?, ?, ?, ?)");
+            boarIDJoiner.add("?");
+            batchCounts.merge(boarID, 1, Integer::sum);
+        }
+
+        String boarAddQuery = """
+            INSERT INTO collected_boars (user_id, boar_id, original_obtain_type, edition)
+            VALUES %s
+            RETURNING boar_id, edition, bucks_gotten;
+        """.formatted(valuesJoiner.toString());
 
-            String boarAddQuery = """
-                INSERT INTO collected_boars (user_id, boar_id, original_obtain_type)
-                VALUES (?, ?, ?)
-                RETURNING edition, bucks_gotten;
-            """;
+        String isFirstQuery = """
+            SELECT boar_id, COUNT(*) AS amount
+            FROM collected_boars
+            WHERE user_id = ? AND boar_id IN (%s)
+            GROUP BY boar_id;
+        """.formatted(boarIDJoiner.toString());
+
+        String updateFirstJoined = """
+            UPDATE users
+            SET first_joined_timestamp = current_timestamp(3)
+            WHERE first_joined_timestamp = '0000-00-00 00:00:00' AND user_id = ?;
+        """;
 
-            String isFirstQuery = """
-                SELECT COUNT(*) = 1
-                FROM collected_boars
-                WHERE user_id = ? AND boar_id = ?;
-            """;
+        List<String> addedBoarIDs = new ArrayList<>();
+        List<Integer> addedEditions = new ArrayList<>();
+        List<Integer> addedBucks = new ArrayList<>();
 
-            String updateFirstJoined = """
-                UPDATE users
-                SET first_joined_timestamp = current_timestamp(3)
-                WHERE first_joined_timestamp = '0000-00-00 00:00:00' AND user_id = ?;
-            """;
+        try (PreparedStatement boarAddStatement = connection.prepareStatement(boarAddQuery)) {
+            int paramIndex = 1;
 
-            int curEdition;
+            for (int i=0; i<boarIDs.size(); i++) {
+                String boarID = boarIDs.get(i);
 
-            try (
-                PreparedStatement boarAddStatement = connection.prepareStatement(boarAddQuery);
-                PreparedStatement isFirstStatement = connection.prepareStatement(isFirstQuery);
-                PreparedStatement updateFirstStatement = connection.prepareStatement(updateFirstJoined)
-            ) {
-                boarAddStatement.setString(1, this.boarUser.getUserID());
-                boarAddStatement.setString(2, boarID);
-                boarAddStatement.setString(3, obtainType.equals("DAILY") && boarIndex > 0
+                boarAddStatement.setString(paramIndex++, this.boarUser.getUserID());
+                boarAddStatement.setString(paramIndex++, boarID);
+                boarAddStatement.setString(paramIndex++, obtainType.equals("DAILY") && i > 0
                     ? BoarObtainType.EXTRA.toString()
                     : obtainType
                 );
+                boarAddStatement.setLong(paramIndex++, BoarDataUtil.nextEdition(boarID));
+            }
 
-                isFirstStatement.setString(1, this.boarUser.getUserID());
-                isFirstStatement.setString(2, boarID);
-
-                try (
-                    ResultSet results1 = boarAddStatement.executeQuery();
-                    ResultSet results2 = isFirstStatement.executeQuery()
-                ) {
-                    if (results1.next()) {
-                        curEdition = results1.getInt("edition");
-
-                        newBoarIDs.add(boarID);
-                        boarEditions.add(curEdition);
-                        bucksGotten.add(results1.getInt("bucks_gotten"));
-
-                        String rarityKey = BoarUtil.findRarityKey(boarID);
+            try (ResultSet results = boarAddStatement.executeQuery()) {
+                while (results.next()) {
+                    addedBoarIDs.add(results.getString("boar_id"));
+                    addedEditions.add(results.getInt("edition"));
+                    addedBucks.add(results.getInt("bucks_gotten"));
+                }
+            }
+        }
 
-                        if (curEdition == 1 && RARITIES.get(rarityKey).isGivesFirstBoar()) {
-                            this.addFirstBoar(newBoarIDs, connection, bucksGotten, boarEditions, firstBoarIDs);
-                        }
+        try (PreparedStatement isFirstStatement = connection.prepareStatement(isFirstQuery)) {
+            int paramIndex = 1;
+            isFirstStatement.setString(paramIndex++, this.boarUser.getUserID());
 
-                        boolean addToMarket = RARITIES.get(rarityKey).getTargetStock() != null &&
-                            !MarketInteractive.cachedMarketData.containsKey(boarID);
+            for (String boarID : boarIDs) {
+                isFirstStatement.setString(paramIndex++, boarID);
+            }
 
-                        if (addToMarket) {
-                            MarketDataUtil.updateMarket(MarketUpdateType.ADD_ITEM, boarID, connection);
-                        }
-                    }
+            try (ResultSet results = isFirstStatement.executeQuery()) {
+                while (results.next()) {
+                    String boarID = results.getString("boar_id");
 
-                    if (results2.next() && results2.getBoolean(1)) {
+                    if (results.getInt("amount") == batchCounts.get(boarID)) {
                         firstBoarIDs.add(boarID);
                     }
                 }
+            }
+        }
+
+        for (int i=0; i<addedBoarIDs.size(); i++) {
+            String boarID = addedBoarIDs.get(i);
+            int curEdition = addedEditions.get(i);
+
+            newBoarIDs.add(boarID);
+            boarEditions.add(curEdition);
+            bucksGotten.add(addedBucks.get(i));
 
-                updateFirstStatement.setString(1, this.boarUser.getUserID());
-                updateFirstStatement.executeUpdate();
+            String rarityKey = BoarUtil.findRarityKey(boarID);
+
+            if (curEdition == 1 && RARITIES.get(rarityKey).isGivesFirstBoar()) {
+                this.addFirstBoar(newBoarIDs, connection, bucksGotten, boarEditions, firstBoarIDs);
+            }
+
+            boolean addToMarket = RARITIES.get(rarityKey).getTargetStock() != null &&
+                !MarketInteractive.cachedMarketData.containsKey(boarID);
+
+            if (addToMarket) {
+                MarketDataUtil.updateMarket(MarketUpdateType.ADD_ITEM, boarID, connection);
             }
         }
 
+        try (PreparedStatement updateFirstStatement = connection.prepareStatement(updateFirstJoined)) {
+            updateFirstStatement.setString(1, this.boarUser.getUserID());
+            updateFirstStatement.executeUpdate();
+        }
+
+        this.boarUser.baseQuery().invalidateUserRow();
+
+        Map<String, Integer> boarChanges = new HashMap<>();
+
+        for (String boarID : newBoarIDs) {
+            boarChanges.merge(boarID, 1, Integer::sum);
+        }
+
+        this.updateUniques(connection, boarChanges);
+
         if (!obtainType.equals("DAILY")) {
             this.boarUser.baseQuery().updateHighestBlessings(connection);
         }
@@ -224,9 +268,134 @@ public class BoarQueries implements Configured {
             statement.executeUpdate();
         }
 
+        this.updateUniques(connection, Map.of(boarID, -1));
+
         Log.info(this.boarUser.getUser(), this.getClass(), "Removed %s from collection".formatted(boarID));
     }
 
+    public void updateUniques(Connection connection, Map<String, Integer> boarChanges) throws SQLException {
+        if (boarChanges.isEmpty()) {
+            return;
+        }
+
+        // Counters are read, adjusted and written back, so concurrent changes for the user must be serialized
+        this.boarUser.forceSynchronized();
+
+        StringJoiner boarIDJoiner = new StringJoiner(", ");
+
+        for (int i=0; i<boarChanges.size(); i++) {
+            boarIDJoiner.add("?");
+        }
+
+        String amountQuery = """
+            SELECT boar_id, COUNT(*) AS amount
+            FROM collected_boars
+            WHERE user_id = ? AND boar_id IN (%s) AND `exists` = true AND deleted = false
+            GROUP BY boar_id;
+        """.formatted(boarIDJoiner.toString());
+
+        Map<String, Integer> amounts = new HashMap<>();
+
+        try (PreparedStatement statement = connection.prepareStatement(amountQuery)) {
+            int paramIndex = 1;
+            statement.setString(paramIndex++, this.boarUser.getUserID());
+
+            for (String boarID : boarChanges.keySet()) {
+                statement.setString(paramIndex++, boarID);
+            }
+
+            try (ResultSet results = statement.executeQuery()) {
+                while (results.next()) {
+                    amounts.put(results.getString("boar_id"), results.getInt("amount"));
+                }
+            }
+        }
+
+        int uniqueDiff = 0;
+        int skyblockDiff = 0;
+        int nonResearcherDiff = 0;
+
+        for (Map.Entry<String, Integer> boarChange : boarChanges.entrySet()) {
+            String boarID = boarChange.getKey();
+
+            if (!BOARS.containsKey(boarID)) {
+                continue;
+            }
+
+            int newAmount = amounts.getOrDefault(boarID, 0);
+            int oldAmount = newAmount - boarChange.getValue();
+            int diff = (newAmount > 0 ? 1 : 0) - (oldAmount > 0 ? 1 : 0);
+
+            if (diff == 0) {
+                continue;
+            }
+
+            uniqueDiff += diff;
+
+            if (BOARS.get(boarID).isSB()) {
+                skyblockDiff += diff;
+            }
+
+            if (!RARITIES.get(BoarUtil.findRarityKey(boarID)).isResearcherNeed()) {
+                nonResearcherDiff += diff;
+            }
+        }
+
+        if (uniqueDiff == 0 && skyblockDiff == 0 && nonResearcherDiff == 0) {
+            return;
+        }
+
+        String countQuery = """
+            SELECT unique_boars, num_skyblock, num_non_researcher
+            FROM users
+            WHERE user_id = ?
+            FOR UPDATE;
+        """;
+
+        String updateQuery = """
+            UPDATE users
+            SET unique_boars = ?, num_skyblock = ?, num_non_researcher = ?, unique_bless = ?
+            WHERE user_id = ?;
+        """;
+
+        int uniqueBoars;
+        int numSkyblock;
+        int numNonResearcher;
+
+        try (PreparedStatement statement = connection.prepareStatement(countQuery)) {
+            statement.setString(1, this.boarUser.getUserID());
+
+            try (ResultSet results = statement.executeQuery()) {
+                if (!results.next()) {
+                    return;
+                }
+
+                uniqueBoars = Math.max(results.getInt("unique_boars") + uniqueDiff, 0);
+                numSkyblock = Math.max(results.getInt("num_skyblock") + skyblockDiff, 0);
+                numNonResearcher = Math.max(results.getInt("num_non_researcher") + nonResearcherDiff, 0);
+            }
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(updateQuery)) {
+            statement.setInt(1, uniqueBoars);
+            statement.setInt(2, numSkyblock);
+            statement.setInt(3, numNonResearcher);
+            statement.setInt(4, BoarUtil.getUniqueBless(uniqueBoars, numSkyblock, numNonResearcher));
+            statement.setString(5, this.boarUser.getUserID());
+            statement.executeUpdate();
+        }
+
+        int researcherTier = BoarUtil.getResearcherTier(uniqueBoars, numNonResearcher);
+
+        if (researcherTier >= 0) {
+            this.boarUser.baseQuery().giveBadge(connection, "researcher", researcherTier, false);
+        } else {
+            this.boarUser.baseQuery().removeBadge(connection, "researcher", false);
+        }
+
+        this.boarUser.baseQuery().invalidateUserRow();
+    }
+
     private void addFirstBoar(
         List<String> newBoarIDs,
         Connection connection,
@@ -235,12 +404,9 @@ public class BoarQueries implements Configured {
         Set<String> firstBoarIDs
     ) throws SQLException {
         String insertFirstQuery = """
-            INSERT INTO collected_boars (user_id, boar_id, original_obtain_type)
-            VALUES (?, ?, ?)
-            RETURNING edition, (
-                SELECT COUNT(*)
-                WHERE user_id = ? AND boar_id = ?
-            );
+            INSERT INTO collected_boars (user_id, boar_id, original_obtain_type, edition)
+            VALUES (?, ?, ?, ?)
+            RETURNING edition;
         """;
 
         String isFirstQuery = """
@@ -262,8 +428,7 @@ public class BoarQueries implements Configured {
             insertFirstStatement.setString(1, this.boarUser.getUserID());
             insertFirstStatement.setString(2, firstBoarID);
             insertFirstStatement.setString(3, BoarObtainType.OTHER.toString());
-            insertFirstStatement.setString(4, this.boarUser.getUserID());
-            insertFirstStatement.setString(5, firstBoarID);
+            insertFirstStatement.setLong(4, BoarDataUtil.nextEdition(firstBoarID));
 
             isFirstStatement.setString(1, this.boarUser.getUserID());
             isFirstStatement.setString(2, firstBoarID);
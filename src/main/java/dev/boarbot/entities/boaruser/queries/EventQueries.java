@@ -34,6 +34,8 @@ public class EventQueries {
             statement.setString(2, this.boarUser.getUserID());
             statement.executeUpdate();
         }
+
+        this.boarUser.baseQuery().invalidateUserRow();
     }
 
     public void applyPowEventFail(Connection connection) throws SQLException {
@@ -50,6 +52,8 @@ public class EventQueries {
             statement.setString(1, this.boarUser.getUserID());
             statement.executeUpdate();
         }
+
+        this.boarUser.baseQuery().invalidateUserRow();
     }
 
     public void addPerfectPowerup(Connection connection) throws SQLException {
@@ -67,6 +71,8 @@ public class EventQueries {
             statement.executeUpdate();
         }
 
+        this.boarUser.baseQuery().invalidateUserRow();
+
         Log.info(this.boarUser.getUser(), this.getClass(), "Perfect Powerup!");
     }
 
@@ -84,6 +84,8 @@ public class GiftQueries implements Configured {
             statement.setString(5, this.boarUser.getUserID());
             statement.executeUpdate();
         }
+
+        this.boarUser.baseQuery().invalidateUserRow();
     }
 
     public void openGift(Connection connection, int bucks, List<String> rarityKeys, boolean incOpen) throws SQLException {
@@ -127,6 +129,8 @@ public class GiftQueries implements Configured {
             statement.setString(4, this.boarUser.getUserID());
             statement.executeUpdate();
         }
+
+        this.boarUser.baseQuery().invalidateUserRow();
     }
 
     public void setAdventBits(Connection connection, int bits) throws SQLException {
@@ -144,5 +148,7 @@ public class GiftQueries implements Configured {
             statement.setString(2, this.boarUser.getUserID());
             statement.executeUpdate();
         }
+
+        this.boarUser.baseQuery().invalidateUserRow();
     }
 }
@@ -21,24 +21,8 @@ public class MegaMenuQueries implements Configured {
     }
 
     public String getFavoriteID(Connection connection) throws SQLException {
-        String favoriteID = null;
-        String query = """
-            SELECT favorite_boar_id
-            FROM users
-            WHERE user_id = ?;
-        """;
-
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setString(1, this.boarUser.getUserID());
-
-            try (ResultSet results = statement.executeQuery()) {
-                if (results.next()) {
-                    favoriteID = results.getString("favorite_boar_id");
-                }
-            }
-        }
-
-        return favoriteID;
+        UserRowData userRow = this.boarUser.baseQuery().getUserRow(connection);
+        return userRow == null ? null : userRow.favoriteBoarID();
     }
 
     public void setFavoriteID(Connection connection, String id) throws SQLException {
@@ -53,76 +37,26 @@ public class MegaMenuQueries implements Configured {
             statement.setString(2, this.boarUser.getUserID());
             statement.executeUpdate();
         }
+
+        this.boarUser.baseQuery().invalidateUserRow();
     }
 
     public int getFilterBits(Connection connection) throws SQLException {
-        int filterBits = 1;
-        String query = """
-            SELECT filter_bits
-            FROM users
-            WHERE user_id = ?;
-        """;
-
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setString(1, this.boarUser.getUserID());
-
-            try (ResultSet results = statement.executeQuery()) {
-                if (results.next()) {
-                    filterBits = results.getInt("filter_bits");
-                }
-            }
-        }
-
-        return filterBits;
+        UserRowData userRow = this.boarUser.baseQuery().getUserRow(connection);
+        return userRow == null ? 1 : userRow.filterBits();
     }
 
-    public void setFilterBits(Connection connection, int filterBits) throws SQLException {
-        String query = """
-            UPDATE users
-            SET filter_bits = ?
-            WHERE user_id = ?;
-        """;
-
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setInt(1, filterBits);
-            statement.setString(2, this.boarUser.getUserID());
-            statement.executeUpdate();
-        }
+    public void setFilterBits(int filterBits) {
+        this.boarUser.baseQuery().queueFilterBits(filterBits);
     }
 
     public SortType getSortVal(Connection connection) throws SQLException {
-        SortType sortVal = SortType.RARITY_D;
-        String query = """
-            SELECT sort_value
-            FROM users
-            WHERE user_id = ?;
-        """;
-
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setString(1, this.boarUser.getUserID());
-
-            try (ResultSet results = statement.executeQuery()) {
-                if (results.next()) {
-                    sortVal = SortType.values()[results.getInt("sort_value")];
-                }
-            }
-        }
-
-        return sortVal;
+        UserRowData userRow = this.boarUser.baseQuery().getUserRow(connection);
+        return userRow == null ? SortType.RARITY_D : SortType.values()[userRow.sortValue()];
     }
 
-    public void setSortVal(Connection connection, SortType sortVal) throws SQLException {
-        String query = """
-            UPDATE users
-            SET sort_value = ?
-            WHERE user_id = ?;
-        """;
-
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setInt(1, sortVal.ordinal());
-            statement.setString(2, this.boarUser.getUserID());
-            statement.executeUpdate();
-        }
+    public void setSortVal(SortType sortVal) {
+        this.boarUser.baseQuery().queueSortValue(sortVal.ordinal());
     }
 
     public Map<String, BoarInfo> getOwnedBoarInfo(Connection connection) throws SQLException {
@@ -68,6 +68,8 @@ public class PowerupQueries implements Configured {
             statement2.execute();
         }
 
+        this.boarUser.baseQuery().invalidateUserRow();
+
         if (powerupID.equals("transmute")) {
             Log.info(this.boarUser.getUser(), this.getClass(), "Obtained +%,d %s".formatted(amount, powerupID));
         } else {
@@ -135,6 +137,8 @@ public class PowerupQueries implements Configured {
             statement.setString(4, powerupID);
             statement.executeUpdate();
         }
+
+        this.boarUser.baseQuery().invalidateUserRow();
     }
 
     public int getActiveMiracles(Connection connection) throws SQLException {
@@ -177,6 +181,8 @@ public class PowerupQueries implements Configured {
             statement.executeUpdate();
         }
 
+        this.boarUser.baseQuery().invalidateUserRow();
+
         this.usePowerup(connection, "miracle", amount, true);
         Log.debug(this.boarUser.getUser(), this.getClass(), "Activated miracles");
     }
@@ -242,6 +248,8 @@ public class PowerupQueries implements Configured {
             statement.executeUpdate();
         }
 
+        this.boarUser.baseQuery().invalidateUserRow();
+
         Log.debug(this.boarUser.getUser(), this.getClass(), "Used activate miracles (if user had any active)");
     }
 
@@ -281,5 +289,7 @@ public class PowerupQueries implements Configured {
             statement.setString(2, this.boarUser.getUserID());
             statement.executeUpdate();
         }
+
+        this.boarUser.baseQuery().invalidateUserRow();
     }
 }
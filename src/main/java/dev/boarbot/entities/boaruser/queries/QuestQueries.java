@@ -94,6 +94,9 @@ public class QuestQueries implements Configured {
             statement.executeUpdate();
         }
 
+        // The user_quests trigger rewrites quest_bless on the user's row
+        this.boarUser.baseQuery().invalidateUserRow();
+
         this.boarUser.baseQuery().updateHighestBlessings(connection);
 
         for (int i=0; i<claimQuests.size(); i++) {
@@ -125,6 +128,8 @@ public class QuestQueries implements Configured {
             statement.executeUpdate();
         }
 
+        this.boarUser.baseQuery().invalidateUserRow();
+
         this.giveBonus(connection);
         Log.debug(this.boarUser.getUser(), this.getClass(), "Claimed quest bonus");
 
@@ -269,6 +274,8 @@ public class QuestQueries implements Configured {
             statement.executeUpdate();
         }
 
+        this.boarUser.baseQuery().invalidateUserRow();
+
         List<IndivQuestConfig> questConfigs = new ArrayList<>();
         IndivQuestConfig questConfig = CONFIG.getQuestConfig().get(quest.toString()).getQuestVals()[questIndex/2];
         String rewardType = questConfig.getRewardType();
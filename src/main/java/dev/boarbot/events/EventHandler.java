@@ -2,6 +2,7 @@ package dev.boarbot.events;
 
 import dev.boarbot.util.data.DataUtil;
 import dev.boarbot.util.data.GuildDataUtil;
+import dev.boarbot.util.dispatch.RouteFanout;
 import dev.boarbot.util.generators.ImageGenerator;
 import dev.boarbot.util.logging.Log;
 import lombok.Getter;
@@ -14,9 +15,14 @@ import java.net.URISyntaxException;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 public abstract class EventHandler {
-    @Getter protected Set<String> failedGuilds = new HashSet<>();
+    protected final static int MAX_SENDS_IN_FLIGHT = 32;
+    private final static long SEND_TIMEOUT_MINUTES = 5;
+
+    @Getter protected Set<String> failedGuilds = ConcurrentHashMap.newKeySet();
 
     protected ImageGenerator imageGenerator;
     protected FileUpload currentImage;
@@ -43,22 +49,37 @@ public abstract class EventHandler {
 
         Log.debug(this.getClass(), "Gathered all guild channels");
 
+        RouteFanout fanout = new RouteFanout(this.getClass().getSimpleName(), MAX_SENDS_IN_FLIGHT, 1);
+        this.incNumPotential();
+
         for (String guildID : channels.keySet()) {
             for (TextChannel channel : channels.get(guildID)) {
-                try {
-                    incNumPotential();
-                    this.sendInteractive(channel);
-                } catch (RuntimeException exception) {
-                    this.decNumPotential();
-                    Log.error(this.getClass(), "A problem occurred when sending event", exception);
-                }
+                this.incNumPotential();
+
+                fanout.submit(channel.getId(), completion -> {
+                    try {
+                        this.sendInteractive(channel, completion);
+                    } catch (RuntimeException exception) {
+                        completion.failed();
+                        this.decNumPotential();
+                        Log.error(this.getClass(), "A problem occurred when sending event", exception);
+                    }
+                });
             }
         }
 
-        Log.debug(this.getClass(), "Sent to all channels");
+        this.decNumPotential();
+
+        if (!fanout.await(SEND_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+            Log.warn(this.getClass(), "Timed out waiting for event sends to finish");
+        }
+
+        Log.info(this.getClass(), fanout.getSummary());
     }
 
-    protected abstract void sendInteractive(TextChannel channel) throws InsufficientPermissionException;
+    protected abstract void sendInteractive(
+        TextChannel channel, RouteFanout.Completion completion
+    ) throws InsufficientPermissionException;
 
     protected abstract void handleResults();
     protected void handleAfterSend() {}
@@ -8,6 +8,7 @@ import dev.boarbot.entities.boaruser.Synchronizable;
 import dev.boarbot.interactives.event.PowerupEventInteractive;
 import dev.boarbot.util.data.DataUtil;
 import dev.boarbot.util.data.GuildDataUtil;
+import dev.boarbot.util.dispatch.RouteFanout;
 import dev.boarbot.util.generators.PowerupEventImageGenerator;
 import dev.boarbot.util.interaction.SpecialReply;
 import dev.boarbot.util.logging.ExceptionHandler;
@@ -26,12 +27,14 @@ import java.net.URISyntaxException;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 public class PowerupEventHandler extends EventHandler implements Synchronizable, Configured {
-    @Getter protected static final List<Message> curMessages = new ArrayList<>();
-    private static final Set<Message> priorMessages = new HashSet<>();
+    @Getter protected static final List<Message> curMessages = Collections.synchronizedList(new ArrayList<>());
+    private static final Map<TextChannel, List<String>> priorMessageIDs = new HashMap<>();
 
     @Getter private final Map<String, Long> userTimes = new ConcurrentHashMap<>();
     private final List<String> sortedUsers = new ArrayList<>();
@@ -74,8 +77,10 @@ public class PowerupEventHandler extends EventHandler implements Synchronizable,
     }
 
     @Override
-    protected void sendInteractive(TextChannel channel) {
-        PowerupEventInteractive interactive = new PowerupEventInteractive(channel, this.currentImage, this);
+    protected void sendInteractive(TextChannel channel, RouteFanout.Completion completion) {
+        PowerupEventInteractive interactive = new PowerupEventInteractive(
+            channel, this.currentImage, this, completion
+        );
         interactive.execute(null);
     }
 
@@ -94,17 +99,24 @@ public class PowerupEventHandler extends EventHandler implements Synchronizable,
     }
 
     private void setPriorMessages() {
-        priorMessages.clear();
+        priorMessageIDs.clear();
 
         if (!curMessages.isEmpty()) {
-            priorMessages.addAll(curMessages);
-            curMessages.clear();
+            synchronized (curMessages) {
+                for (Message msg : curMessages) {
+                    priorMessageIDs.computeIfAbsent(msg.getChannel().asTextChannel(), k -> new ArrayList<>())
+                        .add(msg.getId());
+                }
+
+                curMessages.clear();
+            }
+
             Log.debug(this.getClass(), "Retrieved prior Powerup Event messages from memory");
             return;
         }
 
         try (Connection connection = DataUtil.getConnection()) {
-            priorMessages.addAll(GuildDataUtil.getPowerupMessages(connection));
+            priorMessageIDs.putAll(GuildDataUtil.getPowerupMessageIDs(connection));
         } catch (SQLException exception) {
             Log.error(this.getClass(), "Failed to get prior Powerup Event messages", exception);
         }
@@ -113,20 +125,26 @@ public class PowerupEventHandler extends EventHandler implements Synchronizable,
     }
 
     private void removePriorEvent() {
-        Semaphore semaphore = new Semaphore(1);
+        RouteFanout fanout = new RouteFanout("Powerup Event removal", MAX_SENDS_IN_FLIGHT, 1);
 
-        for (Message msg : priorMessages) {
-            semaphore.acquireUninterruptibly();
-            msg.delete().queue(
-                m -> semaphore.release(),
-                e -> {
-                    semaphore.release();
-                    ExceptionHandler.handle(this.getClass(), e);
-                }
-            );
+        for (TextChannel channel : priorMessageIDs.keySet()) {
+            fanout.submit(channel.getId(), completion -> {
+                List<CompletableFuture<Void>> deletions = channel.purgeMessagesById(priorMessageIDs.get(channel));
+
+                CompletableFuture.allOf(deletions.toArray(new CompletableFuture[0])).whenComplete((v, e) -> {
+                    if (e == null) {
+                        completion.succeeded();
+                        return;
+                    }
+
+                    completion.failed();
+                    ExceptionHandler.handle(this.getClass(), e instanceof CompletionException ? e.getCause() : e);
+                });
+            });
         }
 
-        Log.debug(this.getClass(), "Removed prior Powerup Event messages");
+        fanout.await(1, TimeUnit.MINUTES);
+        Log.debug(this.getClass(), "Removed prior Powerup Event messages. %s".formatted(fanout.getSummary()));
     }
 
     @Override
@@ -205,19 +223,26 @@ public class PowerupEventHandler extends EventHandler implements Synchronizable,
             Log.error(this.getClass(), "Failed to generate Powerup Event end message", exception);
         }
 
-        Semaphore semaphore = new Semaphore(1);
+        MessageEditData editData = MessageEditData.fromCreateData(msgData);
+        RouteFanout fanout = new RouteFanout("Powerup Event end", MAX_SENDS_IN_FLIGHT, 1);
+        List<Message> endMessages;
+
+        synchronized (curMessages) {
+            endMessages = new ArrayList<>(curMessages);
+        }
 
-        for (Message msg : curMessages) {
-            semaphore.acquireUninterruptibly();
-            msg.editMessage(MessageEditData.fromCreateData(msgData)).queue(
-                m -> semaphore.release(),
+        for (Message msg : endMessages) {
+            fanout.submit(msg.getChannelId(), completion -> msg.editMessage(editData).queue(
+                m -> completion.succeeded(),
                 e -> {
-                    semaphore.release();
+                    completion.failed();
                     ExceptionHandler.handle(this.getClass(), e);
                 }
-            );
+            ));
         }
 
-        Log.debug(this.getClass(), "Edited all Powerup Event messages");
+        fanout.whenFinished(
+            () -> Log.debug(this.getClass(), "Edited all Powerup Event messages. %s".formatted(fanout.getSummary()))
+        );
     }
 }
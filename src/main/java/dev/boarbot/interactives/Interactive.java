@@ -1,31 +1,38 @@
 package dev.boarbot.interactives;
 
-import dev.boarbot.BoarBotApp;
 import dev.boarbot.api.util.Configured;
 import dev.boarbot.util.interaction.InteractionUtil;
 import dev.boarbot.util.interactive.StopType;
 import dev.boarbot.util.logging.Log;
 import dev.boarbot.util.time.TimeUtil;
+import dev.boarbot.util.time.WheelTimer;
 import lombok.Getter;
 import net.dv8tion.jda.api.events.interaction.component.GenericComponentInteractionCreateEvent;
 import net.dv8tion.jda.api.interactions.components.ActionRow;
 import net.dv8tion.jda.api.utils.messages.MessageEditData;
 
-import java.util.concurrent.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 public abstract class Interactive implements Configured {
-    protected static final ConcurrentMap<String, Interactive> interactives = BoarBotApp.getBot().getInteractives();
+    private volatile WheelTimer.Timeout timeout;
+    private final CompletableFuture<Void> constructed = new CompletableFuture<>();
+    private Interactive displaced;
 
-    private ScheduledFuture<?> future;
+    // A lock rather than a monitor, so a handler blocked on JDBC or Discord inside it doesn't pin its virtual thread
+    protected final ReentrantLock executeLock = new ReentrantLock();
 
     @Getter protected final String interactiveID;
     @Getter protected final String guildID;
+    @Getter private final String baseID;
+    @Getter private final String userID;
 
     protected long waitTime;
     protected long curStopTime;
     protected final long hardStopTime;
     protected long lastEndTime = 0;
-    protected boolean isStopped = false;
+    protected volatile boolean isStopped = false;
 
     protected Interactive(String interactiveID, String guildID) {
         this(interactiveID, guildID, NUMS.getInteractiveIdle(), NUMS.getInteractiveHardStop());
@@ -42,39 +49,46 @@ public abstract class Interactive implements Configured {
         this.curStopTime = TimeUtil.getCurMilli() + waitTime;
         this.hardStopTime = TimeUtil.getCurMilli() + hardStop;
 
-        if (checkDupe) {
-            String duplicateInteractiveKey = this.findDuplicateKey();
-            if (duplicateInteractiveKey != null) {
-                interactives.get(duplicateInteractiveKey).stop(StopType.EXPIRED);
-            }
-        }
+        int userIndex = interactiveID.indexOf(',');
+        this.baseID = userIndex == -1 ? interactiveID : interactiveID.substring(0, userIndex);
+        this.userID = this instanceof UserInteractive && userIndex != -1
+            ? interactiveID.substring(userIndex + 1)
+            : null;
 
-        interactives.put(interactiveID, this);
-        this.future = InteractionUtil.scheduler.schedule(this::tryStop, waitTime, TimeUnit.MILLISECONDS);
+        this.timeout = InteractionUtil.scheduler.schedule(this::tryStop, waitTime, TimeUnit.MILLISECONDS);
+        this.displaced = InteractiveRegistry.register(this, checkDupe);
     }
 
-    protected String findDuplicateKey() {
-        for (String key : interactives.keySet()) {
-            boolean isSameUser = this instanceof UserInteractive && key.endsWith(this.interactiveID.split(",")[1]);
-            boolean isSameType = this.getClass().equals(interactives.get(key).getClass());
-
-            if (isSameUser && isSameType) {
-                return key;
-            }
+    /**
+     * Marks construction as finished and stops the interactive this one replaced. Called by {@link InteractiveFactory}
+     * once the subclass constructor returns, and the replaced interactive is only stopped after its own construction
+     * finished, so a concurrent registration never stops a half-built instance.
+     */
+    void finishConstruction() {
+        Interactive duplicate = this.displaced;
+        this.displaced = null;
+        this.constructed.complete(null);
+
+        if (duplicate != null) {
+            duplicate.constructed.thenRun(() -> duplicate.stop(StopType.EXPIRED));
         }
-
-        return null;
     }
 
-    public synchronized void attemptExecute(GenericComponentInteractionCreateEvent compEvent, long startTime) {
-        if (startTime < this.lastEndTime) {
-            Log.debug(compEvent.getUser(), this.getClass(), "Clicked too fast!");
-            return;
-        }
+    public void attemptExecute(GenericComponentInteractionCreateEvent compEvent, long startTime) {
+        this.executeLock.lock();
 
-        this.curStopTime = TimeUtil.getCurMilli() + this.waitTime;
-        this.execute(compEvent);
-        this.lastEndTime = TimeUtil.getCurMilli() + this.waitTime;
+        try {
+            if (startTime < this.lastEndTime) {
+                Log.debug(compEvent.getUser(), this.getClass(), "Clicked too fast!");
+                return;
+            }
+
+            this.curStopTime = TimeUtil.getCurMilli() + this.waitTime;
+            this.execute(compEvent);
+            this.lastEndTime = TimeUtil.getCurMilli() + this.waitTime;
+        } finally {
+            this.executeLock.unlock();
+        }
     }
 
     public abstract void execute(GenericComponentInteractionCreateEvent compEvent);
@@ -84,6 +98,21 @@ public abstract class Interactive implements Configured {
     public abstract void updateComponents(boolean stopping, ActionRow... rows);
     public abstract void deleteInteractive(boolean stopping);
 
+    /**
+     * Whether an update should be dropped because the interactive already stopped. Dropped updates go through
+     * {@link #onUpdateSkipped()} so anything waiting on them is still released.
+     */
+    protected boolean skipUpdate(boolean stopping) {
+        if (!this.isStopped || stopping) {
+            return false;
+        }
+
+        this.onUpdateSkipped();
+        return true;
+    }
+
+    protected void onUpdateSkipped() {}
+
     private void tryStop() {
         try {
             long curTime = TimeUtil.getCurMilli();
@@ -92,7 +121,7 @@ public abstract class Interactive implements Configured {
                 this.stop(StopType.EXPIRED);
             } else if (!this.isStopped) {
                 long newWaitTime = Math.min(this.curStopTime - curTime, hardStopTime - curTime);
-                this.future = InteractionUtil.scheduler.schedule(this::tryStop, newWaitTime, TimeUnit.MILLISECONDS);
+                this.timeout = InteractionUtil.scheduler.schedule(this::tryStop, newWaitTime, TimeUnit.MILLISECONDS);
             }
         } catch (RuntimeException exception) {
             Log.error(this.getClass(), "Failed to stop interactive", exception);
@@ -106,7 +135,7 @@ public abstract class Interactive implements Configured {
     }
 
     public Interactive removeInteractive() {
-        this.future.cancel(false);
-        return interactives.remove(this.interactiveID);
+        this.timeout.cancel();
+        return InteractiveRegistry.unregister(this);
     }
 }
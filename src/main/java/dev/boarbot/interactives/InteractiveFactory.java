@@ -19,51 +19,56 @@ import net.dv8tion.jda.api.interactions.Interaction;
 import java.util.List;
 
 public class InteractiveFactory {
-    public static synchronized Interactive constructInteractive(
+    public static Interactive constructInteractive(
         SlashCommandInteractionEvent initEvent, Class<? extends Interactive> interactiveClass
     ) {
         if (interactiveClass == SetupInteractive.class) {
-            return new SetupInteractive(initEvent);
+            return finish(new SetupInteractive(initEvent));
         } else if (interactiveClass == DailyNotifyInteractive.class) {
-            return new DailyNotifyInteractive(initEvent);
+            return finish(new DailyNotifyInteractive(initEvent));
         } else if (interactiveClass == TopInteractive.class) {
-            return new TopInteractive(initEvent);
+            return finish(new TopInteractive(initEvent));
         } else if (interactiveClass == ReportInteractive.class) {
-            return new ReportInteractive(initEvent);
+            return finish(new ReportInteractive(initEvent));
         } else if (interactiveClass == WipeInteractive.class) {
-            return new WipeInteractive(initEvent);
+            return finish(new WipeInteractive(initEvent));
         } else if (interactiveClass == HelpInteractive.class) {
-            return new HelpInteractive(initEvent);
+            return finish(new HelpInteractive(initEvent));
         } else if (interactiveClass == MarketInteractive.class) {
-            return new MarketInteractive(initEvent);
+            return finish(new MarketInteractive(initEvent));
         }
 
         throw new IllegalArgumentException("Not a valid interactive class: " + interactiveClass);
     }
 
-    public static synchronized Interactive constructItemInteractive(
+    public static Interactive constructItemInteractive(
         Interaction interaction,
         List<ItemImageGenerator> itemGens,
         List<String> boarIDs,
         List<Integer> boarEditions,
         boolean isMsg
     ) {
-        return new ItemInteractive(interaction, itemGens, boarIDs, boarEditions, isMsg);
+        return finish(new ItemInteractive(interaction, itemGens, boarIDs, boarEditions, isMsg));
     }
 
-    public static synchronized Interactive constructDailyPowerupInteractive(
+    public static Interactive constructDailyPowerupInteractive(
         SlashCommandInteractionEvent initEvent, DailySubcommand callingObj
     ) {
-        return new DailyPowerupInteractive(initEvent, callingObj);
+        return finish(new DailyPowerupInteractive(initEvent, callingObj));
     }
 
-    public static synchronized Interactive constructMegaMenuInteractive(
+    public static Interactive constructMegaMenuInteractive(
         SlashCommandInteractionEvent initEvent, MegaMenuView curView
     ) {
-        return new MegaMenuInteractive(initEvent, curView);
+        return finish(new MegaMenuInteractive(initEvent, curView));
     }
 
-    public static synchronized Interactive constructGiftInteractive(Interaction initEvent, boolean isMsg) {
-        return new BoarGiftInteractive(initEvent, isMsg);
+    public static Interactive constructGiftInteractive(Interaction initEvent, boolean isMsg) {
+        return finish(new BoarGiftInteractive(initEvent, isMsg));
+    }
+
+    private static Interactive finish(Interactive interactive) {
+        interactive.finishConstruction();
+        return interactive;
     }
 }
@@ -0,0 +1,55 @@
+package dev.boarbot.interactives;
+
+import dev.boarbot.BoarBotApp;
+import dev.boarbot.interactives.event.EventInteractive;
+import dev.boarbot.interactives.gift.BoarGiftInteractive;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Indexes live interactives by their full ID, by base ID (the part before the user ID) and by user and class, so
+ * component routing and duplicate checks are single map lookups instead of scans over every interactive.
+ */
+public final class InteractiveRegistry {
+    private final static ConcurrentMap<String, Interactive> interactives = BoarBotApp.getBot().getInteractives();
+    private final static ConcurrentMap<String, Interactive> byBaseID = new ConcurrentHashMap<>();
+    private final static ConcurrentMap<UserTypeKey, Interactive> byUserType = new ConcurrentHashMap<>();
+
+    private record UserTypeKey(String userID, Class<? extends Interactive> type) {}
+
+    static Interactive register(Interactive interactive, boolean indexUser) {
+        interactives.put(interactive.getInteractiveID(), interactive);
+        byBaseID.put(interactive.getBaseID(), interactive);
+
+        if (!indexUser || interactive.getUserID() == null) {
+            return null;
+        }
+
+        return byUserType.put(new UserTypeKey(interactive.getUserID(), interactive.getClass()), interactive);
+    }
+
+    static Interactive unregister(Interactive interactive) {
+        byBaseID.remove(interactive.getBaseID(), interactive);
+
+        if (interactive.getUserID() != null) {
+            byUserType.remove(new UserTypeKey(interactive.getUserID(), interactive.getClass()), interactive);
+        }
+
+        return interactives.remove(interactive.getInteractiveID());
+    }
+
+    public static Interactive getUserInteractive(String userID, Class<? extends Interactive> type) {
+        return byUserType.get(new UserTypeKey(userID, type));
+    }
+
+    public static Interactive getEventInteractive(String baseID) {
+        Interactive interactive = byBaseID.get(baseID);
+        return interactive instanceof EventInteractive ? interactive : null;
+    }
+
+    public static Interactive getGiftInteractive(String baseID) {
+        Interactive interactive = byBaseID.get(baseID);
+        return interactive instanceof BoarGiftInteractive ? interactive : null;
+    }
+}
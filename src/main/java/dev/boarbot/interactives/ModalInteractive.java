@@ -22,25 +22,33 @@ public abstract class ModalInteractive extends UserInteractive {
         super(interaction, isMsg, waitTime, hardTime);
     }
 
-    public synchronized void attemptExecute(
+    public void attemptExecute(
         GenericComponentInteractionCreateEvent compEvent, ModalInteractionEvent modalEvent, long startTime
     ) {
-        if (startTime < this.lastEndTime) {
-            Log.debug(
-                compEvent != null ? compEvent.getUser() : modalEvent.getUser(), this.getClass(), "Interacted too fast!"
-            );
-            return;
+        this.executeLock.lock();
+
+        try {
+            if (startTime < this.lastEndTime) {
+                Log.debug(
+                    compEvent != null ? compEvent.getUser() : modalEvent.getUser(),
+                    this.getClass(),
+                    "Interacted too fast!"
+                );
+                return;
+            }
+
+            this.curStopTime = TimeUtil.getCurMilli() + NUMS.getInteractiveIdle();
+
+            if (compEvent != null) {
+                this.execute(compEvent);
+            } else if (modalEvent != null) {
+                this.modalExecute(modalEvent);
+            }
+
+            this.lastEndTime = TimeUtil.getCurMilli() + NUMS.getInteractiveIdle();
+        } finally {
+            this.executeLock.unlock();
         }
-
-        this.curStopTime = TimeUtil.getCurMilli() + NUMS.getInteractiveIdle();
-
-        if (compEvent != null) {
-            this.execute(compEvent);
-        } else if (modalEvent != null) {
-            this.modalExecute(modalEvent);
-        }
-
-        this.lastEndTime = TimeUtil.getCurMilli() + NUMS.getInteractiveIdle();
     }
 
     public abstract void modalExecute(ModalInteractionEvent modalEvent);
@@ -56,7 +56,7 @@ public abstract class UserInteractive extends Interactive {
 
     @Override
     public void updateInteractive(boolean stopping, MessageEditData editedMsg) {
-        if (this.isStopped && !stopping) {
+        if (this.skipUpdate(stopping)) {
             return;
         }
 
@@ -87,7 +87,7 @@ public abstract class UserInteractive extends Interactive {
 
     @Override
     public void updateComponents(boolean stopping, ActionRow... rows) {
-        if (this.isStopped && !stopping) {
+        if (this.skipUpdate(stopping)) {
             return;
         }
 
@@ -111,7 +111,7 @@ public abstract class UserInteractive extends Interactive {
 
     @Override
     public void deleteInteractive(boolean stopping) {
-        if (this.isStopped && !stopping) {
+        if (this.skipUpdate(stopping)) {
             return;
         }
 
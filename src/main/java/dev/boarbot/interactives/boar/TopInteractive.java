@@ -6,6 +6,7 @@ import dev.boarbot.bot.config.components.SelectOptionConfig;
 import dev.boarbot.bot.config.modals.ModalConfig;
 import dev.boarbot.interactives.ModalInteractive;
 import dev.boarbot.modals.ModalHandler;
+import dev.boarbot.util.data.top.TopBoards;
 import dev.boarbot.util.data.top.TopData;
 import dev.boarbot.util.data.top.TopType;
 import dev.boarbot.util.generators.TopImageGenerator;
@@ -31,20 +32,16 @@ import net.dv8tion.jda.internal.interactions.component.StringSelectMenuImpl;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 public class TopInteractive extends ModalInteractive implements Configured {
     private static final int ENTRIES_PER_PAGE = 40;
 
     private int page;
-    private String username;
+    private String userID;
     private Integer usernameIndex;
     private int maxPage;
     private TopType boardType;
 
-    public final static Map<TopType, Map<String, TopData>> cachedBoards = new ConcurrentHashMap<>();
-    public final static Map<TopType, List<String>> indexedBoards = new ConcurrentHashMap<>();
-
     private final static Map<String, IndivComponentConfig> COMPONENTS = CONFIG.getComponentConfig().getLeaderboard();
     private final static Map<String, ModalConfig> MODALS = CONFIG.getModalConfig();
     private List<SelectOption> navOptions = new ArrayList<>();
@@ -59,21 +56,22 @@ public class TopInteractive extends ModalInteractive implements Configured {
         this.setPage(0);
 
         if (event.getOption("user") != null) {
-            String usernameInput = Objects.requireNonNull(event.getOption("user")).getAsUser().getName();
+            String userIDInput = Objects.requireNonNull(event.getOption("user")).getAsUser().getId();
 
-            boolean boardHasUser = cachedBoards.get(this.boardType).containsKey(usernameInput);
-            if (boardHasUser) {
-                this.username = usernameInput;
-                this.usernameIndex = cachedBoards.get(this.boardType).get(usernameInput).index();
+            TopData userData = TopBoards.getBoard(this.boardType).get(userIDInput);
+            if (userData != null) {
+                this.userID = userIDInput;
+                this.usernameIndex = userData.index();
                 this.setPage(this.usernameIndex / ENTRIES_PER_PAGE);
             }
         } else if (event.getOption("page") != null) {
             this.setPage(Objects.requireNonNull(event.getOption("page")).getAsInt() - 1);
         }
 
-        if (event.getOption("user") == null && cachedBoards.get(this.boardType).containsKey(this.user.getName())) {
-            this.username = this.user.getName();
-            this.usernameIndex = cachedBoards.get(this.boardType).get(this.user.getName()).index();
+        TopData selfData = TopBoards.getBoard(this.boardType).get(this.user.getId());
+        if (event.getOption("user") == null && selfData != null) {
+            this.userID = this.user.getId();
+            this.usernameIndex = selfData.index();
         }
 
         this.makeSelectOptions(COMPONENTS.get("boardSelect"));
@@ -121,15 +119,16 @@ public class TopInteractive extends ModalInteractive implements Configured {
             case "RIGHT" -> this.setPage(this.page + 1);
         }
 
-        if (cachedBoards.get(this.boardType).containsKey(this.username)) {
-            this.usernameIndex = cachedBoards.get(this.boardType).get(this.username).index();
+        TopData userData = this.userID == null ? null : TopBoards.getBoard(this.boardType).get(this.userID);
+        if (userData != null) {
+            this.usernameIndex = userData.index();
         }
 
         this.sendResponse();
     }
 
     private void setMaxPage() {
-        this.maxPage = Math.max((indexedBoards.get(this.boardType).size()-1) / ENTRIES_PER_PAGE, 0);
+        this.maxPage = Math.max((TopBoards.getBoard(this.boardType).size()-1) / ENTRIES_PER_PAGE, 0);
     }
 
     private void setPage(int page) {
@@ -150,19 +149,21 @@ public class TopInteractive extends ModalInteractive implements Configured {
 
         try {
             if (!usernameInput.isEmpty()) {
-                this.username = null;
+                this.userID = null;
                 this.usernameIndex = null;
             } else {
-                this.username = this.user.getName();
-                if (cachedBoards.get(this.boardType).containsKey(this.username)) {
-                    this.usernameIndex = cachedBoards.get(this.boardType).get(this.username).index();
+                this.userID = this.user.getId();
+                TopData selfData = TopBoards.getBoard(this.boardType).get(this.userID);
+                if (selfData != null) {
+                    this.usernameIndex = selfData.index();
                 }
             }
 
-            boolean boardHasUser = cachedBoards.get(this.boardType).containsKey(usernameInput);
-            if (boardHasUser) {
-                this.username = usernameInput;
-                this.usernameIndex = cachedBoards.get(this.boardType).get(usernameInput).index();
+            String userIDInput = TopBoards.getUserID(usernameInput);
+            TopData userData = userIDInput == null ? null : TopBoards.getBoard(this.boardType).get(userIDInput);
+            if (userData != null) {
+                this.userID = userIDInput;
+                this.usernameIndex = userData.index();
                 this.setPage(this.usernameIndex / ENTRIES_PER_PAGE);
 
                 this.execute(null);
@@ -242,7 +242,7 @@ public class MarketInteractive extends ModalInteractive implements Synchronizabl
                         throw new NumberFormatException();
                     }
 
-                    MarketData marketData = MarketDataUtil.getMarketDataItem(this.focusedID, true, connection);
+                    MarketData marketData = MarketDataUtil.getMarketDataItem(this.focusedID, connection);
                     MarketTransactionData buyData = MarketDataUtil.calculateBuyCost(this.focusedID, marketData, input);
                     long userBucks = this.boarUser.baseQuery().getBucks(connection);
 
@@ -371,7 +371,7 @@ public class MarketInteractive extends ModalInteractive implements Synchronizabl
                         return;
                     }
 
-                    MarketData marketData = MarketDataUtil.getMarketDataItem(this.focusedID, true, connection);
+                    MarketData marketData = MarketDataUtil.getMarketDataItem(this.focusedID, connection);
                     MarketTransactionData sellData = MarketDataUtil.calculateSellCost(
                         this.focusedID, marketData, input
                     );
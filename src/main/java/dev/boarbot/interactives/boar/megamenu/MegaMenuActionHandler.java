@@ -13,6 +13,7 @@ import dev.boarbot.interactives.ItemInteractive;
 import dev.boarbot.util.boar.BoarObtainType;
 import dev.boarbot.util.boar.BoarUtil;
 import dev.boarbot.util.data.DataUtil;
+import dev.boarbot.util.data.UnitOfWork;
 import dev.boarbot.util.generators.OverlayImageGenerator;
 import dev.boarbot.util.graphics.TextUtil;
 import dev.boarbot.util.interactive.StopType;
@@ -43,31 +44,23 @@ class MegaMenuActionHandler implements Configured {
 
     public void doAction(BoarUser boarUser) {
         if (this.interactive.filterOpen) {
-            try (Connection connection = DataUtil.getConnection()) {
-                boarUser.megaQuery().setFilterBits(connection, this.interactive.filterBits);
-                Log.debug(boarUser.getUser(), this.getClass(), "Set filter bits to " + this.interactive.filterBits);
-            } catch (SQLException exception) {
-                this.interactive.stop(StopType.EXCEPTION);
-                Log.error(this.user, this.getClass(), "Failed to update filter bits", exception);
-            }
+            boarUser.megaQuery().setFilterBits(this.interactive.filterBits);
+            Log.debug(boarUser.getUser(), this.getClass(), "Set filter bits to " + this.interactive.filterBits);
         } else if (this.interactive.sortOpen) {
-            try (Connection connection = DataUtil.getConnection()) {
-                boarUser.megaQuery().setSortVal(connection, this.interactive.sortVal);
-                Log.debug(boarUser.getUser(), this.getClass(), "Set sort value to " + this.interactive.sortVal);
-            } catch (SQLException exception) {
-                this.interactive.stop(StopType.EXCEPTION);
-                Log.error(this.user, this.getClass(), "Failed to update sort value", exception);
-            }
+            boarUser.megaQuery().setSortVal(this.interactive.sortVal);
+            Log.debug(boarUser.getUser(), this.getClass(), "Set sort value to " + this.interactive.sortVal);
         } else if (this.interactive.interactType != null) {
             this.curBoarEntry = this.interactive.curBoarEntry;
             this.curRarityKey = this.interactive.curRarityKey;
 
-            try (Connection connection = DataUtil.getConnection()) {
+            try (UnitOfWork unit = DataUtil.beginUnitOfWork()) {
                 switch (this.interactive.interactType) {
-                    case FAVORITE -> this.doFavorite(boarUser, connection);
-                    case CLONE -> this.doClone(boarUser, connection);
-                    case TRANSMUTE -> this.doTransmute(boarUser, connection);
+                    case FAVORITE -> this.doFavorite(boarUser, unit.getConnection());
+                    case CLONE -> this.doClone(boarUser, unit);
+                    case TRANSMUTE -> this.doTransmute(boarUser, unit);
                 }
+
+                unit.commit();
             } catch (SQLException exception) {
                 this.interactive.stop(StopType.EXCEPTION);
                 Log.error(
@@ -145,7 +138,8 @@ class MegaMenuActionHandler implements Configured {
         }
     }
 
-    public void doClone(BoarUser boarUser, Connection connection) throws SQLException {
+    public void doClone(BoarUser boarUser, UnitOfWork unit) throws SQLException {
+        Connection connection = unit.getConnection();
         String boarName = BOARS.get(this.curBoarEntry.getKey()).getName();
         int numTryClone = this.interactive.numTryClone;
 
@@ -239,14 +233,14 @@ class MegaMenuActionHandler implements Configured {
             firstBoarIDs
         );
 
-        QuestUtil.sendQuestClaimMessage(
-            this.interactive.compEvent.getHook(),
+        List<QuestInfo> questInfos = Arrays.asList(
             boarUser.questQuery().addProgress(QuestType.COLLECT_RARITY, newBoarIDs, connection),
             boarUser.questQuery().addProgress(QuestType.CLONE_BOARS, newBoarIDs.size(), connection),
             boarUser.questQuery().addProgress(QuestType.CLONE_RARITY, newBoarIDs, connection)
         );
 
-        CompletableFuture.runAsync(() -> {
+        unit.afterCommit(() -> QuestUtil.sendQuestClaimMessage(this.interactive.compEvent.getHook(), questInfos));
+        unit.afterCommit(() -> CompletableFuture.runAsync(() -> {
             try {
                 this.interactive.acknowledgeImageGen = new OverlayImageGenerator(
                     null, STRS.getCompCloneSuccess().formatted("<>" + this.curRarityKey + "<>" + boarName)
@@ -261,10 +255,11 @@ class MegaMenuActionHandler implements Configured {
                     this.user, this.getClass(), "A problem occurred when sending clone item interactive", exception
                 );
             }
-        });
+        }));
     }
 
-    public void doTransmute(BoarUser boarUser, Connection connection) throws SQLException {
+    public void doTransmute(BoarUser boarUser, UnitOfWork unit) throws SQLException {
+        Connection connection = unit.getConnection();
         String boarName = BOARS.get(this.curBoarEntry.getKey()).getName();
 
         List<String> newBoarIDs = new ArrayList<>();
@@ -334,12 +329,10 @@ class MegaMenuActionHandler implements Configured {
 
         boarUser.powQuery().usePowerup(connection, "transmute", this.interactive.numTransmute, true);
 
-        QuestUtil.sendQuestClaimMessage(
-            this.interactive.compEvent.getHook(),
-            boarUser.questQuery().addProgress(QuestType.COLLECT_RARITY, newBoarIDs, connection)
-        );
+        QuestInfo questInfo = boarUser.questQuery().addProgress(QuestType.COLLECT_RARITY, newBoarIDs, connection);
 
-        CompletableFuture.runAsync(() -> {
+        unit.afterCommit(() -> QuestUtil.sendQuestClaimMessage(this.interactive.compEvent.getHook(), questInfo));
+        unit.afterCommit(() -> CompletableFuture.runAsync(() -> {
             try {
                 String newBoarName = BOARS.get(newBoarIDs.getFirst()).getName();
                 String newBoarRarityKey = BoarUtil.findRarityKey(newBoarIDs.getFirst());
@@ -378,7 +371,7 @@ class MegaMenuActionHandler implements Configured {
                     exception
                 );
             }
-        });
+        }));
     }
 
     public void doCharm(BoarUser boarUser, Connection connection) throws SQLException {
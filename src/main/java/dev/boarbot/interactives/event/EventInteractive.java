@@ -11,6 +11,7 @@ import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
 import net.dv8tion.jda.api.events.interaction.component.GenericComponentInteractionCreateEvent;
 import net.dv8tion.jda.api.interactions.components.ActionRow;
+import net.dv8tion.jda.api.requests.RestAction;
 import net.dv8tion.jda.api.utils.messages.MessageEditData;
 
 import java.util.concurrent.Semaphore;
@@ -41,7 +42,7 @@ public abstract class EventInteractive extends Interactive {
 
     @Override
     public void updateComponents(boolean stopping, ActionRow... rows) {
-        if (this.isStopped && !stopping) {
+        if (this.skipUpdate(stopping)) {
             return;
         }
 
@@ -49,20 +50,12 @@ public abstract class EventInteractive extends Interactive {
             throw new IllegalStateException("The interactive hasn't been initialized yet!");
         }
 
-        semaphore.acquireUninterruptibly();
-
-        this.msg.editMessageComponents(rows).queue(
-            m -> semaphore.release(),
-            e -> {
-                semaphore.release();
-                ExceptionHandler.messageHandle(this.msg, this, e);
-            }
-        );
+        this.queueWithPermit(this.msg.editMessageComponents(rows));
     }
 
     @Override
     public void deleteInteractive(boolean stopping) {
-        if (this.isStopped && !stopping) {
+        if (this.skipUpdate(stopping)) {
             return;
         }
 
@@ -70,15 +63,7 @@ public abstract class EventInteractive extends Interactive {
             throw new IllegalStateException("The interactive hasn't been initialized yet!");
         }
 
-        semaphore.acquireUninterruptibly();
-
-        this.msg.delete().queue(
-            m -> semaphore.release(),
-            e -> {
-                semaphore.release();
-                ExceptionHandler.messageHandle(this.msg, this, e);
-            }
-        );
+        this.queueWithPermit(this.msg.delete());
     }
 
     @Override
@@ -91,29 +76,33 @@ public abstract class EventInteractive extends Interactive {
         }
 
         if (type.equals(StopType.EXCEPTION)) {
-            semaphore.acquireUninterruptibly();
+            this.queueWithPermit(this.msg.editMessage(MessageEditData.fromCreateData(SpecialReply.getErrorMsgData())));
+            return;
+        }
+
+        Log.debug(this.getClass(), "Interactive expired");
+        this.queueWithPermit(this.msg.editMessageComponents());
+    }
 
-            this.msg.editMessage(MessageEditData.fromCreateData(SpecialReply.getErrorMsgData())).queue(
+    /**
+     * Queues an edit of the event message while holding {@link #semaphore}, releasing it when the edit completes or
+     * if queueing it throws.
+     */
+    protected void queueWithPermit(RestAction<?> action) {
+        semaphore.acquireUninterruptibly();
+
+        try {
+            action.queue(
                 m -> semaphore.release(),
                 e -> {
                     semaphore.release();
                     ExceptionHandler.messageHandle(this.msg, this, e);
                 }
             );
-
-            return;
+        } catch (RuntimeException exception) {
+            semaphore.release();
+            throw exception;
         }
-
-        semaphore.acquireUninterruptibly();
-
-        Log.debug(this.getClass(), "Interactive expired");
-        this.msg.editMessageComponents().queue(
-            m -> semaphore.release(),
-            e -> {
-                semaphore.release();
-                ExceptionHandler.messageHandle(this.msg, this, e);
-            }
-        );
     }
 
     @Override
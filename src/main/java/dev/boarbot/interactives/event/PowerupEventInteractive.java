@@ -13,6 +13,7 @@ import dev.boarbot.util.logging.Log;
 import dev.boarbot.util.quests.QuestUtil;
 import dev.boarbot.util.quests.QuestType;
 import dev.boarbot.util.data.DataUtil;
+import dev.boarbot.util.dispatch.RouteFanout;
 import dev.boarbot.util.generators.EmbedImageGenerator;
 import dev.boarbot.util.interactive.InteractiveUtil;
 import dev.boarbot.util.interactive.StopType;
@@ -38,11 +39,14 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class PowerupEventInteractive extends EventInteractive implements Synchronizable {
     private final IndivPromptConfig promptConfig;
 
     private final PowerupEventHandler eventHandler;
+    private final RouteFanout.Completion sendCompletion;
+    private final AtomicBoolean sendStarted = new AtomicBoolean();
     private final String powerupID;
     private final Map<String, Long> userTimes;
     private final Map<String, Boolean> failUsers;
@@ -59,10 +63,16 @@ public class PowerupEventInteractive extends EventInteractive implements Synchro
 
     private final static Button tabulatingBtn = new ButtonImpl("x", "Tabulating...", ButtonStyle.SECONDARY, true, null);
 
-    public PowerupEventInteractive(TextChannel channel, FileUpload eventImage, PowerupEventHandler eventHandler) {
+    public PowerupEventInteractive(
+        TextChannel channel,
+        FileUpload eventImage,
+        PowerupEventHandler eventHandler,
+        RouteFanout.Completion sendCompletion
+    ) {
         super(channel, NUMS.getPowDurationMillis(), NUMS.getPowDurationMillis());
         this.eventImage = eventImage;
         this.eventHandler = eventHandler;
+        this.sendCompletion = sendCompletion;
         this.powerupID = eventHandler.getPowerupID();
         this.userTimes = eventHandler.getUserTimes();
         this.failUsers = eventHandler.getFailUsers();
@@ -154,24 +164,26 @@ public class PowerupEventInteractive extends EventInteractive implements Synchro
 
     @Override
     public void updateInteractive(boolean stopping, MessageEditData editedMsg) {
-        if (this.isStopped && !stopping) {
+        if (this.skipUpdate(stopping)) {
             return;
         }
 
-        semaphore.acquireUninterruptibly();
-
         if (this.msg == null) {
+            if (!this.sendStarted.compareAndSet(false, true)) {
+                return;
+            }
+
             try {
                 this.channel.sendMessage(MessageCreateData.fromEditData(editedMsg)).queue(
                     msg -> {
-                        semaphore.release();
+                        this.sendCompletion.succeeded();
                         this.msg = msg;
                         PowerupEventHandler.getCurMessages().add(this.msg);
                         this.eventHandler.decNumPotential();
                         this.eventHandler.incNumActive();
                     },
                     e -> {
-                        semaphore.release();
+                        this.sendCompletion.failed();
                         this.stop(StopType.EXCEPTION);
 
                         if (e instanceof InsufficientPermissionException) {
@@ -183,7 +195,7 @@ public class PowerupEventInteractive extends EventInteractive implements Synchro
                     }
                 );
             } catch (InsufficientPermissionException exception) {
-                semaphore.release();
+                this.sendCompletion.failed();
                 this.stop(StopType.EXCEPTION);
                 this.eventHandler.decNumPotential();
                 this.eventHandler.getFailedGuilds().add(this.channel.getGuild().getId());
@@ -193,13 +205,16 @@ public class PowerupEventInteractive extends EventInteractive implements Synchro
             return;
         }
 
-        this.msg.editMessage(editedMsg).queue(
-            m -> semaphore.release(),
-            e -> {
-                semaphore.release();
-                ExceptionHandler.messageHandle(this.msg, this, e);
-            }
-        );
+        this.queueWithPermit(this.msg.editMessage(editedMsg));
+    }
+
+    @Override
+    protected void onUpdateSkipped() {
+        // Stopped before the first send, so the fanout route and potential count would otherwise never be released
+        if (this.msg == null && this.sendStarted.compareAndSet(false, true)) {
+            this.sendCompletion.failed();
+            this.eventHandler.decNumPotential();
+        }
     }
 
     public void doSynchronizedAction(BoarUser boarUser) {
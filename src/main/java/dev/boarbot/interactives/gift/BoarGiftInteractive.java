@@ -8,9 +8,11 @@ import dev.boarbot.bot.config.items.SubOutcomeConfig;
 import dev.boarbot.entities.boaruser.BoarUser;
 import dev.boarbot.entities.boaruser.BoarUserFactory;
 import dev.boarbot.entities.boaruser.Synchronizable;
+import dev.boarbot.entities.boaruser.UserLockManager;
 import dev.boarbot.interactives.Interactive;
 import dev.boarbot.interactives.ItemInteractive;
 import dev.boarbot.interactives.UserInteractive;
+import dev.boarbot.util.interaction.InteractionUtil;
 import dev.boarbot.util.interaction.SpecialReply;
 import dev.boarbot.util.logging.ExceptionHandler;
 import dev.boarbot.util.logging.Log;
@@ -20,6 +22,7 @@ import dev.boarbot.util.boar.BoarObtainType;
 import dev.boarbot.util.boar.BoarUtil;
 import dev.boarbot.util.quests.QuestType;
 import dev.boarbot.util.data.DataUtil;
+import dev.boarbot.util.data.UnitOfWork;
 import dev.boarbot.util.data.GuildDataUtil;
 import dev.boarbot.util.generators.EmbedImageGenerator;
 import dev.boarbot.util.generators.GiftImageGenerator;
@@ -42,7 +45,10 @@ import java.net.URISyntaxException;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.*;
-import java.util.concurrent.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class BoarGiftInteractive extends UserInteractive implements Synchronizable {
     private final PowerupItemConfig giftConfig = POWS.get("gift");
@@ -56,6 +62,7 @@ public class BoarGiftInteractive extends UserInteractive implements Synchronizab
     private final Map<User, Long> giftTimes = new ConcurrentHashMap<>();
     private final Map<User, GenericComponentInteractionCreateEvent> giftInteractions = new ConcurrentHashMap<>();
     private boolean givenGift = false;
+    private final ReentrantLock giftLock = new ReentrantLock();
     private User giftWinner;
     private long giftWinnerValue = NUMS.getGiftMaxHandicap();
     private boolean hasGift = false;
@@ -71,8 +78,6 @@ public class BoarGiftInteractive extends UserInteractive implements Synchronizab
     private final List<QuestInfo> senderQuestInfos = new ArrayList<>();
     private final List<QuestInfo> openerQuestInfos = new ArrayList<>();
 
-    private final ScheduledExecutorService giftScheduler = Executors.newScheduledThreadPool(1);
-
     private static final Map<String, IndivComponentConfig> components = CONFIG.getComponentConfig().getGift();
 
     public BoarGiftInteractive(Interaction interaction, boolean isMsg) {
@@ -108,7 +113,7 @@ public class BoarGiftInteractive extends UserInteractive implements Synchronizab
                 NUMS.getGiftLowWait();
 
             this.enabled = true;
-            this.giftScheduler.schedule(this::enableGift, randWaitTime, TimeUnit.MILLISECONDS);
+            InteractionUtil.scheduler.schedule(this::enableGift, randWaitTime, TimeUnit.MILLISECONDS);
             return;
         }
 
@@ -183,7 +188,9 @@ public class BoarGiftInteractive extends UserInteractive implements Synchronizab
             Log.error(this.user, this.getClass(), "A problem occurred while enabling gift", exception);
         }
 
-        this.giftScheduler.schedule(this::tryClaimAtMaxHandicap, NUMS.getGiftMaxHandicap(), TimeUnit.MILLISECONDS);
+        InteractionUtil.scheduler.schedule(
+            this::tryClaimAtMaxHandicap, NUMS.getGiftMaxHandicap(), TimeUnit.MILLISECONDS
+        );
     }
 
     private void tryClaimAtMaxHandicap() {
@@ -194,12 +201,20 @@ public class BoarGiftInteractive extends UserInteractive implements Synchronizab
         } catch (RuntimeException exception) {
             this.stop(StopType.EXCEPTION);
             Log.error(this.user, this.getClass(), "A problem occurred while enabling gift", exception);
+        }
+    }
+
+    private void giveGift() {
+        this.giftLock.lock();
+
+        try {
+            this.giveGiftOnce();
         } finally {
-            this.giftScheduler.shutdown();
+            this.giftLock.unlock();
         }
     }
 
-    private synchronized void giveGift() {
+    private void giveGiftOnce() {
         if (this.givenGift) {
             return;
         }
@@ -292,16 +307,10 @@ public class BoarGiftInteractive extends UserInteractive implements Synchronizab
 
         try {
             BoarUser openUser = BoarUserFactory.getBoarUser(this.giftWinner);
-            openUser.passSynchronizedAction(this);
-        } catch (SQLException exception) {
-            Log.error(this.giftWinner, this.getClass(), "Failed to update gift winner data", exception);
-        }
-
-        try {
             BoarUser sendUser = BoarUserFactory.getBoarUser(this.user);
-            sendUser.passSynchronizedAction(this);
+            UserLockManager.passSynchronizedAction(this, openUser, sendUser);
         } catch (SQLException exception) {
-            Log.error(this.giftWinner, this.getClass(), "Failed to update gifter data", exception);
+            Log.error(this.giftWinner, this.getClass(), "Failed to update gift data", exception);
         }
     }
 
@@ -363,89 +372,87 @@ public class BoarGiftInteractive extends UserInteractive implements Synchronizab
 
     @Override
     public void doSynchronizedAction(BoarUser boarUser) {
-        try {
-            if (this.outcomeType == null && this.giftWinner != null) {
-                try (Connection connection = DataUtil.getConnection()) {
-                    long userVal = this.giftTimes.get(boarUser.getUser()) +
-                       boarUser.giftQuery().getGiftHandicap(connection);
+        try (UnitOfWork unit = DataUtil.beginUnitOfWork()) {
+            Connection connection = unit.getConnection();
 
-                    Log.debug(boarUser.getUser(), this.getClass(), "Handicapped Value: %,d".formatted(userVal));
-                    if (userVal < this.giftWinnerValue) {
-                        this.giftWinner = boarUser.getUser();
-                        this.giftWinnerValue = userVal;
-                    }
+            if (this.outcomeType == null && this.giftWinner != null) {
+                long userVal = this.giftTimes.get(boarUser.getUser()) +
+                   boarUser.giftQuery().getGiftHandicap(connection);
 
-                    boarUser.giftQuery().updateGiftHandicap(connection, this.giftTimes.get(boarUser.getUser()));
+                Log.debug(boarUser.getUser(), this.getClass(), "Handicapped Value: %,d".formatted(userVal));
+                if (userVal < this.giftWinnerValue) {
+                    this.giftWinner = boarUser.getUser();
+                    this.giftWinnerValue = userVal;
                 }
+
+                boarUser.giftQuery().updateGiftHandicap(connection, this.giftTimes.get(boarUser.getUser()));
             } else if (this.outcomeType == null) {
-                try (Connection connection = DataUtil.getConnection()) {
-                    this.hasGift = boarUser.powQuery().getPowerupAmount(connection, "gift") > 0;
-
-                    if (this.hasGift) {
-                        boarUser.powQuery().usePowerup(connection, "gift", 1, true);
-                        boarUser.powQuery().setLastGiftSent(connection, 0);
-                        this.getQuestInfos(boarUser).add(boarUser.questQuery().addProgress(
-                            QuestType.SEND_GIFTS, 1, connection
-                        ));
-                    }
+                this.hasGift = boarUser.powQuery().getPowerupAmount(connection, "gift") > 0;
+
+                if (this.hasGift) {
+                    boarUser.powQuery().usePowerup(connection, "gift", 1, true);
+                    boarUser.powQuery().setLastGiftSent(connection, 0);
+                    this.getQuestInfos(boarUser).add(boarUser.questQuery().addProgress(
+                        QuestType.SEND_GIFTS, 1, connection
+                    ));
                 }
             } else if (this.outcomeType == OutcomeType.SPECIAL || this.outcomeType == OutcomeType.BOAR) {
-                this.giveBoar(boarUser);
+                this.giveBoar(boarUser, unit);
             } else if (this.outcomeType == OutcomeType.BUCKS) {
-                this.giveBucks(boarUser);
+                this.giveBucks(boarUser, unit);
             } else if (this.outcomeType == OutcomeType.POWERUP) {
-                this.givePowerup(boarUser);
+                this.givePowerup(boarUser, unit);
             }
 
             if (this.outcomeType != null) {
-                try (Connection connection = DataUtil.getConnection()) {
-                    List<String> rarityKeys = new ArrayList<>();
+                List<String> rarityKeys = new ArrayList<>();
 
-                    for (String boarID : this.boarIDs) {
-                        rarityKeys.add(BoarUtil.findRarityKey(boarID));
-                    }
+                for (String boarID : this.boarIDs) {
+                    rarityKeys.add(BoarUtil.findRarityKey(boarID));
+                }
 
-                    boarUser.giftQuery().openGift(
-                        connection, this.numBucks, rarityKeys, this.giftWinner.getId().equals(boarUser.getUserID())
-                    );
+                boarUser.giftQuery().openGift(
+                    connection, this.numBucks, rarityKeys, this.giftWinner.getId().equals(boarUser.getUserID())
+                );
 
-                    if (this.giftWinner.getId().equals(boarUser.getUserID())) {
-                        this.openerQuestInfos.add(boarUser.questQuery().addProgress(
-                            QuestType.OPEN_GIFTS, 1, connection
-                        ));
-                        QuestUtil.sendQuestClaimMessage(
-                            this.giftInteractions.get(this.giftWinner).getHook(), this.openerQuestInfos
-                        );
-                    } else {
-                        QuestUtil.sendQuestClaimMessage(this.hook, this.senderQuestInfos);
-                    }
+                if (this.giftWinner.getId().equals(boarUser.getUserID())) {
+                    this.openerQuestInfos.add(boarUser.questQuery().addProgress(
+                        QuestType.OPEN_GIFTS, 1, connection
+                    ));
+                    unit.afterCommit(() -> QuestUtil.sendQuestClaimMessage(
+                        this.giftInteractions.get(this.giftWinner).getHook(), this.openerQuestInfos
+                    ));
+                } else {
+                    unit.afterCommit(() -> QuestUtil.sendQuestClaimMessage(this.hook, this.senderQuestInfos));
                 }
             }
+
+            unit.commit();
         } catch (SQLException exception) {
             this.stop(StopType.EXCEPTION);
             Log.error(this.user, this.getClass(), "Failed to fully perform gift open", exception);
         }
     }
 
-    private void giveBoar(BoarUser boarUser) throws SQLException {
+    private void giveBoar(BoarUser boarUser, UnitOfWork unit) throws SQLException {
         List<Integer> bucksGotten = new ArrayList<>();
         List<Integer> editions = new ArrayList<>();
         Set<String> firstBoarIDs = new HashSet<>();
 
-        try (Connection connection = DataUtil.getConnection()) {
-            boarUser.boarQuery().addBoars(
-                this.boarIDs, connection, BoarObtainType.GIFT.toString(), bucksGotten, editions, firstBoarIDs
-            );
-            this.getQuestInfos(boarUser).add(boarUser.questQuery().addProgress(
-                QuestType.COLLECT_RARITY, this.boarIDs, connection
-            ));
-        }
+        Connection connection = unit.getConnection();
+
+        boarUser.boarQuery().addBoars(
+            this.boarIDs, connection, BoarObtainType.GIFT.toString(), bucksGotten, editions, firstBoarIDs
+        );
+        this.getQuestInfos(boarUser).add(boarUser.questQuery().addProgress(
+            QuestType.COLLECT_RARITY, this.boarIDs, connection
+        ));
 
         if (boarUser.getUserID().equals(this.user.getId())) {
             return;
         }
 
-        CompletableFuture.runAsync(() -> {
+        unit.afterCommit(() -> CompletableFuture.runAsync(() -> {
             try {
                 String title = STRS.getGiftTitle();
                 ItemInteractive.sendInteractive(
@@ -464,22 +471,22 @@ public class BoarGiftInteractive extends UserInteractive implements Synchronizab
                 this.stop(StopType.EXCEPTION);
                 Log.error(this.user, this.getClass(), "A problem occurred when sending gift interactive", exception);
             }
-        });
+        }));
     }
 
-    private void giveBucks(BoarUser boarUser) throws SQLException {
-        try (Connection connection = DataUtil.getConnection()) {
-            boarUser.baseQuery().giveBucks(connection, this.numBucks);
-            this.getQuestInfos(boarUser).add(boarUser.questQuery().addProgress(
-                QuestType.COLLECT_BUCKS, this.numBucks, connection
-            ));
-        }
+    private void giveBucks(BoarUser boarUser, UnitOfWork unit) throws SQLException {
+        Connection connection = unit.getConnection();
+
+        boarUser.baseQuery().giveBucks(connection, this.numBucks);
+        this.getQuestInfos(boarUser).add(boarUser.questQuery().addProgress(
+            QuestType.COLLECT_BUCKS, this.numBucks, connection
+        ));
 
         if (boarUser.getUserID().equals(this.user.getId())) {
             return;
         }
 
-        CompletableFuture.runAsync(() -> {
+        unit.afterCommit(() -> CompletableFuture.runAsync(() -> {
             try {
                 String title = STRS.getGiftTitle();
 
@@ -507,21 +514,19 @@ public class BoarGiftInteractive extends UserInteractive implements Synchronizab
                 this.stop(StopType.EXCEPTION);
                 Log.error(this.user, this.getClass(), "A problem occurred when sending gift interactive", exception);
             }
-        });
+        }));
     }
 
-    private void givePowerup(BoarUser boarUser) throws SQLException {
-        try (Connection connection = DataUtil.getConnection()) {
-            boarUser.powQuery().addPowerup(
-                connection, this.subOutcomeType.toString(), this.subOutcomeConfig.getRewardAmt(), true
-            );
-        }
+    private void givePowerup(BoarUser boarUser, UnitOfWork unit) throws SQLException {
+        boarUser.powQuery().addPowerup(
+            unit.getConnection(), this.subOutcomeType.toString(), this.subOutcomeConfig.getRewardAmt(), true
+        );
 
         if (boarUser.getUserID().equals(this.user.getId())) {
             return;
         }
 
-        CompletableFuture.runAsync(() -> {
+        unit.afterCommit(() -> CompletableFuture.runAsync(() -> {
             try {
                 PowerupItemConfig powConfig = POWS.get(this.subOutcomeType.toString());
                 String title = STRS.getGiftTitle();
@@ -552,7 +557,7 @@ public class BoarGiftInteractive extends UserInteractive implements Synchronizab
                 this.stop(StopType.EXCEPTION);
                 Log.error(this.user, this.getClass(), "A problem occurred when sending gift interactive", exception);
             }
-        });
+        }));
     }
 
     @Override
@@ -615,8 +620,4 @@ public class BoarGiftInteractive extends UserInteractive implements Synchronizab
 
         return this.senderQuestInfos;
     }
-
-    public void shutdownGiftScheduler() {
-        this.giftScheduler.shutdown();
-    }
 }
@@ -2,6 +2,7 @@ package dev.boarbot.jobs;
 
 import dev.boarbot.util.data.DataUtil;
 import dev.boarbot.util.data.UserDataUtil;
+import dev.boarbot.util.data.top.TopBoards;
 import dev.boarbot.util.logging.Log;
 import lombok.Getter;
 import org.quartz.*;
@@ -26,6 +27,7 @@ public class BlessResetJob implements Job {
     public void execute(JobExecutionContext context) throws JobExecutionException {
         try (Connection connection = DataUtil.getConnection()) {
             UserDataUtil.resetOtherBless(connection);
+            TopBoards.requestLoad();
         } catch (SQLException exception) {
             Log.error(this.getClass(), "Failed to reset blessings", exception);
         }
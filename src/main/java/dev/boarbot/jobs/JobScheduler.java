@@ -13,6 +13,7 @@ public class JobScheduler {
 
             SchedulerFactory schedulerFactory = new StdSchedulerFactory();
             Scheduler scheduler = schedulerFactory.getScheduler();
+            scheduler.getListenerManager().addJobListener(new QuerySourceListener());
             scheduler.start();
 
             scheduler.scheduleJob(PowerupEventJob.getJob(), PowerupEventJob.getTrigger());
@@ -20,6 +21,11 @@ public class JobScheduler {
             scheduler.scheduleJob(LogJob.getJob(), LogJob.getTrigger());
 
             scheduler.scheduleJob(NotificationJob.getJob(), NotificationJob.getTrigger());
+
+            if (NotificationJob.hasUnfinishedRun()) {
+                scheduler.triggerJob(NotificationJob.getJob().getKey());
+            }
+
             scheduler.scheduleJob(TopCacheJob.getJob(), TopCacheJob.getTrigger());
             scheduler.scheduleJob(MarketCacheJob.getJob(), MarketCacheJob.getTrigger());
             scheduler.scheduleJob(MarketAdjustJob.getJob(), MarketAdjustJob.getTrigger());
@@ -28,6 +34,7 @@ public class JobScheduler {
                 BlessResetJob.getJob(), Set.of(BlessResetJob.getTrigger1(), BlessResetJob.getTrigger2()), true
             );
             scheduler.scheduleJob(CleanupJob.getJob(), CleanupJob.getTrigger());
+            scheduler.scheduleJob(UserFlushJob.getJob(), UserFlushJob.getTrigger());
 
             scheduler.scheduleJob(
                 SpookMessageJob.getJob(),
@@ -3,7 +3,17 @@ package dev.boarbot.jobs;
 import dev.boarbot.BoarBotApp;
 import dev.boarbot.api.bot.Bot;
 import dev.boarbot.entities.boaruser.BoarUserFactory;
+import dev.boarbot.entities.boaruser.UserLockManager;
+import dev.boarbot.entities.boaruser.queries.BaseQueries;
+import dev.boarbot.util.cache.RenderCache;
+import dev.boarbot.util.data.DataUtil;
+import dev.boarbot.util.data.QueryStats;
+import dev.boarbot.util.dispatch.DispatchUtil;
+import dev.boarbot.util.graphics.GraphicsUtil;
+import dev.boarbot.util.interaction.InteractionUtil;
+import dev.boarbot.util.interaction.RateLimiter;
 import dev.boarbot.util.logging.Log;
+import dev.boarbot.util.python.PythonUtil;
 import lombok.Getter;
 import org.quartz.*;
 
@@ -12,24 +22,41 @@ public class LogJob implements Job {
     @Getter private final static Trigger trigger = TriggerBuilder.newTrigger()
         .withSchedule(CronScheduleBuilder.cronSchedule("0 */5 * ? * *")).build();
     private final static Bot bot = BoarBotApp.getBot();
+    private final static int NUM_LOGGED_STATEMENTS = 5;
 
     @Override
     public void execute(JobExecutionContext jobExecutionContext) throws JobExecutionException {
-        String logString = "Interactives: %,d | ModalHandlers: %,d | Images: %,d | Bytearrays: %,d | " +
-            "BoarUsers: %,d | Memory Used: %,dMB/%,dMB | Threads: %,d";
+        String logString = "Interactives: %,d | ModalHandlers: %,d | " +
+            "BoarUsers: %,d | Queued User Writes: %,d | Memory Used: %,dMB/%,dMB | Threads: %,d";
 
         Log.debug(
             LogJob.class,
             logString.formatted(
                 bot.getInteractives().size(),
                 bot.getModalHandlers().size(),
-                bot.getImageCacheMap().size(),
-                bot.getByteCacheMap().size(),
                 BoarUserFactory.getNumBoarUsers(),
+                BaseQueries.getNumQueuedWriters(),
                 (Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory()) / (1024 * 1024),
                 (Runtime.getRuntime().maxMemory()) / (1024 * 1024),
                 Thread.activeCount()
             )
         );
+
+        Log.debug(LogJob.class, "Cache: " + bot.getImageCacheMap().getMetricsString());
+        Log.debug(LogJob.class, "Cache: " + bot.getByteCacheMap().getMetricsString());
+        Log.debug(LogJob.class, "Source Images: " + GraphicsUtil.getImageCacheMetrics());
+        Log.debug(LogJob.class, "Render Cache: " + RenderCache.getMetricsString());
+        Log.debug(LogJob.class, "Dispatch: " + DispatchUtil.getMetricsString());
+        Log.debug(LogJob.class, "Python Workers: " + PythonUtil.getMetricsString());
+        Log.debug(LogJob.class, "Timers: %,d pending".formatted(InteractionUtil.scheduler.getNumPending()));
+        Log.debug(LogJob.class, "Notifications: " + NotificationJob.getProgressString());
+        Log.debug(LogJob.class, "User Locks: " + UserLockManager.getMetricsString());
+        Log.debug(LogJob.class, "Rate Limits: " + RateLimiter.getMetricsString());
+        Log.debug(LogJob.class, "Queries: " + QueryStats.getMetricsString());
+        Log.debug(LogJob.class, "Connection Pool: " + DataUtil.getPoolMetricsString());
+
+        for (String statementStr : QueryStats.getTopStatements(NUM_LOGGED_STATEMENTS)) {
+            Log.debug(LogJob.class, "Query: " + statementStr);
+        }
     }
 }
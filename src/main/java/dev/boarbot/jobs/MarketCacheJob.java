@@ -1,17 +1,26 @@
 package dev.boarbot.jobs;
 
-import dev.boarbot.bot.CacheLoader;
+import dev.boarbot.util.data.DataUtil;
+import dev.boarbot.util.data.market.MarketDataUtil;
+import dev.boarbot.util.logging.Log;
 import lombok.Getter;
 import org.quartz.*;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+
 public class MarketCacheJob implements Job {
     @Getter private final static JobDetail job = JobBuilder.newJob(MarketCacheJob.class).build();
     @Getter private final static Trigger trigger = TriggerBuilder.newTrigger()
-        .withSchedule(CronScheduleBuilder.cronSchedule("*/30 * * ? * *"))
+        .withSchedule(CronScheduleBuilder.cronSchedule("45 */15 * ? * *"))
         .build();
 
     @Override
     public void execute(JobExecutionContext context) throws JobExecutionException {
-        CacheLoader.reloadMarketCache();
+        try (Connection connection = DataUtil.getConnection()) {
+            MarketDataUtil.checkMarketData(connection);
+        } catch (SQLException exception) {
+            Log.error(this.getClass(), "Failed to check market cache against the database", exception);
+        }
     }
 }
@@ -2,13 +2,14 @@ package dev.boarbot.jobs;
 
 import dev.boarbot.BoarBotApp;
 import dev.boarbot.api.util.Configured;
-import dev.boarbot.entities.boaruser.BoarUser;
-import dev.boarbot.entities.boaruser.BoarUserFactory;
 import dev.boarbot.util.boar.BoarUtil;
 import dev.boarbot.util.data.BoarDataUtil;
 import dev.boarbot.util.data.DataUtil;
 import dev.boarbot.util.data.GuildDataUtil;
+import dev.boarbot.util.data.NotificationDataUtil;
+import dev.boarbot.util.data.NotificationTarget;
 import dev.boarbot.util.data.UserDataUtil;
+import dev.boarbot.util.dispatch.RouteFanout;
 import dev.boarbot.util.interaction.InteractionUtil;
 import dev.boarbot.util.logging.ExceptionHandler;
 import dev.boarbot.util.logging.Log;
@@ -22,11 +23,19 @@ import org.quartz.*;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Sends the daily notification DMs. Progress is saved in batches after messages go out, so delivery is at least
+ * once: a clean shutdown waits for in-flight sends and saves everything, but a crash can send the last few seconds
+ * of messages again when the run resumes. Sending a reminder twice is preferred over silently dropping one.
+ */
+@DisallowConcurrentExecution
 public class NotificationJob implements Job, Configured {
     @Getter private final static JobDetail job = JobBuilder.newJob(NotificationJob.class).build();
     @Getter private final static Trigger trigger = TriggerBuilder.newTrigger()
@@ -37,84 +46,231 @@ public class NotificationJob implements Job, Configured {
     private final static Map<Integer, Integer> dynamicValues = new HashMap<>();
     private final static int streakIndex = 10;
 
-    private static final Semaphore semaphore = new Semaphore(1);
+    private final static int PROGRESS_BATCH_SIZE = 200;
+    private final static long PROGRESS_FLUSH_SECONDS = 5;
+    private final static long SHUTDOWN_TIMEOUT_SECONDS = 20;
+
+    // User IDs aren't a major rate limit parameter, so all lookups share one bucket and all DM opens share another
+    private final static String LOOKUP_ROUTE = "GET /users/{user.id}";
+    private final static String OPEN_DM_ROUTE = "POST /users/@me/channels";
+
+    private final static Queue<String> notifiedUserIDs = new ConcurrentLinkedQueue<>();
+    private static volatile LocalDate runDay = null;
+    private static volatile RouteFanout runFanout = null;
+    private static volatile int runTotal = 0;
+    private static volatile long runStartMilli = 0;
+
+    private final static Object submitLock = new Object();
+    private static boolean stopping = false;
 
     @Override
     public void execute(JobExecutionContext context) throws JobExecutionException {
-        List<String> notifUserIDs;
+        LocalDate curDay = LocalDate.now(ZoneOffset.UTC);
+        List<NotificationTarget> targets;
 
-        TextChannel pingChannel = jda.getTextChannelById(CONFIG.getMainConfig().getPingChannel());
+        try (Connection connection = DataUtil.getConnection()) {
+            LocalDate unfinishedDay = NotificationDataUtil.getLatestUnfinishedRun(connection);
 
-        if (pingChannel != null) {
-            pingChannel.sendMessage(STRS.getNotificationPingChannel())
-                .queue(null, e -> Log.warn(this.getClass(), "Failed to sent legacy notification"));
-        }
+            if (unfinishedDay != null && unfinishedDay.isBefore(curDay)) {
+                Log.info(
+                    NotificationJob.class,
+                    "Dropping unfinished notifications from %s for today's run".formatted(unfinishedDay)
+                );
+            }
+
+            boolean isNewRun = NotificationDataUtil.startRun(curDay, connection);
+
+            if (isNewRun) {
+                sendLegacyPing();
+            }
 
-        try (Connection connection = DataUtil.getConnection()) {
             updateDynamicValues(connection);
-            notifUserIDs = UserDataUtil.getNotifUserIDs(connection);
+            targets = NotificationDataUtil.getPendingTargets(curDay, connection);
+
+            if (!isNewRun) {
+                Log.info(
+                    NotificationJob.class,
+                    "Resuming notifications with %,d user(s) remaining".formatted(targets.size())
+                );
+            }
         } catch (SQLException exception) {
             Log.error(NotificationJob.class, "Failed to get relevant notification data", exception);
             return;
         }
 
-        for (String notifUserID : notifUserIDs) {
-            try (Connection connection = DataUtil.getConnection()) {
-                if (notifUsers.containsKey(notifUserID)) {
-                    BoarUser boarUser = BoarUserFactory.getBoarUser(notifUsers.get(notifUserID));
-                    String notificationStr = getNotificationStr(
-                        connection, boarUser.baseQuery().getNotificationChannel(connection), boarUser
-                    );
+        int concurrency = Math.max(CONFIG.getMainConfig().getNotificationConcurrency(), 1);
+        RouteFanout fanout = new RouteFanout("Notifications", concurrency, concurrency);
 
-                    semaphore.acquireUninterruptibly();
-                    sendNotification(notifUsers.get(boarUser.getUserID()), notificationStr);
-                    continue;
+        runDay = curDay;
+        runFanout = fanout;
+        runTotal = targets.size();
+        runStartMilli = TimeUtil.getCurMilli();
+
+        for (NotificationTarget target : targets) {
+            synchronized (submitLock) {
+                if (stopping) {
+                    break;
                 }
 
-                jda.retrieveUserById(notifUserID).queue(
-                    user -> {
-                        if (user.getMutualGuilds().isEmpty()) {
-                            return;
-                        }
+                try {
+                    String notificationStr = getNotificationStr(target.channelID(), target.streak());
+                    String route = notifUsers.containsKey(target.userID()) ? OPEN_DM_ROUTE : LOOKUP_ROUTE;
 
-                        notifUsers.put(notifUserID, user);
+                    fanout.submit(
+                        route, completion -> sendNotification(target.userID(), notificationStr, completion)
+                    );
+                } catch (RuntimeException exception) {
+                    Log.error(NotificationJob.class, "A problem occurred while sending notifications", exception);
+                }
+            }
+        }
 
-                        try {
-                            BoarUser boarUser = BoarUserFactory.getBoarUser(user);
-                            String notificationStr = getNotificationStr(
-                                connection, boarUser.baseQuery().getNotificationChannel(connection), boarUser
-                            );
-
-                            semaphore.acquireUninterruptibly();
-                            sendNotification(user, notificationStr);
-                        } catch (SQLException exception) {
-                            semaphore.release();
-                            Log.error(NotificationJob.class, "Failed to get notification channel", exception);
-                        }
-                    },
-                    e -> ExceptionHandler.handle(NotificationJob.class, e)
+        while (!fanout.await(PROGRESS_FLUSH_SECONDS, TimeUnit.SECONDS)) {
+            flushProgress();
+        }
+
+        flushProgress();
+
+        if (isStopping()) {
+            return;
+        }
+
+        try (Connection connection = DataUtil.getConnection()) {
+            NotificationDataUtil.finishRun(curDay, connection);
+        } catch (SQLException exception) {
+            Log.error(NotificationJob.class, "Failed to mark notifications as finished", exception);
+        }
+
+        Log.info(NotificationJob.class, fanout.getSummary());
+        runFanout = null;
+    }
+
+    public static boolean hasUnfinishedRun() {
+        try (Connection connection = DataUtil.getConnection()) {
+            return NotificationDataUtil.getLatestUnfinishedRun(connection) != null;
+        } catch (SQLException exception) {
+            Log.error(NotificationJob.class, "Failed to check for unfinished notifications", exception);
+            return false;
+        }
+    }
+
+    /**
+     * Stops submitting new notifications, waits for the ones already sent to finish, then saves their progress so
+     * none of them are sent again on the next start.
+     */
+    public static void shutdown() {
+        synchronized (submitLock) {
+            stopping = true;
+        }
+
+        RouteFanout fanout = runFanout;
+
+        if (fanout != null && !fanout.await(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            Log.warn(NotificationJob.class, "Timed out waiting for in-flight notifications");
+        }
+
+        flushProgress();
+    }
+
+    private static boolean isStopping() {
+        synchronized (submitLock) {
+            return stopping;
+        }
+    }
+
+    public static synchronized void flushProgress() {
+        LocalDate curRunDay = runDay;
+
+        if (curRunDay == null || notifiedUserIDs.isEmpty()) {
+            return;
+        }
+
+        List<String> userIDs = new ArrayList<>();
+
+        for (String userID = notifiedUserIDs.poll(); userID != null; userID = notifiedUserIDs.poll()) {
+            userIDs.add(userID);
+        }
+
+        try (Connection connection = DataUtil.getConnection()) {
+            for (int i=0; i<userIDs.size(); i+=PROGRESS_BATCH_SIZE) {
+                NotificationDataUtil.markNotified(
+                    userIDs.subList(i, Math.min(i + PROGRESS_BATCH_SIZE, userIDs.size())), curRunDay, connection
                 );
-            } catch (SQLException exception) {
-                semaphore.release();
-                Log.error(NotificationJob.class, "Failed to get notification channel", exception);
-            } catch (RuntimeException exception) {
-                semaphore.release();
-                Log.error(NotificationJob.class, "A problem occurred while sending notifications", exception);
             }
+        } catch (SQLException exception) {
+            Log.error(NotificationJob.class, "Failed to save notification progress", exception);
         }
     }
 
-    private static void sendNotification(User user, String str) {
+    public static String getProgressString() {
+        RouteFanout fanout = runFanout;
+
+        if (fanout == null) {
+            return "Idle";
+        }
+
+        int numDone = fanout.getNumCompleted();
+        long elapsedMilli = Math.max(TimeUtil.getCurMilli() - runStartMilli, 1);
+        double perSecond = numDone * 1000.0 / elapsedMilli;
+        long etaSeconds = numDone == 0 ? 0 : (long) ((runTotal - numDone) / perSecond);
+
+        return "%,d/%,d sent (%,d failed) | %.1f/s | ETA: %,ds".formatted(
+            numDone, runTotal, fanout.getNumFailed(), perSecond, etaSeconds
+        );
+    }
+
+    private static void sendLegacyPing() {
+        TextChannel pingChannel = jda.getTextChannelById(CONFIG.getMainConfig().getPingChannel());
+
+        if (pingChannel != null) {
+            pingChannel.sendMessage(STRS.getNotificationPingChannel())
+                .queue(null, e -> Log.warn(NotificationJob.class, "Failed to sent legacy notification"));
+        }
+    }
+
+    private static void sendNotification(String userID, String str, RouteFanout.Completion completion) {
+        User cachedUser = notifUsers.get(userID);
+
+        if (cachedUser != null) {
+            sendNotification(cachedUser, str, completion);
+            return;
+        }
+
+        jda.retrieveUserById(userID).queue(
+            user -> {
+                if (user.getMutualGuilds().isEmpty()) {
+                    notifiedUserIDs.add(userID);
+                    completion.succeeded();
+                    return;
+                }
+
+                notifUsers.put(userID, user);
+                sendNotification(user, str, completion);
+            },
+            e -> {
+                notifiedUserIDs.add(userID);
+                completion.failed();
+                ExceptionHandler.handle(NotificationJob.class, e);
+            }
+        );
+    }
+
+    private static void sendNotification(User user, String str, RouteFanout.Completion completion) {
         user.openPrivateChannel().queue(
             ch -> ch.sendMessage(str).setSuppressEmbeds(true).queue(
-                m -> semaphore.release(),
+                m -> {
+                    notifiedUserIDs.add(user.getId());
+                    completion.succeeded();
+                },
                 e -> {
-                    semaphore.release();
+                    notifiedUserIDs.add(user.getId());
+                    completion.failed();
                     ExceptionHandler.handle(user, NotificationJob.class, e);
                 }
             ),
             e -> {
-                semaphore.release();
+                notifiedUserIDs.add(user.getId());
+                completion.failed();
                 ExceptionHandler.handle(user, NotificationJob.class, e);
             }
         );
@@ -127,9 +283,7 @@ public class NotificationJob implements Job, Configured {
         dynamicValues.put(15, BoarDataUtil.getTotalBoars(connection));
     }
 
-    private static String getNotificationStr(
-        Connection connection, String channelID, BoarUser boarUser
-    ) throws SQLException {
+    private static String getNotificationStr(String channelID, int userStreak) {
         String notificationEnding = STRS.getNotificationEnding().formatted(channelID);
 
         if (TimeUtil.isDecember() && TimeUtil.getDayOfMonth() <= 25) {
@@ -154,7 +308,6 @@ public class NotificationJob implements Job, Configured {
         }
 
         if (randIndex == streakIndex) {
-            int userStreak = boarUser.baseQuery().getStreak(connection);
             return "## " + STRS.getNotificationExtras()[randIndex].formatted(userStreak) + notificationEnding;
         }
 
@@ -199,6 +352,16 @@ public class NotificationJob implements Job, Configured {
             );
 
             for (String notifUserID : notifUserIDs) {
+                User cachedUser = jda.getUserById(notifUserID);
+
+                if (cachedUser != null) {
+                    if (!cachedUser.getMutualGuilds().isEmpty()) {
+                        notifUsers.put(notifUserID, cachedUser);
+                    }
+
+                    continue;
+                }
+
                 jda.retrieveUserById(notifUserID).queue(
                     user -> {
                         if (user.getMutualGuilds().isEmpty()) {
@@ -2,12 +2,11 @@ package dev.boarbot.jobs;
 
 import dev.boarbot.api.util.Configured;
 import dev.boarbot.events.PowerupEventHandler;
+import dev.boarbot.util.interaction.InteractionUtil;
 import dev.boarbot.util.logging.Log;
 import lombok.Getter;
 import org.quartz.*;
 
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 public class PowerupEventJob implements Job, Configured {
@@ -17,8 +16,6 @@ public class PowerupEventJob implements Job, Configured {
             "0 %d */%d ? * *".formatted(30 - NUMS.getPowPlusMinusMins(), NUMS.getPowIntervalHours())
         )).build();
 
-    private final static ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
-
     @Override
     public void execute(JobExecutionContext jobExecutionContext) throws JobExecutionException {
         if (CONFIG.getMainConfig().isMaintenanceMode()) {
@@ -26,7 +23,9 @@ public class PowerupEventJob implements Job, Configured {
         }
 
         int delay = (int) (Math.random() * NUMS.getPowPlusMinusMins() * 2 * 60000);
-        scheduler.schedule(this::sendEvent, delay, TimeUnit.MILLISECONDS);
+        InteractionUtil.scheduler.schedule(
+            () -> Thread.ofVirtual().name("powerup-event").start(this::sendEvent), delay, TimeUnit.MILLISECONDS
+        );
     }
 
     private void sendEvent() {
@@ -37,8 +36,4 @@ public class PowerupEventJob implements Job, Configured {
             Log.error(this.getClass(), "A runtime exception occurred with powerup event", exception);
         }
     }
-
-    public static void shutdownScheduler() {
-        scheduler.shutdown();
-    }
 }
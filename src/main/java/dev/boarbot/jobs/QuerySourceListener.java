@@ -0,0 +1,32 @@
+package dev.boarbot.jobs;
+
+import dev.boarbot.util.data.QueryStats;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.JobListener;
+
+/**
+ * Attributes queries made while a job runs to that job in {@link QueryStats}. Quartz calls job listeners on the
+ * worker thread that runs the job.
+ */
+class QuerySourceListener implements JobListener {
+    @Override
+    public String getName() {
+        return "QuerySourceListener";
+    }
+
+    @Override
+    public void jobToBeExecuted(JobExecutionContext context) {
+        QueryStats.setSource(context.getJobDetail().getJobClass().getSimpleName());
+    }
+
+    @Override
+    public void jobExecutionVetoed(JobExecutionContext context) {
+        QueryStats.clearSource();
+    }
+
+    @Override
+    public void jobWasExecuted(JobExecutionContext context, JobExecutionException jobException) {
+        QueryStats.clearSource();
+    }
+}
@@ -1,17 +1,32 @@
 package dev.boarbot.jobs;
 
 import dev.boarbot.bot.CacheLoader;
+import dev.boarbot.util.data.DataUtil;
+import dev.boarbot.util.data.top.TopBoards;
+import dev.boarbot.util.logging.Log;
 import lombok.Getter;
 import org.quartz.*;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+
 public class TopCacheJob implements Job {
     @Getter private final static JobDetail job = JobBuilder.newJob(TopCacheJob.class).build();
     @Getter private final static Trigger trigger = TriggerBuilder.newTrigger()
-        .withSchedule(CronScheduleBuilder.cronSchedule("0 0 * ? * *"))
+        .withSchedule(CronScheduleBuilder.cronSchedule("30 * * ? * *"))
         .build();
 
     @Override
     public void execute(JobExecutionContext context) throws JobExecutionException {
-        CacheLoader.reloadTopCache();
+        if (TopBoards.isLoadDue()) {
+            CacheLoader.reloadTopCache();
+            return;
+        }
+
+        try (Connection connection = DataUtil.getConnection()) {
+            TopBoards.refreshDirty(connection);
+        } catch (SQLException exception) {
+            Log.error(this.getClass(), "Failed to refresh leaderboard entries", exception);
+        }
     }
 }
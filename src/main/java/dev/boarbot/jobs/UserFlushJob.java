@@ -0,0 +1,57 @@
+package dev.boarbot.jobs;
+
+import dev.boarbot.entities.boaruser.BoarUser;
+import dev.boarbot.entities.boaruser.BoarUserFactory;
+import dev.boarbot.entities.boaruser.queries.BaseQueries;
+import dev.boarbot.util.data.DataUtil;
+import dev.boarbot.util.data.top.UsernameCache;
+import dev.boarbot.util.logging.Log;
+import lombok.Getter;
+import org.quartz.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+public class UserFlushJob implements Job {
+    @Getter private final static JobDetail job = JobBuilder.newJob(UserFlushJob.class).build();
+    @Getter private final static Trigger trigger = TriggerBuilder.newTrigger()
+        .withSchedule(CronScheduleBuilder.cronSchedule("*/5 * * ? * *"))
+        .build();
+
+    @Override
+    public void execute(JobExecutionContext context) throws JobExecutionException {
+        flushUsers();
+        wipeUnknownUsers();
+    }
+
+    public static void flushUsers() {
+        if (BaseQueries.getNumQueuedWriters() == 0) {
+            return;
+        }
+
+        try (Connection connection = DataUtil.getConnection()) {
+            BaseQueries.flushQueuedWrites(connection);
+        } catch (SQLException exception) {
+            Log.error(UserFlushJob.class, "Failed to flush queued user writes", exception);
+        }
+    }
+
+    private static void wipeUnknownUsers() {
+        for (String userID : UsernameCache.drainUnknownUsers()) {
+            try {
+                BoarUser boarUser = BoarUserFactory.getBoarUser(userID);
+
+                boarUser.passSynchronizedAction(lockedUser -> {
+                    try (Connection connection = DataUtil.getConnection()) {
+                        lockedUser.baseQuery().wipeUser(connection);
+                        Log.debug(UserFlushJob.class, "Wiped deleted user %s".formatted(userID));
+                    } catch (SQLException exception) {
+                        Log.error(UserFlushJob.class, "Failed to wipe deleted user", exception);
+                    }
+                });
+            } catch (SQLException exception) {
+                Log.error(UserFlushJob.class, "Failed to get deleted user", exception);
+            }
+        }
+    }
+}
@@ -3,8 +3,11 @@ package dev.boarbot.listeners;
 import dev.boarbot.BoarBotApp;
 import dev.boarbot.api.util.Configured;
 import dev.boarbot.commands.Subcommand;
+import dev.boarbot.util.data.QueryStats;
+import dev.boarbot.util.dispatch.DispatchType;
+import dev.boarbot.util.dispatch.DispatchUtil;
 import dev.boarbot.util.generators.EmbedImageGenerator;
-import dev.boarbot.util.interaction.InteractionUtil;
+import dev.boarbot.util.interaction.RateLimiter;
 import dev.boarbot.util.interaction.SpecialReply;
 import dev.boarbot.util.logging.ExceptionHandler;
 import dev.boarbot.util.logging.Log;
@@ -18,6 +21,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.Objects;
 
 public class CommandListener extends ListenerAdapter implements Runnable, Configured {
     private final Map<String, Constructor<? extends Subcommand>> subcommands = BoarBotApp.getBot().getSubcommands();
@@ -33,7 +37,12 @@ public class CommandListener extends ListenerAdapter implements Runnable, Config
 
     @Override
     public void onSlashCommandInteraction(@NotNull SlashCommandInteractionEvent event) {
-        new Thread(new CommandListener(event)).start();
+        if (DispatchUtil.dispatch(DispatchType.COMMAND, new CommandListener(event))) {
+            return;
+        }
+
+        Log.warn(event.getUser(), this.getClass(), "Command shed due to full dispatch queue", null, true);
+        event.reply(STRS.getError()).setEphemeral(true).queue(null, e -> ExceptionHandler.handle(this.getClass(), e));
     }
 
     @Override
@@ -64,7 +73,10 @@ public class CommandListener extends ListenerAdapter implements Runnable, Config
             return;
         }
 
-        if (InteractionUtil.isOnCooldown(this.event.getUser())) {
+        String commandKey = "%s %s".formatted(this.event.getName(), this.event.getSubcommandName());
+        String guildID = Objects.requireNonNull(this.event.getGuild()).getId();
+
+        if (!RateLimiter.tryAcquire(this.event.getUser().getId(), guildID, commandKey)) {
             MessageCreateBuilder msg = new MessageCreateBuilder();
 
             try {
@@ -86,6 +98,8 @@ public class CommandListener extends ListenerAdapter implements Runnable, Config
         String commandStr = "/%s %s".formatted(this.event.getName(), this.event.getSubcommandName());
         Log.debug(this.event.getUser(), this.getClass(), "Running %s".formatted(commandStr));
 
+        QueryStats.setSource(commandStr);
+
         try {
             Subcommand subcommand = subcommands.get(this.event.getName() + this.event.getSubcommandName())
                 .newInstance(this.event);
@@ -126,6 +140,8 @@ public class CommandListener extends ListenerAdapter implements Runnable, Config
                 "%s's execute method threw a runtime exception".formatted(commandStr),
                 exception
             );
+        } finally {
+            QueryStats.clearSource();
         }
     }
 }
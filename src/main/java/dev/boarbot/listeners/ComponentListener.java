@@ -2,7 +2,10 @@ package dev.boarbot.listeners;
 
 import dev.boarbot.BoarBotApp;
 import dev.boarbot.interactives.Interactive;
-import dev.boarbot.util.interactive.InteractiveUtil;
+import dev.boarbot.interactives.InteractiveRegistry;
+import dev.boarbot.util.data.QueryStats;
+import dev.boarbot.util.dispatch.DispatchType;
+import dev.boarbot.util.dispatch.DispatchUtil;
 import dev.boarbot.util.interactive.StopType;
 import dev.boarbot.util.logging.Log;
 import dev.boarbot.util.time.TimeUtil;
@@ -23,7 +26,9 @@ public class ComponentListener extends ListenerAdapter implements Runnable {
 
     @Override
     public void onGenericComponentInteractionCreate(@NotNull GenericComponentInteractionCreateEvent event) {
-        new Thread(new ComponentListener(event)).start();
+        if (!DispatchUtil.dispatch(DispatchType.COMPONENT, new ComponentListener(event))) {
+            Log.warn(event.getUser(), this.getClass(), "Component press shed due to full dispatch queue", null, true);
+        }
     }
 
     @Override
@@ -36,11 +41,11 @@ public class ComponentListener extends ListenerAdapter implements Runnable {
         long startTime = TimeUtil.getCurMilli();
 
         if (interactive == null) {
-            interactive = InteractiveUtil.getEventInteractive(interactiveBaseID);
+            interactive = InteractiveRegistry.getEventInteractive(interactiveBaseID);
         }
 
         if (interactive == null) {
-            interactive = InteractiveUtil.getGiftInteractive(interactiveBaseID);
+            interactive = InteractiveRegistry.getGiftInteractive(interactiveBaseID);
         }
 
         if (interactive == null) {
@@ -53,6 +58,8 @@ public class ComponentListener extends ListenerAdapter implements Runnable {
             "Pressed %s in %s".formatted(componentID[1], interactive.getClass().getSimpleName())
         );
 
+        QueryStats.setSource(interactive.getClass().getSimpleName());
+
         try {
             interactive.attemptExecute(this.event, startTime);
             Log.debug(
@@ -68,6 +75,8 @@ public class ComponentListener extends ListenerAdapter implements Runnable {
                 "%s threw a runtime exception".formatted(interactive.getClass().getSimpleName()),
                 exception
             );
+        } finally {
+            QueryStats.clearSource();
         }
     }
 }
\ No newline at end of file
@@ -5,6 +5,8 @@ import dev.boarbot.bot.ConfigUpdater;
 import dev.boarbot.entities.boaruser.BoarUser;
 import dev.boarbot.entities.boaruser.BoarUserFactory;
 import dev.boarbot.util.data.DataUtil;
+import dev.boarbot.util.dispatch.DispatchType;
+import dev.boarbot.util.dispatch.DispatchUtil;
 import dev.boarbot.util.logging.ExceptionHandler;
 import dev.boarbot.util.logging.Log;
 import net.dv8tion.jda.api.entities.channel.ChannelType;
@@ -32,7 +34,9 @@ public class MessageListener extends ListenerAdapter implements Runnable, Config
 
     @Override
     public void onMessageReceived(@NotNull MessageReceivedEvent event) {
-        new Thread(new MessageListener(event)).start();
+        if (!DispatchUtil.dispatch(DispatchType.MESSAGE, new MessageListener(event))) {
+            Log.warn(event.getAuthor(), this.getClass(), "Message shed due to full dispatch queue", null, true);
+        }
     }
 
     @Override
@@ -2,6 +2,9 @@ package dev.boarbot.listeners;
 
 import dev.boarbot.BoarBotApp;
 import dev.boarbot.modals.ModalHandler;
+import dev.boarbot.util.data.QueryStats;
+import dev.boarbot.util.dispatch.DispatchType;
+import dev.boarbot.util.dispatch.DispatchUtil;
 import dev.boarbot.util.logging.Log;
 import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
@@ -20,7 +23,9 @@ public class ModalListener extends ListenerAdapter implements Runnable {
 
     @Override
     public void onModalInteraction(@NotNull ModalInteractionEvent event) {
-        new Thread(new ModalListener(event)).start();
+        if (!DispatchUtil.dispatch(DispatchType.MODAL, new ModalListener(event))) {
+            Log.warn(event.getUser(), this.getClass(), "Modal submit shed due to full dispatch queue", null, true);
+        }
     }
 
     @Override
@@ -37,6 +42,8 @@ public class ModalListener extends ListenerAdapter implements Runnable {
 
         Log.debug(this.event.getUser(), this.getClass(), "Submitted modal %s".formatted(modalID[2]));
 
+        QueryStats.setSource(modalHandler.getClass().getSimpleName());
+
         try {
             modalHandler.execute(this.event);
             Log.debug(
@@ -52,6 +59,8 @@ public class ModalListener extends ListenerAdapter implements Runnable {
                 "%s threw a runtime exception".formatted(modalHandler.getClass().getSimpleName()),
                 exception
             );
+        } finally {
+            QueryStats.clearSource();
         }
     }
 }
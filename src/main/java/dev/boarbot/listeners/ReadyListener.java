@@ -1,6 +1,7 @@
 package dev.boarbot.listeners;
 
 import dev.boarbot.api.util.Configured;
+import dev.boarbot.bot.StartupTimer;
 import dev.boarbot.jobs.JobScheduler;
 import dev.boarbot.jobs.NotificationJob;
 import dev.boarbot.util.logging.Log;
@@ -42,6 +43,7 @@ public class ReadyListener extends ListenerAdapter implements Configured {
         }
 
         Log.info(this.getClass(), "Bot is online!", true);
+        StartupTimer.markReady();
 
         JobScheduler.scheduleJobs();
         NotificationJob.cacheNotifUsers();
@@ -0,0 +1,19 @@
+package dev.boarbot.listeners;
+
+import dev.boarbot.util.data.top.UsernameCache;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberJoinEvent;
+import net.dv8tion.jda.api.events.user.update.UserUpdateNameEvent;
+import net.dv8tion.jda.api.hooks.ListenerAdapter;
+import org.jetbrains.annotations.NotNull;
+
+public class UserUpdateListener extends ListenerAdapter {
+    @Override
+    public void onUserUpdateName(@NotNull UserUpdateNameEvent event) {
+        UsernameCache.put(event.getUser().getId(), event.getNewName());
+    }
+
+    @Override
+    public void onGuildMemberJoin(@NotNull GuildMemberJoinEvent event) {
+        UsernameCache.put(event.getUser().getId(), event.getUser().getName());
+    }
+}
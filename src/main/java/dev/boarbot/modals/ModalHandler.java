@@ -7,17 +7,18 @@ import dev.boarbot.util.interaction.InteractionUtil;
 import dev.boarbot.util.logging.Log;
 import dev.boarbot.util.modal.ModalUtil;
 import dev.boarbot.util.time.TimeUtil;
+import dev.boarbot.util.time.WheelTimer;
 
 import net.dv8tion.jda.api.entities.User;
 import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
 import net.dv8tion.jda.api.interactions.Interaction;
 
-import java.util.concurrent.*;
+import java.util.concurrent.TimeUnit;
 
 public class ModalHandler implements Configured {
     private final ModalInteractive receiver;
 
-    private final ScheduledFuture<?> future;
+    private final WheelTimer.Timeout timeout;
 
     private final Interaction interaction;
     private final User user;
@@ -35,7 +36,7 @@ public class ModalHandler implements Configured {
         }
 
         BoarBotApp.getBot().getModalHandlers().put(this.interaction.getId() + this.user.getId(), this);
-        this.future = InteractionUtil.scheduler
+        this.timeout = InteractionUtil.scheduler
             .schedule(this::delayStop, idleTime, TimeUnit.MILLISECONDS);
     }
 
@@ -52,7 +53,7 @@ public class ModalHandler implements Configured {
     }
 
     public void stop() {
-        this.future.cancel(false);
+        this.timeout.cancel();
         BoarBotApp.getBot().getModalHandlers().remove(this.interaction.getId() + this.user.getId());
     }
 }
@@ -4,49 +4,36 @@ import dev.boarbot.api.util.Configured;
 import dev.boarbot.bot.config.RarityConfig;
 import dev.boarbot.bot.config.items.BoarItemConfig;
 import dev.boarbot.bot.config.prompts.PromptConfig;
-import dev.boarbot.util.time.TimeUtil;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ThreadLocalRandom;
 
 public final class BoarUtil implements Configured {
     public static String findRarityKey(String boarID) {
-        for (String rarityKey : RARITIES.keySet()) {
-            boolean boarNotExist = !Arrays.asList(RARITIES.get(rarityKey).getBoars()).contains(boarID);
+        String rarityKey = RarityIndex.get().getRarityKey(boarID);
 
-            if (boarNotExist) {
-                continue;
-            }
-
-            return rarityKey;
+        if (rarityKey == null) {
+            throw new IllegalArgumentException("Boar ID (%s) input does not exist".formatted(boarID));
         }
 
-        throw new IllegalArgumentException("Boar ID (%s) input does not exist".formatted(boarID));
+        return rarityKey;
     }
 
     public static String getPriorRarityKey(String rarityKey) {
-        Iterator<String> iterator = RARITIES.keySet().iterator();
-        String priorRarityKey = null;
-
-        while (iterator.hasNext()) {
-            String curRarityKey = iterator.next();
-
-            if (curRarityKey.equals(rarityKey)) {
-                break;
-            }
-
-            priorRarityKey = curRarityKey;
-        }
-
-        return priorRarityKey;
+        RarityIndex index = RarityIndex.get();
+        return index.getRarityKey(index.getOrdinal(rarityKey) - 1);
     }
 
     public static String getNextRarityKey(String rarityKey) {
-        Iterator<String> iterator = RARITIES.keySet().iterator();
+        RarityIndex index = RarityIndex.get();
+        int ordinal = index.getOrdinal(rarityKey);
+        String nextRarityKey = ordinal < 0 ? null : index.getRarityKey(ordinal + 1);
 
-        while (!iterator.next().equals(rarityKey));
+        if (nextRarityKey == null) {
+            throw new NoSuchElementException("Rarity (%s) has no next rarity".formatted(rarityKey));
+        }
 
-        return iterator.next();
+        return nextRarityKey;
     }
 
     public static String getHigherRarity(String rarity1, String rarity2) {
@@ -64,136 +51,45 @@ public final class BoarUtil implements Configured {
     }
 
     public static List<String> getRandBoarIDs(long blessings, boolean isSkyblockGuild) {
-        List<String> boarsObtained = new ArrayList<>();
-
-        Map<String, Double> weights = new HashMap<>();
-        double maxWeight = 0;
-        double totalWeight = 0;
-
-        double newMaxWeight = 0;
-        String newMaxWeightKey = "";
-
-        int rarityIncreaseConst = NUMS.getRarityIncreaseConst();
-
-        for (String rarityKey : RARITIES.keySet()) {
-            double weight = RARITIES.get(rarityKey).getWeight();
-
-            maxWeight = Math.max(maxWeight, weight);
-            weights.put(rarityKey, RARITIES.get(rarityKey).getWeight());
-        }
-
-        for (String weightKey : weights.keySet()) {
-            double weight = weights.get(weightKey);
-
-            if ((TimeUtil.isHalloween() || TimeUtil.isChristmas()) && weightKey.equals("common")) {
-                weight = 0;
-                weights.put(weightKey, weight);
-            }
-
-            if (!TimeUtil.isHalloween() && weightKey.equals("halloween")) {
-                weight = 0;
-                weights.put(weightKey, weight);
-            }
-
-            if (!TimeUtil.isChristmas() && weightKey.equals("christmas")) {
-                weight = 0;
-                weights.put(weightKey, weight);
-            }
-
-            if (weight == 0) {
-                continue;
-            }
-
-            weight = weight * (
-                Math.atan((blessings * weight) / rarityIncreaseConst) * (maxWeight - weight) / weight + 1
-            );
-
-            if (weight > newMaxWeight) {
-                newMaxWeight = weight;
-                newMaxWeightKey = weightKey;
-            }
-
-            totalWeight += weight;
-            weights.put(weightKey, weight);
-        }
-
-        double truthWeight = 0;
-
-        if (blessings >= 100000) {
-            truthWeight = totalWeight / 50;
-        } else if (blessings >= 10000) {
-            truthWeight = totalWeight / 750;
-        } else if (blessings >= 1000) {
-            truthWeight = totalWeight / 10000;
-        }
-
-        weights.put("truth", truthWeight);
-        weights.put(newMaxWeightKey, newMaxWeight - truthWeight);
-
-        Map<String, Double> sortedWeights = weights.entrySet()
-            .stream()
-            .sorted(Map.Entry.comparingByValue())
-            .collect(Collectors.toMap(
-                    Map.Entry::getKey,
-                    Map.Entry::getValue,
-                    (oldValue, newValue) -> oldValue, LinkedHashMap::new
-                )
-            );
-
-        String lastWeightKey = sortedWeights.keySet().stream().toList().getLast();
+        RollTable rollTable = RollTable.get(blessings);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
         int numBoars = 1;
 
         for (int i=3; i<6; i++) {
-            if (Math.random() < blessings / Math.pow(10, i)) {
+            if (random.nextDouble() < blessings / Math.pow(10, i)) {
                 numBoars++;
             }
         }
 
-        for (int i=0; i<numBoars; i++) {
-            double randRarity = Math.random();
-            double priorWeightTotal = 0;
-
-            for (Map.Entry<String, Double> entry : sortedWeights.entrySet()) {
-                double curRandNeeded = (entry.getValue() + priorWeightTotal) / totalWeight;
-
-                if (randRarity > curRandNeeded && !entry.getKey().equals(lastWeightKey)) {
-                    priorWeightTotal += entry.getValue();
-                    continue;
-                }
+        List<String> boarsObtained = new ArrayList<>(numBoars);
 
-                String boarObtained = BoarUtil.findValid(entry.getKey(), isSkyblockGuild);
-                boarsObtained.add(boarObtained);
-                break;
-            }
+        for (int i=0; i<numBoars; i++) {
+            boarsObtained.add(BoarUtil.findValid(rollTable.roll(random.nextDouble()), isSkyblockGuild));
         }
 
         return boarsObtained;
     }
 
     public static String findValid(String rarityKey, boolean isSkyblockGuild) {
-        RarityConfig rarityConfig = RARITIES.get(rarityKey);
-
-        double randBoar = Math.random();
-        List<String> validBoars = new ArrayList<>();
+        int ordinal = RarityIndex.get().getOrdinal(rarityKey);
 
-        for (String boarID : rarityConfig.getBoars()) {
-            BoarItemConfig boarConfig = BOARS.get(boarID);
-            boolean blacklisted = boarConfig.isBlacklisted();
-            boolean isSecret = boarConfig.isSecret();
-            boolean isSkyblockBoar = boarConfig.isSB();
+        if (ordinal < 0) {
+            throw new IllegalArgumentException("Unable to find a boar ID for rarity: " + rarityKey);
+        }
 
-            if (blacklisted || isSecret || isSkyblockBoar && !isSkyblockGuild) {
-                continue;
-            }
+        return BoarUtil.findValid(ordinal, isSkyblockGuild);
+    }
 
-            validBoars.add(boarID);
-        }
+    private static String findValid(int rarityOrdinal, boolean isSkyblockGuild) {
+        String[] validBoars = RarityIndex.get().getValidBoars(rarityOrdinal, isSkyblockGuild);
 
-        if (validBoars.isEmpty()) {
-            throw new IllegalArgumentException("Unable to find a boar ID for rarity: " + rarityKey);
+        if (validBoars.length == 0) {
+            throw new IllegalArgumentException(
+                "Unable to find a boar ID for rarity: " + RarityIndex.get().getRarityKey(rarityOrdinal)
+            );
         }
 
-        return validBoars.get((int) (randBoar * validBoars.size()));
+        return validBoars[ThreadLocalRandom.current().nextInt(validBoars.length)];
     }
 
     public static String getPromptStr(String promptID) {
@@ -220,6 +116,32 @@ public final class BoarUtil implements Configured {
         return num;
     }
 
+    public static int getNumResearcherBoars(boolean includeSkyblock) {
+        return RarityIndex.get().getNumResearcherBoars(includeSkyblock);
+    }
+
+    public static int getUniqueBless(int uniqueBoars, int numSkyblock, int numNonResearcher) {
+        int numResearcherBoars = Math.max(BoarUtil.getNumResearcherBoars(numSkyblock > 0), 1);
+        int maxUniqueBless = NUMS.getMaxUniqueBless();
+
+        return (int) Math.min(
+            Math.floor((double) (uniqueBoars - numNonResearcher) / numResearcherBoars * maxUniqueBless),
+            maxUniqueBless
+        );
+    }
+
+    public static int getResearcherTier(int uniqueBoars, int numNonResearcher) {
+        if (uniqueBoars == BOARS.size()) {
+            return 1;
+        }
+
+        if (uniqueBoars - numNonResearcher == BoarUtil.getNumResearcherBoars(true)) {
+            return 0;
+        }
+
+        return -1;
+    }
+
     public static int getNumRarityBoars(RarityConfig rarityConfig) {
         int num = 0;
 
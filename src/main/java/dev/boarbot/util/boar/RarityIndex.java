@@ -0,0 +1,116 @@
+package dev.boarbot.util.boar;
+
+import dev.boarbot.bot.config.RarityConfig;
+import dev.boarbot.bot.config.items.BoarItemConfig;
+
+import java.util.*;
+
+/**
+ * Immutable lookup tables derived from the rarity and boar configs. Built once when config loads so per-boar rarity
+ * lookups, neighbouring rarities, researcher boar counts and the boars a roll can land on are array or hash lookups
+ * instead of scans.
+ */
+public final class RarityIndex {
+    private static volatile RarityIndex current = new RarityIndex(Map.of(), Map.of());
+
+    private final String[] rarityKeys;
+    private final double[] baseWeights;
+    private final Map<String, Integer> ordinals;
+    private final Map<String, String> boarRarities;
+    private final String[][] validBoars;
+    private final String[][] validSkyblockBoars;
+    private final int numResearcherBoars;
+    private final int numSkyblockResearcherBoars;
+
+    private RarityIndex(Map<String, RarityConfig> rarities, Map<String, BoarItemConfig> boars) {
+        int numRarities = rarities.size();
+
+        this.rarityKeys = rarities.keySet().toArray(new String[0]);
+        this.baseWeights = new double[numRarities];
+        this.validBoars = new String[numRarities][];
+        this.validSkyblockBoars = new String[numRarities][];
+
+        Map<String, Integer> ordinals = new HashMap<>();
+        Map<String, String> boarRarities = new HashMap<>();
+        int numResearcherBoars = 0;
+        int numSkyblockResearcherBoars = 0;
+
+        for (int i=0; i<numRarities; i++) {
+            RarityConfig rarityConfig = rarities.get(this.rarityKeys[i]);
+            List<String> valid = new ArrayList<>();
+            List<String> validSkyblock = new ArrayList<>();
+
+            ordinals.put(this.rarityKeys[i], i);
+            this.baseWeights[i] = rarityConfig.getWeight();
+
+            for (String boarID : rarityConfig.getBoars()) {
+                boarRarities.putIfAbsent(boarID, this.rarityKeys[i]);
+
+                BoarItemConfig boarConfig = boars.get(boarID);
+
+                if (rarityConfig.isResearcherNeed()) {
+                    numSkyblockResearcherBoars++;
+
+                    if (boarConfig == null || !boarConfig.isSB()) {
+                        numResearcherBoars++;
+                    }
+                }
+
+                if (boarConfig == null || boarConfig.isBlacklisted() || boarConfig.isSecret()) {
+                    continue;
+                }
+
+                if (!boarConfig.isSB()) {
+                    valid.add(boarID);
+                }
+
+                validSkyblock.add(boarID);
+            }
+
+            this.validBoars[i] = valid.toArray(new String[0]);
+            this.validSkyblockBoars[i] = validSkyblock.toArray(new String[0]);
+        }
+
+        this.ordinals = Map.copyOf(ordinals);
+        this.boarRarities = Map.copyOf(boarRarities);
+        this.numResearcherBoars = numResearcherBoars;
+        this.numSkyblockResearcherBoars = numSkyblockResearcherBoars;
+    }
+
+    public static void build(Map<String, RarityConfig> rarities, Map<String, BoarItemConfig> boars) {
+        current = new RarityIndex(rarities, boars);
+        RollTable.clear();
+    }
+
+    public static RarityIndex get() {
+        return current;
+    }
+
+    public String getRarityKey(String boarID) {
+        return this.boarRarities.get(boarID);
+    }
+
+    public int getOrdinal(String rarityKey) {
+        return this.ordinals.getOrDefault(rarityKey, -1);
+    }
+
+    public int getNumRarities() {
+        return this.rarityKeys.length;
+    }
+
+    public String getRarityKey(int ordinal) {
+        return ordinal >= 0 && ordinal < this.rarityKeys.length ? this.rarityKeys[ordinal] : null;
+    }
+
+    public double getBaseWeight(int ordinal) {
+        return this.baseWeights[ordinal];
+    }
+
+    public String[] getValidBoars(int ordinal, boolean isSkyblockGuild) {
+        return isSkyblockGuild ? this.validSkyblockBoars[ordinal] : this.validBoars[ordinal];
+    }
+
+    public int getNumResearcherBoars(boolean includeSkyblock) {
+        return includeSkyblock ? this.numSkyblockResearcherBoars : this.numResearcherBoars;
+    }
+}
@@ -0,0 +1,150 @@
+package dev.boarbot.util.boar;
+
+import dev.boarbot.api.util.Configured;
+import dev.boarbot.util.time.TimeUtil;
+
+import java.util.Arrays;
+
+/**
+ * Cumulative rarity weights for one blessing value and season. Tables are kept in a small direct-mapped cache keyed
+ * by blessings, so a daily roll only pays for the weight transform the first time a blessing value is seen.
+ */
+final class RollTable implements Configured {
+    private final static int CACHE_SIZE = 1024;
+    private final static int NUM_SEASONS = 4;
+
+    private static volatile RollTable[][] cache = new RollTable[NUM_SEASONS][CACHE_SIZE];
+
+    private final long blessings;
+    private final int[] ordinals;
+    private final double[] cumulative;
+
+    private RollTable(long blessings, boolean isHalloween, boolean isChristmas) {
+        RarityIndex index = RarityIndex.get();
+        int numRarities = index.getNumRarities();
+        double[] weights = new double[numRarities];
+
+        double maxWeight = 0;
+        double totalWeight = 0;
+
+        double newMaxWeight = 0;
+        int newMaxOrdinal = -1;
+
+        int rarityIncreaseConst = NUMS.getRarityIncreaseConst();
+
+        for (int i=0; i<numRarities; i++) {
+            maxWeight = Math.max(maxWeight, index.getBaseWeight(i));
+        }
+
+        for (int i=0; i<numRarities; i++) {
+            String rarityKey = index.getRarityKey(i);
+            double weight = index.getBaseWeight(i);
+
+            boolean offSeason = (isHalloween || isChristmas) && rarityKey.equals("common") ||
+                !isHalloween && rarityKey.equals("halloween") ||
+                !isChristmas && rarityKey.equals("christmas");
+
+            if (offSeason || weight == 0) {
+                continue;
+            }
+
+            weight = weight * (
+                Math.atan((blessings * weight) / rarityIncreaseConst) * (maxWeight - weight) / weight + 1
+            );
+
+            if (weight > newMaxWeight) {
+                newMaxWeight = weight;
+                newMaxOrdinal = i;
+            }
+
+            totalWeight += weight;
+            weights[i] = weight;
+        }
+
+        double truthWeight = 0;
+
+        if (blessings >= 100000) {
+            truthWeight = totalWeight / 50;
+        } else if (blessings >= 10000) {
+            truthWeight = totalWeight / 750;
+        } else if (blessings >= 1000) {
+            truthWeight = totalWeight / 10000;
+        }
+
+        int truthOrdinal = index.getOrdinal("truth");
+
+        if (truthOrdinal >= 0) {
+            weights[truthOrdinal] = truthWeight;
+        }
+
+        if (newMaxOrdinal >= 0) {
+            weights[newMaxOrdinal] = newMaxWeight - truthWeight;
+        }
+
+        Integer[] sorted = new Integer[numRarities];
+        int numWeighted = 0;
+
+        for (int i=0; i<numRarities; i++) {
+            if (weights[i] > 0) {
+                sorted[numWeighted++] = i;
+            }
+        }
+
+        Arrays.sort(sorted, 0, numWeighted, (o1, o2) -> Double.compare(weights[o1], weights[o2]));
+
+        this.blessings = blessings;
+        this.ordinals = new int[numWeighted];
+        this.cumulative = new double[numWeighted];
+
+        double priorWeightTotal = 0;
+
+        for (int i=0; i<numWeighted; i++) {
+            this.ordinals[i] = sorted[i];
+            this.cumulative[i] = (weights[sorted[i]] + priorWeightTotal) / totalWeight;
+            priorWeightTotal += weights[sorted[i]];
+        }
+    }
+
+    static RollTable get(long blessings) {
+        boolean isHalloween = TimeUtil.isHalloween();
+        boolean isChristmas = TimeUtil.isChristmas();
+
+        RollTable[] seasonCache = cache[(isHalloween ? 1 : 0) | (isChristmas ? 2 : 0)];
+        int slot = (int) (blessings & (CACHE_SIZE - 1));
+        RollTable table = seasonCache[slot];
+
+        if (table == null || table.blessings != blessings) {
+            table = new RollTable(blessings, isHalloween, isChristmas);
+            seasonCache[slot] = table;
+        }
+
+        return table;
+    }
+
+    static void clear() {
+        cache = new RollTable[NUM_SEASONS][CACHE_SIZE];
+    }
+
+    /**
+     * Finds the first rarity whose cumulative weight reaches the roll, falling back to the heaviest rarity.
+     *
+     * @param randRarity A roll in [0, 1)
+     * @return The ordinal of the rolled rarity
+     */
+    int roll(double randRarity) {
+        int low = 0;
+        int high = this.cumulative.length - 1;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+
+            if (this.cumulative[mid] < randRarity) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return this.ordinals[low];
+    }
+}
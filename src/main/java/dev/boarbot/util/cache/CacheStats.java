@@ -0,0 +1,20 @@
+package dev.boarbot.util.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+class CacheStats {
+    final LongAdder hits = new LongAdder();
+    final LongAdder misses = new LongAdder();
+    final LongAdder loads = new LongAdder();
+    final LongAdder evictions = new LongAdder();
+
+    String getMetricsString(String prefix) {
+        return "%s: %,d hit, %,d miss, %,d load, %,d evict".formatted(
+            prefix,
+            this.hits.sumThenReset(),
+            this.misses.sumThenReset(),
+            this.loads.sumThenReset(),
+            this.evictions.sumThenReset()
+        );
+    }
+}
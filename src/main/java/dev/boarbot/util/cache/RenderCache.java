@@ -0,0 +1,170 @@
+package dev.boarbot.util.cache;
+
+import dev.boarbot.util.logging.Log;
+import dev.boarbot.util.resource.ResourceUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed disk store for rendered images. Entries live in a directory named after a hash of every config
+ * file, config flag and shared asset that can affect rendering, so any change to them starts a fresh directory and
+ * the old one is deleted on the next boot. Bump {@link #FORMAT_VERSION} when rendering code changes output.
+ */
+public class RenderCache {
+    private final static int FORMAT_VERSION = 1;
+    private final static Path cacheDir = Paths.get("rendercache/");
+    private final static String[] SHARED_ASSETS = {
+        ResourceUtil.fontPath,
+        ResourceUtil.itemUnderlayPath,
+        ResourceUtil.itemBackplatePath,
+        ResourceUtil.itemShadowPathL,
+        ResourceUtil.itemShadowPathR,
+        ResourceUtil.newTagPath,
+        ResourceUtil.rarityBorderPath
+    };
+
+    private final static Map<String, String> assetHashes = new ConcurrentHashMap<>();
+    private final static LongAdder hits = new LongAdder();
+    private final static LongAdder misses = new LongAdder();
+    private final static LongAdder writes = new LongAdder();
+
+    private static Path generationDir = null;
+
+    public static void init(String renderFlags, String... configPaths) {
+        try {
+            MessageDigest digest = RenderCache.newDigest();
+            digest.update(Integer.toString(FORMAT_VERSION).getBytes(StandardCharsets.UTF_8));
+            digest.update(renderFlags.getBytes(StandardCharsets.UTF_8));
+
+            for (String configPath : configPaths) {
+                digest.update(RenderCache.readResource(configPath));
+            }
+
+            for (String assetPath : SHARED_ASSETS) {
+                digest.update(RenderCache.readResource(assetPath));
+            }
+
+            String generation = HexFormat.of().formatHex(digest.digest()).substring(0, 16);
+            Path newGenerationDir = cacheDir.resolve(generation);
+
+            Files.createDirectories(newGenerationDir);
+            RenderCache.removeOldGenerations(generation);
+
+            generationDir = newGenerationDir;
+            Log.debug(RenderCache.class, "Using render cache generation %s".formatted(generation));
+        } catch (IOException exception) {
+            generationDir = null;
+            Log.warn(RenderCache.class, "Unable to set up render cache. Renders will not persist", exception);
+        }
+    }
+
+    public static byte[] get(String key) {
+        if (generationDir == null) {
+            return null;
+        }
+
+        Path entryPath = generationDir.resolve(RenderCache.hashKey(key));
+
+        try {
+            byte[] bytes = Files.readAllBytes(entryPath);
+            hits.increment();
+            return bytes;
+        } catch (NoSuchFileException exception) {
+            misses.increment();
+            return null;
+        } catch (IOException exception) {
+            misses.increment();
+            Log.warn(RenderCache.class, "Failed to read render cache entry for %s".formatted(key), exception);
+            return null;
+        }
+    }
+
+    public static void put(String key, byte[] bytes) {
+        if (generationDir == null || bytes == null) {
+            return;
+        }
+
+        String entryName = RenderCache.hashKey(key);
+        Path entryPath = generationDir.resolve(entryName);
+
+        try {
+            Path tempPath = Files.createTempFile(generationDir, entryName, ".tmp");
+            Files.write(tempPath, bytes);
+            Files.move(tempPath, entryPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            writes.increment();
+        } catch (IOException exception) {
+            Log.warn(RenderCache.class, "Failed to write render cache entry for %s".formatted(key), exception);
+        }
+    }
+
+    public static String getAssetHash(String assetPath) throws IOException {
+        String assetHash = assetHashes.get(assetPath);
+
+        if (assetHash != null) {
+            return assetHash;
+        }
+
+        assetHash = HexFormat.of().formatHex(RenderCache.newDigest().digest(RenderCache.readResource(assetPath)));
+        assetHashes.put(assetPath, assetHash);
+
+        return assetHash;
+    }
+
+    public static String getMetricsString() {
+        return "%,d hit, %,d miss, %,d write".formatted(
+            hits.sumThenReset(), misses.sumThenReset(), writes.sumThenReset()
+        );
+    }
+
+    private static void removeOldGenerations(String generation) throws IOException {
+        try (Stream<Path> generations = Files.list(cacheDir)) {
+            List<Path> oldGenerationDirs = generations
+                .filter(dir -> !dir.getFileName().toString().equals(generation))
+                .toList();
+
+            for (Path oldGenerationDir : oldGenerationDirs) {
+                try (Stream<Path> oldEntries = Files.walk(oldGenerationDir)) {
+                    for (Path oldEntry : oldEntries.sorted(Comparator.reverseOrder()).toList()) {
+                        Files.deleteIfExists(oldEntry);
+                    }
+                }
+
+                Log.debug(RenderCache.class, "Removed stale render cache %s".formatted(oldGenerationDir));
+            }
+        }
+    }
+
+    private static byte[] readResource(String path) throws IOException {
+        try (InputStream is = ResourceUtil.getResourceStream(path)) {
+            if (is == null) {
+                throw new NoSuchFileException(path);
+            }
+
+            return is.readAllBytes();
+        }
+    }
+
+    private static String hashKey(String key) {
+        return HexFormat.of().formatHex(RenderCache.newDigest().digest(key.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package dev.boarbot.util.cache;
+
+import dev.boarbot.util.logging.Log;
+
+import java.lang.ref.SoftReference;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+public class WeightedCache<V> {
+    private static final String OTHER_PREFIX = "other";
+    private static final long BYTES_PER_MB = 1024 * 1024;
+
+    private final String name;
+    private final LongSupplier maxWeight;
+    private final ToLongFunction<V> weigher;
+    private final boolean softSpill;
+    private final String[] prefixes;
+
+    private final LinkedHashMap<String, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, SoftReference<V>> spilled = new ConcurrentHashMap<>();
+    private final Map<String, Supplier<V>> loaders = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, CacheStats> stats = new ConcurrentHashMap<>();
+    private long weight = 0;
+
+    public WeightedCache(
+        String name, LongSupplier maxWeight, ToLongFunction<V> weigher, boolean softSpill, String... prefixes
+    ) {
+        this.name = name;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.softSpill = softSpill;
+        this.prefixes = prefixes.clone();
+
+        Arrays.sort(this.prefixes, Comparator.comparingInt(String::length).reversed());
+    }
+
+    public V get(String key) {
+        CacheStats keyStats = this.getStats(key);
+
+        synchronized (this) {
+            V value = this.entries.get(key);
+
+            if (value != null) {
+                keyStats.hits.increment();
+                return value;
+            }
+        }
+
+        keyStats.misses.increment();
+
+        CompletableFuture<V> newLoad = new CompletableFuture<>();
+        CompletableFuture<V> curLoad = this.inFlight.putIfAbsent(key, newLoad);
+
+        if (curLoad != null) {
+            return curLoad.join();
+        }
+
+        V value = null;
+
+        try {
+            value = this.load(key, keyStats);
+        } finally {
+            newLoad.complete(value);
+            this.inFlight.remove(key, newLoad);
+        }
+
+        return value;
+    }
+
+    private V load(String key, CacheStats keyStats) {
+        synchronized (this) {
+            V value = this.entries.get(key);
+
+            if (value != null) {
+                return value;
+            }
+        }
+
+        SoftReference<V> spilledRef = this.spilled.remove(key);
+        V value = spilledRef == null ? null : spilledRef.get();
+
+        if (value == null && this.loaders.containsKey(key)) {
+            try {
+                value = this.loaders.get(key).get();
+                keyStats.loads.increment();
+            } catch (RuntimeException exception) {
+                Log.error(this.getClass(), "Failed to load %s into %s cache".formatted(key, this.name), exception);
+                return null;
+            }
+        }
+
+        if (value != null) {
+            this.put(key, value);
+        }
+
+        return value;
+    }
+
+    public void put(String key, V value) {
+        long valueWeight = this.weigher.applyAsLong(value);
+
+        synchronized (this) {
+            V oldValue = this.entries.put(key, value);
+
+            if (oldValue != null) {
+                this.weight -= this.weigher.applyAsLong(oldValue);
+            }
+
+            this.weight += valueWeight;
+            this.evict();
+        }
+    }
+
+    public void putLoader(String key, Supplier<V> loader) {
+        this.loaders.put(key, loader);
+    }
+
+    public synchronized void remove(String key) {
+        V oldValue = this.entries.remove(key);
+
+        if (oldValue != null) {
+            this.weight -= this.weigher.applyAsLong(oldValue);
+        }
+
+        this.spilled.remove(key);
+    }
+
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    public synchronized long getWeight() {
+        return this.weight;
+    }
+
+    private void evict() {
+        long maxWeight = this.maxWeight.getAsLong();
+
+        if (maxWeight <= 0) {
+            return;
+        }
+
+        Iterator<Map.Entry<String, V>> iterator = this.entries.entrySet().iterator();
+
+        while (this.weight > maxWeight && this.entries.size() > 1 && iterator.hasNext()) {
+            Map.Entry<String, V> eldest = iterator.next();
+            iterator.remove();
+
+            this.weight -= this.weigher.applyAsLong(eldest.getValue());
+            this.getStats(eldest.getKey()).evictions.increment();
+
+            if (this.softSpill) {
+                this.spilled.put(eldest.getKey(), new SoftReference<>(eldest.getValue()));
+            }
+        }
+    }
+
+    private CacheStats getStats(String key) {
+        String keyPrefix = OTHER_PREFIX;
+
+        for (String prefix : this.prefixes) {
+            if (key.startsWith(prefix)) {
+                keyPrefix = prefix;
+                break;
+            }
+        }
+
+        return this.stats.computeIfAbsent(keyPrefix, k -> new CacheStats());
+    }
+
+    public String getMetricsString() {
+        this.spilled.values().removeIf(ref -> ref.get() == null);
+
+        StringJoiner metricsJoiner = new StringJoiner(" | ");
+
+        for (Map.Entry<String, CacheStats> prefixStats : new TreeMap<>(this.stats).entrySet()) {
+            metricsJoiner.add(prefixStats.getValue().getMetricsString(prefixStats.getKey()));
+        }
+
+        long maxWeight = this.maxWeight.getAsLong();
+
+        return "%s [%,d entries, %,dMB/%s, %,d spilled] %s".formatted(
+            this.name,
+            this.size(),
+            this.getWeight() / BYTES_PER_MB,
+            maxWeight <= 0 ? "unbounded" : "%,dMB".formatted(maxWeight / BYTES_PER_MB),
+            this.spilled.size(),
+            metricsJoiner.toString()
+        );
+    }
+}
@@ -6,8 +6,34 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class BoarDataUtil implements Configured {
+    private final static Map<String, AtomicLong> editionCounters = new ConcurrentHashMap<>();
+
+    public static void loadEditions(Connection connection) throws SQLException {
+        String query = """
+            SELECT boar_id, MAX(edition) AS max_edition
+            FROM collected_boars
+            GROUP BY boar_id;
+        """;
+
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            try (ResultSet results = statement.executeQuery()) {
+                while (results.next()) {
+                    editionCounters.computeIfAbsent(results.getString("boar_id"), k -> new AtomicLong())
+                        .accumulateAndGet(results.getLong("max_edition"), Math::max);
+                }
+            }
+        }
+    }
+
+    public static long nextEdition(String boarID) {
+        return editionCounters.computeIfAbsent(boarID, k -> new AtomicLong()).incrementAndGet();
+    }
+
     public static int getTotalBoars(Connection connection) throws SQLException {
         String query = """
             SELECT COUNT(*)
@@ -2,6 +2,7 @@ package dev.boarbot.util.data;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import dev.boarbot.BoarBotApp;
 import dev.boarbot.bot.DatabaseUpdater;
 import dev.boarbot.bot.EnvironmentType;
@@ -75,6 +76,29 @@ public class DataUtil {
     }
 
     public static Connection getConnection() throws SQLException {
-        return ds.getConnection();
+        long startTime = System.nanoTime();
+        Connection connection = ds.getConnection();
+        QueryStats.recordPoolWait(System.nanoTime() - startTime);
+
+        return InstrumentedConnection.wrap(connection);
+    }
+
+    public static String getPoolMetricsString() {
+        HikariPoolMXBean pool = ds.getHikariPoolMXBean();
+
+        if (pool == null) {
+            return "Not started";
+        }
+
+        return "%,d active | %,d idle | %,d total | %,d waiting".formatted(
+            pool.getActiveConnections(),
+            pool.getIdleConnections(),
+            pool.getTotalConnections(),
+            pool.getThreadsAwaitingConnection()
+        );
+    }
+
+    public static UnitOfWork beginUnitOfWork() throws SQLException {
+        return new UnitOfWork(DataUtil.getConnection());
     }
 }
@@ -5,8 +5,6 @@ import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
-import net.dv8tion.jda.api.exceptions.ErrorResponseException;
-import net.dv8tion.jda.api.exceptions.InsufficientPermissionException;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -84,8 +82,9 @@ public class GuildDataUtil {
         return channels;
     }
 
-    public static Set<Message> getPowerupMessages(Connection connection) throws SQLException {
-        Set<Message> messages = new HashSet<>();
+    public static Map<TextChannel, List<String>> getPowerupMessageIDs(Connection connection) throws SQLException {
+        Map<TextChannel, List<String>> messageIDs = new HashMap<>();
+        JDA jda = BoarBotApp.getBot().getJDA();
 
         String query = """
             SELECT
@@ -102,17 +101,25 @@ public class GuildDataUtil {
         try (PreparedStatement statement = connection.prepareStatement(query)) {
             try (ResultSet results = statement.executeQuery()) {
                 while (results.next()) {
-                    String guildID = results.getString("guild_id");
-                    List<TextChannel> guildChannels = getGuildChannels(guildID, results);
-
-                    tryAddPowerupMessage(results.getString("powerup_message_one"), guildChannels, 0, messages);
-                    tryAddPowerupMessage(results.getString("powerup_message_two"), guildChannels, 1, messages);
-                    tryAddPowerupMessage(results.getString("powerup_message_three"), guildChannels, 2, messages);
+                    Guild guild = jda.getGuildById(results.getString("guild_id"));
+
+                    tryAddPowerupMessage(
+                        results.getString("channel_one"), results.getString("powerup_message_one"), guild, messageIDs
+                    );
+                    tryAddPowerupMessage(
+                        results.getString("channel_two"), results.getString("powerup_message_two"), guild, messageIDs
+                    );
+                    tryAddPowerupMessage(
+                        results.getString("channel_three"),
+                        results.getString("powerup_message_three"),
+                        guild,
+                        messageIDs
+                    );
                 }
             }
         }
 
-        return messages;
+        return messageIDs;
     }
 
     public static void updatePowerupMessages(Connection connection, List<Message> messages) throws SQLException {
@@ -195,16 +202,13 @@ public class GuildDataUtil {
     }
 
     private static void tryAddPowerupMessage(
-        String messageID, List<TextChannel> guildChannels, int index, Set<Message> messages
+        String channelID, String messageID, Guild guild, Map<TextChannel, List<String>> messageIDs
     ) {
-        try {
-            Message message = messageID != null && guildChannels.size() > index
-                ? guildChannels.get(index).retrieveMessageById(messageID).complete()
-                : null;
-            if (message != null) {
-                messages.add(message);
-            }
-        } catch (ErrorResponseException | InsufficientPermissionException ignored) {}
+        TextChannel channel = channelID != null && guild != null ? guild.getTextChannelById(channelID) : null;
+
+        if (channel != null && messageID != null) {
+            messageIDs.computeIfAbsent(channel, k -> new ArrayList<>()).add(messageID);
+        }
     }
 
     public static int getTotalGuilds(Connection connection) throws SQLException {
@@ -0,0 +1,143 @@
+package dev.boarbot.util.data;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Wraps pooled connections so every statement they create reports its execution time, failures and rows to
+ * {@link QueryStats}. Anything that is not an execute call passes straight through to the driver.
+ */
+class InstrumentedConnection {
+    private final static Set<String> EXECUTE_METHODS = Set.of(
+        "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch"
+    );
+
+    private final static class StatementState {
+        private final Statement statement;
+        private String sql;
+
+        private StatementState(Statement statement, String sql) {
+            this.statement = statement;
+            this.sql = sql;
+        }
+    }
+
+    static Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+                Object result = InstrumentedConnection.invoke(method, connection, args);
+
+                return switch (method.getName()) {
+                    case "prepareStatement" -> InstrumentedConnection.wrapStatement(
+                        proxy, (Statement) result, QueryStats.normalize((String) args[0]), PreparedStatement.class
+                    );
+                    case "createStatement" -> InstrumentedConnection.wrapStatement(
+                        proxy, (Statement) result, null, Statement.class
+                    );
+                    default -> result;
+                };
+            }
+        );
+    }
+
+    private static Object wrapStatement(Object connection, Statement statement, String sql, Class<?> type) {
+        StatementState state = new StatementState(statement, sql);
+
+        return Proxy.newProxyInstance(
+            type.getClassLoader(),
+            new Class<?>[] {type},
+            (proxy, method, args) -> {
+                String methodName = method.getName();
+
+                // Plain statements carry their SQL in the call rather than at creation
+                if (args != null && args.length > 0 && args[0] instanceof String sqlArg) {
+                    if (methodName.equals("addBatch") || EXECUTE_METHODS.contains(methodName)) {
+                        state.sql = QueryStats.normalize(sqlArg);
+                    }
+                }
+
+                if (methodName.equals("getConnection")) {
+                    return connection;
+                }
+
+                if (!EXECUTE_METHODS.contains(methodName) || state.sql == null) {
+                    Object result = InstrumentedConnection.invoke(method, state.statement, args);
+
+                    return methodName.equals("getResultSet") && result != null
+                        ? InstrumentedConnection.wrapResultSet((ResultSet) result, state.sql)
+                        : result;
+                }
+
+                long startTime = System.nanoTime();
+                boolean failed = true;
+
+                try {
+                    Object result = InstrumentedConnection.invoke(method, state.statement, args);
+                    failed = false;
+
+                    if (result instanceof ResultSet resultSet) {
+                        return InstrumentedConnection.wrapResultSet(resultSet, state.sql);
+                    } else if (result instanceof Number updated) {
+                        QueryStats.recordRows(state.sql, updated.longValue());
+                    } else if (result instanceof int[] updated) {
+                        QueryStats.recordRows(state.sql, Arrays.stream(updated).filter(n -> n > 0).sum());
+                    } else if (result instanceof long[] updated) {
+                        QueryStats.recordRows(state.sql, Arrays.stream(updated).filter(n -> n > 0).sum());
+                    }
+
+                    return result;
+                } finally {
+                    QueryStats.recordQuery(state.sql, System.nanoTime() - startTime, failed);
+                }
+            }
+        );
+    }
+
+    private static ResultSet wrapResultSet(ResultSet resultSet, String sql) {
+        if (sql == null) {
+            return resultSet;
+        }
+
+        long[] rows = {0};
+
+        return (ResultSet) Proxy.newProxyInstance(
+            ResultSet.class.getClassLoader(),
+            new Class<?>[] {ResultSet.class},
+            (proxy, method, args) -> {
+                Object result = InstrumentedConnection.invoke(method, resultSet, args);
+
+                switch (method.getName()) {
+                    case "next" -> {
+                        if ((Boolean) result) {
+                            rows[0]++;
+                        }
+                    }
+                    case "close" -> {
+                        QueryStats.recordRows(sql, rows[0]);
+                        rows[0] = 0;
+                    }
+                    default -> {}
+                }
+
+                return result;
+            }
+        );
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException exception) {
+            throw exception.getCause();
+        }
+    }
+}
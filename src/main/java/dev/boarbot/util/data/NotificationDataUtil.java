@@ -0,0 +1,111 @@
+package dev.boarbot.util.data;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class NotificationDataUtil {
+    public static boolean startRun(LocalDate runDay, Connection connection) throws SQLException {
+        String query = """
+            INSERT IGNORE INTO notification_runs (run_day)
+            VALUES (?);
+        """;
+
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setDate(1, Date.valueOf(runDay));
+            return statement.executeUpdate() > 0;
+        }
+    }
+
+    public static LocalDate getLatestUnfinishedRun(Connection connection) throws SQLException {
+        String query = """
+            SELECT MAX(run_day) AS run_day
+            FROM notification_runs
+            WHERE finished = false;
+        """;
+
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            try (ResultSet results = statement.executeQuery()) {
+                if (results.next() && results.getDate("run_day") != null) {
+                    return results.getDate("run_day").toLocalDate();
+                }
+            }
+        }
+
+        return null;
+    }
+
+    public static void finishRun(LocalDate runDay, Connection connection) throws SQLException {
+        String query = """
+            UPDATE notification_runs
+            SET finished = true
+            WHERE run_day = ?;
+        """;
+
+        String cleanupQuery = """
+            DELETE FROM notification_runs
+            WHERE run_day < ?;
+        """;
+
+        try (
+            PreparedStatement statement1 = connection.prepareStatement(query);
+            PreparedStatement statement2 = connection.prepareStatement(cleanupQuery)
+        ) {
+            statement1.setDate(1, Date.valueOf(runDay));
+            statement1.executeUpdate();
+
+            statement2.setDate(1, Date.valueOf(runDay));
+            statement2.executeUpdate();
+        }
+    }
+
+    public static List<NotificationTarget> getPendingTargets(
+        LocalDate runDay, Connection connection
+    ) throws SQLException {
+        List<NotificationTarget> targets = new ArrayList<>();
+
+        String query = """
+            SELECT u.user_id, u.notification_channel, u.boar_streak
+            FROM users u
+            LEFT JOIN notification_progress np ON u.user_id = np.user_id AND np.run_day = ?
+            WHERE u.notifications_on = true AND np.user_id IS NULL;
+        """;
+
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setDate(1, Date.valueOf(runDay));
+
+            try (ResultSet results = statement.executeQuery()) {
+                while (results.next()) {
+                    targets.add(new NotificationTarget(
+                        results.getString("user_id"),
+                        results.getString("notification_channel"),
+                        results.getInt("boar_streak")
+                    ));
+                }
+            }
+        }
+
+        return targets;
+    }
+
+    public static void markNotified(
+        List<String> userIDs, LocalDate runDay, Connection connection
+    ) throws SQLException {
+        String query = """
+            INSERT INTO notification_progress (user_id, run_day)
+            VALUES (?, ?)
+            ON DUPLICATE KEY UPDATE run_day = VALUES(run_day);
+        """;
+
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            for (String userID : userIDs) {
+                statement.setString(1, userID);
+                statement.setDate(2, Date.valueOf(runDay));
+                statement.addBatch();
+            }
+
+            statement.executeBatch();
+        }
+    }
+}
@@ -0,0 +1,3 @@
+package dev.boarbot.util.data;
+
+public record NotificationTarget(String userID, String channelID, int streak) {}
@@ -0,0 +1,241 @@
+package dev.boarbot.util.data;
+
+import dev.boarbot.api.util.Configured;
+import dev.boarbot.util.logging.Log;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Per-statement timings for every JDBC call made through {@link DataUtil#getConnection()}. Statements are grouped by
+ * normalized SQL so the same query with a different number of bound values counts once, and each call is attributed
+ * to the command, interactive, modal or job running on the calling thread.
+ */
+public class QueryStats implements Configured {
+    private final static long[] BUCKET_MILLIS = {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500};
+    private final static int MAX_NORMALIZED = 4096;
+    private final static int MAX_SQL_LOG_LENGTH = 300;
+    private final static String NO_SOURCE = "other";
+
+    private final static Pattern WHITESPACE = Pattern.compile("\\s+");
+    private final static Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private final static Pattern PARAM_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private final static Pattern ROW_LIST = Pattern.compile("\\(\\?\\.\\.\\.\\)(?:\\s*,\\s*\\(\\?\\.\\.\\.\\))+");
+
+    private final static Map<String, String> normalized = new ConcurrentHashMap<>();
+    private final static Map<String, StatementStats> statementStats = new ConcurrentHashMap<>();
+    private final static ThreadLocal<String> source = new ThreadLocal<>();
+
+    private final static Timing poolWait = new Timing();
+    private final static LongAdder slowQueries = new LongAdder();
+
+    private static class Timing {
+        final LongAdder calls = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+        final AtomicLongArray buckets = new AtomicLongArray(BUCKET_MILLIS.length + 1);
+
+        void record(long nanos) {
+            this.calls.increment();
+            this.totalNanos.add(nanos);
+            this.maxNanos.accumulate(nanos);
+
+            long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+            int bucket = 0;
+
+            while (bucket < BUCKET_MILLIS.length && millis >= BUCKET_MILLIS[bucket]) {
+                bucket++;
+            }
+
+            this.buckets.incrementAndGet(bucket);
+        }
+
+        double getAvgMillis() {
+            long calls = this.calls.sum();
+            return calls == 0 ? 0 : this.totalNanos.sum() / (calls * 1_000_000.0);
+        }
+
+        String getPercentileString(double percentile) {
+            long calls = this.calls.sum();
+            long target = (long) Math.ceil(calls * percentile);
+            long seen = 0;
+
+            for (int i=0; i<BUCKET_MILLIS.length; i++) {
+                seen += this.buckets.get(i);
+
+                if (seen >= target) {
+                    return "<%,dms".formatted(BUCKET_MILLIS[i]);
+                }
+            }
+
+            return ">=%,dms".formatted(BUCKET_MILLIS[BUCKET_MILLIS.length-1]);
+        }
+
+        String getString() {
+            return "%,d calls | avg: %.2fms | p50: %s | p95: %s | p99: %s | max: %,dms".formatted(
+                this.calls.sum(),
+                this.getAvgMillis(),
+                this.getPercentileString(0.5),
+                this.getPercentileString(0.95),
+                this.getPercentileString(0.99),
+                TimeUnit.NANOSECONDS.toMillis(this.maxNanos.get())
+            );
+        }
+    }
+
+    private final static class StatementStats extends Timing {
+        private final String sql;
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final Map<String, LongAdder> sources = new ConcurrentHashMap<>();
+
+        private StatementStats(String sql) {
+            this.sql = sql;
+        }
+    }
+
+    /**
+     * Attributes queries made on the calling thread to {@code name} until {@link #clearSource()} is called.
+     */
+    public static void setSource(String name) {
+        source.set(name);
+    }
+
+    public static void clearSource() {
+        source.remove();
+    }
+
+    static void recordPoolWait(long nanos) {
+        poolWait.record(nanos);
+    }
+
+    /**
+     * @param sql SQL already passed through {@link #normalize(String)}
+     */
+    static void recordQuery(String sql, long nanos, boolean failed) {
+        StatementStats stats = QueryStats.getStats(sql);
+        String curSource = Objects.requireNonNullElse(source.get(), NO_SOURCE);
+
+        stats.record(nanos);
+        stats.sources.computeIfAbsent(curSource, k -> new LongAdder()).increment();
+
+        if (failed) {
+            stats.errors.increment();
+        }
+
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        int slowQueryMillis = NUMS.getSlowQueryMillis();
+
+        if (slowQueryMillis > 0 && millis >= slowQueryMillis) {
+            slowQueries.increment();
+            Log.warn(
+                null,
+                QueryStats.class,
+                "Slow query (%,dms) from %s: %s".formatted(millis, curSource, QueryStats.truncate(stats.sql)),
+                null,
+                true
+            );
+        }
+    }
+
+    static void recordRows(String sql, long rows) {
+        if (rows > 0) {
+            QueryStats.getStats(sql).rows.add(rows);
+        }
+    }
+
+    public static String getMetricsString() {
+        long calls = 0;
+        long totalNanos = 0;
+        long errors = 0;
+
+        for (StatementStats stats : statementStats.values()) {
+            calls += stats.calls.sum();
+            totalNanos += stats.totalNanos.sum();
+            errors += stats.errors.sum();
+        }
+
+        return "%,d statements | %,d calls | %,dms total | %,d errors | %,d slow | pool wait: %s".formatted(
+            statementStats.size(),
+            calls,
+            TimeUnit.NANOSECONDS.toMillis(totalNanos),
+            errors,
+            slowQueries.sum(),
+            poolWait.getString()
+        );
+    }
+
+    /**
+     * The statements with the most total time, heaviest first, each with its timings, rows and top callers.
+     */
+    public static List<String> getTopStatements(int limit) {
+        List<StatementStats> sorted = new ArrayList<>(statementStats.values());
+        sorted.sort(Comparator.comparingLong((StatementStats stats) -> stats.totalNanos.sum()).reversed());
+
+        List<String> lines = new ArrayList<>();
+
+        for (StatementStats stats : sorted.subList(0, Math.min(limit, sorted.size()))) {
+            StringJoiner sourceJoiner = new StringJoiner(", ");
+
+            stats.sources.entrySet().stream()
+                .sorted(Map.Entry.<String, LongAdder>comparingByValue(
+                    Comparator.comparingLong(LongAdder::sum)
+                ).reversed())
+                .limit(3)
+                .forEach(entry -> sourceJoiner.add("%s (%,d)".formatted(entry.getKey(), entry.getValue().sum())));
+
+            lines.add("%,dms total | %s | %,d rows | %,d errors | from: %s\n%s".formatted(
+                TimeUnit.NANOSECONDS.toMillis(stats.totalNanos.sum()),
+                stats.getString(),
+                stats.rows.sum(),
+                stats.errors.sum(),
+                sourceJoiner,
+                QueryStats.truncate(stats.sql)
+            ));
+        }
+
+        return lines;
+    }
+
+    public static void reset() {
+        statementStats.clear();
+        slowQueries.reset();
+    }
+
+    static String normalize(String sql) {
+        String normalizedSql = normalized.get(sql);
+
+        if (normalizedSql != null) {
+            return normalizedSql;
+        }
+
+        normalizedSql = WHITESPACE.matcher(sql).replaceAll(" ").trim();
+        normalizedSql = STRING_LITERAL.matcher(normalizedSql).replaceAll("?");
+        normalizedSql = PARAM_LIST.matcher(normalizedSql).replaceAll("(?...)");
+        normalizedSql = ROW_LIST.matcher(normalizedSql).replaceAll("(?...)...");
+
+        // Raw SQL is mostly constant text blocks, so this only fills past the limit if something builds SQL per call
+        if (normalized.size() >= MAX_NORMALIZED) {
+            normalized.clear();
+        }
+
+        normalized.put(sql, normalizedSql);
+        return normalizedSql;
+    }
+
+    private static StatementStats getStats(String sql) {
+        StatementStats stats = statementStats.get(sql);
+        return stats != null ? stats : statementStats.computeIfAbsent(sql, StatementStats::new);
+    }
+
+    private static String truncate(String sql) {
+        return sql.length() > MAX_SQL_LOG_LENGTH
+            ? sql.substring(0, MAX_SQL_LOG_LENGTH) + "..."
+            : sql;
+    }
+}
@@ -1,6 +1,7 @@
 package dev.boarbot.util.data;
 
 import dev.boarbot.api.util.Configured;
+import dev.boarbot.entities.boaruser.queries.BaseQueries;
 import dev.boarbot.util.logging.Log;
 import dev.boarbot.util.quests.QuestType;
 import dev.boarbot.util.time.TimeUtil;
@@ -90,6 +91,9 @@ public class QuestDataUtil implements Configured {
             statement1.execute();
         }
 
+        // The quest insert trigger resets every user's quest_bless
+        BaseQueries.invalidateAllUserRows();
+
         Log.debug(QuestDataUtil.class, "New quests added");
     }
 
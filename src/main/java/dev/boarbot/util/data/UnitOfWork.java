@@ -0,0 +1,192 @@
+package dev.boarbot.util.data;
+
+import dev.boarbot.util.logging.Log;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One pooled connection with autocommit off, shared by every statement of a single user action so the whole action
+ * lands in one commit. Statements prepared through {@link #getConnection()} stay open and are handed back out when
+ * the same SQL is prepared again, side effects registered with {@link #afterCommit(Runnable)} only run once the
+ * commit succeeds, and closing a unit that was never committed rolls everything back before running the actions
+ * registered with {@link #afterRollback(Runnable)}. Code handed the unit's connection can reach the unit itself
+ * through {@code unwrap(UnitOfWork.class)}.
+ * <p>
+ * A unit belongs to the thread that began it and is not safe to share.
+ */
+public class UnitOfWork implements AutoCloseable {
+    private final Connection connection;
+    private final Connection unitConnection;
+
+    private final Map<String, CachedStatement> statements = new HashMap<>();
+    private final List<Runnable> afterCommitActions = new ArrayList<>();
+    private final List<Runnable> afterRollbackActions = new ArrayList<>();
+
+    private boolean committed = false;
+
+    private final static class CachedStatement {
+        private final PreparedStatement statement;
+        private PreparedStatement proxy;
+        private boolean inUse = false;
+
+        private CachedStatement(PreparedStatement statement) {
+            this.statement = statement;
+        }
+    }
+
+    UnitOfWork(Connection connection) throws SQLException {
+        this.connection = connection;
+
+        try {
+            this.connection.setAutoCommit(false);
+        } catch (SQLException exception) {
+            this.connection.close();
+            throw exception;
+        }
+
+        this.unitConnection = (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> this.invokeConnection(method, args)
+        );
+    }
+
+    /**
+     * The connection queries should run on. Closing it is a no-op, and the transaction itself is managed by the unit,
+     * so callers that only start a transaction on autocommit connections (like market orders) join this one instead.
+     */
+    public Connection getConnection() {
+        return this.unitConnection;
+    }
+
+    public void afterCommit(Runnable action) {
+        this.afterCommitActions.add(action);
+    }
+
+    public void afterRollback(Runnable action) {
+        this.afterRollbackActions.add(action);
+    }
+
+    public void commit() throws SQLException {
+        this.connection.commit();
+        this.committed = true;
+        this.afterRollbackActions.clear();
+
+        this.runActions(this.afterCommitActions, "A post-commit action failed");
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            if (!this.committed) {
+                try {
+                    this.connection.rollback();
+                } finally {
+                    this.afterCommitActions.clear();
+                    this.runActions(this.afterRollbackActions, "A post-rollback action failed");
+                }
+            }
+        } finally {
+            try {
+                for (CachedStatement cached : this.statements.values()) {
+                    cached.statement.close();
+                }
+
+                this.connection.setAutoCommit(true);
+            } finally {
+                this.connection.close();
+            }
+        }
+    }
+
+    private void runActions(List<Runnable> actions, String failMessage) {
+        for (Runnable action : actions) {
+            try {
+                action.run();
+            } catch (RuntimeException exception) {
+                Log.error(this.getClass(), failMessage, exception);
+            }
+        }
+
+        actions.clear();
+    }
+
+    private Object invokeConnection(Method method, Object[] args) throws Throwable {
+        boolean noArgs = args == null || args.length == 0;
+
+        return switch (method.getName()) {
+            case "prepareStatement" -> args.length == 1
+                ? this.prepare((String) args[0])
+                : UnitOfWork.invoke(method, this.connection, args);
+            case "close" -> null;
+            case "unwrap" -> args[0] == UnitOfWork.class
+                ? this
+                : UnitOfWork.invoke(method, this.connection, args);
+            case "isWrapperFor" -> args[0] == UnitOfWork.class || (boolean) UnitOfWork.invoke(
+                method, this.connection, args
+            );
+            case "commit", "rollback", "setAutoCommit" -> {
+                if (method.getName().equals("rollback") && !noArgs) {
+                    yield UnitOfWork.invoke(method, this.connection, args);
+                }
+
+                throw new SQLException("Transaction is managed by its unit of work");
+            }
+            default -> UnitOfWork.invoke(method, this.connection, args);
+        };
+    }
+
+    private PreparedStatement prepare(String sql) throws SQLException {
+        CachedStatement cached = this.statements.get(sql);
+
+        if (cached == null) {
+            cached = new CachedStatement(this.connection.prepareStatement(sql));
+            cached.proxy = this.makeStatementProxy(cached);
+            this.statements.put(sql, cached);
+        } else if (cached.inUse) {
+            // Same SQL prepared again while the first one is still open, so it cannot be shared
+            return this.connection.prepareStatement(sql);
+        }
+
+        cached.inUse = true;
+        return cached.proxy;
+    }
+
+    private PreparedStatement makeStatementProxy(CachedStatement cached) {
+        return (PreparedStatement) Proxy.newProxyInstance(
+            PreparedStatement.class.getClassLoader(),
+            new Class<?>[] {PreparedStatement.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "close" -> {
+                    if (cached.inUse) {
+                        cached.statement.clearParameters();
+                        cached.statement.clearBatch();
+                        cached.inUse = false;
+                    }
+
+                    yield null;
+                }
+                case "isClosed" -> !cached.inUse;
+                case "getConnection" -> this.unitConnection;
+                default -> UnitOfWork.invoke(method, cached.statement, args);
+            }
+        );
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException exception) {
+            throw exception.getCause();
+        }
+    }
+}
@@ -1,18 +1,18 @@
 package dev.boarbot.util.data;
 
-import dev.boarbot.BoarBotApp;
-import dev.boarbot.entities.boaruser.BoarUser;
-import dev.boarbot.entities.boaruser.BoarUserFactory;
+import dev.boarbot.entities.boaruser.queries.BaseQueries;
+import dev.boarbot.util.boar.BoarUtil;
 import dev.boarbot.util.logging.Log;
 import dev.boarbot.util.time.TimeUtil;
-import net.dv8tion.jda.api.exceptions.ErrorResponseException;
-import net.dv8tion.jda.api.requests.ErrorResponse;
 
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class UserDataUtil {
+    private final static ReentrantLock spookyLock = new ReentrantLock();
+
     public static List<String> getNotifUserIDs(Connection connection) throws SQLException {
         List<String> notifUsers = new ArrayList<>();
 
@@ -50,62 +50,6 @@ public class UserDataUtil {
         return 0;
     }
 
-    public static void fixUsernames(Connection connection) throws SQLException {
-        String query = """
-            SELECT user_id
-            FROM users u1
-            WHERE (
-                SELECT COUNT(*)
-                FROM users u2
-                WHERE u1.username = u2.username
-            ) > 1;
-        """;
-
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            try (ResultSet results = statement.executeQuery()) {
-                while (results.next()) {
-                    String userID = results.getString("user_id");
-
-                    try {
-                        BoarBotApp.getBot().getJDA().retrieveUserById(userID).queue(
-                            user -> {
-                                try {
-                                    BoarUserFactory.getBoarUser(user);
-                                } catch (SQLException exception) {
-                                    Log.error(user, UserDataUtil.class, "Failed to update data", exception);
-                                }
-                            },
-                            e -> {
-                                if (e instanceof ErrorResponseException response) {
-                                    if (response.getErrorResponse() == ErrorResponse.UNKNOWN_USER) {
-                                        try (Connection connection1 = DataUtil.getConnection()) {
-                                            BoarUser boarUser = BoarUserFactory.getBoarUser(userID);
-                                            boarUser.baseQuery().wipeUser(connection1);
-                                        } catch (SQLException exception) {
-                                            Log.error(UserDataUtil.class, "Failed to remove deleted user", exception);
-                                        }
-
-                                        return;
-                                    }
-                                }
-
-                                Log.warn(UserDataUtil.class, "Discord threw an exception while deleting users", e);
-                            }
-                        );
-                    } catch (ErrorResponseException exception) {
-                        if (exception.getErrorResponse() == ErrorResponse.UNKNOWN_USER) {
-                            BoarUser boarUser = BoarUserFactory.getBoarUser(userID);
-                            boarUser.baseQuery().wipeUser(connection);
-                            return;
-                        }
-
-                        Log.error(UserDataUtil.class, "Discord threw an exception while fixing users", exception);
-                    }
-                }
-            }
-        }
-    }
-
     public static void setStreakFreeze(Connection connection, boolean shouldFreeze) throws SQLException {
         String query = """
             UPDATE users
@@ -116,15 +60,19 @@ public class UserDataUtil {
             statement.setBoolean(1, shouldFreeze);
             statement.executeUpdate();
         }
+
+        BaseQueries.invalidateAllUserRows();
     }
 
-    public static synchronized boolean isSpookyAvailable(Connection connection, String obtainType) throws SQLException {
+    public static boolean isSpookyAvailable(Connection connection, String obtainType) throws SQLException {
         String query = """
             SELECT COUNT(*) < 3
             FROM collected_boars
             WHERE boar_id = 'spooky' AND original_obtain_type = ?;
         """;
 
+        spookyLock.lock();
+
         try (PreparedStatement statement = connection.prepareStatement(query)) {
             statement.setString(1, obtainType);
 
@@ -133,6 +81,8 @@ public class UserDataUtil {
                     return results.getBoolean(1);
                 }
             }
+        } finally {
+            spookyLock.unlock();
         }
 
         return false;
@@ -219,6 +169,8 @@ public class UserDataUtil {
 
             statement4.executeBatch();
         }
+
+        BaseQueries.invalidateAllUserRows();
     }
 
     public static void resetOtherBless(Connection connection) throws SQLException {
@@ -230,16 +182,114 @@ public class UserDataUtil {
         try (PreparedStatement statement = connection.prepareStatement(query)) {
             statement.executeUpdate();
         }
+
+        BaseQueries.invalidateAllUserRows();
     }
 
     public static void refreshUniques(Connection connection) throws SQLException {
-        String query = """
+        String countQuery = """
             UPDATE users
-            SET unique_boars = 0;
+            LEFT JOIN (
+                SELECT
+                    collected_boars.user_id,
+                    COUNT(DISTINCT collected_boars.boar_id) AS unique_boars,
+                    COUNT(DISTINCT IF(boars_info.is_skyblock = true, collected_boars.boar_id, NULL)) AS num_skyblock,
+                    COUNT(
+                        DISTINCT IF(rarities_info.researcher_need = false, collected_boars.boar_id, NULL)
+                    ) AS num_non_researcher
+                FROM collected_boars, boars_info, rarities_info
+                WHERE
+                    collected_boars.`exists` = true AND
+                    collected_boars.deleted = false AND
+                    collected_boars.boar_id = boars_info.boar_id AND
+                    boars_info.rarity_id = rarities_info.rarity_id
+                GROUP BY collected_boars.user_id
+            ) AS counts ON users.user_id = counts.user_id
+            SET
+                users.unique_boars = IFNULL(counts.unique_boars, 0),
+                users.num_skyblock = IFNULL(counts.num_skyblock, 0),
+                users.num_non_researcher = IFNULL(counts.num_non_researcher, 0);
         """;
 
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.executeUpdate();
+        String userQuery = """
+            SELECT user_id, unique_boars, num_skyblock, num_non_researcher
+            FROM users;
+        """;
+
+        String blessQuery = """
+            UPDATE users
+            SET unique_bless = ?
+            WHERE user_id = ? AND unique_bless != ?;
+        """;
+
+        String insertBadgeQuery = """
+            INSERT INTO collected_badges (user_id, badge_id, first_obtained_timestamp, update_user)
+            SELECT ?, 'researcher', current_timestamp(3), false
+            WHERE NOT EXISTS (
+                SELECT 1
+                FROM collected_badges
+                WHERE user_id = ? AND badge_id = 'researcher'
+            );
+        """;
+
+        String giveBadgeQuery = """
+            UPDATE collected_badges
+            SET badge_tier = ?, obtained_timestamp = current_timestamp(3), update_user = false
+            WHERE user_id = ? AND badge_id = 'researcher' AND badge_tier != ?;
+        """;
+
+        String removeBadgeQuery = """
+            UPDATE collected_badges
+            SET badge_tier = -1, update_user = false
+            WHERE user_id = ? AND badge_id = 'researcher' AND badge_tier != -1;
+        """;
+
+        try (
+            PreparedStatement statement1 = connection.prepareStatement(countQuery);
+            PreparedStatement statement2 = connection.prepareStatement(userQuery);
+            PreparedStatement statement3 = connection.prepareStatement(blessQuery);
+            PreparedStatement statement4 = connection.prepareStatement(insertBadgeQuery);
+            PreparedStatement statement5 = connection.prepareStatement(giveBadgeQuery);
+            PreparedStatement statement6 = connection.prepareStatement(removeBadgeQuery)
+        ) {
+            statement1.executeUpdate();
+
+            try (ResultSet results = statement2.executeQuery()) {
+                while (results.next()) {
+                    String userID = results.getString("user_id");
+                    int uniqueBoars = results.getInt("unique_boars");
+                    int numSkyblock = results.getInt("num_skyblock");
+                    int numNonResearcher = results.getInt("num_non_researcher");
+                    int uniqueBless = BoarUtil.getUniqueBless(uniqueBoars, numSkyblock, numNonResearcher);
+                    int researcherTier = BoarUtil.getResearcherTier(uniqueBoars, numNonResearcher);
+
+                    statement3.setInt(1, uniqueBless);
+                    statement3.setString(2, userID);
+                    statement3.setInt(3, uniqueBless);
+                    statement3.addBatch();
+
+                    if (researcherTier >= 0) {
+                        statement4.setString(1, userID);
+                        statement4.setString(2, userID);
+                        statement4.addBatch();
+
+                        statement5.setInt(1, researcherTier);
+                        statement5.setString(2, userID);
+                        statement5.setInt(3, researcherTier);
+                        statement5.addBatch();
+                    } else {
+                        statement6.setString(1, userID);
+                        statement6.addBatch();
+                    }
+                }
+            }
+
+            statement3.executeBatch();
+            statement4.executeBatch();
+            statement5.executeBatch();
+            statement6.executeBatch();
         }
+
+        BaseQueries.invalidateAllUserRows();
     }
 }
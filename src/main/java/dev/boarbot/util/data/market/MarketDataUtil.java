@@ -2,9 +2,9 @@ package dev.boarbot.util.data.market;
 
 import dev.boarbot.api.util.Configured;
 import dev.boarbot.entities.boaruser.BoarUser;
-import dev.boarbot.interactives.boar.market.MarketInteractive;
 import dev.boarbot.util.boar.BoarObtainType;
 import dev.boarbot.util.boar.BoarUtil;
+import dev.boarbot.util.logging.Log;
 import dev.boarbot.util.time.TimeUtil;
 
 import java.sql.*;
@@ -39,11 +39,27 @@ public class MarketDataUtil implements Configured {
         return marketData;
     }
 
-    public static MarketData getMarketDataItem(
-        String itemID, boolean updateCache, Connection connection
-    ) throws SQLException {
-        MarketData marketData = null;
+    public static void loadMarketData(Connection connection) throws SQLException {
+        MarketEngine.load(getMarketData(connection));
+    }
+
+    public static void checkMarketData(Connection connection) throws SQLException {
+        Map<String, Long> prevVersions = MarketEngine.getVersions();
+        List<String> driftedIDs = MarketEngine.reconcile(prevVersions, getMarketData(connection));
+
+        if (!driftedIDs.isEmpty()) {
+            Log.warn(
+                MarketDataUtil.class,
+                "Market cache drifted from the database for %s. Cache has been corrected".formatted(driftedIDs)
+            );
+        }
+    }
+
+    public static MarketData getMarketDataItem(String itemID, Connection connection) throws SQLException {
+        return MarketEngine.getMarketData(itemID, connection);
+    }
 
+    static MarketData readMarketDataItem(String itemID, Connection connection) throws SQLException {
         String query = """
             SELECT stock, sell_price, buy_price, last_purchase, last_sell
             FROM market_values
@@ -55,7 +71,7 @@ public class MarketDataUtil implements Configured {
 
             try (ResultSet resultSet = statement.executeQuery()) {
                 if (resultSet.next()) {
-                    marketData = new MarketData(
+                    return new MarketData(
                         resultSet.getInt("stock"),
                         resultSet.getLong("sell_price"),
                         resultSet.getLong("buy_price"),
@@ -66,26 +82,22 @@ public class MarketDataUtil implements Configured {
             }
         }
 
-        if (updateCache) {
-            MarketInteractive.cachedMarketData.put(itemID, marketData);
-        }
-
-        return marketData;
+        return null;
     }
 
-    public synchronized static void updateMarket(
+    public static void updateMarket(
         MarketUpdateType updateType, Connection connection
     ) throws SQLException {
         updateMarket(updateType, null, 0, 0, null, connection);
     }
 
-    public synchronized static void updateMarket(
+    public static void updateMarket(
         MarketUpdateType updateType, String itemID, Connection connection
     ) throws SQLException {
         updateMarket(updateType, itemID, 0, 0, null, connection);
     }
 
-    public synchronized static MarketTransactionFail updateMarket(
+    public static MarketTransactionFail updateMarket(
         MarketUpdateType updateType, String itemID, int amount, long cost, BoarUser boarUser, Connection connection
     ) throws SQLException {
         return switch (updateType) {
@@ -94,18 +106,27 @@ public class MarketDataUtil implements Configured {
                 yield null;
             }
 
-            case ADD_ITEM -> {
-                addMarketDataItem(itemID, connection);
-                yield null;
-            }
+            case ADD_ITEM -> MarketEngine.execute(
+                itemID, connection, curData -> addMarketDataItem(itemID, curData, connection)
+            );
 
-            case BUY_ITEM -> buyItem(itemID, amount, cost, boarUser, connection);
+            case BUY_ITEM -> MarketEngine.execute(
+                itemID, connection, curData -> buyItem(itemID, curData, amount, cost, boarUser, connection)
+            );
 
-            case SELL_ITEM -> sellItem(itemID, amount, cost, boarUser, connection);
+            case SELL_ITEM -> MarketEngine.execute(
+                itemID, connection, curData -> sellItem(itemID, curData, amount, cost, boarUser, connection)
+            );
         };
     }
 
-    private static void addMarketDataItem(String itemID, Connection connection) throws SQLException {
+    private static MarketEngine.Transition addMarketDataItem(
+        String itemID, MarketData curData, Connection connection
+    ) throws SQLException {
+        if (curData != null) {
+            return MarketEngine.Transition.unchanged();
+        }
+
         String updateQuery = """
             INSERT INTO market_values (item_id, stock, buy_price)
             SELECT ?, ?, ?
@@ -123,7 +144,7 @@ public class MarketDataUtil implements Configured {
             : RARITIES.get(rarityKey).getTargetStock();
 
         if (targetStock == null) {
-            return;
+            return MarketEngine.Transition.unchanged();
         }
 
         long buyPrice = isPowerup || RARITIES.get(rarityKey).getBaseBucks() == 0
@@ -138,162 +159,132 @@ public class MarketDataUtil implements Configured {
             statement.executeUpdate();
         }
 
-        MarketInteractive.cachedMarketData.put(itemID, new MarketData(targetStock, buyPrice, 1, null, null));
+        return new MarketEngine.Transition(new MarketData(targetStock, 1, buyPrice, null, null), null);
     }
 
     private static void autoAdjustMarketData(Connection connection) throws SQLException {
-        String query = """
-            SELECT item_id, stock, sell_price, buy_price, last_purchase, last_sell
-            FROM market_values;
-        """;
-
-        String updateQuery = """
-            UPDATE market_values
-            SET buy_price = ?, sell_price = ?, stock = stock + ?, last_purchase = ?
-            WHERE item_id = ?;
-        """;
-
-        Map<String, MarketData> updateBuyItems = new HashMap<>();
-        Map<String, MarketData> updateSellItems = new HashMap<>();
-
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            try (ResultSet resultSet = statement.executeQuery()) {
-                while (resultSet.next()) {
-                    String itemID = resultSet.getString("item_id");
-                    Timestamp lastPurchase = resultSet.getTimestamp("last_purchase");
-                    Timestamp lastSell = resultSet.getTimestamp("last_sell");
-                    int stock = resultSet.getInt("stock");
-                    long buyPrice = resultSet.getLong("buy_price");
-                    long sellPrice = resultSet.getLong("sell_price");
-
-                    MarketData curMarketData = new MarketData(stock, sellPrice, buyPrice, lastPurchase, lastSell);
-
-                    if (lastPurchase == null) {
-                        updateBuyItems.put(itemID, curMarketData);
-                    }
-
-                    if (lastSell == null && lastPurchase != null) {
-                        updateSellItems.put(itemID, curMarketData);
-                    }
-
-                    if (lastPurchase == null || lastSell == null) {
-                        continue;
-                    }
-
-                    long waitTime = 1000L * 60 * 60 * (POWS.containsKey(itemID)
-                        ? POWS.get(itemID).getPriceAdjustWaitHours()
-                        : RARITIES.get(BoarUtil.findRarityKey(itemID)).getPriceAdjustWaitHours());
-                    boolean shouldUpdateBuy = lastPurchase.getTime() + waitTime <= TimeUtil.getCurMilli();
-                    boolean shouldUpdateSell = lastSell.getTime() + waitTime <= TimeUtil.getCurMilli();
-
-                    if (shouldUpdateBuy) {
-                        updateBuyItems.put(itemID, curMarketData);
-                    }
+        MarketEngine.load(getMarketData(connection));
 
-                    if (shouldUpdateSell) {
-                        updateSellItems.put(itemID, curMarketData);
-                    }
-                }
-            }
+        for (String itemID : MarketEngine.getItemIDs()) {
+            MarketEngine.execute(itemID, connection, curData -> adjustItem(itemID, curData, connection));
         }
+    }
 
-        try (PreparedStatement statement = connection.prepareStatement(updateQuery)) {
-            Set<String> updateItems = new HashSet<>();
-            updateItems.addAll(updateBuyItems.keySet());
-            updateItems.addAll(updateSellItems.keySet());
-
-            for (String itemID : updateItems) {
-                boolean buyFix = updateBuyItems.containsKey(itemID);
-                boolean sellFix = updateSellItems.containsKey(itemID);
+    private static MarketEngine.Transition adjustItem(
+        String itemID, MarketData marketData, Connection connection
+    ) throws SQLException {
+        if (marketData == null) {
+            return MarketEngine.Transition.unchanged();
+        }
 
-                long newBuyPrice = 0;
-                long newSellPrice = 0;
-                int stock = 0;
+        Timestamp lastPurchase = marketData.lastPurchase();
+        Timestamp lastSell = marketData.lastSell();
 
-                MarketData marketData = new MarketData();
+        boolean buyFix = lastPurchase == null;
+        boolean sellFix = lastSell == null && lastPurchase != null;
 
-                if (sellFix) {
-                    marketData = updateSellItems.get(itemID);
-                    stock = marketData.stock();
+        if (lastPurchase != null && lastSell != null) {
+            long waitTime = 1000L * 60 * 60 * (POWS.containsKey(itemID)
+                ? POWS.get(itemID).getPriceAdjustWaitHours()
+                : RARITIES.get(BoarUtil.findRarityKey(itemID)).getPriceAdjustWaitHours());
 
-                    long potentialSell = (long) Math.max(
-                        Math.ceil(marketData.sellPrice() * (1 + NUMS.getPriceAdjustPercent())),
-                        NUMS.getSellPriceMinimum()
-                    );
+            buyFix = lastPurchase.getTime() + waitTime <= TimeUtil.getCurMilli();
+            sellFix = lastSell.getTime() + waitTime <= TimeUtil.getCurMilli();
+        }
 
-                    long maxSell = (long) Math.max(
-                        marketData.buyPrice() * (1-NUMS.getPriceDiffPercent()), NUMS.getSellPriceMinimum()
-                    );
+        if (!buyFix && !sellFix) {
+            return MarketEngine.Transition.unchanged();
+        }
 
-                    newBuyPrice = marketData.buyPrice();
-                    newSellPrice = Math.min(potentialSell, maxSell);
-                }
+        String updateQuery = """
+            UPDATE market_values
+            SET buy_price = ?, sell_price = ?, stock = ?, last_purchase = ?
+            WHERE item_id = ?;
+        """;
 
-                if (buyFix) {
-                    marketData = updateBuyItems.get(itemID);
-                    stock = marketData.stock();
+        int stock = marketData.stock();
+        long newBuyPrice = 0;
+        long newSellPrice = 0;
 
-                    long curSellPrice = newSellPrice == 0
-                        ? marketData.sellPrice()
-                        : newSellPrice;
+        if (sellFix) {
+            long potentialSell = (long) Math.max(
+                Math.ceil(marketData.sellPrice() * (1 + NUMS.getPriceAdjustPercent())),
+                NUMS.getSellPriceMinimum()
+            );
 
-                    if (stock != 0) {
-                        newBuyPrice = (long) Math.max(
-                            marketData.buyPrice() / (1 + NUMS.getPriceAdjustPercent()), NUMS.getBuyPriceMinimum()
-                        );
-                    } else {
-                        newBuyPrice = marketData.buyPrice();
-                    }
+            long maxSell = (long) Math.max(
+                marketData.buyPrice() * (1-NUMS.getPriceDiffPercent()), NUMS.getSellPriceMinimum()
+            );
 
-                    newSellPrice = curSellPrice > newBuyPrice * (1-NUMS.getPriceDiffPercent())
-                        ? (long) Math.max(newBuyPrice * (1-NUMS.getPriceDiffPercent()), NUMS.getSellPriceMinimum())
-                        : curSellPrice;
-                }
+            newBuyPrice = marketData.buyPrice();
+            newSellPrice = Math.min(potentialSell, maxSell);
+        }
 
-                statement.setLong(1, newBuyPrice);
-                statement.setLong(2, newSellPrice);
+        if (buyFix) {
+            long curSellPrice = newSellPrice == 0
+                ? marketData.sellPrice()
+                : newSellPrice;
+
+            if (stock != 0) {
+                newBuyPrice = (long) Math.max(
+                    marketData.buyPrice() / (1 + NUMS.getPriceAdjustPercent()), NUMS.getBuyPriceMinimum()
+                );
+            } else {
+                newBuyPrice = marketData.buyPrice();
+            }
 
-                if (buyFix && stock == 0) {
-                    statement.setInt(3, 1);
-                    statement.setTimestamp(4, new Timestamp(TimeUtil.getCurMilli()));
-                } else {
-                    statement.setInt(3, 0);
-                    statement.setTimestamp(4, marketData.lastPurchase());
-                }
+            newSellPrice = curSellPrice > newBuyPrice * (1-NUMS.getPriceDiffPercent())
+                ? (long) Math.max(newBuyPrice * (1-NUMS.getPriceDiffPercent()), NUMS.getSellPriceMinimum())
+                : curSellPrice;
+        }
 
-                statement.setString(5, itemID);
-                statement.addBatch();
-            }
+        if (buyFix && stock == 0) {
+            stock = 1;
+            lastPurchase = new Timestamp(TimeUtil.getCurMilli());
+        }
 
-            statement.executeBatch();
+        try (PreparedStatement statement = connection.prepareStatement(updateQuery)) {
+            statement.setLong(1, newBuyPrice);
+            statement.setLong(2, newSellPrice);
+            statement.setInt(3, stock);
+            statement.setTimestamp(4, lastPurchase);
+            statement.setString(5, itemID);
+            statement.executeUpdate();
         }
+
+        return new MarketEngine.Transition(
+            new MarketData(stock, newSellPrice, newBuyPrice, lastPurchase, lastSell), null
+        );
     }
 
-    private static MarketTransactionFail buyItem(
-        String itemID, int amount, long cost, BoarUser boarUser, Connection connection
+    private static MarketEngine.Transition buyItem(
+        String itemID, MarketData marketData, int amount, long cost, BoarUser boarUser, Connection connection
     ) throws SQLException {
-        MarketData marketData = getMarketDataItem(itemID, false, connection);
+        if (marketData == null) {
+            return MarketEngine.Transition.failed(MarketTransactionFail.STOCK);
+        }
+
         MarketTransactionData buyData = calculateBuyCost(itemID, marketData, amount);
 
         if (buyData.cost() > cost) {
-            return MarketTransactionFail.COST;
+            return MarketEngine.Transition.failed(MarketTransactionFail.COST);
         }
 
         if (buyData.stock() < 0) {
-            return MarketTransactionFail.STOCK;
+            return MarketEngine.Transition.failed(MarketTransactionFail.STOCK);
         }
 
         marketData = new MarketData(
             buyData.stock(),
             buyData.sellPrice(),
             buyData.buyPrice(),
-            marketData.lastPurchase(),
+            new Timestamp(TimeUtil.getCurMilli()),
             marketData.lastSell()
         );
 
         String updateQuery = """
             UPDATE market_values
-            SET stock = ?, sell_price = ?, buy_price = ?, last_purchase = current_timestamp(3)
+            SET stock = ?, sell_price = ?, buy_price = ?, last_purchase = ?
             WHERE item_id = ?;
         """;
 
@@ -319,7 +310,8 @@ public class MarketDataUtil implements Configured {
             statement.setInt(1, marketData.stock());
             statement.setLong(2, marketData.sellPrice());
             statement.setLong(3, marketData.buyPrice());
-            statement.setString(4, itemID);
+            statement.setTimestamp(4, marketData.lastPurchase());
+            statement.setString(5, itemID);
             statement.executeUpdate();
         }
 
@@ -360,6 +352,10 @@ public class MarketDataUtil implements Configured {
                 statement3.executeBatch();
             }
 
+            if (!editions.isEmpty()) {
+                boarUser.boarQuery().updateUniques(connection, Map.of(itemID, editions.size()));
+            }
+
             List<String> itemIDs = new ArrayList<>();
 
             for (int i=0; i<amount-editions.size(); i++) {
@@ -378,18 +374,20 @@ public class MarketDataUtil implements Configured {
 
         boarUser.baseQuery().useBucks(connection, buyData.cost());
 
-        MarketInteractive.cachedMarketData.put(itemID, marketData);
-        return null;
+        return new MarketEngine.Transition(marketData, null);
     }
 
-    private static MarketTransactionFail sellItem(
-        String itemID, int amount, long cost, BoarUser boarUser, Connection connection
+    private static MarketEngine.Transition sellItem(
+        String itemID, MarketData marketData, int amount, long cost, BoarUser boarUser, Connection connection
     ) throws SQLException {
-        MarketData marketData = getMarketDataItem(itemID, false, connection);
+        if (marketData == null) {
+            return MarketEngine.Transition.failed(MarketTransactionFail.COST);
+        }
+
         MarketTransactionData sellData = calculateSellCost(itemID, marketData, amount);
 
         if (sellData.cost() < cost) {
-            return MarketTransactionFail.COST;
+            return MarketEngine.Transition.failed(MarketTransactionFail.COST);
         }
 
         marketData = new MarketData(
@@ -397,12 +395,12 @@ public class MarketDataUtil implements Configured {
             sellData.sellPrice(),
             sellData.buyPrice(),
             marketData.lastPurchase(),
-            marketData.lastSell()
+            new Timestamp(TimeUtil.getCurMilli())
         );
 
         String updateQuery = """
             UPDATE market_values
-            SET stock = ?, sell_price = ?, buy_price = ?, last_sell = current_timestamp(3)
+            SET stock = ?, sell_price = ?, buy_price = ?, last_sell = ?
             WHERE item_id = ?;
         """;
 
@@ -428,7 +426,8 @@ public class MarketDataUtil implements Configured {
             statement.setInt(1, marketData.stock());
             statement.setLong(2, marketData.sellPrice());
             statement.setLong(3, marketData.buyPrice());
-            statement.setString(4, itemID);
+            statement.setTimestamp(4, marketData.lastSell());
+            statement.setString(5, itemID);
             statement.executeUpdate();
         }
 
@@ -469,12 +468,15 @@ public class MarketDataUtil implements Configured {
 
                 statement3.executeBatch();
             }
+
+            if (!editions.isEmpty()) {
+                boarUser.boarQuery().updateUniques(connection, Map.of(itemID, -editions.size()));
+            }
         }
 
         boarUser.baseQuery().giveBucks(connection, sellData.cost());
 
-        MarketInteractive.cachedMarketData.put(itemID, marketData);
-        return null;
+        return new MarketEngine.Transition(marketData, null);
     }
 
     public static MarketTransactionData calculateBuyCost(String itemID, MarketData marketData, int amount) {
@@ -0,0 +1,251 @@
+package dev.boarbot.util.data.market;
+
+import dev.boarbot.interactives.boar.market.MarketInteractive;
+import dev.boarbot.util.data.UnitOfWork;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Owns the authoritative {@link MarketData} of every item. Orders on the same item run one at a time while orders on
+ * different items run in parallel, and each order is written through in its own transaction before its new state
+ * is published to {@link MarketInteractive#cachedMarketData} under a new item version. Orders that join a
+ * {@link UnitOfWork} publish when the unit commits and leave no trace if it rolls back.
+ */
+class MarketEngine {
+    private final static Map<String, ReentrantLock> itemLocks = new ConcurrentHashMap<>();
+    private final static Map<String, MarketData> itemData = new ConcurrentHashMap<>();
+    private final static Map<String, Long> itemVersions = new ConcurrentHashMap<>();
+    private final static Map<UnitOfWork, Map<String, MarketData>> stagedData = new ConcurrentHashMap<>();
+
+    private final static int UNIT_LOCK_TIMEOUT_SECONDS = 10;
+
+    record Transition(MarketData marketData, MarketTransactionFail fail) {
+        static Transition unchanged() {
+            return new Transition(null, null);
+        }
+
+        static Transition failed(MarketTransactionFail fail) {
+            return new Transition(null, fail);
+        }
+    }
+
+    @FunctionalInterface
+    interface Order {
+        Transition execute(MarketData curData) throws SQLException;
+    }
+
+    static MarketTransactionFail execute(String itemID, Connection connection, Order order) throws SQLException {
+        if (connection.isWrapperFor(UnitOfWork.class)) {
+            return MarketEngine.executeInUnit(itemID, connection.unwrap(UnitOfWork.class), order);
+        }
+
+        if (!connection.getAutoCommit()) {
+            throw new IllegalStateException("Market orders need an autocommit connection or a unit of work");
+        }
+
+        ReentrantLock itemLock = MarketEngine.lockItem(itemID);
+
+        try {
+            MarketData curData = MarketEngine.getLoaded(itemID, connection);
+            connection.setAutoCommit(false);
+
+            Transition transition;
+
+            try {
+                transition = order.execute(curData);
+
+                if (transition.fail() == null) {
+                    connection.commit();
+                } else {
+                    connection.rollback();
+                }
+            } catch (SQLException | RuntimeException exception) {
+                connection.rollback();
+                throw exception;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+
+            if (transition.fail() == null && transition.marketData() != null) {
+                MarketEngine.publish(itemID, transition.marketData());
+            }
+
+            return transition.fail();
+        } finally {
+            itemLock.unlock();
+        }
+    }
+
+    /**
+     * Runs an order as part of a caller's unit of work. The item stays locked and its new state stays staged on the
+     * unit until the unit finishes, so nothing outside the unit sees a state that could still be rolled back. Orders
+     * later in the same unit build on the staged state instead.
+     */
+    private static MarketTransactionFail executeInUnit(
+        String itemID, UnitOfWork unit, Order order
+    ) throws SQLException {
+        ReentrantLock itemLock = MarketEngine.lockItemInUnit(itemID);
+        Map<String, MarketData> staged = stagedData.get(unit);
+
+        if (staged == null) {
+            staged = new HashMap<>();
+            stagedData.put(unit, staged);
+
+            unit.afterCommit(() -> MarketEngine.publishStaged(unit));
+            unit.afterRollback(() -> stagedData.remove(unit));
+        }
+
+        unit.afterCommit(itemLock::unlock);
+        unit.afterRollback(itemLock::unlock);
+
+        MarketData curData = staged.containsKey(itemID)
+            ? staged.get(itemID)
+            : MarketEngine.getLoaded(itemID, unit.getConnection());
+        Transition transition = order.execute(curData);
+
+        if (transition.fail() == null && transition.marketData() != null) {
+            staged.put(itemID, transition.marketData());
+        }
+
+        return transition.fail();
+    }
+
+    static MarketData getMarketData(String itemID, Connection connection) throws SQLException {
+        MarketData marketData = itemData.get(itemID);
+
+        if (marketData != null) {
+            return marketData;
+        }
+
+        ReentrantLock itemLock = MarketEngine.lockItem(itemID);
+
+        try {
+            return MarketEngine.getLoaded(itemID, connection);
+        } finally {
+            itemLock.unlock();
+        }
+    }
+
+    static Set<String> getItemIDs() {
+        return itemData.keySet();
+    }
+
+    static Map<String, Long> getVersions() {
+        return new HashMap<>(itemVersions);
+    }
+
+    static void load(Map<String, MarketData> marketData) {
+        for (Map.Entry<String, MarketData> entry : marketData.entrySet()) {
+            ReentrantLock itemLock = MarketEngine.lockItem(entry.getKey());
+
+            try {
+                if (!itemData.containsKey(entry.getKey())) {
+                    MarketEngine.publish(entry.getKey(), entry.getValue());
+                }
+            } finally {
+                itemLock.unlock();
+            }
+        }
+    }
+
+    static List<String> reconcile(Map<String, Long> prevVersions, Map<String, MarketData> storedData) {
+        List<String> driftedIDs = new ArrayList<>();
+
+        Set<String> itemIDs = new HashSet<>(storedData.keySet());
+        itemIDs.addAll(itemData.keySet());
+
+        for (String itemID : itemIDs) {
+            ReentrantLock itemLock = MarketEngine.lockItem(itemID);
+
+            try {
+                if (!Objects.equals(itemVersions.get(itemID), prevVersions.get(itemID))) {
+                    continue;
+                }
+
+                MarketData stored = storedData.get(itemID);
+                boolean engineMatches = Objects.equals(itemData.get(itemID), stored);
+                boolean cacheMatches = Objects.equals(MarketInteractive.cachedMarketData.get(itemID), stored);
+
+                if (engineMatches && cacheMatches) {
+                    continue;
+                }
+
+                driftedIDs.add(itemID);
+
+                if (stored == null) {
+                    itemData.remove(itemID);
+                    itemVersions.merge(itemID, 1L, Long::sum);
+                    MarketInteractive.cachedMarketData.remove(itemID);
+                } else {
+                    MarketEngine.publish(itemID, stored);
+                }
+            } finally {
+                itemLock.unlock();
+            }
+        }
+
+        return driftedIDs;
+    }
+
+    private static MarketData getLoaded(String itemID, Connection connection) throws SQLException {
+        MarketData marketData = itemData.get(itemID);
+
+        if (marketData == null) {
+            marketData = MarketDataUtil.readMarketDataItem(itemID, connection);
+
+            if (marketData != null) {
+                MarketEngine.publish(itemID, marketData);
+            }
+        }
+
+        return marketData;
+    }
+
+    private static void publishStaged(UnitOfWork unit) {
+        Map<String, MarketData> staged = stagedData.remove(unit);
+
+        if (staged == null) {
+            return;
+        }
+
+        for (Map.Entry<String, MarketData> entry : staged.entrySet()) {
+            MarketEngine.publish(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static void publish(String itemID, MarketData marketData) {
+        itemData.put(itemID, marketData);
+        itemVersions.merge(itemID, 1L, Long::sum);
+        MarketInteractive.cachedMarketData.put(itemID, marketData);
+    }
+
+    private static ReentrantLock lockItem(String itemID) {
+        ReentrantLock itemLock = itemLocks.computeIfAbsent(itemID, k -> new ReentrantLock());
+        itemLock.lock();
+        return itemLock;
+    }
+
+    /**
+     * Units can lock several items and hold them until they finish, so a wait that runs too long is treated like a
+     * database lock timeout rather than risking two units waiting on each other forever.
+     */
+    private static ReentrantLock lockItemInUnit(String itemID) throws SQLException {
+        ReentrantLock itemLock = itemLocks.computeIfAbsent(itemID, k -> new ReentrantLock());
+
+        try {
+            if (!itemLock.tryLock(UNIT_LOCK_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new SQLException("Timed out waiting for market item %s".formatted(itemID));
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted waiting for market item %s".formatted(itemID), exception);
+        }
+
+        return itemLock;
+    }
+}
@@ -0,0 +1,202 @@
+package dev.boarbot.util.data.top;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Leaderboard kept as a size-augmented treap ordered by value then user ID, so inserts, removals, rank lookups and
+ * index lookups are all O(log n).
+ */
+public class RankedBoard {
+    private final boolean isDesc;
+    private final Map<String, Long> values = new HashMap<>();
+    private Node root = null;
+
+    private static class Node {
+        private final long value;
+        private final String userID;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        private Node(long value, String userID) {
+            this.value = value;
+            this.userID = userID;
+        }
+    }
+
+    public RankedBoard(boolean isDesc) {
+        this.isDesc = isDesc;
+    }
+
+    public synchronized void put(String userID, long value) {
+        Long oldValue = this.values.put(userID, value);
+
+        if (oldValue != null && oldValue == value) {
+            return;
+        }
+
+        if (oldValue != null) {
+            this.root = this.remove(this.root, oldValue, userID);
+        }
+
+        Node[] split = this.split(this.root, value, userID);
+        this.root = this.merge(this.merge(split[0], new Node(value, userID)), split[1]);
+    }
+
+    public synchronized void remove(String userID) {
+        Long oldValue = this.values.remove(userID);
+
+        if (oldValue != null) {
+            this.root = this.remove(this.root, oldValue, userID);
+        }
+    }
+
+    public synchronized TopData get(String userID) {
+        Long value = this.values.get(userID);
+
+        if (value == null) {
+            return null;
+        }
+
+        int rank = 0;
+        Node node = this.root;
+
+        while (node != null) {
+            int compare = this.compare(value, userID, node);
+
+            if (compare == 0) {
+                return new TopData(value, rank + size(node.left));
+            }
+
+            if (compare < 0) {
+                node = node.left;
+            } else {
+                rank += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+
+        return null;
+    }
+
+    public synchronized boolean contains(String userID) {
+        return this.values.containsKey(userID);
+    }
+
+    public synchronized List<String> getUserIDs(int startIndex, int endIndex) {
+        List<String> userIDs = new ArrayList<>();
+
+        for (int i=Math.max(startIndex, 0); i<Math.min(endIndex, size(this.root)); i++) {
+            userIDs.add(this.select(i).userID);
+        }
+
+        return userIDs;
+    }
+
+    public synchronized long getValue(String userID) {
+        return this.values.getOrDefault(userID, 0L);
+    }
+
+    public synchronized int size() {
+        return size(this.root);
+    }
+
+    private Node select(int index) {
+        Node node = this.root;
+
+        while (node != null) {
+            int leftSize = size(node.left);
+
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+
+        return null;
+    }
+
+    private Node[] split(Node node, long value, String userID) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+
+        if (this.compare(value, userID, node) > 0) {
+            Node[] split = this.split(node.right, value, userID);
+            node.right = split[0];
+            update(node);
+            return new Node[] {node, split[1]};
+        }
+
+        Node[] split = this.split(node.left, value, userID);
+        node.left = split[1];
+        update(node);
+        return new Node[] {split[0], node};
+    }
+
+    private Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+
+        if (right == null) {
+            return left;
+        }
+
+        if (left.priority > right.priority) {
+            left.right = this.merge(left.right, right);
+            update(left);
+            return left;
+        }
+
+        right.left = this.merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private Node remove(Node node, long value, String userID) {
+        if (node == null) {
+            return null;
+        }
+
+        int compare = this.compare(value, userID, node);
+
+        if (compare == 0) {
+            return this.merge(node.left, node.right);
+        }
+
+        if (compare < 0) {
+            node.left = this.remove(node.left, value, userID);
+        } else {
+            node.right = this.remove(node.right, value, userID);
+        }
+
+        update(node);
+        return node;
+    }
+
+    private int compare(long value, String userID, Node node) {
+        int compare = this.isDesc
+            ? Long.compare(node.value, value)
+            : Long.compare(value, node.value);
+
+        return compare != 0 ? compare : userID.compareTo(node.userID);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void update(Node node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+}
@@ -0,0 +1,144 @@
+package dev.boarbot.util.data.top;
+
+import dev.boarbot.util.logging.Log;
+import dev.boarbot.util.time.TimeUtil;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Live leaderboards keyed by user ID. Writes mark users dirty and {@link #refreshDirty(Connection)} re-reads only
+ * those users, while a full load runs at startup, every few hours and after bulk updates. Display names come from
+ * {@link UsernameCache}; names stored in the database only seed it.
+ */
+public class TopBoards {
+    private final static long FULL_LOAD_MILLIS = 1000L * 60 * 60 * 6;
+
+    private final static Set<String> dirtyUserIDs = ConcurrentHashMap.newKeySet();
+
+    private static volatile Map<TopType, RankedBoard> boards = TopBoards.makeEmptyBoards();
+    private static volatile long lastFullLoad = 0;
+    private static volatile boolean loadRequested = false;
+    private static List<Set<String>> athletes = null;
+
+    public static RankedBoard getBoard(TopType type) {
+        return boards.get(type);
+    }
+
+    public static String getUsername(String userID) {
+        return UsernameCache.getUsername(userID);
+    }
+
+    public static String getUserID(String username) {
+        return UsernameCache.getUserID(username);
+    }
+
+    public static void markDirty(String userID) {
+        dirtyUserIDs.add(userID);
+    }
+
+    public static void requestLoad() {
+        loadRequested = true;
+    }
+
+    public static boolean isLoadDue() {
+        return loadRequested || lastFullLoad + FULL_LOAD_MILLIS <= TimeUtil.getCurMilli();
+    }
+
+    public static synchronized void load(Connection connection) throws SQLException {
+        loadRequested = false;
+
+        Map<TopType, RankedBoard> newBoards = new EnumMap<>(TopType.class);
+        Map<String, String> newUsernames = new HashMap<>();
+
+        for (TopType type : TopType.values()) {
+            newBoards.put(type, TopDataUtil.getBoard(type, newUsernames, connection));
+        }
+
+        boards = newBoards;
+        lastFullLoad = TimeUtil.getCurMilli();
+
+        TopBoards.putUsernames(newUsernames);
+        TopBoards.updateAthletes(connection);
+    }
+
+    public static synchronized void refreshDirty(Connection connection) throws SQLException {
+        if (dirtyUserIDs.isEmpty()) {
+            return;
+        }
+
+        List<String> userIDs = new ArrayList<>();
+
+        for (Iterator<String> iterator = dirtyUserIDs.iterator(); iterator.hasNext();) {
+            userIDs.add(iterator.next());
+            iterator.remove();
+        }
+
+        Map<String, String> newUsernames = new HashMap<>();
+
+        try {
+            TopDataUtil.refreshUsers(userIDs, boards, newUsernames, connection);
+        } catch (SQLException exception) {
+            dirtyUserIDs.addAll(userIDs);
+            throw exception;
+        }
+
+        TopBoards.putUsernames(newUsernames);
+        TopBoards.updateAthletes(connection);
+
+        Log.debug(TopBoards.class, "Refreshed leaderboard entries for %,d users".formatted(userIDs.size()));
+    }
+
+    private static void putUsernames(Map<String, String> newUsernames) {
+        for (Map.Entry<String, String> entry : newUsernames.entrySet()) {
+            UsernameCache.putIfAbsent(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static void updateAthletes(Connection connection) throws SQLException {
+        Set<String> firstUserIDs = new HashSet<>();
+        Set<String> secondUserIDs = new HashSet<>();
+        Set<String> thirdUserIDs = new HashSet<>();
+
+        for (RankedBoard board : boards.values()) {
+            List<String> topUserIDs = board.getUserIDs(0, 3);
+
+            if (!topUserIDs.isEmpty()) {
+                firstUserIDs.add(topUserIDs.getFirst());
+            }
+
+            if (topUserIDs.size() > 1) {
+                secondUserIDs.add(topUserIDs.get(1));
+            }
+
+            if (topUserIDs.size() > 2) {
+                thirdUserIDs.add(topUserIDs.get(2));
+            }
+        }
+
+        secondUserIDs.removeAll(firstUserIDs);
+        thirdUserIDs.removeAll(firstUserIDs);
+        thirdUserIDs.removeAll(secondUserIDs);
+
+        List<Set<String>> newAthletes = List.of(firstUserIDs, secondUserIDs, thirdUserIDs);
+
+        if (newAthletes.equals(athletes)) {
+            return;
+        }
+
+        TopDataUtil.setAthleteBadges(firstUserIDs, secondUserIDs, thirdUserIDs, connection);
+        athletes = newAthletes;
+    }
+
+    private static Map<TopType, RankedBoard> makeEmptyBoards() {
+        Map<TopType, RankedBoard> emptyBoards = new EnumMap<>(TopType.class);
+
+        for (TopType type : TopType.values()) {
+            emptyBoards.put(type, new RankedBoard(type != TopType.FASTEST_POWERUP));
+        }
+
+        return emptyBoards;
+    }
+}
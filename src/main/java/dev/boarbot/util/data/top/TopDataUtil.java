@@ -4,39 +4,41 @@ import java.sql.*;
 import java.util.*;
 
 public class TopDataUtil {
-    public static Map<String, TopData> getBoard(TopType type, Connection connection) throws SQLException {
+    private final static long FASTEST_DEFAULT = 120000;
+    private final static int REFRESH_CHUNK_SIZE = 500;
+
+    public static RankedBoard getBoard(
+        TopType type, Map<String, String> usernames, Connection connection
+    ) throws SQLException {
         return switch (type) {
-            case FASTEST_POWERUP -> getUserBoard(type, false, 120000, connection);
-            case GIFTS_SENT, CHARGES_USED -> getPowBoard(type, connection);
-            default -> getUserBoard(type, true, 0, connection);
+            case FASTEST_POWERUP -> getUserBoard(type, false, FASTEST_DEFAULT, usernames, connection);
+            case GIFTS_SENT, CHARGES_USED -> getPowBoard(type, usernames, connection);
+            default -> getUserBoard(type, true, 0, usernames, connection);
         };
     }
 
-    private static Map<String, TopData> getUserBoard(
-        TopType type, boolean isDesc, long defaultVal, Connection connection
+    private static RankedBoard getUserBoard(
+        TopType type, boolean isDesc, long defaultVal, Map<String, String> usernames, Connection connection
     ) throws SQLException {
-        Map<String, TopData> board = new LinkedHashMap<>();
+        RankedBoard board = new RankedBoard(isDesc);
 
         String query = """
-            SELECT username, %s
+            SELECT user_id, username, %s
             FROM users
-            WHERE %s
-            ORDER BY %s
-            %s;
+            WHERE %s;
         """;
 
         if (isDesc) {
-            query = query.formatted(type.toString(), type + " > " + defaultVal, type.toString(), "DESC");
+            query = query.formatted(type.toString(), type + " > " + defaultVal);
         } else {
-            query = query.formatted(type.toString(), type + " < " + defaultVal, type.toString(), "ASC");
+            query = query.formatted(type.toString(), type + " < " + defaultVal);
         }
 
         try (PreparedStatement statement = connection.prepareStatement(query)) {
             try (ResultSet resultSet = statement.executeQuery()) {
-                int count = 0;
                 while (resultSet.next()) {
-                    board.put(resultSet.getString(1), new TopData(resultSet.getLong(2), count));
-                    count++;
+                    usernames.put(resultSet.getString(1), resultSet.getString(2));
+                    board.put(resultSet.getString(1), resultSet.getLong(3));
                 }
             }
         }
@@ -44,25 +46,24 @@ public class TopDataUtil {
         return board;
     }
 
-    private static Map<String, TopData> getPowBoard(TopType type, Connection connection) throws SQLException {
-        Map<String, TopData> board = new LinkedHashMap<>();
+    private static RankedBoard getPowBoard(
+        TopType type, Map<String, String> usernames, Connection connection
+    ) throws SQLException {
+        RankedBoard board = new RankedBoard(true);
 
         String query = """
-            SELECT username, amount_used
+            SELECT users.user_id, username, amount_used
             FROM collected_powerups, users
-            WHERE powerup_id = ? AND collected_powerups.user_id = users.user_id AND amount_used > 0
-            ORDER BY amount_used
-            DESC;
+            WHERE powerup_id = ? AND collected_powerups.user_id = users.user_id AND amount_used > 0;
         """;
 
         try (PreparedStatement statement = connection.prepareStatement(query)) {
             statement.setString(1, type.toString());
 
             try (ResultSet resultSet = statement.executeQuery()) {
-                int count = 0;
                 while (resultSet.next()) {
-                    board.put(resultSet.getString(1), new TopData(resultSet.getLong(2), count));
-                    count++;
+                    usernames.put(resultSet.getString(1), resultSet.getString(2));
+                    board.put(resultSet.getString(1), resultSet.getLong(3));
                 }
             }
         }
@@ -70,69 +71,165 @@ public class TopDataUtil {
         return board;
     }
 
+    public static void refreshUsers(
+        List<String> userIDs, Map<TopType, RankedBoard> boards, Map<String, String> usernames, Connection connection
+    ) throws SQLException {
+        for (int i=0; i<userIDs.size(); i+=REFRESH_CHUNK_SIZE) {
+            refreshUserChunk(
+                userIDs.subList(i, Math.min(i + REFRESH_CHUNK_SIZE, userIDs.size())), boards, usernames, connection
+            );
+        }
+    }
+
+    private static void refreshUserChunk(
+        List<String> userIDs, Map<TopType, RankedBoard> boards, Map<String, String> usernames, Connection connection
+    ) throws SQLException {
+        StringJoiner userColumns = new StringJoiner(", ");
+
+        for (TopType type : TopType.values()) {
+            if (!isPowBoard(type)) {
+                userColumns.add(type.toString());
+            }
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(userIDs.size(), "?"));
+
+        String userQuery = """
+            SELECT user_id, username, %s
+            FROM users
+            WHERE user_id IN (%s);
+        """.formatted(userColumns.toString(), placeholders);
+
+        String powQuery = """
+            SELECT user_id, powerup_id, amount_used
+            FROM collected_powerups
+            WHERE powerup_id IN (?, ?) AND user_id IN (%s);
+        """.formatted(placeholders);
+
+        Map<TopType, Map<String, Long>> values = new EnumMap<>(TopType.class);
+
+        for (TopType type : TopType.values()) {
+            values.put(type, new HashMap<>());
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(userQuery)) {
+            for (int i=0; i<userIDs.size(); i++) {
+                statement.setString(i+1, userIDs.get(i));
+            }
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    String userID = resultSet.getString("user_id");
+                    usernames.put(userID, resultSet.getString("username"));
+
+                    for (TopType type : TopType.values()) {
+                        if (!isPowBoard(type)) {
+                            values.get(type).put(userID, resultSet.getLong(type.toString()));
+                        }
+                    }
+                }
+            }
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(powQuery)) {
+            statement.setString(1, TopType.GIFTS_SENT.toString());
+            statement.setString(2, TopType.CHARGES_USED.toString());
+
+            for (int i=0; i<userIDs.size(); i++) {
+                statement.setString(i+3, userIDs.get(i));
+            }
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    TopType type = TopType.fromString(resultSet.getString("powerup_id"));
+                    values.get(type).put(resultSet.getString("user_id"), resultSet.getLong("amount_used"));
+                }
+            }
+        }
+
+        for (TopType type : TopType.values()) {
+            RankedBoard board = boards.get(type);
+
+            for (String userID : userIDs) {
+                Long value = values.get(type).get(userID);
+
+                if (value != null && isOnBoard(type, value)) {
+                    board.put(userID, value);
+                } else {
+                    board.remove(userID);
+                }
+            }
+        }
+    }
+
+    private static boolean isPowBoard(TopType type) {
+        return type == TopType.GIFTS_SENT || type == TopType.CHARGES_USED;
+    }
+
+    private static boolean isOnBoard(TopType type, long value) {
+        return type == TopType.FASTEST_POWERUP
+            ? value < FASTEST_DEFAULT
+            : value > 0;
+    }
+
     public static void setAthleteBadges(
-        Set<String> firstUsernames, Set<String> secondUsernames, Set<String> thirdUsernames, Connection connection
+        Set<String> firstUserIDs, Set<String> secondUserIDs, Set<String> thirdUserIDs, Connection connection
     ) throws SQLException {
-        List<Set<String>> usernameSets = new ArrayList<>();
+        List<Set<String>> userIDSets = new ArrayList<>();
+
+        userIDSets.add(thirdUserIDs);
+        userIDSets.add(secondUserIDs);
+        userIDSets.add(firstUserIDs);
 
-        usernameSets.add(thirdUsernames);
-        usernameSets.add(secondUsernames);
-        usernameSets.add(firstUsernames);
+        List<String> allUserIDs = new ArrayList<>();
 
-        List<String> setStrs = getSetStrs(usernameSets);
-        String allSetStrs = String.join(",", setStrs);
+        for (Set<String> userIDSet : userIDSets) {
+            allUserIDs.addAll(userIDSet);
+        }
 
         String deleteQuery = """
             UPDATE collected_badges
             SET badge_tier = -1, update_user = false
-            WHERE
-                badge_id = 'athlete' AND
-                collected_badges.user_id NOT IN (
-                    SELECT users.user_id
-                    FROM users
-                    WHERE users.username IN (%s)
-                );
-        """.formatted(allSetStrs);
+            WHERE badge_id = 'athlete' AND badge_tier != -1 AND user_id NOT IN (%s);
+        """.formatted(getPlaceholders(allUserIDs.size()));
 
         String insertQuery = """
             INSERT INTO collected_badges (user_id, badge_id, first_obtained_timestamp, update_user)
             SELECT user_id, 'athlete', current_timestamp(3), false
             FROM users
-            WHERE username = ? AND NOT EXISTS (
+            WHERE user_id = ? AND NOT EXISTS (
                 SELECT 1
                 FROM collected_badges
                 WHERE badge_id = 'athlete' AND user_id = users.user_id
-            )
-            LIMIT 1;
+            );
         """;
 
         String updateQuery = """
             UPDATE collected_badges
             SET badge_tier = ?, obtained_timestamp = current_timestamp(3), update_user = false
-            WHERE
-                badge_id = 'athlete' AND
-                badge_tier != ? AND
-                collected_badges.user_id IN (
-                    SELECT user_id
-                    FROM users
-                    WHERE username IN (%s)
-                );
+            WHERE badge_id = 'athlete' AND badge_tier != ? AND user_id IN (%s);
         """;
 
         try (PreparedStatement statement = connection.prepareStatement(deleteQuery)) {
+            for (int i=0; i<allUserIDs.size(); i++) {
+                statement.setString(i+1, allUserIDs.get(i));
+            }
+
             statement.executeUpdate();
         }
 
         int tier = 0;
-        for (Set<String> usernameSet : usernameSets) {
-            String setStr = setStrs.get(tier);
+        for (Set<String> userIDSet : userIDSets) {
+            List<String> userIDs = new ArrayList<>(userIDSet);
 
             try (
                 PreparedStatement statement1 = connection.prepareStatement(insertQuery);
-                PreparedStatement statement2 = connection.prepareStatement(updateQuery.formatted(setStr))
+                PreparedStatement statement2 = connection.prepareStatement(
+                    updateQuery.formatted(getPlaceholders(userIDs.size()))
+                )
             ) {
-                for (String username : usernameSet) {
-                    statement1.setString(1, username);
+                for (String userID : userIDs) {
+                    statement1.setString(1, userID);
                     statement1.addBatch();
                 }
 
@@ -140,6 +237,11 @@ public class TopDataUtil {
 
                 statement2.setInt(1, tier);
                 statement2.setInt(2, tier);
+
+                for (int i=0; i<userIDs.size(); i++) {
+                    statement2.setString(i+3, userIDs.get(i));
+                }
+
                 statement2.executeUpdate();
             }
 
@@ -147,23 +249,9 @@ public class TopDataUtil {
         }
     }
 
-    private static List<String> getSetStrs(List<Set<String>> usernameSets) {
-        StringJoiner joiner = new StringJoiner("','", "'", "'");
-        List<String> setStrs = new ArrayList<>();
-
-        for (Set<String> usernameSet : usernameSets) {
-            for (String username : usernameSet) {
-                joiner.add(username);
-            }
-
-            if (joiner.toString().isEmpty()) {
-                joiner.add("");
-            }
-
-            setStrs.add(joiner.toString());
-            joiner = new StringJoiner("','", "'", "'");
-        }
-
-        return setStrs;
+    private static String getPlaceholders(int amount) {
+        return amount == 0
+            ? "''"
+            : String.join(", ", Collections.nCopies(amount, "?"));
     }
 }
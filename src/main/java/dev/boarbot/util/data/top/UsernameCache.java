@@ -0,0 +1,125 @@
+package dev.boarbot.util.data.top;
+
+import dev.boarbot.BoarBotApp;
+import dev.boarbot.util.logging.Log;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.exceptions.ErrorResponseException;
+import net.dv8tion.jda.api.requests.ErrorResponse;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Bounded user ID to username cache for leaderboards. Names come from JDA user events first, then JDA's own user
+ * cache, and only fall back to a rate-limited Discord lookup for users JDA has never seen. Lookups that find the
+ * account deleted are queued for the user layer to wipe under the user's lock.
+ */
+public class UsernameCache {
+    private final static int MAX_ENTRIES = 50000;
+    private final static int MAX_LOOKUPS = 10;
+
+    private final static Map<String, String> userIDsByName = new HashMap<>();
+    private final static LinkedHashMap<String, String> usernames = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            if (this.size() <= MAX_ENTRIES) {
+                return false;
+            }
+
+            userIDsByName.remove(eldest.getValue(), eldest.getKey());
+            return true;
+        }
+    };
+    private final static Set<String> pendingLookups = ConcurrentHashMap.newKeySet();
+    private final static Queue<String> unknownUserIDs = new ConcurrentLinkedQueue<>();
+
+    public static synchronized void put(String userID, String username) {
+        String oldUsername = usernames.put(userID, username);
+
+        if (oldUsername != null && !oldUsername.equals(username)) {
+            userIDsByName.remove(oldUsername, userID);
+        }
+
+        userIDsByName.put(username, userID);
+    }
+
+    public static synchronized void putIfAbsent(String userID, String username) {
+        if (!usernames.containsKey(userID)) {
+            UsernameCache.put(userID, username);
+        }
+    }
+
+    public static String getUsername(String userID) {
+        synchronized (UsernameCache.class) {
+            String username = usernames.get(userID);
+
+            if (username != null) {
+                return username;
+            }
+        }
+
+        JDA jda = BoarBotApp.getBot().getJDA();
+        User user = jda == null ? null : jda.getUserById(userID);
+
+        if (user != null) {
+            UsernameCache.put(userID, user.getName());
+            return user.getName();
+        }
+
+        UsernameCache.lookup(jda, userID);
+        return userID;
+    }
+
+    public static String getUserID(String username) {
+        JDA jda = BoarBotApp.getBot().getJDA();
+
+        if (jda != null) {
+            for (User user : jda.getUsersByName(username, false)) {
+                UsernameCache.put(user.getId(), user.getName());
+                return user.getId();
+            }
+        }
+
+        synchronized (UsernameCache.class) {
+            return userIDsByName.get(username);
+        }
+    }
+
+    private static void lookup(JDA jda, String userID) {
+        if (jda == null || pendingLookups.size() >= MAX_LOOKUPS || !pendingLookups.add(userID)) {
+            return;
+        }
+
+        jda.retrieveUserById(userID).queue(
+            user -> {
+                pendingLookups.remove(userID);
+                UsernameCache.put(userID, user.getName());
+            },
+            e -> {
+                pendingLookups.remove(userID);
+
+                if (e instanceof ErrorResponseException response) {
+                    if (response.getErrorResponse() == ErrorResponse.UNKNOWN_USER) {
+                        unknownUserIDs.add(userID);
+                        return;
+                    }
+                }
+
+                Log.warn(UsernameCache.class, "Discord threw an exception while looking up a username", e);
+            }
+        );
+    }
+
+    public static List<String> drainUnknownUsers() {
+        List<String> userIDs = new ArrayList<>();
+        String userID;
+
+        while ((userID = unknownUserIDs.poll()) != null) {
+            userIDs.add(userID);
+        }
+
+        return userIDs;
+    }
+}
@@ -0,0 +1,157 @@
+package dev.boarbot.util.dispatch;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs handlers for one {@link DispatchType} on virtual threads. A semaphore caps how many run at once, and work past
+ * that cap waits in a bounded queue as a plain task, only getting a thread when a permit frees up. Work past the queue
+ * bound is shed. Blocking that would pin a carrier (Python I/O) runs on its own small platform pool in
+ * {@link dev.boarbot.util.python.PythonUtil}, and handler locks held across JDBC are {@code ReentrantLock}s, so a
+ * blocked handler unmounts instead of holding a carrier.
+ */
+class DispatchQueue {
+    private final DispatchType type;
+    private final ThreadFactory threadFactory;
+    private final Semaphore permits;
+    private final BlockingQueue<Job> queued;
+
+    // Running plus queued work, so shutdown can wait for both
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private volatile boolean isShutdown = false;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAdder totalRunNanos = new LongAdder();
+    private final AtomicLong maxRunNanos = new AtomicLong();
+
+    private record Job(Runnable task, long queuedNanos) {}
+
+    DispatchQueue(DispatchType type) {
+        this.type = type;
+        this.threadFactory = Thread.ofVirtual().name("dispatch-%s-".formatted(type.name().toLowerCase()), 0)
+            .factory();
+        this.permits = new Semaphore(type.getMaxInFlight());
+        this.queued = new ArrayBlockingQueue<>(type.getMaxQueued());
+    }
+
+    boolean submit(Runnable task) {
+        this.outstanding.incrementAndGet();
+
+        if (this.isShutdown) {
+            this.finishOne();
+            return false;
+        }
+
+        Job job = new Job(task, System.nanoTime());
+
+        if (this.permits.tryAcquire()) {
+            this.start(job);
+            return true;
+        }
+
+        if (!this.queued.offer(job)) {
+            this.shed.increment();
+            this.finishOne();
+            return false;
+        }
+
+        // A permit may have freed up between the failed acquire and the offer
+        this.drain();
+        return true;
+    }
+
+    void shutdown() {
+        this.isShutdown = true;
+
+        if (this.outstanding.get() == 0) {
+            this.terminated.countDown();
+        }
+    }
+
+    boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return this.terminated.await(timeout, unit);
+    }
+
+    private void start(Job job) {
+        this.threadFactory.newThread(() -> this.run(job)).start();
+    }
+
+    private void drain() {
+        while (!this.queued.isEmpty() && this.permits.tryAcquire()) {
+            Job job = this.queued.poll();
+
+            if (job == null) {
+                this.permits.release();
+                continue;
+            }
+
+            this.start(job);
+        }
+    }
+
+    private void run(Job job) {
+        long startNanos = System.nanoTime();
+        this.totalWaitNanos.add(startNanos - job.queuedNanos());
+
+        try {
+            job.task().run();
+        } finally {
+            long runNanos = System.nanoTime() - startNanos;
+
+            this.totalRunNanos.add(runNanos);
+            this.maxRunNanos.accumulateAndGet(runNanos, Math::max);
+            this.completed.increment();
+
+            this.permits.release();
+            this.drain();
+            this.finishOne();
+        }
+    }
+
+    private void finishOne() {
+        if (this.outstanding.decrementAndGet() == 0 && this.isShutdown) {
+            this.terminated.countDown();
+        }
+    }
+
+    int getQueueDepth() {
+        return this.queued.size();
+    }
+
+    int getActive() {
+        return this.type.getMaxInFlight() - this.permits.availablePermits();
+    }
+
+    String getMetricsString() {
+        long numCompleted = this.completed.sumThenReset();
+        long numShed = this.shed.sumThenReset();
+        long waitNanos = this.totalWaitNanos.sumThenReset();
+        long runNanos = this.totalRunNanos.sumThenReset();
+        long maxNanos = this.maxRunNanos.getAndSet(0);
+
+        long avgWaitMillis = numCompleted == 0 ? 0 : waitNanos / numCompleted / 1_000_000;
+        long avgRunMillis = numCompleted == 0 ? 0 : runNanos / numCompleted / 1_000_000;
+
+        return "%s [Active: %,d | Queued: %,d | Done: %,d | Shed: %,d | Wait: %,dms | Run: %,dms avg, %,dms max]"
+            .formatted(
+                this.type,
+                this.getActive(),
+                this.getQueueDepth(),
+                numCompleted,
+                numShed,
+                avgWaitMillis,
+                avgRunMillis,
+                maxNanos / 1_000_000
+            );
+    }
+}
@@ -0,0 +1,19 @@
+package dev.boarbot.util.dispatch;
+
+import lombok.Getter;
+
+@Getter
+public enum DispatchType {
+    COMMAND(64, 512),
+    COMPONENT(128, 1024),
+    MODAL(32, 256),
+    MESSAGE(16, 256);
+
+    private final int maxInFlight;
+    private final int maxQueued;
+
+    DispatchType(int maxInFlight, int maxQueued) {
+        this.maxInFlight = maxInFlight;
+        this.maxQueued = maxQueued;
+    }
+}
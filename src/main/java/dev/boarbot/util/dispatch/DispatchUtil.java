@@ -0,0 +1,64 @@
+package dev.boarbot.util.dispatch;
+
+import dev.boarbot.util.logging.Log;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+public final class DispatchUtil {
+    private final static int SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final static Map<DispatchType, DispatchQueue> queues = new EnumMap<>(DispatchType.class);
+
+    static {
+        for (DispatchType type : DispatchType.values()) {
+            queues.put(type, new DispatchQueue(type));
+        }
+    }
+
+    public static boolean dispatch(DispatchType type, Runnable task) {
+        return queues.get(type).submit(task);
+    }
+
+    public static int getQueueDepth(DispatchType type) {
+        return queues.get(type).getQueueDepth();
+    }
+
+    public static String getMetricsString() {
+        StringJoiner joiner = new StringJoiner(" | ");
+
+        for (DispatchQueue queue : queues.values()) {
+            joiner.add(queue.getMetricsString());
+        }
+
+        return joiner.toString();
+    }
+
+    /**
+     * Stops taking new work and waits for running and queued handlers to finish, so anything they write is in place
+     * before the final flushes run.
+     */
+    public static void shutdownExecutor() {
+        for (DispatchQueue queue : queues.values()) {
+            queue.shutdown();
+        }
+
+        long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(SHUTDOWN_TIMEOUT_SECONDS);
+
+        try {
+            for (DispatchQueue queue : queues.values()) {
+                long remainingNanos = deadlineNanos - System.nanoTime();
+
+                if (!queue.awaitTermination(remainingNanos, TimeUnit.NANOSECONDS)) {
+                    Log.warn(DispatchUtil.class, "Timed out waiting for dispatched work to finish");
+                    return;
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            Log.warn(DispatchUtil.class, "Interrupted waiting for dispatched work to finish", exception);
+        }
+    }
+}
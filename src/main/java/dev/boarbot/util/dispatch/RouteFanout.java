@@ -0,0 +1,198 @@
+package dev.boarbot.util.dispatch;
+
+import dev.boarbot.util.logging.Log;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends a batch of Discord requests with bounded parallelism. Requests are bucketed by their rate-limit route (the
+ * channel they target) so each route only has a few requests in flight while different routes proceed concurrently,
+ * and per-request latency is recorded for the batch summary.
+ */
+public class RouteFanout {
+    private final static ExecutorService executor = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("fanout-", 0).factory()
+    );
+    private final static int SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final String name;
+    private final int maxPerRoute;
+    private final Semaphore inFlight;
+    private final Map<String, Semaphore> routes = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger(1);
+    private final CompletableFuture<Void> finished = new CompletableFuture<>();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private final List<Long> latencyNanos = new ArrayList<>();
+    private final LongAdder failed = new LongAdder();
+    private final long startNanos = System.nanoTime();
+
+    @FunctionalInterface
+    public interface Request {
+        void send(Completion completion);
+    }
+
+    public class Completion {
+        private final Semaphore routePermits;
+        private final long sendNanos = System.nanoTime();
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private Completion(Semaphore routePermits) {
+            this.routePermits = routePermits;
+        }
+
+        public void succeeded() {
+            this.complete(true);
+        }
+
+        public void failed() {
+            this.complete(false);
+        }
+
+        private void complete(boolean success) {
+            if (!this.done.compareAndSet(false, true)) {
+                return;
+            }
+
+            RouteFanout.this.record(System.nanoTime() - this.sendNanos, success);
+
+            RouteFanout.this.inFlight.release();
+            this.routePermits.release();
+            RouteFanout.this.arrive();
+        }
+    }
+
+    public RouteFanout(String name, int maxInFlight, int maxPerRoute) {
+        this.name = name;
+        this.maxPerRoute = maxPerRoute;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    public void submit(String route, Request request) {
+        this.pending.incrementAndGet();
+
+        executor.execute(() -> {
+            Semaphore routePermits = this.routes.computeIfAbsent(route, k -> new Semaphore(this.maxPerRoute));
+
+            routePermits.acquireUninterruptibly();
+            this.inFlight.acquireUninterruptibly();
+
+            Completion completion = new Completion(routePermits);
+
+            try {
+                request.send(completion);
+            } catch (RuntimeException exception) {
+                completion.failed();
+                Log.error(
+                    this.getClass(), "%s request to %s threw an exception".formatted(this.name, route), exception
+                );
+            }
+        });
+    }
+
+    public boolean await(long timeout, TimeUnit unit) {
+        this.close();
+
+        try {
+            this.finished.get(timeout, unit);
+            return true;
+        } catch (TimeoutException exception) {
+            return false;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * Like {@link #await(long, TimeUnit)} without blocking, for callers on threads that shouldn't wait on Discord.
+     * The action runs on whichever thread completes the last request.
+     */
+    public void whenFinished(Runnable action) {
+        this.close();
+        this.finished.thenRun(action);
+    }
+
+    private void close() {
+        if (this.closed.compareAndSet(false, true)) {
+            this.arrive();
+        }
+    }
+
+    public int getNumCompleted() {
+        synchronized (this.latencyNanos) {
+            return this.latencyNanos.size();
+        }
+    }
+
+    public long getNumFailed() {
+        return this.failed.sum();
+    }
+
+    public String getSummary() {
+        List<Long> sorted;
+
+        synchronized (this.latencyNanos) {
+            sorted = new ArrayList<>(this.latencyNanos);
+        }
+
+        sorted.sort(null);
+
+        return "%s: %,d sent, %,d failed in %,dms [p50: %,dms | p90: %,dms | p99: %,dms | max: %,dms]".formatted(
+            this.name,
+            sorted.size() - this.failed.sum(),
+            this.failed.sum(),
+            (System.nanoTime() - this.startNanos) / 1_000_000,
+            percentile(sorted, 0.5),
+            percentile(sorted, 0.9),
+            percentile(sorted, 0.99),
+            percentile(sorted, 1)
+        );
+    }
+
+    private void arrive() {
+        if (this.pending.decrementAndGet() == 0) {
+            this.finished.complete(null);
+        }
+    }
+
+    private void record(long nanos, boolean success) {
+        synchronized (this.latencyNanos) {
+            this.latencyNanos.add(nanos);
+        }
+
+        if (!success) {
+            this.failed.increment();
+        }
+    }
+
+    private static long percentile(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.clamp(index, 0, sorted.size() - 1)) / 1_000_000;
+    }
+
+    public static void shutdownExecutor() {
+        executor.shutdown();
+
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                Log.warn(RouteFanout.class, "Timed out waiting for fanout requests to start");
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            Log.warn(RouteFanout.class, "Interrupted waiting for fanout requests to start", exception);
+        }
+    }
+}
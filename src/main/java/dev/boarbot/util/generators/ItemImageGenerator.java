@@ -1,10 +1,11 @@
 package dev.boarbot.util.generators;
 
-import com.google.gson.Gson;
 import dev.boarbot.BoarBotApp;
 import dev.boarbot.bot.config.items.BadgeItemConfig;
 import dev.boarbot.bot.config.items.BoarItemConfig;
 import dev.boarbot.util.boar.BoarUtil;
+import dev.boarbot.util.cache.RenderCache;
+import dev.boarbot.util.gif.GifUtil;
 import dev.boarbot.util.graphics.Align;
 import dev.boarbot.util.graphics.GraphicsUtil;
 import dev.boarbot.util.graphics.TextDrawer;
@@ -117,37 +118,28 @@ public class ItemImageGenerator extends ImageGenerator {
 
     public ItemImageGenerator generate(boolean forceStatic) throws IOException, URISyntaxException {
         String extension = this.filePath.split("[.]")[1];
+        String cacheTitle = this.title.toLowerCase().replaceAll("[^a-z]+", "");
 
         if (extension.equals("gif") && !forceStatic) {
-            this.generatedImageBytes = BoarBotApp.getBot().getByteCacheMap().get(
-                "animitem" + this.title.toLowerCase().replaceAll("[^a-z]+", "") + this.itemName + this.colorKey
-            );
+            String cacheKey = "animitem" + cacheTitle + this.itemName + this.colorKey;
+            this.generatedImageBytes = this.getCachedBytes(cacheKey);
 
             if (this.generatedImageBytes == null) {
                 this.generateStatic(false);
                 this.generateAnimated();
-
-                BoarBotApp.getBot().getByteCacheMap().put(
-                    "animitem" + this.title.toLowerCase().replaceAll("[^a-z]+", "") + this.itemName + this.colorKey,
-                    this.generatedImageBytes
-                );
+                this.putCachedBytes(cacheKey);
             }
 
             if (this.user != null) {
                 this.addAnimatedUser();
             }
         } else {
-            this.generatedImageBytes = BoarBotApp.getBot().getByteCacheMap().get(
-                "item" + this.title.toLowerCase().replaceAll("[^a-z]+", "") + this.itemName + this.colorKey
-            );
+            String cacheKey = "item" + cacheTitle + this.itemName + this.colorKey;
+            this.generatedImageBytes = this.getCachedBytes(cacheKey);
 
             if (this.generatedImageBytes == null) {
                 this.generateStatic(true);
-
-                BoarBotApp.getBot().getByteCacheMap().put(
-                    "item" + this.title.toLowerCase().replaceAll("[^a-z]+", "") + this.itemName + this.colorKey,
-                    this.generatedImageBytes
-                );
+                this.putCachedBytes(cacheKey);
             }
 
             if (this.user != null) {
@@ -158,20 +150,57 @@ public class ItemImageGenerator extends ImageGenerator {
         return this;
     }
 
-    private void generateAnimated() throws IOException, URISyntaxException {
-        Gson g = new Gson();
+    private byte[] getCachedBytes(String cacheKey) throws IOException {
+        byte[] cachedBytes = BoarBotApp.getBot().getByteCacheMap().get(cacheKey);
+        String diskKey = this.getDiskKey(cacheKey);
+
+        if (cachedBytes != null || diskKey == null) {
+            return cachedBytes;
+        }
 
+        cachedBytes = RenderCache.get(diskKey);
+
+        if (cachedBytes != null) {
+            BoarBotApp.getBot().getByteCacheMap().put(cacheKey, cachedBytes);
+        }
+
+        return cachedBytes;
+    }
+
+    private void putCachedBytes(String cacheKey) throws IOException {
+        BoarBotApp.getBot().getByteCacheMap().put(cacheKey, this.generatedImageBytes);
+        String diskKey = this.getDiskKey(cacheKey);
+
+        if (diskKey != null) {
+            RenderCache.put(diskKey, this.generatedImageBytes);
+        }
+    }
+
+    private String getDiskKey(String cacheKey) throws IOException {
+        if (this.filePath.startsWith("http")) {
+            return null;
+        }
+
+        String staticHash = this.staticFilePath != null
+            ? RenderCache.getAssetHash(this.staticFilePath)
+            : "";
+
+        return cacheKey + RenderCache.getAssetHash(this.filePath) + staticHash;
+    }
+
+    private void generateAnimated() throws IOException, URISyntaxException {
         byte[] animatedImage = GraphicsUtil.getImageBytes(this.filePath);
 
-        Process pythonProcess = new ProcessBuilder(
-            "python3",
-            PythonUtil.getTempPath(ResourceUtil.animItemScript),
-            g.toJson(NUMS),
-            Integer.toString(this.generatedImageBytes.length),
-            Integer.toString(animatedImage.length)
-        ).start();
+        if (!CONFIG.getMainConfig().isPythonGifs()) {
+            this.generatedImageBytes = GifUtil.pasteFrames(
+                this.generatedImageBytes, animatedImage, ITEM_POS, NUMS.getBigBoarSize(), false
+            );
+            return;
+        }
 
-        this.generatedImageBytes = PythonUtil.getResult(pythonProcess, this.generatedImageBytes, animatedImage);
+        this.generatedImageBytes = PythonUtil.runScript(
+            ResourceUtil.animItemScript, List.of(), this.generatedImageBytes, animatedImage
+        );
     }
 
     private void addAnimatedUser() throws IOException, URISyntaxException {
@@ -181,14 +210,14 @@ public class ItemImageGenerator extends ImageGenerator {
         ImageIO.write(userOverlay, "png", byteArrayOS);
         byte[] userOverlayBytes = byteArrayOS.toByteArray();
 
-        Process pythonProcess = new ProcessBuilder(
-            "python3",
-            PythonUtil.getTempPath(ResourceUtil.userItemScript),
-            Integer.toString(this.generatedImageBytes.length),
-            Integer.toString(userOverlayBytes.length)
-        ).start();
+        if (!CONFIG.getMainConfig().isPythonGifs()) {
+            this.generatedImageBytes = GifUtil.overlayFrames(this.generatedImageBytes, userOverlayBytes);
+            return;
+        }
 
-        this.generatedImageBytes = PythonUtil.getResult(pythonProcess, this.generatedImageBytes, userOverlayBytes);
+        this.generatedImageBytes = PythonUtil.runScript(
+            ResourceUtil.userItemScript, List.of(), this.generatedImageBytes, userOverlayBytes
+        );
     }
 
     private void generateStatic(boolean makeWithItem) throws IOException, URISyntaxException {
@@ -1,6 +1,7 @@
 package dev.boarbot.util.generators;
 
 import dev.boarbot.api.util.Configured;
+import dev.boarbot.util.gif.GifUtil;
 import dev.boarbot.util.graphics.GraphicsUtil;
 import dev.boarbot.util.python.PythonUtil;
 
@@ -91,14 +92,15 @@ public final class ItemImageGrouper implements Configured {
             ImageIO.write(groupedImage, "png", byteArrayOS);
             resultByteArray = byteArrayOS.toByteArray();
 
-            Process pythonProcess = new ProcessBuilder(
-                "python3",
-                PythonUtil.getTempPath(ResourceUtil.itemGroupScript),
-                Integer.toString(resultByteArray.length),
-                Integer.toString(middleImageBytes.length)
-            ).start();
-
-            resultByteArray = PythonUtil.getResult(pythonProcess, resultByteArray, middleImageBytes);
+            if (CONFIG.getMainConfig().isPythonGifs()) {
+                resultByteArray = PythonUtil.runScript(
+                    ResourceUtil.itemGroupScript, List.of(), resultByteArray, middleImageBytes
+                );
+            } else {
+                resultByteArray = GifUtil.pasteFrames(
+                    resultByteArray, middleImageBytes, new int[] {HORIZ_PADDING, 0}, null, false
+                );
+            }
         } else {
             byteArrayIS = new ByteArrayInputStream(middleImageBytes);
             BufferedImage mainImage = ImageIO.read(byteArrayIS);
@@ -1,6 +1,6 @@
 package dev.boarbot.util.generators;
 
-import com.google.gson.Gson;
+import dev.boarbot.util.gif.GifUtil;
 import dev.boarbot.util.graphics.Align;
 import dev.boarbot.util.graphics.GraphicsUtil;
 import dev.boarbot.util.graphics.TextDrawer;
@@ -12,6 +12,7 @@ import java.awt.geom.RoundRectangle2D;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.List;
 
 public class OverlayImageGenerator extends ImageGenerator {
     private String text;
@@ -141,20 +142,12 @@ public class OverlayImageGenerator extends ImageGenerator {
             }
         }
 
-        if (this.animated) {
-            Gson g = new Gson();
-
-            Process pythonProcess = new ProcessBuilder(
-                "python3",
-                PythonUtil.getTempPath(ResourceUtil.animOverlayScript),
-                g.toJson(NUMS),
-                "[%d, %d]".formatted(pos[0], pos[1]),
-                "[%d, %d]".formatted(this.size[0], this.size[1]),
-                Integer.toString(this.getBytes().length),
-                Integer.toString(this.animatedImage.length)
-            ).start();
-
-            this.generatedImageBytes = PythonUtil.getResult(pythonProcess, this.getBytes(), this.animatedImage);
+        if (this.animated && !CONFIG.getMainConfig().isPythonGifs()) {
+            this.generatedImageBytes = GifUtil.pasteFrames(this.getBytes(), this.animatedImage, pos, this.size, true);
+        } else if (this.animated) {
+            this.generatedImageBytes = PythonUtil.runScript(
+                ResourceUtil.animOverlayScript, List.of(pos, this.size), this.getBytes(), this.animatedImage
+            );
         } else {
             g2d.drawImage(this.overlayImage, pos[0], pos[1], null);
         }
@@ -1,7 +1,8 @@
 package dev.boarbot.util.generators;
 
 import dev.boarbot.bot.config.commands.ArgChoicesConfig;
-import dev.boarbot.interactives.boar.TopInteractive;
+import dev.boarbot.util.data.top.RankedBoard;
+import dev.boarbot.util.data.top.TopBoards;
 import dev.boarbot.util.data.top.TopType;
 import dev.boarbot.util.graphics.Align;
 import dev.boarbot.util.graphics.GraphicsUtil;
@@ -12,6 +13,7 @@ import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.List;
 
 public class TopImageGenerator extends ImageGenerator {
     private static final int[] IMAGE_SIZE = {1920, 1403};
@@ -33,7 +35,7 @@ public class TopImageGenerator extends ImageGenerator {
     public TopImageGenerator(int page, TopType topType, Integer usernameIndex) {
         this.page = page;
         this.topType = topType;
-        this.totalEntries = TopInteractive.indexedBoards.get(topType).size();
+        this.totalEntries = TopBoards.getBoard(topType).size();
         this.totalPages = Math.max((this.totalEntries-1) / ENTRIES_PER_PAGE, 0);
 
         this.userIndex = usernameIndex == null
@@ -55,6 +57,10 @@ public class TopImageGenerator extends ImageGenerator {
         int startIndex = this.page * ENTRIES_PER_PAGE;
         int endIndex = Math.min((this.page+1) * ENTRIES_PER_PAGE, this.totalEntries);
 
+        RankedBoard board = TopBoards.getBoard(this.topType);
+        List<String> pageUserIDs = board.getUserIDs(startIndex, endIndex);
+        endIndex = startIndex + pageUserIDs.size();
+
         int[] curPos = {LEFT_X, START_Y};
 
         for (int i=startIndex; i<endIndex; i++) {
@@ -62,8 +68,9 @@ public class TopImageGenerator extends ImageGenerator {
                 curPos = new int[] {RIGHT_X, START_Y};
             }
 
-            String username = TopInteractive.indexedBoards.get(this.topType).get(i);
-            long value = TopInteractive.cachedBoards.get(this.topType).get(username).value();
+            String userID = pageUserIDs.get(i - startIndex);
+            String username = TopBoards.getUsername(userID);
+            long value = board.getValue(userID);
 
             this.textDrawer.setText(STRS.getTopEntry().formatted(i+1, username, value));
             this.textDrawer.setPos(curPos);
@@ -0,0 +1,121 @@
+package dev.boarbot.util.gif;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+final class GifDecoder {
+    private static final String STREAM_FORMAT = "javax_imageio_gif_stream_1.0";
+    private static final String IMAGE_FORMAT = "javax_imageio_gif_image_1.0";
+
+    public static List<GifFrame> decode(byte[] gifBytes) throws IOException {
+        ImageReader reader = ImageIO.getImageReadersByFormatName("gif").next();
+        List<GifFrame> frames = new ArrayList<>();
+
+        try (ImageInputStream imageIS = ImageIO.createImageInputStream(new ByteArrayInputStream(gifBytes))) {
+            reader.setInput(imageIS, false);
+
+            int numFrames = reader.getNumImages(true);
+            BufferedImage canvas = null;
+
+            for (int i=0; i<numFrames; i++) {
+                BufferedImage rawFrame = reader.read(i);
+                IIOMetadataNode imageRoot = (IIOMetadataNode) reader.getImageMetadata(i).getAsTree(IMAGE_FORMAT);
+
+                if (canvas == null) {
+                    int[] screenSize = GifDecoder.getScreenSize(reader, rawFrame);
+                    canvas = new BufferedImage(screenSize[0], screenSize[1], BufferedImage.TYPE_INT_ARGB);
+                }
+
+                IIOMetadataNode descriptor = GifDecoder.getChild(imageRoot, "ImageDescriptor");
+                int x = GifDecoder.getIntAttribute(descriptor, "imageLeftPosition", 0);
+                int y = GifDecoder.getIntAttribute(descriptor, "imageTopPosition", 0);
+
+                IIOMetadataNode control = GifDecoder.getChild(imageRoot, "GraphicControlExtension");
+                String disposal = control == null ? "none" : control.getAttribute("disposalMethod");
+                int duration = GifDecoder.getIntAttribute(control, "delayTime", 0) * 10;
+
+                BufferedImage previous = disposal.equals("restoreToPrevious")
+                    ? GifDecoder.copyImage(canvas)
+                    : null;
+
+                Graphics2D g2d = canvas.createGraphics();
+                g2d.drawImage(rawFrame, x, y, null);
+                g2d.dispose();
+
+                frames.add(new GifFrame(GifDecoder.copyImage(canvas), duration));
+
+                if (disposal.equals("restoreToBackgroundColor")) {
+                    g2d = canvas.createGraphics();
+                    g2d.setComposite(AlphaComposite.Clear);
+                    g2d.fillRect(x, y, rawFrame.getWidth(), rawFrame.getHeight());
+                    g2d.dispose();
+                } else if (previous != null) {
+                    canvas = previous;
+                }
+            }
+        } finally {
+            reader.dispose();
+        }
+
+        if (frames.isEmpty()) {
+            throw new IOException("GIF contains no frames");
+        }
+
+        return frames;
+    }
+
+    private static int[] getScreenSize(ImageReader reader, BufferedImage firstFrame) throws IOException {
+        int width = 0;
+        int height = 0;
+
+        if (reader.getStreamMetadata() != null) {
+            IIOMetadataNode streamRoot = (IIOMetadataNode) reader.getStreamMetadata().getAsTree(STREAM_FORMAT);
+            IIOMetadataNode screen = GifDecoder.getChild(streamRoot, "LogicalScreenDescriptor");
+
+            width = GifDecoder.getIntAttribute(screen, "logicalScreenWidth", 0);
+            height = GifDecoder.getIntAttribute(screen, "logicalScreenHeight", 0);
+        }
+
+        return new int[] {
+            width > 0 ? width : firstFrame.getWidth(),
+            height > 0 ? height : firstFrame.getHeight()
+        };
+    }
+
+    static BufferedImage copyImage(BufferedImage image) {
+        BufferedImage copy = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+
+        Graphics2D g2d = copy.createGraphics();
+        g2d.setComposite(AlphaComposite.Src);
+        g2d.drawImage(image, 0, 0, null);
+        g2d.dispose();
+
+        return copy;
+    }
+
+    static IIOMetadataNode getChild(IIOMetadataNode root, String name) {
+        for (int i=0; i<root.getLength(); i++) {
+            if (root.item(i).getNodeName().equals(name)) {
+                return (IIOMetadataNode) root.item(i);
+            }
+        }
+
+        return null;
+    }
+
+    private static int getIntAttribute(IIOMetadataNode node, String name, int defaultValue) {
+        if (node == null || node.getAttribute(name).isEmpty()) {
+            return defaultValue;
+        }
+
+        return Integer.parseInt(node.getAttribute(name));
+    }
+}
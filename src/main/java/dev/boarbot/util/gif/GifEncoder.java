@@ -0,0 +1,90 @@
+package dev.boarbot.util.gif;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.awt.image.IndexColorModel;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+final class GifEncoder {
+    private static final String IMAGE_FORMAT = "javax_imageio_gif_image_1.0";
+
+    public static byte[] encode(List<GifFrame> frames) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("gif").next();
+        ByteArrayOutputStream byteArrayOS = new ByteArrayOutputStream();
+
+        try (ImageOutputStream imageOS = ImageIO.createImageOutputStream(byteArrayOS)) {
+            writer.setOutput(imageOS);
+            writer.prepareWriteSequence(null);
+
+            List<BufferedImage> indexedImages = GifQuantizer.quantize(
+                frames.stream().map(GifFrame::image).toList()
+            );
+
+            for (int i=0; i<frames.size(); i++) {
+                GifFrame frame = frames.get(i);
+                BufferedImage indexedImage = indexedImages.get(i);
+
+                IIOMetadata metadata = writer.getDefaultImageMetadata(
+                    new ImageTypeSpecifier(indexedImage), writer.getDefaultWriteParam()
+                );
+                IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(IMAGE_FORMAT);
+
+                GifEncoder.setFrameControl(root, frame.duration(), indexedImage);
+
+                if (i == 0) {
+                    GifEncoder.setLooping(root);
+                }
+
+                metadata.setFromTree(IMAGE_FORMAT, root);
+                writer.writeToSequence(new IIOImage(indexedImage, null, metadata), null);
+            }
+
+            writer.endWriteSequence();
+        } finally {
+            writer.dispose();
+        }
+
+        return byteArrayOS.toByteArray();
+    }
+
+    private static void setFrameControl(IIOMetadataNode root, int duration, BufferedImage indexedImage) {
+        IIOMetadataNode control = GifEncoder.getOrAddChild(root, "GraphicControlExtension");
+        int transparentIndex = ((IndexColorModel) indexedImage.getColorModel()).getTransparentPixel();
+
+        control.setAttribute("disposalMethod", "restoreToBackgroundColor");
+        control.setAttribute("userInputFlag", "FALSE");
+        control.setAttribute("transparentColorFlag", transparentIndex >= 0 ? "TRUE" : "FALSE");
+        control.setAttribute("transparentColorIndex", Integer.toString(Math.max(transparentIndex, 0)));
+        control.setAttribute("delayTime", Integer.toString(Math.round(duration / 10f)));
+    }
+
+    private static void setLooping(IIOMetadataNode root) {
+        IIOMetadataNode appExtensions = GifEncoder.getOrAddChild(root, "ApplicationExtensions");
+        IIOMetadataNode appExtension = new IIOMetadataNode("ApplicationExtension");
+
+        appExtension.setAttribute("applicationID", "NETSCAPE");
+        appExtension.setAttribute("authenticationCode", "2.0");
+        appExtension.setUserObject(new byte[] {0x1, 0x0, 0x0});
+
+        appExtensions.appendChild(appExtension);
+    }
+
+    private static IIOMetadataNode getOrAddChild(IIOMetadataNode root, String name) {
+        IIOMetadataNode child = GifDecoder.getChild(root, name);
+
+        if (child == null) {
+            child = new IIOMetadataNode(name);
+            root.appendChild(child);
+        }
+
+        return child;
+    }
+}
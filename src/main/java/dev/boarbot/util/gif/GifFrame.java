@@ -0,0 +1,5 @@
+package dev.boarbot.util.gif;
+
+import java.awt.image.BufferedImage;
+
+public record GifFrame(BufferedImage image, int duration) {}
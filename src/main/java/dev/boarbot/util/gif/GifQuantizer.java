@@ -0,0 +1,320 @@
+package dev.boarbot.util.gif;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.awt.image.IndexColorModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+final class GifQuantizer {
+    private static final int MAX_COLORS = 256;
+    private static final int BIN_BITS = 5;
+    private static final int NUM_BINS = 1 << (BIN_BITS * 3);
+    private static final int COLOR_TABLE_SIZE = 1024;
+
+    public static List<BufferedImage> quantize(List<BufferedImage> images) {
+        List<int[]> imagePixels = new ArrayList<>();
+        boolean hasTransparency = false;
+
+        for (BufferedImage image : images) {
+            int[] pixels = GifQuantizer.getPixels(image);
+            imagePixels.add(pixels);
+
+            for (int i=0; i<pixels.length && !hasTransparency; i++) {
+                hasTransparency = (pixels[i] >>> 24) == 0;
+            }
+        }
+
+        int maxColors = hasTransparency ? MAX_COLORS - 1 : MAX_COLORS;
+
+        ColorTable exactColors = GifQuantizer.getExactColors(imagePixels, maxColors);
+        int[] binLookup = null;
+        int[] palette;
+
+        if (exactColors != null) {
+            palette = exactColors.getPalette();
+        } else {
+            binLookup = new int[NUM_BINS];
+            palette = GifQuantizer.getMedianCutPalette(imagePixels, maxColors, binLookup);
+        }
+
+        int transparentIndex = hasTransparency ? palette.length : -1;
+        int paletteSize = Math.max(hasTransparency ? palette.length + 1 : palette.length, 2);
+
+        byte[] reds = new byte[paletteSize];
+        byte[] greens = new byte[paletteSize];
+        byte[] blues = new byte[paletteSize];
+
+        for (int i=0; i<palette.length; i++) {
+            reds[i] = (byte) (palette[i] >> 16);
+            greens[i] = (byte) (palette[i] >> 8);
+            blues[i] = (byte) palette[i];
+        }
+
+        IndexColorModel colorModel = new IndexColorModel(8, paletteSize, reds, greens, blues, transparentIndex);
+        List<BufferedImage> indexedImages = new ArrayList<>();
+
+        for (int i=0; i<images.size(); i++) {
+            int[] pixels = imagePixels.get(i);
+            BufferedImage indexedImage = new BufferedImage(
+                images.get(i).getWidth(), images.get(i).getHeight(), BufferedImage.TYPE_BYTE_INDEXED, colorModel
+            );
+            byte[] indexedPixels = ((DataBufferByte) indexedImage.getRaster().getDataBuffer()).getData();
+
+            for (int j=0; j<pixels.length; j++) {
+                int pixel = pixels[j];
+
+                if ((pixel >>> 24) == 0) {
+                    indexedPixels[j] = (byte) transparentIndex;
+                } else if (exactColors != null) {
+                    indexedPixels[j] = (byte) exactColors.indexOf(pixel & 0xFFFFFF);
+                } else {
+                    indexedPixels[j] = (byte) binLookup[GifQuantizer.getBin(pixel)];
+                }
+            }
+
+            indexedImages.add(indexedImage);
+        }
+
+        return indexedImages;
+    }
+
+    private static int[] getPixels(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_ARGB) {
+            return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        }
+
+        return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+    }
+
+    private static ColorTable getExactColors(List<int[]> imagePixels, int maxColors) {
+        ColorTable colors = new ColorTable();
+
+        for (int[] pixels : imagePixels) {
+            int lastColor = -1;
+
+            for (int pixel : pixels) {
+                int color = pixel & 0xFFFFFF;
+
+                if ((pixel >>> 24) == 0 || color == lastColor) {
+                    continue;
+                }
+
+                lastColor = color;
+                colors.add(color);
+
+                if (colors.size() > maxColors) {
+                    return null;
+                }
+            }
+        }
+
+        return colors;
+    }
+
+    private static int[] getMedianCutPalette(List<int[]> imagePixels, int maxColors, int[] binLookup) {
+        long[] counts = new long[NUM_BINS];
+        long[] redSums = new long[NUM_BINS];
+        long[] greenSums = new long[NUM_BINS];
+        long[] blueSums = new long[NUM_BINS];
+
+        for (int[] pixels : imagePixels) {
+            for (int pixel : pixels) {
+                if ((pixel >>> 24) == 0) {
+                    continue;
+                }
+
+                int bin = GifQuantizer.getBin(pixel);
+
+                counts[bin]++;
+                redSums[bin] += (pixel >> 16) & 0xFF;
+                greenSums[bin] += (pixel >> 8) & 0xFF;
+                blueSums[bin] += pixel & 0xFF;
+            }
+        }
+
+        int numUsed = 0;
+        long totalUsed = 0;
+
+        for (long count : counts) {
+            if (count > 0) {
+                numUsed++;
+                totalUsed += count;
+            }
+        }
+
+        int[] bins = new int[numUsed];
+
+        for (int bin=0, i=0; bin<NUM_BINS; bin++) {
+            if (counts[bin] > 0) {
+                bins[i++] = bin;
+            }
+        }
+
+        int[] boxStarts = new int[maxColors];
+        int[] boxEnds = new int[maxColors];
+        long[] boxCounts = new long[maxColors];
+        int numBoxes = 1;
+
+        boxEnds[0] = bins.length;
+        boxCounts[0] = totalUsed;
+
+        while (numBoxes < maxColors) {
+            int splitBox = -1;
+
+            for (int i=0; i<numBoxes; i++) {
+                boolean canSplit = boxEnds[i] - boxStarts[i] > 1;
+
+                if (canSplit && (splitBox == -1 || boxCounts[i] > boxCounts[splitBox])) {
+                    splitBox = i;
+                }
+            }
+
+            if (splitBox == -1) {
+                break;
+            }
+
+            int start = boxStarts[splitBox];
+            int end = boxEnds[splitBox];
+            int channel = GifQuantizer.getWidestChannel(bins, start, end);
+
+            long[] sortKeys = new long[end - start];
+
+            for (int i=start; i<end; i++) {
+                sortKeys[i - start] = ((long) GifQuantizer.getChannel(bins[i], channel) << 16) | bins[i];
+            }
+
+            Arrays.sort(sortKeys);
+
+            for (int i=start; i<end; i++) {
+                bins[i] = (int) (sortKeys[i - start] & 0xFFFF);
+            }
+
+            long leftCount = 0;
+            int median = start;
+
+            while (median < end - 1 && leftCount + counts[bins[median]] <= boxCounts[splitBox] / 2) {
+                leftCount += counts[bins[median]];
+                median++;
+            }
+
+            if (median == start) {
+                leftCount += counts[bins[median]];
+                median++;
+            }
+
+            boxStarts[numBoxes] = median;
+            boxEnds[numBoxes] = end;
+            boxCounts[numBoxes] = boxCounts[splitBox] - leftCount;
+            numBoxes++;
+
+            boxEnds[splitBox] = median;
+            boxCounts[splitBox] = leftCount;
+        }
+
+        int[] palette = new int[numBoxes];
+
+        for (int i=0; i<numBoxes; i++) {
+            long count = 0;
+            long red = 0;
+            long green = 0;
+            long blue = 0;
+
+            for (int j=boxStarts[i]; j<boxEnds[i]; j++) {
+                int bin = bins[j];
+
+                count += counts[bin];
+                red += redSums[bin];
+                green += greenSums[bin];
+                blue += blueSums[bin];
+
+                binLookup[bin] = i;
+            }
+
+            count = Math.max(count, 1);
+            palette[i] = (int) (red / count) << 16 | (int) (green / count) << 8 | (int) (blue / count);
+        }
+
+        return palette;
+    }
+
+    private static int getWidestChannel(int[] bins, int start, int end) {
+        int widestChannel = 0;
+        int widestRange = -1;
+
+        for (int channel=0; channel<3; channel++) {
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+
+            for (int i=start; i<end; i++) {
+                int value = GifQuantizer.getChannel(bins[i], channel);
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+
+            if (max - min > widestRange) {
+                widestRange = max - min;
+                widestChannel = channel;
+            }
+        }
+
+        return widestChannel;
+    }
+
+    private static int getBin(int pixel) {
+        int red = (pixel >> (16 + 8 - BIN_BITS)) & 0x1F;
+        int green = (pixel >> (8 + 8 - BIN_BITS)) & 0x1F;
+        int blue = (pixel >> (8 - BIN_BITS)) & 0x1F;
+
+        return red << (BIN_BITS * 2) | green << BIN_BITS | blue;
+    }
+
+    private static int getChannel(int bin, int channel) {
+        return (bin >> (BIN_BITS * (2 - channel))) & 0x1F;
+    }
+
+    private static class ColorTable {
+        private final int[] keys = new int[COLOR_TABLE_SIZE];
+        private final int[] indexes = new int[COLOR_TABLE_SIZE];
+        private final int[] palette = new int[COLOR_TABLE_SIZE];
+        private int size = 0;
+
+        public ColorTable() {
+            Arrays.fill(this.keys, -1);
+        }
+
+        public void add(int color) {
+            int slot = this.findSlot(color);
+
+            if (this.keys[slot] == -1 && this.size < MAX_COLORS + 1) {
+                this.keys[slot] = color;
+                this.indexes[slot] = this.size;
+                this.palette[this.size++] = color;
+            }
+        }
+
+        public int indexOf(int color) {
+            return this.indexes[this.findSlot(color)];
+        }
+
+        public int size() {
+            return this.size;
+        }
+
+        public int[] getPalette() {
+            return Arrays.copyOf(this.palette, this.size);
+        }
+
+        private int findSlot(int color) {
+            int slot = (color * 0x9E3779B9 >>> 22) & (COLOR_TABLE_SIZE - 1);
+
+            while (this.keys[slot] != -1 && this.keys[slot] != color) {
+                slot = (slot + 1) & (COLOR_TABLE_SIZE - 1);
+            }
+
+            return slot;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package dev.boarbot.util.gif;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class GifUtil {
+    public static byte[] pasteFrames(
+        byte[] baseBytes, byte[] animatedBytes, int[] pos, int[] size, boolean useMask
+    ) throws IOException {
+        BufferedImage baseImage = GifUtil.readImage(baseBytes);
+        List<GifFrame> frames = new ArrayList<>();
+
+        for (GifFrame animatedFrame : GifDecoder.decode(animatedBytes)) {
+            BufferedImage newFrame = GifDecoder.copyImage(baseImage);
+            BufferedImage pastedImage = animatedFrame.image();
+
+            int width = size == null ? pastedImage.getWidth() : size[0];
+            int height = size == null ? pastedImage.getHeight() : size[1];
+
+            Graphics2D g2d = newFrame.createGraphics();
+            g2d.setComposite(useMask ? AlphaComposite.SrcOver : AlphaComposite.Src);
+            g2d.drawImage(pastedImage, pos[0], pos[1], width, height, null);
+            g2d.dispose();
+
+            frames.add(new GifFrame(newFrame, animatedFrame.duration()));
+        }
+
+        return GifEncoder.encode(frames);
+    }
+
+    public static byte[] overlayFrames(byte[] animatedBytes, byte[] overlayBytes) throws IOException {
+        BufferedImage overlayImage = GifUtil.readImage(overlayBytes);
+        List<GifFrame> frames = GifDecoder.decode(animatedBytes);
+
+        for (GifFrame frame : frames) {
+            Graphics2D g2d = frame.image().createGraphics();
+            g2d.drawImage(overlayImage, 0, 0, null);
+            g2d.dispose();
+        }
+
+        return GifEncoder.encode(frames);
+    }
+
+    private static BufferedImage readImage(byte[] imageBytes) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(imageBytes));
+
+        if (image == null) {
+            throw new IOException("Unable to read image data");
+        }
+
+        return image;
+    }
+}
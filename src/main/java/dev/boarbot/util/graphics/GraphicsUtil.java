@@ -1,12 +1,10 @@
 package dev.boarbot.util.graphics;
 
+import dev.boarbot.api.util.Configured;
 import dev.boarbot.util.resource.ResourceUtil;
-import dev.boarbot.util.time.TimeUtil;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.geom.RoundRectangle2D;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
@@ -14,10 +12,9 @@ import java.net.URISyntaxException;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
 
-public final class GraphicsUtil {
-    public static final ConcurrentHashMap<String, ImageCacheEntry> imageCache = new ConcurrentHashMap<>();
+public final class GraphicsUtil implements Configured {
+    private static final ImageCache imageCache = new ImageCache(() -> NUMS.getAvatarImageCacheMaxMB() * 1024L * 1024L);
 
     public static void drawRect(Graphics2D g2d, int[] pos, int[] size, String color) {
         String[] gradStringColors = color.split(",");
@@ -63,23 +60,15 @@ public final class GraphicsUtil {
     }
 
     public static Image getImage(String path) throws URISyntaxException, IOException {
-        try {
-            return imageCache.computeIfAbsent(path, key -> {
-                try {
-                    return new ImageCacheEntry(ImageIO.read(new ByteArrayInputStream(getImageBytes(path))), TimeUtil.getCurMilli());
-                } catch (IOException | URISyntaxException exception) {
-                    throw new RuntimeException(exception);
-                }
-            }).image();
-        } catch (RuntimeException exception) {
-            if (exception.getCause() instanceof IOException) {
-                throw (IOException) exception.getCause();
-            } else if (exception.getCause() instanceof URISyntaxException) {
-                throw (URISyntaxException) exception.getCause();
-            } else {
-                throw exception;
-            }
-        }
+        return imageCache.get(path);
+    }
+
+    public static void removeExpiredImages(long maxIdleMillis) {
+        imageCache.removeExpired(maxIdleMillis);
+    }
+
+    public static String getImageCacheMetrics() {
+        return imageCache.getMetricsString();
     }
 
     public static byte[] getImageBytes(String path) throws IOException, URISyntaxException {
@@ -0,0 +1,186 @@
+package dev.boarbot.util.graphics;
+
+import dev.boarbot.util.time.TimeUtil;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Decoded source images, split by where they come from. Bundled resource images are pinned for the life of the
+ * process, since the set of them is fixed by config and hot ones like underlays are drawn on every render. Remote
+ * images (like avatars) get an access-ordered region bounded by decoded size that also expires when idle.
+ */
+class ImageCache {
+    private final Map<String, Image> pinned = new ConcurrentHashMap<>();
+    private final AtomicLong pinnedBytes = new AtomicLong();
+    private final Region remote;
+    private final Map<String, CompletableFuture<Optional<Image>>> inFlight = new ConcurrentHashMap<>();
+
+    static class Region {
+        private final LongSupplier maxBytes;
+        private final LinkedHashMap<String, ImageCacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private long bytes = 0;
+
+        Region(LongSupplier maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        synchronized Image get(String path) {
+            ImageCacheEntry entry = this.entries.get(path);
+
+            if (entry == null) {
+                return null;
+            }
+
+            this.entries.put(path, new ImageCacheEntry(entry.image(), entry.bytes(), TimeUtil.getCurMilli()));
+            return entry.image();
+        }
+
+        synchronized void put(String path, Image image) {
+            long imageBytes = ImageCache.getBytes(image);
+
+            ImageCacheEntry oldEntry = this.entries.put(
+                path, new ImageCacheEntry(image, imageBytes, TimeUtil.getCurMilli())
+            );
+
+            if (oldEntry != null) {
+                this.bytes -= oldEntry.bytes();
+            }
+
+            this.bytes += imageBytes;
+
+            long maxBytes = this.maxBytes.getAsLong();
+
+            if (maxBytes <= 0) {
+                return;
+            }
+
+            Iterator<ImageCacheEntry> iterator = this.entries.values().iterator();
+
+            while (this.bytes > maxBytes && this.entries.size() > 1 && iterator.hasNext()) {
+                this.bytes -= iterator.next().bytes();
+                iterator.remove();
+            }
+        }
+
+        synchronized void removeExpired(long minTimestamp) {
+            Iterator<ImageCacheEntry> iterator = this.entries.values().iterator();
+
+            while (iterator.hasNext()) {
+                ImageCacheEntry entry = iterator.next();
+
+                if (entry.lastAccessTimestamp() >= minTimestamp) {
+                    break;
+                }
+
+                this.bytes -= entry.bytes();
+                iterator.remove();
+            }
+        }
+
+        synchronized String getMetricsString() {
+            long maxBytes = this.maxBytes.getAsLong();
+
+            return "%,d (%,dMB/%s)".formatted(
+                this.entries.size(),
+                this.bytes / (1024 * 1024),
+                maxBytes <= 0 ? "unbounded" : "%,dMB".formatted(maxBytes / (1024 * 1024))
+            );
+        }
+    }
+
+    ImageCache(LongSupplier maxRemoteBytes) {
+        this.remote = new Region(maxRemoteBytes);
+    }
+
+    Image get(String path) throws IOException, URISyntaxException {
+        boolean isRemote = ImageCache.isRemote(path);
+        Image image = this.getCached(path, isRemote);
+
+        if (image != null) {
+            return image;
+        }
+
+        CompletableFuture<Optional<Image>> newLoad = new CompletableFuture<>();
+        CompletableFuture<Optional<Image>> curLoad = this.inFlight.putIfAbsent(path, newLoad);
+
+        if (curLoad != null) {
+            return this.awaitLoad(curLoad);
+        }
+
+        try {
+            image = this.getCached(path, isRemote);
+
+            if (image == null) {
+                image = ImageIO.read(new ByteArrayInputStream(GraphicsUtil.getImageBytes(path)));
+
+                if (image != null && isRemote) {
+                    this.remote.put(path, image);
+                } else if (image != null && this.pinned.putIfAbsent(path, image) == null) {
+                    this.pinnedBytes.addAndGet(ImageCache.getBytes(image));
+                }
+            }
+
+            newLoad.complete(Optional.ofNullable(image));
+            return image;
+        } catch (IOException | URISyntaxException | RuntimeException exception) {
+            newLoad.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            this.inFlight.remove(path, newLoad);
+        }
+    }
+
+    void removeExpired(long maxIdleMillis) {
+        this.remote.removeExpired(TimeUtil.getCurMilli() - maxIdleMillis);
+    }
+
+    String getMetricsString() {
+        return "Pinned: %,d (%,dMB) | Remote: %s".formatted(
+            this.pinned.size(), this.pinnedBytes.get() / (1024 * 1024), this.remote.getMetricsString()
+        );
+    }
+
+    private Image getCached(String path, boolean isRemote) {
+        return isRemote ? this.remote.get(path) : this.pinned.get(path);
+    }
+
+    private static boolean isRemote(String path) {
+        return path.startsWith("http");
+    }
+
+    private static long getBytes(Image image) {
+        return image instanceof BufferedImage bufferedImage
+            ? (long) bufferedImage.getWidth() * bufferedImage.getHeight() * 4
+            : 0;
+    }
+
+    private Image awaitLoad(CompletableFuture<Optional<Image>> load) throws IOException, URISyntaxException {
+        try {
+            return load.join().orElse(null);
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof IOException ioException) {
+                throw ioException;
+            } else if (exception.getCause() instanceof URISyntaxException uriException) {
+                throw uriException;
+            } else if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw exception;
+        }
+    }
+}
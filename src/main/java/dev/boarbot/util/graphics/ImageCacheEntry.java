@@ -2,4 +2,4 @@ package dev.boarbot.util.graphics;
 
 import java.awt.*;
 
-public record ImageCacheEntry(Image image, long lastAccessTimestamp) {}
\ No newline at end of file
+public record ImageCacheEntry(Image image, long bytes, long lastAccessTimestamp) {}
\ No newline at end of file
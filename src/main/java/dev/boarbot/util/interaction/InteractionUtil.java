@@ -1,31 +1,17 @@
 package dev.boarbot.util.interaction;
 
-import dev.boarbot.util.time.TimeUtil;
-import net.dv8tion.jda.api.entities.User;
+import dev.boarbot.util.time.WheelTimer;
 import net.dv8tion.jda.api.interactions.commands.SlashCommandInteraction;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.*;
+import java.util.concurrent.TimeUnit;
 
 public class InteractionUtil {
     private final static int CORE_POOL_SIZE = 20;
-    public final static ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(CORE_POOL_SIZE);
-
-    public final static Map<String, Long> usersOnCooldown = new HashMap<>();
+    public final static WheelTimer scheduler = new WheelTimer(
+        "interaction-timer", 100, TimeUnit.MILLISECONDS, 512, CORE_POOL_SIZE
+    );
 
     private final static int RUN_SLEEP_TIME = 2000;
-    public final static int COOLDOWN_SLEEP_TIME = 3000;
-
-    static {
-        scheduler.schedule(() -> {
-            for (String user : usersOnCooldown.keySet()) {
-                if (usersOnCooldown.get(user) < TimeUtil.getCurMilli() - COOLDOWN_SLEEP_TIME) {
-                    usersOnCooldown.remove(user);
-                }
-            }
-        }, COOLDOWN_SLEEP_TIME, TimeUnit.MILLISECONDS);
-    }
 
     public static void runWhenEdited(SlashCommandInteraction interaction, Runnable runnable, int waitVal) {
         if (waitVal <= 0) {
@@ -52,17 +38,6 @@ public class InteractionUtil {
         );
     }
 
-    public synchronized static boolean isOnCooldown(User user) {
-        if (usersOnCooldown.containsKey(user.getId())) {
-            return true;
-        }
-
-        usersOnCooldown.put(user.getId(), TimeUtil.getCurMilli());
-        scheduler.schedule(() -> usersOnCooldown.remove(user.getId()), COOLDOWN_SLEEP_TIME, TimeUnit.MILLISECONDS);
-
-        return false;
-    }
-
     public static void shutdownScheduler() {
         scheduler.shutdown();
     }
@@ -0,0 +1,138 @@
+package dev.boarbot.util.interaction;
+
+import dev.boarbot.api.util.Configured;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token buckets for slash commands, one per user and one per guild. Each bucket is a single theoretical arrival time
+ * (the time it will be full again) updated with compare-and-set, so checks never lock and an idle bucket is just a
+ * stale timestamp. Stale buckets are swept by whichever check first finds the sweep overdue rather than by a timer.
+ * <p>
+ * Commands share a user's default bucket unless {@code commandRateLimits} gives them their own.
+ */
+public class RateLimiter implements Configured {
+    private final static long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private final static String DEFAULT_SCOPE = "*";
+
+    private final static Map<String, Long> userBuckets = new ConcurrentHashMap<>();
+    private final static Map<String, Long> guildBuckets = new ConcurrentHashMap<>();
+    private final static AtomicLong lastSweepNanos = new AtomicLong(System.nanoTime());
+
+    private final static LongAdder allowed = new LongAdder();
+    private final static LongAdder userRejects = new LongAdder();
+    private final static LongAdder guildRejects = new LongAdder();
+    private final static Map<String, LongAdder> commandRejects = new ConcurrentHashMap<>();
+
+    /**
+     * @param commandKey command and subcommand name separated by a space, like {@code boar daily}
+     * @return whether the command may run, taking a token from both the user's and the guild's bucket if so
+     */
+    public static boolean tryAcquire(String userID, String guildID, String commandKey) {
+        long nowNanos = System.nanoTime();
+        RateLimiter.sweepIfDue(nowNanos);
+
+        int[] commandLimit = NUMS.getCommandRateLimits().get(commandKey);
+        String userKey = userID + "," + (commandLimit != null ? commandKey : DEFAULT_SCOPE);
+        int[] userLimit = commandLimit != null ? commandLimit : NUMS.getCommandRateLimit();
+
+        if (!RateLimiter.acquire(userBuckets, userKey, userLimit, nowNanos)) {
+            userRejects.increment();
+            commandRejects.computeIfAbsent(commandKey, k -> new LongAdder()).increment();
+            return false;
+        }
+
+        if (guildID != null && !RateLimiter.acquire(guildBuckets, guildID, NUMS.getGuildRateLimit(), nowNanos)) {
+            RateLimiter.refund(userBuckets, userKey, userLimit);
+            guildRejects.increment();
+            commandRejects.computeIfAbsent(commandKey, k -> new LongAdder()).increment();
+            return false;
+        }
+
+        allowed.increment();
+        return true;
+    }
+
+    public static String getMetricsString() {
+        StringBuilder topRejects = new StringBuilder();
+
+        commandRejects.entrySet().stream()
+            .sorted(Map.Entry.<String, LongAdder>comparingByValue(
+                (a, b) -> Long.compare(b.sum(), a.sum())
+            ))
+            .limit(3)
+            .forEach(entry -> topRejects.append(" | %s: %,d".formatted(entry.getKey(), entry.getValue().sum())));
+
+        return "%,d allowed | %,d user rejects | %,d guild rejects | %,d user buckets | %,d guild buckets%s".formatted(
+            allowed.sum(),
+            userRejects.sum(),
+            guildRejects.sum(),
+            userBuckets.size(),
+            guildBuckets.size(),
+            topRejects
+        );
+    }
+
+    /**
+     * @param limit {burst, refill millis}, where a burst of 0 or less means no limit
+     * @return whether a token was taken
+     */
+    private static boolean acquire(Map<String, Long> buckets, String key, int[] limit, long nowNanos) {
+        if (limit[0] <= 0) {
+            return true;
+        }
+
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(limit[1]);
+        long burstNanos = intervalNanos * limit[0];
+
+        while (true) {
+            Long tat = buckets.get(key);
+            long newTat = Math.max(tat == null ? nowNanos : tat, nowNanos) + intervalNanos;
+
+            if (newTat - nowNanos > burstNanos) {
+                return false;
+            }
+
+            boolean updated = tat == null
+                ? buckets.putIfAbsent(key, newTat) == null
+                : buckets.replace(key, tat, newTat);
+
+            if (updated) {
+                return true;
+            }
+        }
+    }
+
+    private static void refund(Map<String, Long> buckets, String key, int[] limit) {
+        if (limit[0] <= 0) {
+            return;
+        }
+
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(limit[1]);
+        Long tat;
+
+        do {
+            tat = buckets.get(key);
+
+            if (tat == null) {
+                return;
+            }
+        } while (!buckets.replace(key, tat, tat - intervalNanos));
+    }
+
+    private static void sweepIfDue(long nowNanos) {
+        long lastSweep = lastSweepNanos.get();
+
+        if (nowNanos - lastSweep < SWEEP_INTERVAL_NANOS || !lastSweepNanos.compareAndSet(lastSweep, nowNanos)) {
+            return;
+        }
+
+        // A bucket whose full time has passed behaves exactly like a missing one
+        userBuckets.entrySet().removeIf(entry -> entry.getValue() - nowNanos <= 0);
+        guildBuckets.entrySet().removeIf(entry -> entry.getValue() - nowNanos <= 0);
+    }
+}
@@ -1,11 +1,7 @@
 package dev.boarbot.util.interactive;
 
-import dev.boarbot.BoarBotApp;
 import dev.boarbot.bot.config.components.IndivComponentConfig;
 import dev.boarbot.bot.config.components.SelectOptionConfig;
-import dev.boarbot.interactives.event.EventInteractive;
-import dev.boarbot.interactives.gift.BoarGiftInteractive;
-import dev.boarbot.interactives.Interactive;
 import net.dv8tion.jda.api.entities.channel.ChannelType;
 import net.dv8tion.jda.api.entities.emoji.Emoji;
 import net.dv8tion.jda.api.interactions.components.Component;
@@ -117,34 +113,6 @@ public final class InteractiveUtil {
         return madeComponents;
     }
 
-    public static Interactive getEventInteractive(String interactiveBaseID) {
-        for (String key : BoarBotApp.getBot().getInteractives().keySet()) {
-            Interactive interactive = BoarBotApp.getBot().getInteractives().get(key);
-
-            if (key.startsWith(interactiveBaseID) && interactive instanceof EventInteractive) {
-                return interactive;
-            } else if (key.startsWith(interactiveBaseID)) {
-                return null;
-            }
-        }
-
-        return null;
-    }
-
-    public static Interactive getGiftInteractive(String interactiveBaseID) {
-        for (String key : BoarBotApp.getBot().getInteractives().keySet()) {
-            Interactive interactive = BoarBotApp.getBot().getInteractives().get(key);
-
-            if (key.startsWith(interactiveBaseID) && interactive instanceof BoarGiftInteractive) {
-                return interactive;
-            } else if (key.startsWith(interactiveBaseID)) {
-                return null;
-            }
-        }
-
-        return null;
-    }
-
     public static Emoji parseEmoji(String emojiStr) {
         Emoji emoji = null;
 
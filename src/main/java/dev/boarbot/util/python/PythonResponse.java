@@ -0,0 +1,3 @@
+package dev.boarbot.util.python;
+
+record PythonResponse(boolean success, byte[] payload) {}
@@ -1,54 +1,201 @@
 package dev.boarbot.util.python;
 
+import dev.boarbot.api.util.Configured;
 import dev.boarbot.util.logging.Log;
 import dev.boarbot.util.resource.ResourceUtil;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
-import java.util.Base64;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
-public class PythonUtil {
+public class PythonUtil implements Configured {
     private final static Map<String, Path> scripts = new HashMap<>();
 
-    public static byte[] getResult(Process pythonProcess, byte[]... byteArrays) throws IOException {
-        BufferedReader stdIn = new BufferedReader(new InputStreamReader(pythonProcess.getInputStream()));
-        BufferedReader stdErr = new BufferedReader(new InputStreamReader(pythonProcess.getErrorStream()));
-        OutputStream stdOut = pythonProcess.getOutputStream();
+    final static int NUM_WORKERS = 2;
+    private final static long PING_TIMEOUT_MILLIS = 5000;
+    private final static long HEALTH_CHECK_MILLIS = 60000;
+    private final static String[] WORKER_SCRIPTS = {
+        ResourceUtil.animItemScript,
+        ResourceUtil.userItemScript,
+        ResourceUtil.itemGroupScript,
+        ResourceUtil.animOverlayScript
+    };
+
+    private final static BlockingDeque<PythonWorker> idleWorkers = new LinkedBlockingDeque<>();
+    private final static Semaphore workerPermits = new Semaphore(NUM_WORKERS, true);
+    private final static ExecutorService requestExecutor = Executors.newCachedThreadPool(
+        Thread.ofPlatform().name("python-", 0).daemon().factory()
+    );
+
+    private final static AtomicInteger waiting = new AtomicInteger();
+    private final static LongAdder completed = new LongAdder();
+    private final static LongAdder timeouts = new LongAdder();
+    private final static LongAdder failures = new LongAdder();
+    private final static LongAdder restarts = new LongAdder();
+
+    @FunctionalInterface
+    interface WorkerFactory {
+        PythonWorker create() throws IOException;
+    }
+
+    // Tests swap this for a stand-in worker script
+    static WorkerFactory workerFactory = PythonUtil::spawnWorker;
+
+    /**
+     * Runs a script on a pooled worker. The worker is taken (or spawned) on the calling thread before the timed
+     * request starts, so whatever happens to the request the worker is either handed back or destroyed below, and
+     * the pool never holds more than {@link #NUM_WORKERS} processes.
+     */
+    public static byte[] runScript(String scriptPath, List<Object> args, byte[]... buffers) throws IOException {
+        waiting.incrementAndGet();
+
+        try {
+            workerPermits.acquire();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a Python worker", exception);
+        } finally {
+            waiting.decrementAndGet();
+        }
+
+        PythonWorker worker = null;
+        boolean workerHealthy = false;
+
+        try {
+            worker = PythonUtil.getHealthyWorker();
+
+            PythonWorker requestWorker = worker;
+            PythonResponse response = PythonUtil.callTimed(
+                () -> requestWorker.request(PythonUtil.getScriptName(scriptPath), args, buffers),
+                NUMS.getPythonTimeoutMillis()
+            );
+            workerHealthy = true;
+
+            if (!response.success()) {
+                failures.increment();
+
+                String errMessage = new String(response.payload(), StandardCharsets.UTF_8);
+                Log.error(PythonUtil.class, "Python script threw an exception", new RuntimeException(errMessage));
+                throw new IOException("Python script %s failed".formatted(scriptPath));
+            }
 
-        PythonUtil.sendInput(stdOut, byteArrays);
-        String result = stdIn.readLine();
-        PythonUtil.checkException(result, stdErr);
+            completed.increment();
+            return response.payload();
+        } catch (TimeoutException exception) {
+            timeouts.increment();
+            throw new IOException("Python script %s timed out".formatted(scriptPath), exception);
+        } catch (ExecutionException exception) {
+            failures.increment();
+            throw new IOException("Python worker failed while running %s".formatted(scriptPath), exception.getCause());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while running %s".formatted(scriptPath), exception);
+        } finally {
+            if (worker != null && workerHealthy) {
+                idleWorkers.offerFirst(worker);
+            } else if (worker != null) {
+                // Killing the process also unblocks a request thread still waiting on its output
+                worker.destroy();
+                restarts.increment();
+            }
 
-        return Base64.getDecoder().decode(result);
+            workerPermits.release();
+        }
     }
 
-    private static void sendInput(OutputStream stdOut, byte[]... byteArrays) throws IOException {
-        for (byte[] byteArray : byteArrays) {
-            stdOut.write(byteArray);
+    private static PythonWorker getHealthyWorker() throws IOException, InterruptedException {
+        PythonWorker worker;
+
+        while ((worker = idleWorkers.pollFirst()) != null) {
+            if (worker.isAlive() && (!worker.isStale(HEALTH_CHECK_MILLIS) || PythonUtil.ping(worker))) {
+                return worker;
+            }
+
+            worker.destroy();
+            restarts.increment();
         }
 
-        stdOut.close();
+        return workerFactory.create();
     }
 
-    private static void checkException(String result, BufferedReader stdErr) throws IOException {
-        if (result == null) {
-            String tempErrMessage;
-            String errMessage = "";
+    private static boolean ping(PythonWorker worker) throws InterruptedException {
+        try {
+            return PythonUtil.callTimed(worker::ping, PING_TIMEOUT_MILLIS);
+        } catch (TimeoutException | ExecutionException exception) {
+            return false;
+        }
+    }
 
-            while ((tempErrMessage = stdErr.readLine()) != null) {
-                errMessage = errMessage.concat(tempErrMessage + "\n");
-            }
+    private static <T> T callTimed(
+        Callable<T> call, long timeoutMillis
+    ) throws TimeoutException, ExecutionException, InterruptedException {
+        Future<T> future = requestExecutor.submit(call);
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | InterruptedException exception) {
+            future.cancel(true);
+            throw exception;
+        }
+    }
+
+    private static PythonWorker spawnWorker() throws IOException {
+        Map<String, String> scriptPaths = new HashMap<>();
+
+        for (String scriptPath : WORKER_SCRIPTS) {
+            scriptPaths.put(PythonUtil.getScriptName(scriptPath), PythonUtil.getTempPath(scriptPath));
+        }
+
+        return new PythonWorker(PythonUtil.getTempPath(ResourceUtil.pythonWorkerScript), NUMS, scriptPaths);
+    }
+
+    public static int getQueueDepth() {
+        return waiting.get();
+    }
 
-            Log.error(PythonUtil.class, "Python script threw an exception", new RuntimeException(errMessage));
+    public static String getMetricsString() {
+        return "Idle: %,d/%,d | Waiting: %,d | Done: %,d | Failed: %,d | Timed Out: %,d | Restarted: %,d".formatted(
+            idleWorkers.size(),
+            NUM_WORKERS,
+            PythonUtil.getQueueDepth(),
+            completed.sumThenReset(),
+            failures.sumThenReset(),
+            timeouts.sumThenReset(),
+            restarts.sumThenReset()
+        );
+    }
+
+    public static void shutdownWorkers() {
+        requestExecutor.shutdownNow();
+        PythonUtil.destroyIdleWorkers();
+    }
+
+    static int getNumIdleWorkers() {
+        return idleWorkers.size();
+    }
+
+    static void destroyIdleWorkers() {
+        PythonWorker worker;
+
+        while ((worker = idleWorkers.pollFirst()) != null) {
+            worker.destroy();
         }
     }
 
-    public static String getTempPath(String scriptPath) throws IOException {
-        String scriptName = scriptPath.split("/")[1].split("\\.")[0];
+    private static String getScriptName(String scriptPath) {
+        return scriptPath.split("/")[1].split("\\.")[0];
+    }
+
+    public static synchronized String getTempPath(String scriptPath) throws IOException {
+        String scriptName = PythonUtil.getScriptName(scriptPath);
 
         if (scripts.containsKey(scriptName)) {
             return scripts.get(scriptName).toString();
@@ -0,0 +1,77 @@
+package dev.boarbot.util.python;
+
+import com.google.gson.Gson;
+import dev.boarbot.util.time.TimeUtil;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+class PythonWorker {
+    private static final byte STATUS_OK = 0;
+
+    private final Process process;
+    private final DataOutputStream stdOut;
+    private final DataInputStream stdIn;
+
+    private volatile long lastUsedTimestamp = TimeUtil.getCurMilli();
+
+    public PythonWorker(String workerPath, Object numConfig, Map<String, String> scriptPaths) throws IOException {
+        this.process = new ProcessBuilder("python3", workerPath)
+            .redirectError(ProcessBuilder.Redirect.INHERIT)
+            .start();
+
+        this.stdOut = new DataOutputStream(new BufferedOutputStream(this.process.getOutputStream()));
+        this.stdIn = new DataInputStream(new BufferedInputStream(this.process.getInputStream()));
+
+        Gson g = new Gson();
+        this.writeBlock(g.toJson(Map.of("numConfig", numConfig, "scripts", scriptPaths)).getBytes(StandardCharsets.UTF_8));
+        this.stdOut.flush();
+    }
+
+    public PythonResponse request(String scriptName, List<Object> args, byte[]... buffers) throws IOException {
+        Gson g = new Gson();
+
+        this.writeBlock(g.toJson(Map.of("script", scriptName, "args", args)).getBytes(StandardCharsets.UTF_8));
+        this.stdOut.writeInt(buffers.length);
+
+        for (byte[] buffer : buffers) {
+            this.writeBlock(buffer);
+        }
+
+        this.stdOut.flush();
+
+        byte status = this.stdIn.readByte();
+        byte[] payload = new byte[this.stdIn.readInt()];
+        this.stdIn.readFully(payload);
+
+        this.lastUsedTimestamp = TimeUtil.getCurMilli();
+        return new PythonResponse(status == STATUS_OK, payload);
+    }
+
+    public boolean ping() {
+        try {
+            return this.request("ping", List.of()).success();
+        } catch (IOException exception) {
+            return false;
+        }
+    }
+
+    public boolean isStale(long idleMillis) {
+        return TimeUtil.getCurMilli() - this.lastUsedTimestamp > idleMillis;
+    }
+
+    public boolean isAlive() {
+        return this.process.isAlive();
+    }
+
+    public void destroy() {
+        this.process.destroyForcibly();
+    }
+
+    private void writeBlock(byte[] block) throws IOException {
+        this.stdOut.writeInt(block.length);
+        this.stdOut.write(block);
+    }
+}
@@ -75,6 +75,7 @@ public class ResourceUtil {
     public static final String userItemScript = scriptsPath + "user_animated_overlay.py";
     public static final String itemGroupScript = scriptsPath + "animated_item_grouper.py";
     public static final String animOverlayScript = scriptsPath + "apply_animated.py";
+    public static final String pythonWorkerScript = scriptsPath + "python_worker.py";
 
     public static URL getResource(String pathStr) throws MalformedURLException {
         Path path = resourcepackDir.resolve(pathStr);
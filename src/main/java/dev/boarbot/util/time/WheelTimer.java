@@ -0,0 +1,234 @@
+package dev.boarbot.util.time;
+
+import dev.boarbot.util.logging.Log;
+
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * Hashed timing wheel for coarse timeouts. Scheduling and cancelling only enqueue the timeout, and a single ticker
+ * thread moves it into its wheel bucket, so both are O(1). Expired tasks run on a fixed worker pool so a slow task
+ * never delays the wheel.
+ */
+public class WheelTimer {
+    private final static int PENDING = 0;
+    private final static int CANCELLED = 1;
+    private final static int EXPIRED = 2;
+    private final static int MAX_TRANSFERS_PER_TICK = 100000;
+
+    private final long tickNanos;
+    private final int mask;
+    private final Bucket[] wheel;
+
+    private final Queue<Timeout> newTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingTimeouts = new AtomicInteger();
+
+    private final ExecutorService workers;
+    private final Thread ticker;
+    private final long startNanos = System.nanoTime();
+    private volatile boolean running = true;
+    private long tick = 0;
+
+    public final class Timeout {
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE = AtomicIntegerFieldUpdater.newUpdater(
+            Timeout.class, "state"
+        );
+
+        private final Runnable task;
+        private final long deadlineNanos;
+        private volatile int state = PENDING;
+
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(Runnable task, long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        public boolean cancel() {
+            if (!STATE.compareAndSet(this, PENDING, CANCELLED)) {
+                return false;
+            }
+
+            WheelTimer.this.pendingTimeouts.decrementAndGet();
+            WheelTimer.this.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return this.state == CANCELLED;
+        }
+
+        private void expire() {
+            if (!STATE.compareAndSet(this, PENDING, EXPIRED)) {
+                return;
+            }
+
+            WheelTimer.this.pendingTimeouts.decrementAndGet();
+
+            try {
+                WheelTimer.this.workers.execute(this::run);
+            } catch (RejectedExecutionException ignored) {}
+        }
+
+        private void run() {
+            try {
+                this.task.run();
+            } catch (RuntimeException exception) {
+                Log.error(WheelTimer.class, "A timed task threw an exception", exception);
+            }
+        }
+    }
+
+    private final static class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+
+            if (this.head == null) {
+                this.head = this.tail = timeout;
+                return;
+            }
+
+            this.tail.next = timeout;
+            timeout.prev = this.tail;
+            this.tail = timeout;
+        }
+
+        private Timeout remove(Timeout timeout) {
+            Timeout next = timeout.next;
+
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+
+            if (timeout == this.head) {
+                this.head = next;
+            }
+
+            if (timeout == this.tail) {
+                this.tail = timeout.prev;
+            }
+
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+
+            return next;
+        }
+
+        private void expire() {
+            Timeout timeout = this.head;
+
+            while (timeout != null) {
+                if (timeout.remainingRounds <= 0) {
+                    Timeout next = this.remove(timeout);
+                    timeout.expire();
+                    timeout = next;
+                } else if (timeout.isCancelled()) {
+                    timeout = this.remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                    timeout = timeout.next;
+                }
+            }
+        }
+    }
+
+    public WheelTimer(String name, long tickDuration, TimeUnit unit, int wheelSize, int numWorkers) {
+        this.tickNanos = unit.toNanos(tickDuration);
+
+        int normalizedSize = Integer.highestOneBit(Math.max(wheelSize, 2) - 1) << 1;
+        this.mask = normalizedSize - 1;
+        this.wheel = new Bucket[normalizedSize];
+
+        for (int i=0; i<normalizedSize; i++) {
+            this.wheel[i] = new Bucket();
+        }
+
+        this.workers = Executors.newFixedThreadPool(numWorkers, Thread.ofPlatform().name(name + "-", 0).factory());
+        this.ticker = Thread.ofPlatform().name(name + "-ticker").daemon().start(this::runTicker);
+    }
+
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        Timeout timeout = new Timeout(task, System.nanoTime() - this.startNanos + unit.toNanos(Math.max(delay, 0)));
+
+        this.pendingTimeouts.incrementAndGet();
+        this.newTimeouts.add(timeout);
+
+        return timeout;
+    }
+
+    public int getNumPending() {
+        return this.pendingTimeouts.get();
+    }
+
+    public void shutdown() {
+        this.running = false;
+        this.ticker.interrupt();
+        this.workers.shutdown();
+    }
+
+    private void runTicker() {
+        while (this.running) {
+            long sleepNanos = (this.tick + 1) * this.tickNanos - (System.nanoTime() - this.startNanos);
+
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException exception) {
+                    if (!this.running) {
+                        return;
+                    }
+                }
+
+                continue;
+            }
+
+            this.removeCancelled();
+            this.transferNew();
+            this.wheel[(int) (this.tick & this.mask)].expire();
+            this.tick++;
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout timeout;
+
+        while ((timeout = this.cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void transferNew() {
+        for (int i=0; i<MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout timeout = this.newTimeouts.poll();
+
+            if (timeout == null) {
+                return;
+            }
+
+            if (timeout.isCancelled()) {
+                continue;
+            }
+
+            long deadlineTick = Math.max(timeout.deadlineNanos / this.tickNanos, this.tick);
+            timeout.remainingRounds = (deadlineTick - this.tick) / this.wheel.length;
+            this.wheel[(int) (deadlineTick & this.mask)].add(timeout);
+        }
+    }
+}
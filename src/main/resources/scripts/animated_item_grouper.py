@@ -1,39 +1,28 @@
 from PIL import Image, ImageSequence
-import base64
 from io import BytesIO
-import json
-import sys
 
-# Inputs from JS
 
-base_len = json.loads(sys.argv[1])
-middle_len = json.loads(sys.argv[2])
+def run(num_config, args, buffers):
+    horiz_padding = 135
 
-image_bytes = sys.stdin.buffer.read()
+    base_image = Image.open(BytesIO(buffers[0]))
+    middle_image = Image.open(BytesIO(buffers[1]))
 
-base_image_bytes = image_bytes[:base_len]
-middle_image_bytes = image_bytes[base_len:base_len+middle_len]
+    frames = []
+    durations = []
 
-horiz_padding = 135
-image_size = (930, 1080)
+    for frame in ImageSequence.Iterator(middle_image):
+        new_frame = base_image.copy()
 
-base_image = Image.open(BytesIO(base_image_bytes))
-middle_image = Image.open(BytesIO(middle_image_bytes))
+        frame = frame.copy()
+        new_frame.paste(frame, (horiz_padding, 0))
 
-frames = []
-durations = []
+        frames.append(new_frame)
+        durations.append(frame.info['duration'])
 
-for frame in ImageSequence.Iterator(middle_image):
-    new_frame = base_image.copy()
+    output = BytesIO()
+    frames[0].save(
+        output, format='GIF', save_all=True, append_images=frames[1:], loop=0, disposal=2, duration=durations
+    )
 
-    frame = frame.copy()
-    new_frame.paste(frame, (horiz_padding, 0))
-
-    frames.append(new_frame)
-    durations.append(frame.info['duration'])
-
-output = BytesIO()
-frames[0].save(output, format='GIF', save_all=True, append_images=frames[1:], loop=0, disposal=2, duration=durations)
-img_data = output.getvalue()
-
-print(str(base64.b64encode(img_data))[2:-1])
+    return output.getvalue()
@@ -1,38 +1,29 @@
 from PIL import Image, ImageSequence
-import base64
 from io import BytesIO
-import json
-import sys
 
-num_config = json.loads(sys.argv[1])
-overlay_pos = tuple(json.loads(sys.argv[2]))
-overlay_size = tuple(json.loads(sys.argv[3]))
-base_len = json.loads(sys.argv[4])
-overlay_len = json.loads(sys.argv[5])
 
-image_bytes = sys.stdin.buffer.read()
-base_image_bytes = image_bytes[:base_len]
-overlay_image_bytes = image_bytes[base_len:base_len+overlay_len]
+def run(num_config, args, buffers):
+    overlay_pos = tuple(args[0])
+    overlay_size = tuple(args[1])
 
-base_image = Image.open(BytesIO(base_image_bytes)).convert('RGBA')
-overlay_image = Image.open(BytesIO(overlay_image_bytes))
+    base_image = Image.open(BytesIO(buffers[0])).convert('RGBA')
+    overlay_image = Image.open(BytesIO(buffers[1]))
 
-frames = []
-durations = []
+    frames = []
+    durations = []
 
-for frame in ImageSequence.Iterator(overlay_image):
-    new_frame = base_image.copy()
+    for frame in ImageSequence.Iterator(overlay_image):
+        new_frame = base_image.copy()
 
-    frame = frame.copy().resize(overlay_size).convert('RGBA')
-    new_frame.paste(frame, overlay_pos, mask=frame)
+        frame = frame.copy().resize(overlay_size).convert('RGBA')
+        new_frame.paste(frame, overlay_pos, mask=frame)
 
-    frames.append(new_frame)
-    durations.append(frame.info['duration'])
+        frames.append(new_frame)
+        durations.append(frame.info['duration'])
 
-output = BytesIO()
-frames[0].save(
-    output, format='GIF', save_all=True, append_images=frames[1:], duration=durations, loop=0, disposal=2
-)
-img_data = output.getvalue()
+    output = BytesIO()
+    frames[0].save(
+        output, format='GIF', save_all=True, append_images=frames[1:], duration=durations, loop=0, disposal=2
+    )
 
-print(str(base64.b64encode(img_data))[2:-1])
+    return output.getvalue()
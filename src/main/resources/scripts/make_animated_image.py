@@ -1,40 +1,29 @@
 from PIL import Image, ImageSequence
-import base64
 from io import BytesIO
-import json
-import sys
 
-num_config = json.loads(sys.argv[1])
-temp_len = json.loads(sys.argv[2])
-main_len = json.loads(sys.argv[3])
 
-image_bytes = sys.stdin.buffer.read()
+def run(num_config, args, buffers):
+    item_size = tuple(num_config['bigBoarSize'])
+    item_pos = (33, 174)
 
-temp_image_bytes = image_bytes[:temp_len]
-main_image_bytes = image_bytes[temp_len:temp_len+main_len]
+    base_image = Image.open(BytesIO(buffers[0]))
+    main_image = Image.open(BytesIO(buffers[1]))
 
-item_size = tuple(num_config['bigBoarSize'])
-item_pos = (33, 174)
+    frames = []
+    durations = []
 
-base_image = Image.open(BytesIO(temp_image_bytes))
-main_image = Image.open(BytesIO(main_image_bytes))
+    for frame in ImageSequence.Iterator(main_image):
+        new_frame = base_image.copy()
 
-frames = []
-durations = []
+        frame = frame.copy().resize(item_size).convert('RGBA')
+        new_frame.paste(frame, item_pos)
 
-for frame in ImageSequence.Iterator(main_image):
-    new_frame = base_image.copy()
+        frames.append(new_frame)
+        durations.append(frame.info['duration'])
 
-    frame = frame.copy().resize(item_size).convert('RGBA')
-    new_frame.paste(frame, item_pos)
+    output = BytesIO()
+    frames[0].save(
+        output, format='GIF', save_all=True, append_images=frames[1:], duration=durations, loop=0, disposal=2
+    )
 
-    frames.append(new_frame)
-    durations.append(frame.info['duration'])
-
-output = BytesIO()
-frames[0].save(
-    output, format='GIF', save_all=True, append_images=frames[1:], duration=durations, loop=0, disposal=2
-)
-img_data = output.getvalue()
-
-print(str(base64.b64encode(img_data))[2:-1])
+    return output.getvalue()
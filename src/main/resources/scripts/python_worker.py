@@ -0,0 +1,70 @@
+import importlib.util
+import json
+import struct
+import sys
+import traceback
+
+# Protocol (all integers are big-endian unsigned 32-bit)
+# Init: <len><json {"numConfig": {...}, "scripts": {name: path}}>
+# Request: <len><json {"script": name, "args": [...]}><count> then <len><bytes> per buffer
+# Response: <status byte, 0 = ok, 1 = error><len><image bytes or utf-8 error>
+
+stdin = sys.stdin.buffer
+stdout = sys.stdout.buffer
+
+
+def read_exact(size):
+    data = bytearray()
+
+    while len(data) < size:
+        chunk = stdin.read(size - len(data))
+
+        if not chunk:
+            raise EOFError()
+
+        data.extend(chunk)
+
+    return bytes(data)
+
+
+def read_int():
+    return struct.unpack('>I', read_exact(4))[0]
+
+
+def read_block():
+    return read_exact(read_int())
+
+
+def write_response(status, payload):
+    stdout.write(struct.pack('>BI', status, len(payload)))
+    stdout.write(payload)
+    stdout.flush()
+
+
+def load_script(name, path):
+    spec = importlib.util.spec_from_file_location(name, path)
+    module = importlib.util.module_from_spec(spec)
+    spec.loader.exec_module(module)
+    return module
+
+
+init = json.loads(read_block())
+num_config = init['numConfig']
+scripts = {name: load_script(name, path) for name, path in init['scripts'].items()}
+
+while True:
+    try:
+        header = json.loads(read_block())
+        buffers = [read_block() for _ in range(read_int())]
+    except EOFError:
+        break
+
+    if header['script'] == 'ping':
+        write_response(0, b'')
+        continue
+
+    try:
+        result = scripts[header['script']].run(num_config, header.get('args', []), buffers)
+        write_response(0, result)
+    except Exception:
+        write_response(1, traceback.format_exc().encode('utf-8'))
@@ -1,29 +1,19 @@
 from PIL import Image, ImageSequence
-import base64
 from io import BytesIO
-import json
-import sys
 
-base_len = json.loads(sys.argv[1])
-overlay_len = json.loads(sys.argv[2])
 
-image_bytes = sys.stdin.buffer.read()
+def run(num_config, args, buffers):
+    base_image = Image.open(BytesIO(buffers[0]))
+    overlay_image = Image.open(BytesIO(buffers[1]))
 
-base_image_bytes = image_bytes[:base_len]
-overlay_image_bytes = image_bytes[base_len:base_len+overlay_len]
+    frames = []
 
-base_image = Image.open(BytesIO(image_bytes))
-overlay_image = Image.open(BytesIO(overlay_image_bytes))
+    for frame in ImageSequence.Iterator(base_image):
+        frame = frame.copy().convert('RGBA')
+        frame.paste(overlay_image, mask=overlay_image)
+        frames.append(frame)
 
-frames = []
+    output = BytesIO()
+    frames[0].save(output, format='GIF', save_all=True, append_images=frames[1:], loop=0, disposal=2)
 
-for frame in ImageSequence.Iterator(base_image):
-    frame = frame.copy().convert('RGBA')
-    frame.paste(overlay_image, mask=overlay_image)
-    frames.append(frame)
-
-output = BytesIO()
-frames[0].save(output, format='GIF', save_all=True, append_images=frames[1:], loop=0, disposal=2)
-img_data = output.getvalue()
-
-print(str(base64.b64encode(img_data))[2:-1])
+    return output.getvalue()
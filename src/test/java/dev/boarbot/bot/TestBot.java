@@ -0,0 +1,116 @@
+package dev.boarbot.bot;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import dev.boarbot.BoarBotApp;
+import dev.boarbot.util.cache.RenderCache;
+import dev.boarbot.util.data.DataUtil;
+
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Boots the parts of the bot a test needs without logging into Discord. Lives in the bot package so it can run the
+ * same loaders {@link BoarBot#create()} does. The database is a throwaway MariaDB server from MariaDB4j, so queries
+ * run against the same engine as production without Docker or an installed server.
+ */
+public final class TestBot {
+    private final static String DATABASE_NAME = "boarbot";
+
+    private static boolean configLoaded = false;
+    private static DB db;
+
+    public static synchronized void loadConfig() {
+        if (configLoaded) {
+            return;
+        }
+
+        setStatic(BoarBotApp.class, "bot", new BoarBot());
+        ConfigLoader.loadConfig();
+
+        // Tests should never read renders left on disk by a previous run
+        setStatic(RenderCache.class, "generationDir", null);
+        CacheLoader.loadImageCache();
+
+        configLoaded = true;
+    }
+
+    public static synchronized void loadDatabase() {
+        if (db != null) {
+            return;
+        }
+
+        TestBot.loadConfig();
+
+        DBConfigurationBuilder dbConfig = DBConfigurationBuilder.newBuilder();
+        dbConfig.setPort(0);
+
+        // mariadbd refuses to start as root unless told which user to run as, which is the norm in containers
+        if (System.getProperty("user.name").equals("root")) {
+            dbConfig.addArg("--user=root");
+        }
+
+        try {
+            DB newDB = DB.newEmbeddedDB(dbConfig.build());
+            newDB.start();
+            db = newDB;
+        } catch (ManagedProcessException exception) {
+            throw new IllegalStateException("Unable to start the test database", exception);
+        }
+
+        // Created over JDBC rather than DB#createDB, which shells out to a client binary with extra native deps
+        String serverUrl = "jdbc:mariadb://localhost:%d/".formatted(db.getConfiguration().getPort());
+
+        try (
+            Connection connection = DriverManager.getConnection(serverUrl, "root", "");
+            Statement statement = connection.createStatement()
+        ) {
+            statement.executeUpdate("CREATE DATABASE IF NOT EXISTS " + DATABASE_NAME + ";");
+        } catch (SQLException exception) {
+            throw new IllegalStateException("Unable to create the test database", exception);
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(TestBot::stopDatabase));
+
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setJdbcUrl(serverUrl + DATABASE_NAME + "?allowMultiQueries=true");
+        hikariConfig.setMaximumPoolSize(8);
+        hikariConfig.setUsername("root");
+        hikariConfig.setPassword("");
+
+        setStatic(DataUtil.class, "ds", new HikariDataSource(hikariConfig));
+
+        try (Connection connection = DataUtil.getConnection()) {
+            DataUtil.createSchemaTableIfNotExist(connection);
+        } catch (SQLException exception) {
+            throw new IllegalStateException("Unable to reach the test database", exception);
+        }
+
+        DatabaseUpdater.updateDatabase();
+        DatabaseLoader.loadIntoDatabase();
+        CacheLoader.loadDataCache();
+    }
+
+    private static void stopDatabase() {
+        try {
+            db.stop();
+        } catch (ManagedProcessException ignored) {}
+    }
+
+    private static void setStatic(Class<?> clazz, String fieldName, Object value) {
+        try {
+            Field field = clazz.getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(null, value);
+        } catch (ReflectiveOperationException exception) {
+            String name = clazz.getSimpleName() + "." + fieldName;
+            throw new IllegalStateException("Unable to set " + name, exception);
+        }
+    }
+}
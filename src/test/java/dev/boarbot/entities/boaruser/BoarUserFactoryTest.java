@@ -0,0 +1,54 @@
+package dev.boarbot.entities.boaruser;
+
+import dev.boarbot.bot.TestBot;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoarUserFactoryTest {
+    @BeforeAll
+    static void setup() {
+        TestBot.loadDatabase();
+    }
+
+    @Test
+    void sameUserIDGivesSameInstance() throws SQLException {
+        BoarUser boarUser = BoarUserFactory.getBoarUser("900000000000000401");
+
+        assertSame(boarUser, BoarUserFactory.getBoarUser("900000000000000401"));
+        assertNotSame(boarUser, BoarUserFactory.getBoarUser("900000000000000402"));
+    }
+
+    @Test
+    void concurrentLookupsShareOneInstance() throws Exception {
+        int numThreads = 16;
+        String userID = "900000000000000403";
+
+        CyclicBarrier barrier = new CyclicBarrier(numThreads);
+        List<Future<BoarUser>> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(numThreads)) {
+            for (int i=0; i<numThreads; i++) {
+                results.add(executor.submit(() -> {
+                    barrier.await();
+                    return BoarUserFactory.getBoarUser(userID);
+                }));
+            }
+
+            Set<BoarUser> boarUsers = ConcurrentHashMap.newKeySet();
+
+            for (Future<BoarUser> result : results) {
+                boarUsers.add(result.get(30, TimeUnit.SECONDS));
+            }
+
+            assertEquals(1, boarUsers.size());
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package dev.boarbot.entities.boaruser;
+
+import dev.boarbot.bot.TestBot;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserLockManagerTest {
+    private static BoarUser firstUser;
+    private static BoarUser secondUser;
+
+    @BeforeAll
+    static void setup() {
+        TestBot.loadConfig();
+
+        firstUser = new BoarUser("900000000000000301");
+        secondUser = new BoarUser("900000000000000302");
+    }
+
+    @Test
+    void actionsOnOneUserAreSerialized() throws Exception {
+        int numThreads = 8;
+        int numPerThread = 200;
+        int[] counter = {0};
+
+        this.runConcurrently(numThreads, () -> {
+            for (int i=0; i<numPerThread; i++) {
+                UserLockManager.passSynchronizedAction(boarUser -> {
+                    assertTrue(UserLockManager.isHeldByCurrentThread(boarUser.getUserID()));
+                    counter[0]++;
+                }, firstUser);
+            }
+        });
+
+        assertEquals(numThreads * numPerThread, counter[0]);
+        assertFalse(UserLockManager.isLocked(firstUser.getUserID()));
+    }
+
+    @Test
+    void nestedActionOnSameUserIsReentrant() {
+        AtomicBoolean ranInner = new AtomicBoolean();
+
+        UserLockManager.passSynchronizedAction(
+            outer -> UserLockManager.passSynchronizedAction(inner -> ranInner.set(true), firstUser),
+            firstUser
+        );
+
+        assertTrue(ranInner.get());
+        assertFalse(UserLockManager.isLocked(firstUser.getUserID()));
+    }
+
+    @Test
+    void oppositeOrderActionsDoNotDeadlock() throws Exception {
+        int numThreads = 8;
+
+        this.runConcurrently(numThreads, () -> {
+            boolean reversed = ThreadLocalRandom.current().nextBoolean();
+
+            for (int i=0; i<200; i++) {
+                BoarUser[] boarUsers = reversed
+                    ? new BoarUser[] {secondUser, firstUser}
+                    : new BoarUser[] {firstUser, secondUser};
+
+                UserLockManager.passSynchronizedAction(boarUser -> {
+                    assertTrue(UserLockManager.isHeldByCurrentThread(firstUser.getUserID()));
+                    assertTrue(UserLockManager.isHeldByCurrentThread(secondUser.getUserID()));
+                }, boarUsers);
+            }
+        });
+
+        assertFalse(UserLockManager.isLocked(firstUser.getUserID()));
+        assertFalse(UserLockManager.isLocked(secondUser.getUserID()));
+    }
+
+    @Test
+    void otherUsersAreNotBlocked() throws Exception {
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<?> holder = executor.submit(() -> UserLockManager.passSynchronizedAction(boarUser -> {
+                holding.countDown();
+
+                try {
+                    release.await();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            }, firstUser));
+
+            assertTrue(holding.await(10, TimeUnit.SECONDS));
+            assertTrue(UserLockManager.isLocked(firstUser.getUserID()));
+
+            AtomicBoolean ran = new AtomicBoolean();
+            UserLockManager.passSynchronizedAction(boarUser -> ran.set(true), secondUser);
+            assertTrue(ran.get());
+
+            release.countDown();
+            holder.get(10, TimeUnit.SECONDS);
+        }
+
+        assertFalse(UserLockManager.isLocked(firstUser.getUserID()));
+    }
+
+    @Test
+    void lockIsReleasedWhenActionThrows() {
+        assertThrows(IllegalStateException.class, () -> UserLockManager.passSynchronizedAction(boarUser -> {
+            throw new IllegalStateException("expected");
+        }, firstUser, secondUser));
+
+        assertFalse(UserLockManager.isLocked(firstUser.getUserID()));
+        assertFalse(UserLockManager.isLocked(secondUser.getUserID()));
+    }
+
+    private void runConcurrently(int numThreads, Runnable action) throws Exception {
+        CyclicBarrier barrier = new CyclicBarrier(numThreads);
+        List<Future<?>> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(numThreads)) {
+            for (int i=0; i<numThreads; i++) {
+                results.add(executor.submit(() -> {
+                    barrier.await();
+                    action.run();
+                    return null;
+                }));
+            }
+
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        }
+    }
+}
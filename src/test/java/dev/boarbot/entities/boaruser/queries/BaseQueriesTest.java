@@ -0,0 +1,130 @@
+package dev.boarbot.entities.boaruser.queries;
+
+import dev.boarbot.bot.TestBot;
+import dev.boarbot.entities.boaruser.BoarUser;
+import dev.boarbot.entities.boaruser.UserLockManager;
+import dev.boarbot.util.data.DataUtil;
+import dev.boarbot.util.data.UserDataUtil;
+import net.dv8tion.jda.api.entities.User;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BaseQueriesTest {
+    private final static String USER_ID = "900000000000000101";
+
+    private BoarUser boarUser;
+
+    @BeforeAll
+    static void setup() {
+        TestBot.loadDatabase();
+    }
+
+    @BeforeEach
+    void resetUser() throws SQLException {
+        try (Connection connection = DataUtil.getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement(
+                "DELETE FROM users WHERE user_id = ?;"
+            )) {
+                statement.setString(1, USER_ID);
+                statement.executeUpdate();
+            }
+
+            try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO users (user_id, username) VALUES (?, 'rowcache');"
+            )) {
+                statement.setString(1, USER_ID);
+                statement.executeUpdate();
+            }
+        }
+
+        // Writes log the Discord user, so give the test user one without going through JDA
+        User user = (User) Proxy.newProxyInstance(
+            User.class.getClassLoader(),
+            new Class<?>[] {User.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "getId" -> USER_ID;
+                case "getName" -> "rowcache";
+                default -> null;
+            }
+        );
+
+        this.boarUser = new BoarUser(user);
+    }
+
+    @Test
+    void bulkWriteIsSeenOnNextRead() throws SQLException {
+        try (Connection connection = DataUtil.getConnection()) {
+            assertFalse(this.boarUser.baseQuery().getUserRow(connection).streakFrozen());
+
+            UserDataUtil.setStreakFreeze(connection, true);
+            assertTrue(this.boarUser.baseQuery().getUserRow(connection).streakFrozen());
+
+            UserDataUtil.setStreakFreeze(connection, false);
+            assertFalse(this.boarUser.baseQuery().getUserRow(connection).streakFrozen());
+        }
+    }
+
+    @Test
+    void otherClassWriteIsSeenWithinSameAction() {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        UserLockManager.passSynchronizedAction(boarUser -> {
+            try (Connection connection = DataUtil.getConnection()) {
+                assertEquals(0, boarUser.baseQuery().getUserRow(connection).miraclesActive());
+
+                // Often lands in the read's millisecond, where last_changed_timestamp can't reveal the write
+                boarUser.powQuery().activateMiracles(connection, 1);
+                assertEquals(1, boarUser.baseQuery().getUserRow(connection).miraclesActive());
+            } catch (Throwable exception) {
+                failure.set(exception);
+            }
+        }, this.boarUser);
+
+        assertNull(failure.get());
+    }
+
+    @Test
+    void queuedFilterBitsOverlayReloadedRows() throws SQLException {
+        try (Connection connection = DataUtil.getConnection()) {
+            this.boarUser.megaQuery().setFilterBits(5);
+            this.boarUser.baseQuery().invalidateUserRow();
+
+            assertEquals(5, this.boarUser.megaQuery().getFilterBits(connection));
+            assertNotEquals(5, this.readFilterBits(connection));
+
+            BaseQueries.flushQueuedWrites(connection);
+            assertEquals(5, this.readFilterBits(connection));
+
+            this.boarUser.megaQuery().setFilterBits(7);
+            BaseQueries.invalidateAllUserRows();
+            assertEquals(7, this.boarUser.megaQuery().getFilterBits(connection));
+
+            BaseQueries.flushQueuedWrites(connection);
+            assertEquals(7, this.readFilterBits(connection));
+            assertEquals(7, this.boarUser.megaQuery().getFilterBits(connection));
+        }
+    }
+
+    private int readFilterBits(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+            "SELECT filter_bits FROM users WHERE user_id = ?;"
+        )) {
+            statement.setString(1, USER_ID);
+
+            try (ResultSet results = statement.executeQuery()) {
+                assertTrue(results.next());
+                return results.getInt("filter_bits");
+            }
+        }
+    }
+}
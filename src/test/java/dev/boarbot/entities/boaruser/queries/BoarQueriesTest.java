@@ -0,0 +1,126 @@
+package dev.boarbot.entities.boaruser.queries;
+
+import dev.boarbot.api.util.Configured;
+import dev.boarbot.bot.TestBot;
+import dev.boarbot.entities.boaruser.BoarUser;
+import dev.boarbot.entities.boaruser.UserLockManager;
+import dev.boarbot.util.data.DataUtil;
+import dev.boarbot.util.data.UserDataUtil;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoarQueriesTest implements Configured {
+    private final static String USER_ID = "900000000000000201";
+
+    private static List<String> boarIDs;
+
+    private BoarUser boarUser;
+
+    @BeforeAll
+    static void setup() {
+        TestBot.loadDatabase();
+        boarIDs = BOARS.keySet().stream().limit(3).toList();
+    }
+
+    @BeforeEach
+    void resetUser() throws SQLException {
+        try (Connection connection = DataUtil.getConnection()) {
+            for (String query : List.of(
+                "DELETE FROM collected_badges WHERE user_id = ?;",
+                "DELETE FROM collected_boars WHERE user_id = ?;",
+                "DELETE FROM users WHERE user_id = ?;",
+                "INSERT INTO users (user_id, username) VALUES (?, 'uniques');"
+            )) {
+                try (PreparedStatement statement = connection.prepareStatement(query)) {
+                    statement.setString(1, USER_ID);
+                    statement.executeUpdate();
+                }
+            }
+        }
+
+        this.boarUser = new BoarUser(USER_ID);
+    }
+
+    @Test
+    void incrementalCountsMatchRecount() throws SQLException {
+        try (Connection connection = DataUtil.getConnection()) {
+            this.addCollectedBoar(connection, boarIDs.get(0));
+            this.addCollectedBoar(connection, boarIDs.get(0));
+            this.addCollectedBoar(connection, boarIDs.get(1));
+
+            this.runSynchronized(
+                boarUser -> boarUser.boarQuery().updateUniques(
+                    connection, Map.of(boarIDs.get(0), 2, boarIDs.get(1), 1)
+                )
+            );
+
+            int[] incremental = this.readCounters(connection);
+            assertEquals(2, incremental[0]);
+
+            UserDataUtil.refreshUniques(connection);
+            assertArrayEquals(this.readCounters(connection), incremental);
+        }
+    }
+
+    @Test
+    void updateUniquesRequiresUserLock() throws SQLException {
+        try (Connection connection = DataUtil.getConnection()) {
+            assertThrows(
+                IllegalStateException.class,
+                () -> this.boarUser.boarQuery().updateUniques(connection, Map.of(boarIDs.get(2), 1))
+            );
+        }
+    }
+
+    private void runSynchronized(SqlAction action) {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        UserLockManager.passSynchronizedAction(boarUser -> {
+            try {
+                action.run(boarUser);
+            } catch (Throwable exception) {
+                failure.set(exception);
+            }
+        }, this.boarUser);
+
+        assertNull(failure.get());
+    }
+
+    private void addCollectedBoar(Connection connection, String boarID) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+            "INSERT INTO collected_boars (user_id, boar_id) VALUES (?, ?);"
+        )) {
+            statement.setString(1, USER_ID);
+            statement.setString(2, boarID);
+            statement.executeUpdate();
+        }
+    }
+
+    private int[] readCounters(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+            "SELECT unique_boars, num_skyblock, num_non_researcher, unique_bless FROM users WHERE user_id = ?;"
+        )) {
+            statement.setString(1, USER_ID);
+
+            try (ResultSet results = statement.executeQuery()) {
+                assertTrue(results.next());
+                return new int[] {results.getInt(1), results.getInt(2), results.getInt(3), results.getInt(4)};
+            }
+        }
+    }
+
+    private interface SqlAction {
+        void run(BoarUser boarUser) throws SQLException;
+    }
+}
@@ -0,0 +1,191 @@
+package dev.boarbot.interactives;
+
+import dev.boarbot.BoarBotApp;
+import dev.boarbot.bot.TestBot;
+import dev.boarbot.util.interactive.StopType;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.events.interaction.component.GenericComponentInteractionCreateEvent;
+import net.dv8tion.jda.api.interactions.Interaction;
+import net.dv8tion.jda.api.interactions.callbacks.IReplyCallback;
+import net.dv8tion.jda.api.interactions.components.ActionRow;
+import net.dv8tion.jda.api.utils.messages.MessageEditData;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InteractiveRegistryTest {
+    private final static long IDLE_MILLIS = 60_000;
+    private final static AtomicLong nextID = new AtomicLong(1);
+
+    @BeforeAll
+    static void setup() {
+        TestBot.loadConfig();
+    }
+
+    @Test
+    void registeredInteractiveIsIndexed() {
+        String userID = newID();
+        TestInteractive interactive = construct(new TestInteractive(userID));
+
+        assertSame(interactive, BoarBotApp.getBot().getInteractives().get(interactive.getInteractiveID()));
+        assertSame(interactive, InteractiveRegistry.getUserInteractive(userID, TestInteractive.class));
+        assertNull(InteractiveRegistry.getUserInteractive(userID, OtherInteractive.class));
+        assertNull(InteractiveRegistry.getEventInteractive(interactive.getBaseID()));
+
+        interactive.stop(StopType.FINISHED);
+
+        assertNull(BoarBotApp.getBot().getInteractives().get(interactive.getInteractiveID()));
+        assertNull(InteractiveRegistry.getUserInteractive(userID, TestInteractive.class));
+    }
+
+    @Test
+    void newInteractiveStopsDuplicate() {
+        String userID = newID();
+        TestInteractive first = construct(new TestInteractive(userID));
+        OtherInteractive other = construct(new OtherInteractive(userID));
+        TestInteractive second = construct(new TestInteractive(userID));
+
+        assertTrue(first.isStopped());
+        assertFalse(other.isStopped());
+        assertFalse(second.isStopped());
+
+        assertSame(second, InteractiveRegistry.getUserInteractive(userID, TestInteractive.class));
+        assertSame(other, InteractiveRegistry.getUserInteractive(userID, OtherInteractive.class));
+
+        second.stop(StopType.FINISHED);
+        other.stop(StopType.FINISHED);
+    }
+
+    @Test
+    void staleRemoveLeavesNewerInteractive() {
+        String userID = newID();
+        TestInteractive first = construct(new TestInteractive(userID));
+        TestInteractive second = construct(new TestInteractive(userID));
+
+        assertNull(first.removeInteractive());
+        assertSame(second, InteractiveRegistry.getUserInteractive(userID, TestInteractive.class));
+
+        second.stop(StopType.FINISHED);
+    }
+
+    @Test
+    void concurrentRegistrationKeepsOnePerUser() throws Exception {
+        int numThreads = 8;
+        int numPerThread = 50;
+        List<String> userIDs = new ArrayList<>();
+
+        for (int i=0; i<numThreads; i++) {
+            userIDs.add(newID());
+        }
+
+        CyclicBarrier barrier = new CyclicBarrier(numThreads);
+        List<Future<?>> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(numThreads)) {
+            for (int i=0; i<numThreads; i++) {
+                results.add(executor.submit(() -> {
+                    barrier.await();
+
+                    for (int j=0; j<numPerThread; j++) {
+                        String userID = userIDs.get(ThreadLocalRandom.current().nextInt(userIDs.size()));
+                        construct(new TestInteractive(userID));
+                    }
+
+                    return null;
+                }));
+            }
+
+            for (Future<?> result : results) {
+                result.get(10, TimeUnit.SECONDS);
+            }
+        }
+
+        for (String userID : userIDs) {
+            Interactive interactive = InteractiveRegistry.getUserInteractive(userID, TestInteractive.class);
+
+            if (interactive == null) {
+                continue;
+            }
+
+            assertFalse(interactive.isStopped());
+
+            long numLive = BoarBotApp.getBot().getInteractives().values().stream()
+                .filter(live -> live instanceof TestInteractive && userID.equals(live.getUserID()))
+                .filter(live -> !live.isStopped())
+                .count();
+            assertEquals(1, numLive);
+
+            interactive.stop(StopType.FINISHED);
+        }
+    }
+
+    private static <T extends Interactive> T construct(T interactive) {
+        interactive.finishConstruction();
+        return interactive;
+    }
+
+    private static String newID() {
+        return Long.toString(900_000_000_000_000_000L + nextID.getAndIncrement());
+    }
+
+    private static Interaction newInteraction(String userID) {
+        String interactionID = newID();
+        User user = stub(User.class, Map.of("getId", userID));
+        Guild guild = stub(Guild.class, Map.of("getId", "1"));
+
+        return stub(
+            IReplyCallback.class, Map.of("getId", interactionID, "getUser", user, "getGuild", guild)
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> clazz, Map<String, Object> returns) {
+        return (T) Proxy.newProxyInstance(
+            clazz.getClassLoader(), new Class<?>[] {clazz}, (proxy, method, args) -> returns.get(method.getName())
+        );
+    }
+
+    private static class TestInteractive extends UserInteractive {
+        private TestInteractive(String userID) {
+            super(newInteraction(userID), false, IDLE_MILLIS, IDLE_MILLIS);
+        }
+
+        @Override
+        public void stop(StopType type) {
+            this.removeInteractive();
+            this.isStopped = true;
+        }
+
+        @Override
+        public void execute(GenericComponentInteractionCreateEvent compEvent) {}
+
+        @Override
+        public ActionRow[] getCurComponents() {
+            return new ActionRow[0];
+        }
+
+        @Override
+        public void updateInteractive(boolean stopping, MessageEditData editedMsg) {}
+
+        @Override
+        public void updateComponents(boolean stopping, ActionRow... rows) {}
+
+        @Override
+        public void deleteInteractive(boolean stopping) {}
+    }
+
+    private static class OtherInteractive extends TestInteractive {
+        private OtherInteractive(String userID) {
+            super(userID);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package dev.boarbot.util.boar;
+
+import dev.boarbot.api.util.Configured;
+import dev.boarbot.bot.TestBot;
+import dev.boarbot.bot.config.RarityConfig;
+import dev.boarbot.bot.config.items.BoarItemConfig;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RarityIndexTest implements Configured {
+    private final static int NUM_ROLLS = 10000;
+
+    @BeforeAll
+    static void setup() {
+        TestBot.loadConfig();
+    }
+
+    @Test
+    void boarRaritiesMatchConfigScan() {
+        for (String boarID : BOARS.keySet()) {
+            String expected = null;
+
+            for (String rarityKey : RARITIES.keySet()) {
+                if (Arrays.asList(RARITIES.get(rarityKey).getBoars()).contains(boarID)) {
+                    expected = rarityKey;
+                    break;
+                }
+            }
+
+            assertEquals(expected, RarityIndex.get().getRarityKey(boarID), boarID);
+        }
+    }
+
+    @Test
+    void neighbouringRaritiesFollowConfigOrder() {
+        List<String> rarityKeys = new ArrayList<>(RARITIES.keySet());
+
+        assertNull(BoarUtil.getPriorRarityKey(rarityKeys.getFirst()));
+
+        for (int i=1; i<rarityKeys.size(); i++) {
+            assertEquals(rarityKeys.get(i-1), BoarUtil.getPriorRarityKey(rarityKeys.get(i)));
+            assertEquals(rarityKeys.get(i), BoarUtil.getNextRarityKey(rarityKeys.get(i-1)));
+        }
+    }
+
+    @Test
+    void researcherCountsMatchRecount() {
+        int numResearcher = 0;
+        int numSkyblockResearcher = 0;
+
+        for (RarityConfig rarityConfig : RARITIES.values()) {
+            if (!rarityConfig.isResearcherNeed()) {
+                continue;
+            }
+
+            for (String boarID : rarityConfig.getBoars()) {
+                BoarItemConfig boarConfig = BOARS.get(boarID);
+                numSkyblockResearcher++;
+
+                if (boarConfig == null || !boarConfig.isSB()) {
+                    numResearcher++;
+                }
+            }
+        }
+
+        assertEquals(numResearcher, RarityIndex.get().getNumResearcherBoars(false));
+        assertEquals(numSkyblockResearcher, RarityIndex.get().getNumResearcherBoars(true));
+    }
+
+    @Test
+    void rollTablesAreCachedPerBlessingValue() {
+        RollTable table = RollTable.get(1234);
+
+        assertSame(table, RollTable.get(1234));
+        assertNotSame(table, RollTable.get(1234 + 1024));
+    }
+
+    @Test
+    void rollsOnlyLandOnWeightedRarities() {
+        RarityIndex index = RarityIndex.get();
+        int truthOrdinal = index.getOrdinal("truth");
+
+        for (long blessings : new long[] {0, 500, 5000, 50000, 500000}) {
+            RollTable table = RollTable.get(blessings);
+
+            for (int i=0; i<NUM_ROLLS; i++) {
+                int ordinal = table.roll((double) i / NUM_ROLLS);
+
+                // Truth has no base weight but is given one once a user has enough blessings
+                boolean injectedTruth = ordinal == truthOrdinal && blessings >= 1000;
+                assertTrue(injectedTruth || index.getBaseWeight(ordinal) > 0, index.getRarityKey(ordinal));
+            }
+        }
+    }
+
+    @Test
+    void blessingsShiftRollsAwayFromHeaviestRarity() {
+        int heaviestOrdinal = RollTable.get(0).roll(1);
+
+        assertTrue(
+            this.countRolls(RollTable.get(100000), heaviestOrdinal) < this.countRolls(RollTable.get(0), heaviestOrdinal)
+        );
+    }
+
+    @Test
+    void randomBoarsAreValid() {
+        for (int i=0; i<1000; i++) {
+            for (String boarID : BoarUtil.getRandBoarIDs(5000, false)) {
+                BoarItemConfig boarConfig = BOARS.get(boarID);
+
+                assertNotNull(boarConfig, boarID);
+                assertFalse(boarConfig.isBlacklisted() || boarConfig.isSecret() || boarConfig.isSB(), boarID);
+            }
+        }
+    }
+
+    private int countRolls(RollTable table, int ordinal) {
+        int count = 0;
+
+        for (int i=0; i<NUM_ROLLS; i++) {
+            if (table.roll((double) i / NUM_ROLLS) == ordinal) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,124 @@
+package dev.boarbot.util.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeightedCacheTest {
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        WeightedCache<Object> cache = new WeightedCache<>("test", () -> 0, value -> 1, false);
+        AtomicInteger numLoads = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        cache.putLoader("key", () -> {
+            numLoads.incrementAndGet();
+            loadStarted.countDown();
+
+            try {
+                release.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+
+            return new Object();
+        });
+
+        int numThreads = 8;
+        List<Future<Object>> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(numThreads)) {
+            results.add(executor.submit(() -> cache.get("key")));
+            assertTrue(loadStarted.await(10, TimeUnit.SECONDS));
+
+            for (int i=1; i<numThreads; i++) {
+                results.add(executor.submit(() -> cache.get("key")));
+            }
+
+            Thread.sleep(100);
+            release.countDown();
+
+            Set<Object> values = ConcurrentHashMap.newKeySet();
+
+            for (Future<Object> result : results) {
+                values.add(result.get(10, TimeUnit.SECONDS));
+            }
+
+            assertEquals(1, values.size());
+            assertEquals(1, numLoads.get());
+        }
+    }
+
+    @Test
+    void failedLoadIsRetriedOnNextMiss() {
+        WeightedCache<Object> cache = new WeightedCache<>("test", () -> 0, value -> 1, false);
+        AtomicInteger numLoads = new AtomicInteger();
+
+        cache.putLoader("key", () -> {
+            if (numLoads.incrementAndGet() == 1) {
+                throw new IllegalStateException("first load fails");
+            }
+
+            return new Object();
+        });
+
+        assertNull(cache.get("key"));
+        assertNotNull(cache.get("key"));
+        assertEquals(2, numLoads.get());
+    }
+
+    @Test
+    void evictedEntriesAreReloaded() {
+        WeightedCache<Object> cache = new WeightedCache<>("test", () -> 1, value -> 1, false);
+        AtomicInteger numLoads = new AtomicInteger();
+
+        cache.putLoader("first", () -> {
+            numLoads.incrementAndGet();
+            return new Object();
+        });
+
+        Object first = cache.get("first");
+        cache.put("second", new Object());
+        assertEquals(1, cache.size());
+        assertNotSame(first, cache.get("first"));
+        assertEquals(2, numLoads.get());
+    }
+
+    @Test
+    void spilledEntriesComeBackWithoutReload() {
+        WeightedCache<Object> cache = new WeightedCache<>("test", () -> 1, value -> 1, true);
+        AtomicInteger numLoads = new AtomicInteger();
+
+        cache.putLoader("first", () -> {
+            numLoads.incrementAndGet();
+            return new Object();
+        });
+
+        Object first = cache.get("first");
+        cache.put("second", new Object());
+        assertEquals(1, cache.size());
+
+        // The test still holds the value, so its soft reference can't have been cleared
+        assertSame(first, cache.get("first"));
+        assertEquals(1, numLoads.get());
+    }
+
+    @Test
+    void unboundedCacheNeverEvicts() {
+        WeightedCache<Object> cache = new WeightedCache<>("test", () -> 0, value -> 1024, false);
+
+        for (int i=0; i<100; i++) {
+            cache.put("key" + i, new Object());
+        }
+
+        assertEquals(100, cache.size());
+        assertEquals(100 * 1024, cache.getWeight());
+    }
+}
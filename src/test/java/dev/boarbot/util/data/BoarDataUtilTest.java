@@ -0,0 +1,93 @@
+package dev.boarbot.util.data;
+
+import dev.boarbot.api.util.Configured;
+import dev.boarbot.bot.TestBot;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoarDataUtilTest implements Configured {
+    private final static String USER_ID = "900000000000000501";
+
+    @BeforeAll
+    static void setup() throws SQLException {
+        TestBot.loadDatabase();
+
+        try (
+            Connection connection = DataUtil.getConnection();
+            PreparedStatement statement = connection.prepareStatement(
+                "INSERT IGNORE INTO users (user_id, username) VALUES (?, 'editions');"
+            )
+        ) {
+            statement.setString(1, USER_ID);
+            statement.executeUpdate();
+        }
+    }
+
+    @Test
+    void seedContinuesFromStoredEditions() throws SQLException {
+        String boarID = BOARS.keySet().iterator().next();
+        long storedEdition = BoarDataUtil.nextEdition(boarID) + 1000;
+
+        try (Connection connection = DataUtil.getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO collected_boars (user_id, boar_id, edition) VALUES (?, ?, ?);"
+            )) {
+                statement.setString(1, USER_ID);
+                statement.setString(2, boarID);
+                statement.setLong(3, storedEdition);
+                statement.executeUpdate();
+            }
+
+            BoarDataUtil.loadEditions(connection);
+        }
+
+        assertEquals(storedEdition + 1, BoarDataUtil.nextEdition(boarID));
+    }
+
+    @Test
+    void concurrentEditionsAreUniqueAndContiguous() throws Exception {
+        String boarID = "editionTestBoar";
+        int numThreads = 8;
+        int numPerThread = 500;
+
+        long start = BoarDataUtil.nextEdition(boarID);
+        Set<Long> editions = ConcurrentHashMap.newKeySet();
+        CyclicBarrier barrier = new CyclicBarrier(numThreads);
+        List<Future<?>> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(numThreads)) {
+            for (int i=0; i<numThreads; i++) {
+                results.add(executor.submit(() -> {
+                    barrier.await();
+
+                    for (int j=0; j<numPerThread; j++) {
+                        editions.add(BoarDataUtil.nextEdition(boarID));
+                    }
+
+                    return null;
+                }));
+            }
+
+            for (Future<?> result : results) {
+                result.get(10, TimeUnit.SECONDS);
+            }
+        }
+
+        LongSummaryStatistics stats = editions.stream().mapToLong(Long::longValue).summaryStatistics();
+
+        assertEquals(numThreads * numPerThread, editions.size());
+        assertEquals(start + 1, stats.getMin());
+        assertEquals(start + numThreads * numPerThread, stats.getMax());
+    }
+}
@@ -0,0 +1,93 @@
+package dev.boarbot.util.data;
+
+import dev.boarbot.bot.TestBot;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationDataUtilTest {
+    private final static LocalDate DAY = LocalDate.of(2026, 1, 10);
+    private final static List<String> USER_IDS = List.of("900000000000000001", "900000000000000002");
+
+    @BeforeAll
+    static void setup() throws SQLException {
+        TestBot.loadDatabase();
+
+        try (Connection connection = DataUtil.getConnection()) {
+            String query = """
+                INSERT IGNORE INTO users (user_id, username, notifications_on, notification_channel)
+                VALUES (?, ?, true, ?);
+            """;
+
+            try (PreparedStatement statement = connection.prepareStatement(query)) {
+                for (String userID : USER_IDS) {
+                    statement.setString(1, userID);
+                    statement.setString(2, "notif" + userID);
+                    statement.setString(3, "1");
+                    statement.executeUpdate();
+                }
+            }
+        }
+    }
+
+    @BeforeEach
+    void clearRuns() throws SQLException {
+        try (Connection connection = DataUtil.getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement(
+                "DELETE FROM notification_runs; DELETE FROM notification_progress;"
+            )) {
+                statement.execute();
+            }
+        }
+    }
+
+    @Test
+    void latestUnfinishedRunLooksPastToday() throws SQLException {
+        try (Connection connection = DataUtil.getConnection()) {
+            assertNull(NotificationDataUtil.getLatestUnfinishedRun(connection));
+
+            assertTrue(NotificationDataUtil.startRun(DAY, connection));
+            assertFalse(NotificationDataUtil.startRun(DAY, connection));
+            assertEquals(DAY, NotificationDataUtil.getLatestUnfinishedRun(connection));
+
+            assertTrue(NotificationDataUtil.startRun(DAY.plusDays(1), connection));
+            assertEquals(DAY.plusDays(1), NotificationDataUtil.getLatestUnfinishedRun(connection));
+
+            NotificationDataUtil.finishRun(DAY.plusDays(1), connection);
+            assertNull(NotificationDataUtil.getLatestUnfinishedRun(connection), "older runs are superseded");
+        }
+    }
+
+    @Test
+    void pendingTargetsSkipNotifiedUsers() throws SQLException {
+        try (Connection connection = DataUtil.getConnection()) {
+            NotificationDataUtil.startRun(DAY, connection);
+            assertEquals(Set.copyOf(USER_IDS), getPendingIDs(DAY, connection));
+
+            NotificationDataUtil.markNotified(List.of(USER_IDS.getFirst()), DAY, connection);
+            assertEquals(Set.of(USER_IDS.get(1)), getPendingIDs(DAY, connection));
+
+            // Marking twice must not fail, since progress can be flushed again after a crash
+            NotificationDataUtil.markNotified(List.of(USER_IDS.getFirst()), DAY, connection);
+
+            assertEquals(Set.copyOf(USER_IDS), getPendingIDs(DAY.plusDays(1), connection));
+        }
+    }
+
+    private static Set<String> getPendingIDs(LocalDate day, Connection connection) throws SQLException {
+        return NotificationDataUtil.getPendingTargets(day, connection).stream()
+            .map(NotificationTarget::userID)
+            .filter(USER_IDS::contains)
+            .collect(Collectors.toSet());
+    }
+}
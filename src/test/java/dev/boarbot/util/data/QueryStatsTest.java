@@ -0,0 +1,75 @@
+package dev.boarbot.util.data;
+
+import dev.boarbot.bot.TestBot;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryStatsTest {
+    @BeforeAll
+    static void setup() {
+        TestBot.loadConfig();
+    }
+
+    @Test
+    void whitespaceAndLiteralsAreNormalized() {
+        String sql = """
+            SELECT *
+            FROM users
+            WHERE username = 'it''s me' AND user_id = ?;
+        """;
+
+        assertEquals("SELECT * FROM users WHERE username = ? AND user_id = ?;", QueryStats.normalize(sql));
+    }
+
+    @Test
+    void valueListsOfAnyLengthNormalizeTheSame() {
+        String oneValue = QueryStats.normalize("SELECT * FROM users WHERE user_id IN (?);");
+        String threeValues = QueryStats.normalize("SELECT * FROM users WHERE user_id IN (?, ?,?);");
+
+        assertEquals(oneValue, threeValues);
+        assertEquals("SELECT * FROM users WHERE user_id IN (?...);", threeValues);
+    }
+
+    @Test
+    void multiRowInsertsNormalizeTheSame() {
+        String oneRow = QueryStats.normalize("INSERT INTO collected_boars (user_id, boar_id) VALUES (?, ?);");
+        String twoRows = QueryStats.normalize("INSERT INTO collected_boars (user_id, boar_id) VALUES (?, ?), (?, ?);");
+        String threeRows = QueryStats.normalize(
+            "INSERT INTO collected_boars (user_id, boar_id) VALUES (?, ?), (?, ?), (?, ?);"
+        );
+
+        assertEquals(twoRows, threeRows);
+        assertNotEquals(oneRow, twoRows);
+    }
+
+    @Test
+    void callsAreAttributedToTheirSource() {
+        String sql = QueryStats.normalize("SELECT 'query stats test';");
+
+        QueryStats.setSource("test source");
+
+        try {
+            QueryStats.recordQuery(sql, TimeUnit.MILLISECONDS.toNanos(1), false);
+            QueryStats.recordQuery(sql, TimeUnit.MILLISECONDS.toNanos(1), true);
+            QueryStats.recordRows(sql, 5);
+        } finally {
+            QueryStats.clearSource();
+        }
+
+        QueryStats.recordQuery(sql, TimeUnit.MILLISECONDS.toNanos(1), false);
+
+        List<String> lines = QueryStats.getTopStatements(Integer.MAX_VALUE);
+        String line = lines.stream().filter(curLine -> curLine.endsWith(sql)).findFirst().orElseThrow();
+
+        assertTrue(line.contains("3 calls"), line);
+        assertTrue(line.contains("5 rows"), line);
+        assertTrue(line.contains("1 errors"), line);
+        assertTrue(line.contains("test source (2)"), line);
+        assertTrue(line.contains("other (1)"), line);
+    }
+}
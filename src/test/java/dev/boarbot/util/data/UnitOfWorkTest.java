@@ -0,0 +1,153 @@
+package dev.boarbot.util.data;
+
+import dev.boarbot.bot.TestBot;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnitOfWorkTest {
+    private final static String INSERT_QUERY = "INSERT INTO unit_of_work_test (id) VALUES (?);";
+
+    @BeforeAll
+    static void setup() throws SQLException {
+        TestBot.loadDatabase();
+
+        try (
+            Connection connection = DataUtil.getConnection();
+            PreparedStatement statement = connection.prepareStatement(
+                "CREATE TABLE IF NOT EXISTS unit_of_work_test (id INT PRIMARY KEY);"
+            )
+        ) {
+            statement.executeUpdate();
+        }
+    }
+
+    @BeforeEach
+    void clearTable() throws SQLException {
+        try (
+            Connection connection = DataUtil.getConnection();
+            PreparedStatement statement = connection.prepareStatement("DELETE FROM unit_of_work_test;")
+        ) {
+            statement.executeUpdate();
+        }
+    }
+
+    @Test
+    void commitPersistsAndRunsCommitActions() throws SQLException {
+        List<String> actions = new ArrayList<>();
+
+        try (UnitOfWork unit = DataUtil.beginUnitOfWork()) {
+            this.insert(unit.getConnection(), 1);
+            this.insert(unit.getConnection(), 2);
+
+            unit.afterCommit(() -> actions.add("commit"));
+            unit.afterRollback(() -> actions.add("rollback"));
+
+            assertEquals(0, this.countRows());
+
+            unit.commit();
+        }
+
+        assertEquals(2, this.countRows());
+        assertEquals(List.of("commit"), actions);
+    }
+
+    @Test
+    void closeWithoutCommitRollsBack() throws SQLException {
+        List<String> actions = new ArrayList<>();
+
+        try (UnitOfWork unit = DataUtil.beginUnitOfWork()) {
+            this.insert(unit.getConnection(), 1);
+
+            unit.afterCommit(() -> actions.add("commit"));
+            unit.afterRollback(() -> actions.add("rollback"));
+        }
+
+        assertEquals(0, this.countRows());
+        assertEquals(List.of("rollback"), actions);
+    }
+
+    @Test
+    void failedStatementRollsBackEarlierOnes() throws SQLException {
+        try (UnitOfWork unit = DataUtil.beginUnitOfWork()) {
+            this.insert(unit.getConnection(), 1);
+            assertThrows(SQLException.class, () -> this.insert(unit.getConnection(), 1));
+        }
+
+        assertEquals(0, this.countRows());
+    }
+
+    @Test
+    void closedStatementsAreReused() throws SQLException {
+        try (UnitOfWork unit = DataUtil.beginUnitOfWork()) {
+            Connection connection = unit.getConnection();
+            PreparedStatement first;
+
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_QUERY)) {
+                first = statement;
+
+                try (PreparedStatement nested = connection.prepareStatement(INSERT_QUERY)) {
+                    assertNotSame(first, nested);
+                }
+            }
+
+            assertTrue(first.isClosed());
+
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_QUERY)) {
+                assertSame(first, statement);
+                assertFalse(statement.isClosed());
+            }
+
+            unit.commit();
+        }
+    }
+
+    @Test
+    void unitOwnsTheTransaction() throws SQLException {
+        try (UnitOfWork unit = DataUtil.beginUnitOfWork()) {
+            Connection connection = unit.getConnection();
+
+            assertThrows(SQLException.class, connection::commit);
+            assertThrows(SQLException.class, connection::rollback);
+            assertThrows(SQLException.class, () -> connection.setAutoCommit(true));
+
+            assertTrue(connection.isWrapperFor(UnitOfWork.class));
+            assertSame(unit, connection.unwrap(UnitOfWork.class));
+
+            connection.close();
+            assertFalse(connection.isClosed());
+
+            this.insert(connection, 1);
+            unit.commit();
+        }
+
+        assertEquals(1, this.countRows());
+    }
+
+    private void insert(Connection connection, int id) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_QUERY)) {
+            statement.setInt(1, id);
+            statement.executeUpdate();
+        }
+    }
+
+    private int countRows() throws SQLException {
+        try (
+            Connection connection = DataUtil.getConnection();
+            PreparedStatement statement = connection.prepareStatement("SELECT COUNT(*) FROM unit_of_work_test;");
+            ResultSet results = statement.executeQuery()
+        ) {
+            assertTrue(results.next());
+            return results.getInt(1);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package dev.boarbot.util.data.market;
+
+import dev.boarbot.api.util.Configured;
+import dev.boarbot.bot.TestBot;
+import dev.boarbot.interactives.boar.market.MarketInteractive;
+import dev.boarbot.util.boar.BoarUtil;
+import dev.boarbot.util.data.DataUtil;
+import dev.boarbot.util.data.UnitOfWork;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MarketEngineTest implements Configured {
+    private static String itemID;
+
+    @BeforeAll
+    static void setup() {
+        TestBot.loadDatabase();
+
+        itemID = BOARS.keySet().stream()
+            .filter(boarID -> RARITIES.get(BoarUtil.findRarityKey(boarID)).getTargetStock() != null)
+            .findFirst()
+            .orElseThrow();
+    }
+
+    @BeforeEach
+    void removeItem() throws SQLException {
+        try (Connection connection = DataUtil.getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement(
+                "DELETE FROM market_values WHERE item_id = ?;"
+            )) {
+                statement.setString(1, itemID);
+                statement.executeUpdate();
+            }
+
+            MarketDataUtil.checkMarketData(connection);
+        }
+
+        assertNull(MarketInteractive.cachedMarketData.get(itemID));
+    }
+
+    @Test
+    void rolledBackUnitLeavesCacheMatchingDatabase() throws SQLException {
+        try (UnitOfWork unit = DataUtil.beginUnitOfWork()) {
+            MarketDataUtil.updateMarket(MarketUpdateType.ADD_ITEM, itemID, unit.getConnection());
+            assertNull(MarketInteractive.cachedMarketData.get(itemID), "staged state leaked before commit");
+        }
+
+        try (Connection connection = DataUtil.getConnection()) {
+            assertNull(MarketDataUtil.readMarketDataItem(itemID, connection));
+            assertNull(MarketInteractive.cachedMarketData.get(itemID));
+            assertNull(MarketDataUtil.getMarketDataItem(itemID, connection));
+        }
+    }
+
+    @Test
+    void committedUnitPublishesToCache() throws SQLException {
+        try (UnitOfWork unit = DataUtil.beginUnitOfWork()) {
+            MarketDataUtil.updateMarket(MarketUpdateType.ADD_ITEM, itemID, unit.getConnection());
+            unit.commit();
+        }
+
+        try (Connection connection = DataUtil.getConnection()) {
+            MarketData stored = MarketDataUtil.readMarketDataItem(itemID, connection);
+
+            assertNotNull(stored);
+            assertEquals(stored, MarketInteractive.cachedMarketData.get(itemID));
+            assertEquals(stored, MarketDataUtil.getMarketDataItem(itemID, connection));
+        }
+    }
+
+    @Test
+    void unitHoldsItemUntilItFinishes() throws Exception {
+        CompletableFuture<MarketTransactionFail> otherOrder;
+
+        try (UnitOfWork unit = DataUtil.beginUnitOfWork()) {
+            MarketDataUtil.updateMarket(MarketUpdateType.ADD_ITEM, itemID, unit.getConnection());
+
+            otherOrder = CompletableFuture.supplyAsync(() -> {
+                try (Connection connection = DataUtil.getConnection()) {
+                    return MarketDataUtil.updateMarket(
+                        MarketUpdateType.ADD_ITEM, itemID, 0, 0, null, connection
+                    );
+                } catch (SQLException exception) {
+                    throw new IllegalStateException(exception);
+                }
+            });
+
+            Thread.sleep(200);
+            assertFalse(otherOrder.isDone(), "order ran against uncommitted state");
+        }
+
+        assertNull(otherOrder.get(10, TimeUnit.SECONDS));
+
+        try (Connection connection = DataUtil.getConnection()) {
+            MarketData stored = MarketDataUtil.readMarketDataItem(itemID, connection);
+
+            assertNotNull(stored, "order after the rollback should have added the item");
+            assertEquals(stored, MarketInteractive.cachedMarketData.get(itemID));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package dev.boarbot.util.data.top;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RankedBoardTest {
+    @Test
+    void ranksFollowValueThenUserID() {
+        RankedBoard board = new RankedBoard(true);
+
+        board.put("b", 10);
+        board.put("a", 10);
+        board.put("c", 30);
+        board.put("d", 5);
+
+        assertEquals(List.of("c", "a", "b", "d"), board.getUserIDs(0, 10));
+        assertEquals(new TopData(30, 0), board.get("c"));
+        assertEquals(new TopData(10, 2), board.get("b"));
+        assertNull(board.get("missing"));
+    }
+
+    @Test
+    void ascendingBoardPutsLowestFirst() {
+        RankedBoard board = new RankedBoard(false);
+
+        board.put("a", 3);
+        board.put("b", 1);
+        board.put("c", 2);
+
+        assertEquals(List.of("b", "c", "a"), board.getUserIDs(0, 3));
+    }
+
+    @Test
+    void updatesAndRemovesMoveUsers() {
+        RankedBoard board = new RankedBoard(true);
+
+        board.put("a", 1);
+        board.put("b", 2);
+        board.put("a", 3);
+
+        assertEquals(List.of("a", "b"), board.getUserIDs(0, 2));
+        assertEquals(2, board.size());
+
+        board.remove("a");
+        board.remove("missing");
+
+        assertFalse(board.contains("a"));
+        assertEquals(0, board.getValue("a"));
+        assertEquals(List.of("b"), board.getUserIDs(0, 2));
+    }
+
+    @Test
+    void pagesAreClampedToBoardSize() {
+        RankedBoard board = new RankedBoard(true);
+
+        for (int i=0; i<5; i++) {
+            board.put("user" + i, i);
+        }
+
+        assertEquals(List.of("user1", "user0"), board.getUserIDs(3, 10));
+        assertEquals(List.of("user4"), board.getUserIDs(-1, 1));
+        assertTrue(board.getUserIDs(5, 10).isEmpty());
+    }
+
+    @Test
+    void randomOperationsMatchSortedList() {
+        RankedBoard board = new RankedBoard(true);
+        Map<String, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i=0; i<5000; i++) {
+            String userID = "user" + random.nextInt(300);
+
+            if (random.nextInt(5) == 0) {
+                board.remove(userID);
+                expected.remove(userID);
+            } else {
+                long value = random.nextInt(100);
+                board.put(userID, value);
+                expected.put(userID, value);
+            }
+        }
+
+        List<String> sorted = new ArrayList<>(expected.keySet());
+        sorted.sort(
+            Comparator.<String>comparingLong(expected::get).reversed().thenComparing(Comparator.naturalOrder())
+        );
+
+        assertEquals(sorted.size(), board.size());
+        assertEquals(sorted, board.getUserIDs(0, sorted.size()));
+
+        for (int i=0; i<sorted.size(); i++) {
+            assertEquals(new TopData(expected.get(sorted.get(i)), i), board.get(sorted.get(i)));
+        }
+    }
+}
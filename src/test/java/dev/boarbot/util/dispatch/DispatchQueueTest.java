@@ -0,0 +1,107 @@
+package dev.boarbot.util.dispatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DispatchQueueTest {
+    private final static DispatchType TYPE = DispatchType.MESSAGE;
+
+    private DispatchQueue queue;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setup() {
+        this.queue = new DispatchQueue(TYPE);
+    }
+
+    @AfterEach
+    void teardown() throws InterruptedException {
+        this.release.countDown();
+        this.queue.shutdown();
+        this.queue.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void queuedWorkDoesNotHoldThreads() throws InterruptedException {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        CountDownLatch started = new CountDownLatch(TYPE.getMaxInFlight());
+
+        for (int i=0; i<TYPE.getMaxInFlight() + TYPE.getMaxQueued(); i++) {
+            assertTrue(this.queue.submit(() -> {
+                threads.add(Thread.currentThread());
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                started.countDown();
+
+                try {
+                    this.release.await();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+            }));
+        }
+
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        assertEquals(TYPE.getMaxInFlight(), this.queue.getActive());
+        assertEquals(TYPE.getMaxQueued(), this.queue.getQueueDepth());
+        assertEquals(TYPE.getMaxInFlight(), threads.size(), "queued work should not hold a thread");
+
+        this.release.countDown();
+        this.queue.shutdown();
+        assertTrue(this.queue.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(TYPE.getMaxInFlight(), maxRunning.get());
+        assertTrue(threads.stream().allMatch(Thread::isVirtual), "handlers should run on virtual threads");
+    }
+
+    @Test
+    void shedsWorkPastTheQueueBound() {
+        for (int i=0; i<TYPE.getMaxInFlight() + TYPE.getMaxQueued(); i++) {
+            assertTrue(this.queue.submit(this::awaitRelease));
+        }
+
+        assertFalse(this.queue.submit(() -> fail("shed work should never run")));
+        assertTrue(this.queue.getMetricsString().contains("Shed: 1"));
+    }
+
+    @Test
+    void shutdownFinishesQueuedWork() throws InterruptedException {
+        AtomicInteger done = new AtomicInteger();
+        int numTasks = TYPE.getMaxInFlight() * 2;
+
+        for (int i=0; i<numTasks; i++) {
+            this.queue.submit(() -> {
+                this.awaitRelease();
+                done.incrementAndGet();
+            });
+        }
+
+        this.queue.shutdown();
+        assertFalse(this.queue.submit(() -> {}), "a stopped queue should not take work");
+
+        this.release.countDown();
+
+        assertTrue(this.queue.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(numTasks, done.get());
+    }
+
+    private void awaitRelease() {
+        try {
+            this.release.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package dev.boarbot.util.dispatch;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouteFanoutTest {
+    private final static ScheduledExecutorService completer = Executors.newScheduledThreadPool(4);
+
+    @AfterAll
+    static void teardown() {
+        completer.shutdownNow();
+    }
+
+    @Test
+    void eachRouteHasOneRequestInFlight() {
+        RouteFanout fanout = new RouteFanout("test", 8, 1);
+        Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+        AtomicInteger maxPerRoute = new AtomicInteger();
+        AtomicInteger total = new AtomicInteger();
+        AtomicInteger maxTotal = new AtomicInteger();
+
+        for (int i=0; i<40; i++) {
+            String route = "channel" + (i % 4);
+
+            fanout.submit(route, completion -> {
+                AtomicInteger routeCount = inFlight.computeIfAbsent(route, k -> new AtomicInteger());
+                maxPerRoute.accumulateAndGet(routeCount.incrementAndGet(), Math::max);
+                maxTotal.accumulateAndGet(total.incrementAndGet(), Math::max);
+
+                completer.schedule(() -> {
+                    routeCount.decrementAndGet();
+                    total.decrementAndGet();
+                    completion.succeeded();
+                }, 2, TimeUnit.MILLISECONDS);
+            });
+        }
+
+        assertTrue(fanout.await(10, TimeUnit.SECONDS));
+        assertEquals(1, maxPerRoute.get());
+        assertTrue(maxTotal.get() <= 4);
+        assertEquals(40, fanout.getNumCompleted());
+        assertEquals(0, fanout.getNumFailed());
+    }
+
+    @Test
+    void inFlightIsBoundedAcrossRoutes() {
+        RouteFanout fanout = new RouteFanout("test", 3, 1);
+        AtomicInteger total = new AtomicInteger();
+        AtomicInteger maxTotal = new AtomicInteger();
+
+        for (int i=0; i<30; i++) {
+            fanout.submit("channel" + i, completion -> {
+                maxTotal.accumulateAndGet(total.incrementAndGet(), Math::max);
+
+                completer.schedule(() -> {
+                    total.decrementAndGet();
+                    completion.succeeded();
+                }, 2, TimeUnit.MILLISECONDS);
+            });
+        }
+
+        assertTrue(fanout.await(10, TimeUnit.SECONDS));
+        assertTrue(maxTotal.get() <= 3, "max in flight was " + maxTotal.get());
+        assertEquals(30, fanout.getNumCompleted());
+    }
+
+    @Test
+    void unresolvedRequestBlocksAwait() {
+        RouteFanout fanout = new RouteFanout("test", 4, 1);
+        List<RouteFanout.Completion> held = new CopyOnWriteArrayList<>();
+
+        fanout.submit("channel", held::add);
+
+        assertFalse(fanout.await(200, TimeUnit.MILLISECONDS));
+
+        held.getFirst().failed();
+        held.getFirst().succeeded();
+
+        assertTrue(fanout.await(1, TimeUnit.SECONDS));
+        assertEquals(1, fanout.getNumCompleted());
+        assertEquals(1, fanout.getNumFailed());
+    }
+
+    @Test
+    void failedRequestReleasesItsRoute() {
+        RouteFanout fanout = new RouteFanout("test", 1, 1);
+
+        fanout.submit("channel", RouteFanout.Completion::failed);
+        fanout.submit("channel", RouteFanout.Completion::succeeded);
+
+        assertTrue(fanout.await(1, TimeUnit.SECONDS));
+        assertEquals(2, fanout.getNumCompleted());
+        assertEquals(1, fanout.getNumFailed());
+    }
+
+    @Test
+    void whenFinishedRunsAfterLastCompletion() throws InterruptedException {
+        RouteFanout fanout = new RouteFanout("test", 4, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicInteger completedAtFinish = new AtomicInteger(-1);
+
+        for (int i=0; i<5; i++) {
+            fanout.submit("channel" + i, completion -> completer.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+
+                completion.succeeded();
+            }));
+        }
+
+        fanout.whenFinished(() -> {
+            completedAtFinish.set(fanout.getNumCompleted());
+            finished.countDown();
+        });
+
+        assertFalse(finished.await(100, TimeUnit.MILLISECONDS));
+
+        release.countDown();
+
+        assertTrue(finished.await(10, TimeUnit.SECONDS));
+        assertEquals(5, completedAtFinish.get());
+    }
+
+    @Test
+    void emptyFanoutFinishesImmediately() {
+        RouteFanout fanout = new RouteFanout("test", 4, 1);
+        AtomicInteger runs = new AtomicInteger();
+
+        fanout.whenFinished(runs::incrementAndGet);
+
+        assertEquals(1, runs.get());
+        assertTrue(fanout.await(0, TimeUnit.MILLISECONDS));
+    }
+}
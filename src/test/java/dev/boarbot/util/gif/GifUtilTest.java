@@ -0,0 +1,285 @@
+package dev.boarbot.util.gif;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Golden-image checks for the JVM GIF path. Inputs are drawn in code so they never drift, and when a Python
+ * interpreter with Pillow is around, the same inputs go through the scripts the JVM path replaced and the decoded
+ * frames are compared pixel by pixel.
+ */
+class GifUtilTest {
+    private static final Path SCRIPTS_PATH = Path.of("src/main/resources/scripts");
+
+    // Both encoders quantize to a palette, so colors are compared loosely
+    private static final int CHANNEL_TOLERANCE = 24;
+    private static final double MAX_MISMATCH_RATIO = 0.01;
+
+    private static final int BASE_SIZE = 64;
+    private static final int FRAME_SIZE = 16;
+    private static final int HOLE_SIZE = 4;
+    private static final int[] DURATIONS = {50, 100, 150};
+    private static final Color[] FRAME_COLORS = {
+        new Color(220, 40, 40), new Color(40, 200, 60), new Color(50, 70, 230)
+    };
+    private static final Color[] BASE_COLORS = {
+        new Color(250, 250, 250), new Color(30, 30, 30), new Color(240, 200, 20), new Color(20, 160, 200)
+    };
+
+    private static Boolean pythonAvailable;
+
+    @Test
+    void pasteFramesKeepsTimingAndPlacement() throws IOException {
+        int[] pos = {8, 12};
+        List<GifFrame> frames = GifDecoder.decode(
+            GifUtil.pasteFrames(GifUtilTest.makeBase(), GifUtilTest.makeAnimated(), pos, null, true)
+        );
+
+        assertEquals(DURATIONS.length, frames.size());
+
+        for (int i=0; i<frames.size(); i++) {
+            BufferedImage image = frames.get(i).image();
+
+            assertEquals(DURATIONS[i], frames.get(i).duration());
+            assertEquals(BASE_SIZE, image.getWidth());
+            assertEquals(BASE_SIZE, image.getHeight());
+
+            assertColor(FRAME_COLORS[i], image, pos[0] + FRAME_SIZE - 1, pos[1] + FRAME_SIZE - 1);
+            assertColor(GifUtilTest.getBaseColor(pos[0], pos[1]), image, pos[0], pos[1]);
+            assertColor(GifUtilTest.getBaseColor(BASE_SIZE - 1, BASE_SIZE - 1), image, BASE_SIZE - 1, BASE_SIZE - 1);
+        }
+    }
+
+    @Test
+    void pasteFramesScalesToSize() throws IOException {
+        int[] size = {FRAME_SIZE * 2, FRAME_SIZE * 2};
+        List<GifFrame> frames = GifDecoder.decode(
+            GifUtil.pasteFrames(GifUtilTest.makeBase(), GifUtilTest.makeAnimated(), new int[] {0, 0}, size, true)
+        );
+
+        for (int i=0; i<frames.size(); i++) {
+            BufferedImage image = frames.get(i).image();
+
+            assertColor(FRAME_COLORS[i], image, size[0] - 1, size[1] - 1);
+            assertColor(GifUtilTest.getBaseColor(size[0], size[1]), image, size[0], size[1]);
+        }
+    }
+
+    @Test
+    void overlayFramesDrawsOverEveryFrame() throws IOException {
+        List<GifFrame> frames = GifDecoder.decode(
+            GifUtil.overlayFrames(GifUtilTest.makeAnimated(), GifUtilTest.makeOverlay())
+        );
+
+        assertEquals(DURATIONS.length, frames.size());
+
+        for (int i=0; i<frames.size(); i++) {
+            BufferedImage image = frames.get(i).image();
+
+            assertEquals(DURATIONS[i], frames.get(i).duration());
+            assertColor(Color.WHITE, image, 0, FRAME_SIZE - 1);
+            assertColor(FRAME_COLORS[i], image, FRAME_SIZE - 1, FRAME_SIZE - 1);
+        }
+    }
+
+    @Test
+    void pasteFramesMatchesPython(@TempDir Path tempDir) throws IOException, InterruptedException {
+        assumeTrue(GifUtilTest.isPythonAvailable(), "python3 with Pillow is not available");
+
+        byte[] base = GifUtilTest.makeBase();
+        byte[] animated = GifUtilTest.makeAnimated();
+        int[] pos = {8, 12};
+        int[] size = {FRAME_SIZE, FRAME_SIZE};
+
+        byte[] javaBytes = GifUtil.pasteFrames(base, animated, pos, size, true);
+        byte[] pythonBytes = GifUtilTest.runScript(
+            tempDir, "apply_animated.py", "[[%d, %d], [%d, %d]]".formatted(pos[0], pos[1], size[0], size[1]),
+            base, animated
+        );
+
+        GifUtilTest.assertFramesMatch(GifDecoder.decode(pythonBytes), GifDecoder.decode(javaBytes), true);
+    }
+
+    @Test
+    void overlayFramesMatchesPython(@TempDir Path tempDir) throws IOException, InterruptedException {
+        assumeTrue(GifUtilTest.isPythonAvailable(), "python3 with Pillow is not available");
+
+        byte[] animated = GifUtilTest.makeAnimated();
+        byte[] overlay = GifUtilTest.makeOverlay();
+
+        byte[] javaBytes = GifUtil.overlayFrames(animated, overlay);
+        byte[] pythonBytes = GifUtilTest.runScript(tempDir, "user_animated_overlay.py", "[]", animated, overlay);
+
+        GifUtilTest.assertFramesMatch(GifDecoder.decode(pythonBytes), GifDecoder.decode(javaBytes), false);
+    }
+
+    private static void assertFramesMatch(List<GifFrame> expected, List<GifFrame> actual, boolean checkDurations) {
+        assertEquals(expected.size(), actual.size(), "frame count");
+
+        for (int i=0; i<expected.size(); i++) {
+            BufferedImage expectedImage = expected.get(i).image();
+            BufferedImage actualImage = actual.get(i).image();
+
+            if (checkDurations) {
+                assertEquals(expected.get(i).duration(), actual.get(i).duration(), "duration of frame " + i);
+            }
+
+            assertEquals(expectedImage.getWidth(), actualImage.getWidth(), "width of frame " + i);
+            assertEquals(expectedImage.getHeight(), actualImage.getHeight(), "height of frame " + i);
+
+            int mismatches = 0;
+
+            for (int y=0; y<expectedImage.getHeight(); y++) {
+                for (int x=0; x<expectedImage.getWidth(); x++) {
+                    if (!GifUtilTest.isClose(expectedImage.getRGB(x, y), actualImage.getRGB(x, y))) {
+                        mismatches++;
+                    }
+                }
+            }
+
+            int numPixels = expectedImage.getWidth() * expectedImage.getHeight();
+            assertTrue(
+                mismatches <= numPixels * MAX_MISMATCH_RATIO,
+                "%d of %d pixels differ in frame %d".formatted(mismatches, numPixels, i)
+            );
+        }
+    }
+
+    private static void assertColor(Color expected, BufferedImage image, int x, int y) {
+        int actual = image.getRGB(x, y);
+
+        assertTrue(
+            GifUtilTest.isClose(expected.getRGB(), actual),
+            "expected %08x at (%d, %d) but was %08x".formatted(expected.getRGB(), x, y, actual)
+        );
+    }
+
+    private static boolean isClose(int expected, int actual) {
+        // Fully transparent pixels have no meaningful color
+        if ((expected >>> 24) == 0 && (actual >>> 24) == 0) {
+            return true;
+        }
+
+        for (int shift=0; shift<32; shift+=8) {
+            int diff = Math.abs(((expected >>> shift) & 0xFF) - ((actual >>> shift) & 0xFF));
+
+            if (diff > CHANNEL_TOLERANCE) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static Color getBaseColor(int x, int y) {
+        int quadrant = (x < BASE_SIZE / 2 ? 0 : 1) + (y < BASE_SIZE / 2 ? 0 : 2);
+        return BASE_COLORS[quadrant];
+    }
+
+    private static byte[] makeBase() throws IOException {
+        BufferedImage image = new BufferedImage(BASE_SIZE, BASE_SIZE, BufferedImage.TYPE_INT_ARGB);
+
+        for (int y=0; y<BASE_SIZE; y++) {
+            for (int x=0; x<BASE_SIZE; x++) {
+                image.setRGB(x, y, GifUtilTest.getBaseColor(x, y).getRGB());
+            }
+        }
+
+        return GifUtilTest.toPng(image);
+    }
+
+    private static byte[] makeAnimated() throws IOException {
+        List<GifFrame> frames = new ArrayList<>();
+
+        for (int i=0; i<DURATIONS.length; i++) {
+            BufferedImage image = new BufferedImage(FRAME_SIZE, FRAME_SIZE, BufferedImage.TYPE_INT_ARGB);
+
+            Graphics2D g2d = image.createGraphics();
+            g2d.setColor(FRAME_COLORS[i]);
+            g2d.fillRect(0, 0, FRAME_SIZE, FRAME_SIZE);
+            g2d.setComposite(AlphaComposite.Clear);
+            g2d.fillRect(0, 0, HOLE_SIZE, HOLE_SIZE);
+            g2d.dispose();
+
+            frames.add(new GifFrame(image, DURATIONS[i]));
+        }
+
+        return GifEncoder.encode(frames);
+    }
+
+    private static byte[] makeOverlay() throws IOException {
+        BufferedImage image = new BufferedImage(FRAME_SIZE, FRAME_SIZE, BufferedImage.TYPE_INT_ARGB);
+
+        Graphics2D g2d = image.createGraphics();
+        g2d.setColor(Color.WHITE);
+        g2d.fillRect(0, 0, FRAME_SIZE / 2, FRAME_SIZE);
+        g2d.dispose();
+
+        return GifUtilTest.toPng(image);
+    }
+
+    private static byte[] toPng(BufferedImage image) throws IOException {
+        ByteArrayOutputStream byteArrayOS = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", byteArrayOS);
+        return byteArrayOS.toByteArray();
+    }
+
+    private static synchronized boolean isPythonAvailable() {
+        if (pythonAvailable == null) {
+            try {
+                Process process = new ProcessBuilder("python3", "-c", "import PIL").start();
+                pythonAvailable = process.waitFor(30, TimeUnit.SECONDS) && process.exitValue() == 0;
+            } catch (IOException | InterruptedException exception) {
+                pythonAvailable = false;
+            }
+        }
+
+        return pythonAvailable;
+    }
+
+    private static byte[] runScript(
+        Path tempDir, String scriptName, String argsJson, byte[]... buffers
+    ) throws IOException, InterruptedException {
+        String runner = """
+            import importlib.util, json, sys
+            spec = importlib.util.spec_from_file_location('script', sys.argv[1])
+            module = importlib.util.module_from_spec(spec)
+            spec.loader.exec_module(module)
+            buffers = [open(path, 'rb').read() for path in sys.argv[4:]]
+            open(sys.argv[3], 'wb').write(module.run({}, json.loads(sys.argv[2]), buffers))
+            """;
+
+        Path outputPath = tempDir.resolve("output.gif");
+        List<String> command = new ArrayList<>(List.of(
+            "python3", "-c", runner, SCRIPTS_PATH.resolve(scriptName).toString(), argsJson, outputPath.toString()
+        ));
+
+        for (int i=0; i<buffers.length; i++) {
+            Path bufferPath = tempDir.resolve("input" + i);
+            Files.write(bufferPath, buffers[i]);
+            command.add(bufferPath.toString());
+        }
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes());
+
+        assertTrue(process.waitFor(60, TimeUnit.SECONDS), "%s timed out".formatted(scriptName));
+        assertEquals(0, process.exitValue(), "%s failed: %s".formatted(scriptName, output));
+
+        return Files.readAllBytes(outputPath);
+    }
+}
@@ -0,0 +1,83 @@
+package dev.boarbot.util.graphics;
+
+import dev.boarbot.util.resource.ResourceUtil;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageCacheTest {
+    private final static String FIRST_PATH = ResourceUtil.itemUnderlayPath;
+    private final static String SECOND_PATH = ResourceUtil.itemBackplatePath;
+
+    @Test
+    void bundledImagesArePinned() throws IOException, URISyntaxException {
+        ImageCache imageCache = new ImageCache(() -> 1);
+
+        Image first = imageCache.get(FIRST_PATH);
+        Image second = imageCache.get(SECOND_PATH);
+        imageCache.removeExpired(-1);
+
+        assertTrue(imageCache.getMetricsString().startsWith("Pinned: 2 "), imageCache.getMetricsString());
+        assertSame(first, imageCache.get(FIRST_PATH));
+        assertSame(second, imageCache.get(SECOND_PATH));
+    }
+
+    @Test
+    void remoteRegionIsEvictedPastBudget() {
+        ImageCache.Region region = new ImageCache.Region(() -> 8);
+
+        region.put("first", new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB));
+        region.put("second", new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB));
+        assertNotNull(region.get("first"));
+
+        region.put("third", new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB));
+
+        assertNotNull(region.get("first"));
+        assertNull(region.get("second"));
+        assertNotNull(region.get("third"));
+    }
+
+    @Test
+    void remoteRegionExpiresIdleImages() {
+        ImageCache.Region region = new ImageCache.Region(() -> 0);
+
+        region.put("avatar", new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB));
+        region.removeExpired(Long.MAX_VALUE);
+
+        assertNull(region.get("avatar"));
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        ImageCache imageCache = new ImageCache(() -> 0);
+        int numThreads = 8;
+        CyclicBarrier barrier = new CyclicBarrier(numThreads);
+        List<Future<Image>> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(numThreads)) {
+            for (int i=0; i<numThreads; i++) {
+                results.add(executor.submit(() -> {
+                    barrier.await();
+                    return imageCache.get(FIRST_PATH);
+                }));
+            }
+
+            Set<Image> images = ConcurrentHashMap.newKeySet();
+
+            for (Future<Image> result : results) {
+                images.add(result.get(30, TimeUnit.SECONDS));
+            }
+
+            assertEquals(1, images.size());
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package dev.boarbot.util.interaction;
+
+import dev.boarbot.api.util.Configured;
+import dev.boarbot.bot.TestBot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest implements Configured {
+    private final static String COMMAND = "boar test";
+    private final static int[] NO_LIMIT = {0, 0};
+
+    private static int[] oldCommandRateLimit;
+    private static Map<String, int[]> oldCommandRateLimits;
+    private static int[] oldGuildRateLimit;
+
+    private static int nextID = 0;
+
+    @BeforeAll
+    static void setup() {
+        TestBot.loadConfig();
+    }
+
+    @BeforeEach
+    void saveLimits() {
+        oldCommandRateLimit = NUMS.getCommandRateLimit();
+        oldCommandRateLimits = NUMS.getCommandRateLimits();
+        oldGuildRateLimit = NUMS.getGuildRateLimit();
+
+        NUMS.setCommandRateLimit(NO_LIMIT);
+        NUMS.setCommandRateLimits(new HashMap<>());
+        NUMS.setGuildRateLimit(NO_LIMIT);
+    }
+
+    @AfterEach
+    void restoreLimits() {
+        NUMS.setCommandRateLimit(oldCommandRateLimit);
+        NUMS.setCommandRateLimits(oldCommandRateLimits);
+        NUMS.setGuildRateLimit(oldGuildRateLimit);
+    }
+
+    @Test
+    void burstIsAllowedThenRejected() {
+        NUMS.setCommandRateLimit(new int[] {3, 60_000});
+        String userID = newID();
+
+        for (int i=0; i<3; i++) {
+            assertTrue(RateLimiter.tryAcquire(userID, null, COMMAND));
+        }
+
+        assertFalse(RateLimiter.tryAcquire(userID, null, COMMAND));
+        assertTrue(RateLimiter.tryAcquire(newID(), null, COMMAND));
+    }
+
+    @Test
+    void tokensRefillOverTime() throws InterruptedException {
+        NUMS.setCommandRateLimit(new int[] {1, 50});
+        String userID = newID();
+
+        assertTrue(RateLimiter.tryAcquire(userID, null, COMMAND));
+        assertFalse(RateLimiter.tryAcquire(userID, null, COMMAND));
+
+        Thread.sleep(100);
+
+        assertTrue(RateLimiter.tryAcquire(userID, null, COMMAND));
+    }
+
+    @Test
+    void commandLimitUsesItsOwnBucket() {
+        NUMS.setCommandRateLimit(new int[] {1, 60_000});
+        NUMS.getCommandRateLimits().put(COMMAND, new int[] {2, 60_000});
+        String userID = newID();
+
+        assertTrue(RateLimiter.tryAcquire(userID, null, COMMAND));
+        assertTrue(RateLimiter.tryAcquire(userID, null, COMMAND));
+        assertFalse(RateLimiter.tryAcquire(userID, null, COMMAND));
+
+        assertTrue(RateLimiter.tryAcquire(userID, null, "boar other"));
+        assertFalse(RateLimiter.tryAcquire(userID, null, "boar other"));
+    }
+
+    @Test
+    void guildRejectRefundsUserToken() {
+        NUMS.setCommandRateLimit(new int[] {1, 60_000});
+        NUMS.setGuildRateLimit(new int[] {1, 60_000});
+        String guildID = newID();
+        String userID = newID();
+
+        assertTrue(RateLimiter.tryAcquire(newID(), guildID, COMMAND));
+        assertFalse(RateLimiter.tryAcquire(userID, guildID, COMMAND));
+        assertTrue(RateLimiter.tryAcquire(userID, null, COMMAND));
+    }
+
+    @Test
+    void concurrentChecksNeverExceedBurst() throws Exception {
+        int burst = 50;
+        int numThreads = 16;
+        int attemptsPerThread = 20;
+
+        NUMS.setCommandRateLimit(new int[] {burst, 600_000});
+        String userID = newID();
+        AtomicInteger numAllowed = new AtomicInteger();
+        CyclicBarrier barrier = new CyclicBarrier(numThreads);
+        List<Future<?>> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(numThreads)) {
+            for (int i=0; i<numThreads; i++) {
+                results.add(executor.submit(() -> {
+                    barrier.await();
+
+                    for (int j=0; j<attemptsPerThread; j++) {
+                        if (RateLimiter.tryAcquire(userID, null, COMMAND)) {
+                            numAllowed.incrementAndGet();
+                        }
+                    }
+
+                    return null;
+                }));
+            }
+
+            for (Future<?> result : results) {
+                result.get(10, TimeUnit.SECONDS);
+            }
+        }
+
+        assertEquals(burst, numAllowed.get());
+    }
+
+    private static synchronized String newID() {
+        return "ratelimit" + nextID++;
+    }
+}
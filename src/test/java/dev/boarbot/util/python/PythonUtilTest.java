@@ -0,0 +1,161 @@
+package dev.boarbot.util.python;
+
+import dev.boarbot.api.util.Configured;
+import dev.boarbot.bot.TestBot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives the worker pool with a stand-in worker that speaks the same protocol as python_worker.py but echoes its
+ * first buffer back, or hangs or exits when told to, so pool behavior can be checked without Pillow.
+ */
+class PythonUtilTest implements Configured {
+    private final static String SCRIPT_PATH = "scripts/echo.py";
+    private final static String FAKE_WORKER = """
+        import json, struct, sys, time
+
+        stdin = sys.stdin.buffer
+        stdout = sys.stdout.buffer
+
+        def read_exact(size):
+            data = b''
+            while len(data) < size:
+                chunk = stdin.read(size - len(data))
+                if not chunk:
+                    sys.exit(0)
+                data += chunk
+            return data
+
+        def read_int():
+            return struct.unpack('>I', read_exact(4))[0]
+
+        mode = json.loads(read_exact(read_int()))['scripts']['mode']
+
+        while True:
+            header = json.loads(read_exact(read_int()))
+            buffers = [read_exact(read_int()) for _ in range(read_int())]
+            if header['script'] != 'ping' and mode == 'hang':
+                time.sleep(3600)
+            if header['script'] != 'ping' and mode == 'crash':
+                sys.exit(1)
+            payload = buffers[0] if buffers else b''
+            stdout.write(struct.pack('>BI', 0, len(payload)))
+            stdout.write(payload)
+            stdout.flush()
+        """;
+
+    private static Path workerPath;
+
+    private final List<PythonWorker> spawned = new CopyOnWriteArrayList<>();
+    private volatile String mode = "echo";
+
+    @BeforeAll
+    static void setup() throws IOException {
+        TestBot.loadConfig();
+        NUMS.setPythonTimeoutMillis(1000);
+
+        workerPath = Files.createTempFile("fake_worker", ".py");
+        Files.writeString(workerPath, FAKE_WORKER);
+        workerPath.toFile().deleteOnExit();
+    }
+
+    PythonUtilTest() {
+        PythonUtil.workerFactory = () -> {
+            PythonWorker worker = new PythonWorker(workerPath.toString(), Map.of(), Map.of("mode", this.mode));
+            this.spawned.add(worker);
+            return worker;
+        };
+    }
+
+    @AfterEach
+    void teardown() {
+        PythonUtil.destroyIdleWorkers();
+    }
+
+    @Test
+    void reusesIdleWorkers() throws IOException {
+        for (int i=0; i<20; i++) {
+            byte[] input = {(byte) i};
+            assertArrayEquals(input, PythonUtil.runScript(SCRIPT_PATH, List.of(), input));
+        }
+
+        assertEquals(1, this.spawned.size());
+    }
+
+    @Test
+    void concurrentCallsStayWithinPool() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        List<Future<byte[]>> futures = new ArrayList<>();
+
+        try {
+            for (int i=0; i<64; i++) {
+                byte[] input = {(byte) i};
+                futures.add(executor.submit(() -> PythonUtil.runScript(SCRIPT_PATH, List.of(), input)));
+            }
+
+            for (int i=0; i<futures.size(); i++) {
+                assertArrayEquals(new byte[] {(byte) i}, futures.get(i).get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(this.spawned.size() <= PythonUtil.NUM_WORKERS, "spawned " + this.spawned.size() + " workers");
+        assertTrue(PythonUtil.getNumIdleWorkers() <= PythonUtil.NUM_WORKERS);
+    }
+
+    @Test
+    void timedOutRequestDestroysWorker() throws Exception {
+        this.mode = "hang";
+
+        assertThrows(IOException.class, () -> PythonUtil.runScript(SCRIPT_PATH, List.of(), new byte[] {1}));
+        assertEquals(1, this.spawned.size());
+        assertWorkerDies(this.spawned.getFirst());
+        assertEquals(0, PythonUtil.getNumIdleWorkers());
+
+        // Every permit must have come back, or these would wait forever
+        this.mode = "echo";
+
+        for (int i=0; i<=PythonUtil.NUM_WORKERS; i++) {
+            assertArrayEquals(new byte[] {2}, PythonUtil.runScript(SCRIPT_PATH, List.of(), new byte[] {2}));
+        }
+    }
+
+    @Test
+    void crashedWorkerIsReplaced() throws Exception {
+        this.mode = "crash";
+        assertThrows(IOException.class, () -> PythonUtil.runScript(SCRIPT_PATH, List.of(), new byte[] {1}));
+
+        this.mode = "echo";
+        assertArrayEquals(new byte[] {3}, PythonUtil.runScript(SCRIPT_PATH, List.of(), new byte[] {3}));
+
+        assertEquals(2, this.spawned.size());
+        assertWorkerDies(this.spawned.getFirst());
+        assertEquals(1, PythonUtil.getNumIdleWorkers());
+    }
+
+    private static void assertWorkerDies(PythonWorker worker) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (worker.isAlive() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+
+        assertFalse(worker.isAlive(), "worker process was left running");
+    }
+}
@@ -0,0 +1,129 @@
+package dev.boarbot.util.time;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WheelTimerTest {
+    private WheelTimer timer;
+
+    @BeforeEach
+    void setup() {
+        this.timer = new WheelTimer("test-wheel", 10, TimeUnit.MILLISECONDS, 8, 2);
+    }
+
+    @AfterEach
+    void teardown() {
+        this.timer.shutdown();
+    }
+
+    @Test
+    void taskRunsAfterItsDelay() throws InterruptedException {
+        CountDownLatch ran = new CountDownLatch(1);
+        long startNanos = System.nanoTime();
+
+        this.timer.schedule(ran::countDown, 50, TimeUnit.MILLISECONDS);
+
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - startNanos >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertEquals(0, this.timer.getNumPending());
+    }
+
+    @Test
+    void delayPastOneRotationWaitsForItsRound() throws InterruptedException {
+        CountDownLatch ran = new CountDownLatch(1);
+        long startNanos = System.nanoTime();
+
+        // 8 buckets of 10ms, so this lands in a bucket the wheel passes twice before it's due
+        this.timer.schedule(ran::countDown, 200, TimeUnit.MILLISECONDS);
+
+        assertFalse(ran.await(100, TimeUnit.MILLISECONDS));
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - startNanos >= TimeUnit.MILLISECONDS.toNanos(200));
+    }
+
+    @Test
+    void cancelledTaskNeverRuns() throws InterruptedException {
+        AtomicInteger numRuns = new AtomicInteger();
+        CountDownLatch marker = new CountDownLatch(1);
+
+        WheelTimer.Timeout timeout = this.timer.schedule(numRuns::incrementAndGet, 30, TimeUnit.MILLISECONDS);
+        this.timer.schedule(marker::countDown, 60, TimeUnit.MILLISECONDS);
+
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.cancel());
+        assertTrue(timeout.isCancelled());
+
+        assertTrue(marker.await(5, TimeUnit.SECONDS));
+        assertEquals(0, numRuns.get());
+        assertEquals(0, this.timer.getNumPending());
+    }
+
+    @Test
+    void throwingTaskDoesNotStopTheWheel() throws InterruptedException {
+        CountDownLatch ran = new CountDownLatch(1);
+
+        this.timer.schedule(() -> {
+            throw new IllegalStateException("expected");
+        }, 0, TimeUnit.MILLISECONDS);
+        this.timer.schedule(ran::countDown, 30, TimeUnit.MILLISECONDS);
+
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void concurrentScheduleAndCancelRunsEachKeptTaskOnce() throws Exception {
+        int numThreads = 8;
+        int numPerThread = 200;
+
+        Set<Integer> ran = ConcurrentHashMap.newKeySet();
+        AtomicInteger numRuns = new AtomicInteger();
+        CountDownLatch kept = new CountDownLatch(numThreads * numPerThread / 2);
+        CyclicBarrier barrier = new CyclicBarrier(numThreads);
+        List<Future<?>> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(numThreads)) {
+            for (int i=0; i<numThreads; i++) {
+                int threadNum = i;
+
+                results.add(executor.submit(() -> {
+                    barrier.await();
+
+                    for (int j=0; j<numPerThread; j++) {
+                        int id = threadNum * numPerThread + j;
+                        WheelTimer.Timeout timeout = this.timer.schedule(() -> {
+                            ran.add(id);
+                            numRuns.incrementAndGet();
+                            kept.countDown();
+                        }, j % 20, TimeUnit.MILLISECONDS);
+
+                        if (j % 2 == 1) {
+                            timeout.cancel();
+                        }
+                    }
+
+                    return null;
+                }));
+            }
+
+            for (Future<?> result : results) {
+                result.get(10, TimeUnit.SECONDS);
+            }
+        }
+
+        assertTrue(kept.await(10, TimeUnit.SECONDS));
+        Thread.sleep(100);
+
+        assertEquals(numThreads * numPerThread / 2, numRuns.get());
+        assertTrue(ran.stream().allMatch(id -> id % 2 == 0));
+        assertEquals(0, this.timer.getNumPending());
+    }
+}